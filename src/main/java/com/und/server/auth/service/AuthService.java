@@ -23,6 +23,7 @@ import com.und.server.common.util.ProfileManager;
 import com.und.server.member.entity.Member;
 import com.und.server.member.exception.MemberErrorResult;
 import com.und.server.member.service.MemberService;
+import com.und.server.notification.service.NotificationCacheWarmUpService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -39,12 +40,14 @@ public class AuthService {
 	private final NonceService nonceService;
 	private final RefreshTokenService refreshTokenService;
 	private final ProfileManager profileManager;
+	private final NotificationCacheWarmUpService notificationCacheWarmUpService;
 
 	@Transactional
 	public AuthResponse issueTokensForTest(final TestAuthRequest request) {
 		final Provider provider = convertToProvider(request.provider());
 		final String providerId = request.providerId();
 		final Member member = memberService.findOrCreateMember(provider, providerId);
+		notificationCacheWarmUpService.warmUp(member.getId());
 
 		return issueTokens(member.getId());
 	}
@@ -67,6 +70,7 @@ public class AuthService {
 		verifyIdTokenNonce(provider, idToken);
 		final String providerId = getProviderIdFromIdToken(provider, idToken);
 		final Member member = memberService.findOrCreateMember(provider, providerId);
+		notificationCacheWarmUpService.warmUp(member.getId());
 
 		return issueTokens(member.getId());
 	}
@@ -91,6 +95,7 @@ public class AuthService {
 		}
 
 		refreshTokenService.verifyRefreshToken(memberId, providedRefreshToken);
+		notificationCacheWarmUpService.warmUp(memberId);
 
 		return issueTokens(memberId);
 	}
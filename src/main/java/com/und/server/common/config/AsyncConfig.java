@@ -9,10 +9,15 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import com.und.server.scenario.config.MissionRolloverProperties;
+
 @Configuration
 @EnableAsync
 public class AsyncConfig {
 
+	public static final String CACHE_WARM_UP_EXECUTOR = "cacheWarmUpExecutor";
+	public static final String MISSION_ROLLOVER_EXECUTOR = "missionRolloverExecutor";
+
 	@Bean
 	@Primary
 	public Executor taskExecutor() {
@@ -29,4 +34,29 @@ public class AsyncConfig {
 		return executor;
 	}
 
+	@Bean(CACHE_WARM_UP_EXECUTOR)
+	public Executor cacheWarmUpExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(1);
+		executor.setMaxPoolSize(2);
+		executor.setQueueCapacity(100);
+		executor.setThreadNamePrefix("cache-warm-up-");
+		// warm-up is best effort; never fall back to running it on the request thread
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+		executor.initialize();
+		return executor;
+	}
+
+	@Bean(MISSION_ROLLOVER_EXECUTOR)
+	public Executor missionRolloverExecutor(final MissionRolloverProperties missionRolloverProperties) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(missionRolloverProperties.parallelism());
+		executor.setMaxPoolSize(missionRolloverProperties.parallelism());
+		executor.setThreadNamePrefix("mission-rollover-");
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(30);
+		executor.initialize();
+		return executor;
+	}
+
 }
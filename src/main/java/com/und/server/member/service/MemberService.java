@@ -15,6 +15,7 @@ import com.und.server.member.dto.response.MemberResponse;
 import com.und.server.member.entity.Member;
 import com.und.server.member.exception.MemberErrorResult;
 import com.und.server.member.repository.MemberRepository;
+import com.und.server.scenario.repository.MissionHistoryRepository;
 
 import lombok.RequiredArgsConstructor;
 
@@ -25,6 +26,7 @@ public class MemberService {
 
 	private final MemberRepository memberRepository;
 	private final RefreshTokenService refreshTokenService;
+	private final MissionHistoryRepository missionHistoryRepository;
 
 	public List<MemberResponse> getMemberList() {
 		return memberRepository.findAll()
@@ -69,6 +71,8 @@ public class MemberService {
 		checkMemberExists(memberId);
 
 		refreshTokenService.deleteRefreshToken(memberId);
+		// mission history has no foreign key, so the scenario cascade does not reach it
+		missionHistoryRepository.deleteByMemberId(memberId);
 		memberRepository.deleteById(memberId);
 	}
 
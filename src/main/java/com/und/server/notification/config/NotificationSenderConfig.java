@@ -0,0 +1,19 @@
+package com.und.server.notification.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.und.server.notification.sender.LogNotificationSender;
+import com.und.server.notification.sender.NotificationSender;
+
+@Configuration
+public class NotificationSenderConfig {
+
+	@Bean
+	@ConditionalOnMissingBean(NotificationSender.class)
+	public NotificationSender logNotificationSender() {
+		return new LogNotificationSender();
+	}
+
+}
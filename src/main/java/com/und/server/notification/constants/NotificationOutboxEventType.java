@@ -0,0 +1,7 @@
+package com.und.server.notification.constants;
+
+public enum NotificationOutboxEventType {
+
+	SCENARIO, REFRESH, EVICT
+
+}
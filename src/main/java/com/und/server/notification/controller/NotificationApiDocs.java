@@ -3,6 +3,10 @@ package com.und.server.notification.controller;
 import org.springframework.http.ResponseEntity;
 
 import com.und.server.common.dto.response.ErrorResponse;
+import com.und.server.notification.dto.request.LocationBatchUpdateRequest;
+import com.und.server.notification.dto.request.LocationUpdateRequest;
+import com.und.server.notification.dto.response.LocationNotificationMatchResponse;
+import com.und.server.notification.dto.response.ScenarioNotificationChangesResponse;
 import com.und.server.notification.dto.response.ScenarioNotificationListResponse;
 import com.und.server.notification.dto.response.ScenarioNotificationResponse;
 
@@ -128,6 +132,83 @@ public interface NotificationApiDocs {
 	);
 
 
+	@Operation(summary = "Get Scenario Notification Changes API")
+	@ApiResponses({
+			@ApiResponse(
+					responseCode = "200",
+					description = "Successfully retrieved scenario notification changes",
+					content = @Content(
+							mediaType = "application/json",
+							schema = @Schema(implementation = ScenarioNotificationChangesResponse.class),
+							examples = @ExampleObject(
+									name = "Scenario notification changes",
+									value = """
+										{
+										  "version": 1756272632567,
+										  "isFullSync": false,
+										  "upsertedScenarios": [
+										    {
+										      "scenarioId": 1,
+										      "scenarioName": "Home out",
+										      "memo": "Item to carry",
+										      "notificationId": 2,
+										      "notificationType": "TIME",
+										      "notificationMethodType": "PUSH",
+										      "daysOfWeekOrdinal": [0, 1, 2, 3, 4, 5, 6],
+										      "notificationCondition": {
+										        "notificationType": "TIME",
+										        "startHour": 12,
+										        "startMinute": 58
+										      }
+										    }
+										  ],
+										  "deletedScenarioIds": [3]
+										}
+										"""
+							)
+					)
+			),
+			@ApiResponse(
+					responseCode = "401",
+					description = "Unauthorized access",
+					content = @Content(
+							mediaType = "application/json",
+							schema = @Schema(implementation = ErrorResponse.class),
+							examples = @ExampleObject(
+									name = "Unauthorized access",
+									value = """
+										{
+										  "code": "UNAUTHORIZED_ACCESS",
+										  "message": "Unauthorized access"
+										}
+										"""
+							)
+					)
+			),
+			@ApiResponse(
+					responseCode = "500",
+					description = "Server error - failed to retrieve notification cache",
+					content = @Content(
+							mediaType = "application/json",
+							schema = @Schema(implementation = ErrorResponse.class),
+							examples = @ExampleObject(
+									name = "Cache fetch failed",
+									value = """
+										{
+										  "code": "CACHE_FETCH_ALL_FAILED",
+										  "message": "Failed to fetch all scenarios notification cache"
+										}
+										"""
+							)
+					)
+			)
+	})
+	ResponseEntity<ScenarioNotificationChangesResponse> getScenarioNotificationChanges(
+			@Parameter(hidden = true) final Long memberId,
+			@Parameter(description = "Last synced version, full snapshot is returned when omitted") final Long since
+	);
+
+
 	@Operation(summary = "Get Single Scenario Notification API")
 	@ApiResponses({
 			@ApiResponse(
@@ -214,4 +295,129 @@ public interface NotificationApiDocs {
 			@Parameter(description = "Scenario ID") final Long scenarioId
 	);
 
+
+	@Operation(summary = "Report Current Location API")
+	@ApiResponses({
+			@ApiResponse(
+					responseCode = "200",
+					description = "Successfully matched location notifications entered at the current location",
+					content = @Content(
+							mediaType = "application/json",
+							schema = @Schema(implementation = LocationNotificationMatchResponse.class),
+							examples = @ExampleObject(
+									name = "Entered location notification",
+									value = """
+										{
+										  "scenarios": [
+										    {
+										      "scenarioId": 1,
+										      "scenarioName": "Gym",
+										      "memo": "Bring shoes",
+										      "notificationId": 2,
+										      "notificationType": "LOCATION",
+										      "notificationMethodType": "PUSH",
+										      "daysOfWeekOrdinal": [0, 2, 4],
+										      "notificationCondition": {
+										        "notificationType": "LOCATION",
+										        "latitude": 37.566535,
+										        "longitude": 126.977969,
+										        "trackingRadiusType": "M_500",
+										        "startHour": 8,
+										        "startMinute": 0,
+										        "endHour": 10,
+										        "endMinute": 30
+										      }
+										    }
+										  ]
+										}
+										"""
+							)
+					)
+			),
+			@ApiResponse(
+					responseCode = "401",
+					description = "Unauthorized access",
+					content = @Content(
+							mediaType = "application/json",
+							schema = @Schema(implementation = ErrorResponse.class),
+							examples = @ExampleObject(
+									name = "Unauthorized access",
+									value = """
+										{
+										  "code": "UNAUTHORIZED_ACCESS",
+										  "message": "Unauthorized access"
+										}
+										"""
+							)
+					)
+			)
+	})
+	ResponseEntity<LocationNotificationMatchResponse> reportLocation(
+			@Parameter(hidden = true) final Long memberId,
+			@Parameter(description = "Current device location") final LocationUpdateRequest locationUpdateRequest
+	);
+
+
+	@Operation(summary = "Report Batched Locations API")
+	@ApiResponses({
+			@ApiResponse(
+					responseCode = "200",
+					description = "Successfully matched location notifications entered while the samples were collected",
+					content = @Content(
+							mediaType = "application/json",
+							schema = @Schema(implementation = LocationNotificationMatchResponse.class),
+							examples = @ExampleObject(
+									name = "Entered location notification",
+									value = """
+										{
+										  "scenarios": [
+										    {
+										      "scenarioId": 1,
+										      "scenarioName": "Gym",
+										      "memo": "Bring shoes",
+										      "notificationId": 2,
+										      "notificationType": "LOCATION",
+										      "notificationMethodType": "PUSH",
+										      "daysOfWeekOrdinal": [0, 2, 4],
+										      "notificationCondition": {
+										        "notificationType": "LOCATION",
+										        "latitude": 37.566535,
+										        "longitude": 126.977969,
+										        "trackingRadiusType": "M_500",
+										        "startHour": 8,
+										        "startMinute": 0,
+										        "endHour": 10,
+										        "endMinute": 30
+										      }
+										    }
+										  ]
+										}
+										"""
+							)
+					)
+			),
+			@ApiResponse(
+					responseCode = "401",
+					description = "Unauthorized access",
+					content = @Content(
+							mediaType = "application/json",
+							schema = @Schema(implementation = ErrorResponse.class),
+							examples = @ExampleObject(
+									name = "Unauthorized access",
+									value = """
+										{
+										  "code": "UNAUTHORIZED_ACCESS",
+										  "message": "Unauthorized access"
+										}
+										"""
+							)
+					)
+			)
+	})
+	ResponseEntity<LocationNotificationMatchResponse> reportLocations(
+			@Parameter(hidden = true) final Long memberId,
+			@Parameter(description = "Device location samples")
+			final LocationBatchUpdateRequest locationBatchUpdateRequest
+	);
+
 }
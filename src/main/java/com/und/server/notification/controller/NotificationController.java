@@ -5,18 +5,26 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.und.server.auth.filter.AuthMember;
+import com.und.server.notification.dto.request.LocationBatchUpdateRequest;
+import com.und.server.notification.dto.request.LocationUpdateRequest;
+import com.und.server.notification.dto.response.LocationNotificationMatchResponse;
+import com.und.server.notification.dto.response.ScenarioNotificationChangesResponse;
 import com.und.server.notification.dto.response.ScenarioNotificationListResponse;
 import com.und.server.notification.dto.response.ScenarioNotificationResponse;
+import com.und.server.notification.service.LocationNotificationService;
 import com.und.server.notification.service.NotificationCacheService;
 import com.und.server.notification.service.NotificationService;
 
 import io.swagger.v3.oas.annotations.Parameter;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 
@@ -27,6 +35,7 @@ public class NotificationController implements NotificationApiDocs {
 
 	private final NotificationService notificationService;
 	private final NotificationCacheService notificationCacheService;
+	private final LocationNotificationService locationNotificationService;
 
 
 	@Override
@@ -48,19 +57,36 @@ public class NotificationController implements NotificationApiDocs {
 		@Parameter(description = "ETag for client caching")
 		@RequestHeader(value = "If-None-Match", required = false) final String ifNoneMatch
 	) {
+		if (ifNoneMatch != null && ifNoneMatch.equals(notificationCacheService.getEtag(memberId))) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+				.header("ETag", ifNoneMatch)
+				.build();
+		}
+
 		final ScenarioNotificationListResponse scenarioNotificationListResponse =
 			notificationCacheService.getScenariosNotificationCache(memberId);
 
-		if (ifNoneMatch != null && ifNoneMatch.equals(scenarioNotificationListResponse.etag())) {
-			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
-		}
-
 		return ResponseEntity.ok()
 			.header("ETag", scenarioNotificationListResponse.etag())
 			.body(scenarioNotificationListResponse);
 	}
 
 
+	@Override
+	@GetMapping("/scenarios/notifications/changes")
+	public ResponseEntity<ScenarioNotificationChangesResponse> getScenarioNotificationChanges(
+		@AuthMember final Long memberId,
+		@RequestParam(required = false) final Long since
+	) {
+		final ScenarioNotificationChangesResponse scenarioNotificationChangesResponse =
+			notificationCacheService.getScenarioNotificationChanges(memberId, since);
+
+		return ResponseEntity.ok()
+			.header("ETag", String.valueOf(scenarioNotificationChangesResponse.version()))
+			.body(scenarioNotificationChangesResponse);
+	}
+
+
 	@Override
 	@GetMapping("/scenarios/{scenarioId}/notifications")
 	public ResponseEntity<ScenarioNotificationResponse> getSingleScenarioNotification(
@@ -73,4 +99,30 @@ public class NotificationController implements NotificationApiDocs {
 		return ResponseEntity.ok().body(scenarioNotificationResponse);
 	}
 
+
+	@Override
+	@PostMapping("/notifications/location")
+	public ResponseEntity<LocationNotificationMatchResponse> reportLocation(
+		@AuthMember final Long memberId,
+		@RequestBody @Valid final LocationUpdateRequest locationUpdateRequest
+	) {
+		final LocationNotificationMatchResponse locationNotificationMatchResponse =
+			locationNotificationService.findEnteredNotifications(memberId, locationUpdateRequest);
+
+		return ResponseEntity.ok().body(locationNotificationMatchResponse);
+	}
+
+
+	@Override
+	@PostMapping("/notifications/location/batch")
+	public ResponseEntity<LocationNotificationMatchResponse> reportLocations(
+		@AuthMember final Long memberId,
+		@RequestBody @Valid final LocationBatchUpdateRequest locationBatchUpdateRequest
+	) {
+		final LocationNotificationMatchResponse locationNotificationMatchResponse =
+			locationNotificationService.findEnteredNotifications(memberId, locationBatchUpdateRequest);
+
+		return ResponseEntity.ok().body(locationNotificationMatchResponse);
+	}
+
 }
@@ -0,0 +1,68 @@
+package com.und.server.notification.dto;
+
+import java.util.List;
+
+import com.und.server.notification.dto.response.LocationNotificationResponse;
+import com.und.server.notification.dto.response.ScenarioNotificationResponse;
+
+import lombok.Builder;
+
+@Builder
+public record LocationGeofence(
+
+	Long notificationId,
+	double latitude,
+	double longitude,
+	int radiusMeters,
+	List<Integer> daysOfWeekOrdinal,
+	int startMinuteOfDay,
+	int endMinuteOfDay,
+	ScenarioNotificationResponse scenarioNotification
+
+) {
+
+	private static final int MINUTES_PER_HOUR = 60;
+	private static final double EARTH_RADIUS_METERS = 6_371_000;
+
+	public static LocationGeofence from(final ScenarioNotificationResponse scenarioNotificationResponse) {
+		LocationNotificationResponse condition =
+			(LocationNotificationResponse) scenarioNotificationResponse.notificationCondition();
+
+		return LocationGeofence.builder()
+			.notificationId(scenarioNotificationResponse.notificationId())
+			.latitude(condition.latitude().doubleValue())
+			.longitude(condition.longitude().doubleValue())
+			.radiusMeters(condition.trackingRadiusType().getMeters())
+			.daysOfWeekOrdinal(scenarioNotificationResponse.daysOfWeekOrdinal())
+			.startMinuteOfDay(condition.startHour() * MINUTES_PER_HOUR + condition.startMinute())
+			.endMinuteOfDay(condition.endHour() * MINUTES_PER_HOUR + condition.endMinute())
+			.scenarioNotification(scenarioNotificationResponse)
+			.build();
+	}
+
+	public boolean contains(final double pointLatitude, final double pointLongitude) {
+		double deltaLatitude = Math.toRadians(pointLatitude - latitude);
+		double deltaLongitude = Math.toRadians(pointLongitude - longitude);
+		double haversine = Math.pow(Math.sin(deltaLatitude / 2), 2)
+			+ Math.cos(Math.toRadians(latitude)) * Math.cos(Math.toRadians(pointLatitude))
+			* Math.pow(Math.sin(deltaLongitude / 2), 2);
+		double distanceMeters = 2 * EARTH_RADIUS_METERS * Math.asin(Math.sqrt(haversine));
+
+		return distanceMeters <= radiusMeters;
+	}
+
+	public boolean isTrackingAt(final int dayOfWeekOrdinal, final int minuteOfDay) {
+		if (startMinuteOfDay <= endMinuteOfDay) {
+			return daysOfWeekOrdinal.contains(dayOfWeekOrdinal)
+				&& minuteOfDay >= startMinuteOfDay && minuteOfDay <= endMinuteOfDay;
+		}
+
+		// window crosses midnight: the part after midnight belongs to the previous day's window
+		if (minuteOfDay >= startMinuteOfDay) {
+			return daysOfWeekOrdinal.contains(dayOfWeekOrdinal);
+		}
+		int previousDayOrdinal = Math.floorMod(dayOfWeekOrdinal - 1, 7);
+		return minuteOfDay <= endMinuteOfDay && daysOfWeekOrdinal.contains(previousDayOrdinal);
+	}
+
+}
@@ -0,0 +1,49 @@
+package com.und.server.notification.dto;
+
+import java.util.List;
+
+import com.und.server.notification.constants.NotificationMethodType;
+import com.und.server.notification.dto.response.ScenarioNotificationResponse;
+import com.und.server.notification.dto.response.TimeNotificationResponse;
+
+import lombok.Builder;
+
+@Builder
+public record TimeNotificationSchedule(
+
+	Long memberId,
+	Long scenarioId,
+	Long notificationId,
+	String scenarioName,
+	NotificationMethodType notificationMethodType,
+	List<Integer> daysOfWeekOrdinal,
+	Integer startHour,
+	Integer startMinute
+
+) {
+
+	private static final int MINUTES_PER_HOUR = 60;
+
+	public static TimeNotificationSchedule from(
+		final Long memberId, final ScenarioNotificationResponse scenarioNotificationResponse
+	) {
+		TimeNotificationResponse condition =
+			(TimeNotificationResponse) scenarioNotificationResponse.notificationCondition();
+
+		return TimeNotificationSchedule.builder()
+			.memberId(memberId)
+			.scenarioId(scenarioNotificationResponse.scenarioId())
+			.notificationId(scenarioNotificationResponse.notificationId())
+			.scenarioName(scenarioNotificationResponse.scenarioName())
+			.notificationMethodType(scenarioNotificationResponse.notificationMethodType())
+			.daysOfWeekOrdinal(scenarioNotificationResponse.daysOfWeekOrdinal())
+			.startHour(condition.startHour())
+			.startMinute(condition.startMinute())
+			.build();
+	}
+
+	public int minuteOfDay() {
+		return startHour * MINUTES_PER_HOUR + startMinute;
+	}
+
+}
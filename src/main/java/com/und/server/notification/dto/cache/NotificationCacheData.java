@@ -2,8 +2,10 @@ package com.und.server.notification.dto.cache;
 
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.und.server.notification.constants.NotificationMethodType;
 import com.und.server.notification.constants.NotificationType;
+import com.und.server.notification.dto.response.NotificationConditionResponse;
 import com.und.server.notification.dto.response.ScenarioNotificationResponse;
 import com.und.server.notification.entity.Notification;
 import com.und.server.scenario.entity.Scenario;
@@ -20,13 +22,17 @@ public record NotificationCacheData(
 	NotificationType notificationType,
 	NotificationMethodType notificationMethodType,
 	List<Integer> daysOfWeekOrdinal,
+	NotificationConditionResponse notificationCondition,
+
+	// Legacy nested condition JSON, only read from entries written before notificationCondition was inlined
+	@JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
 	String conditionJson
 
 ) {
 
 	public static NotificationCacheData from(
 		final ScenarioNotificationResponse scenarioNotificationResponse,
-		final String serializedCondition
+		final NotificationConditionResponse notificationCondition
 	) {
 		return NotificationCacheData.builder()
 			.scenarioId(scenarioNotificationResponse.scenarioId())
@@ -36,13 +42,13 @@ public record NotificationCacheData(
 			.notificationType(scenarioNotificationResponse.notificationType())
 			.notificationMethodType(scenarioNotificationResponse.notificationMethodType())
 			.daysOfWeekOrdinal(scenarioNotificationResponse.daysOfWeekOrdinal())
-			.conditionJson(serializedCondition)
+			.notificationCondition(notificationCondition)
 			.build();
 	}
 
 	public static NotificationCacheData from(
 		final Scenario scenario,
-		final String serializedCondition
+		final NotificationConditionResponse notificationCondition
 	) {
 		Notification notification = scenario.getNotification();
 
@@ -54,7 +60,7 @@ public record NotificationCacheData(
 			.notificationType(notification.getNotificationType())
 			.notificationMethodType(notification.getNotificationMethodType())
 			.daysOfWeekOrdinal(notification.getDaysOfWeekOrdinalList())
-			.conditionJson(serializedCondition)
+			.notificationCondition(notificationCondition)
 			.build();
 	}
 
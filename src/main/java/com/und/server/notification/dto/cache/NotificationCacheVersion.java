@@ -0,0 +1,51 @@
+package com.und.server.notification.dto.cache;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public record NotificationCacheVersion(
+
+	Long baseVersion,
+	Long currentVersion,
+	Map<Long, Long> scenarioVersions
+
+) {
+
+	public static final String BASE_VERSION_FIELD = "base";
+	public static final String CURRENT_VERSION_FIELD = "current";
+
+	public static NotificationCacheVersion from(final Map<Object, Object> versionEntries) {
+		Object baseVersion = versionEntries.get(BASE_VERSION_FIELD);
+		Object currentVersion = versionEntries.get(CURRENT_VERSION_FIELD);
+		if (baseVersion == null || currentVersion == null) {
+			return null;
+		}
+
+		Map<Long, Long> scenarioVersions = new HashMap<>();
+		versionEntries.forEach((field, version) -> {
+			if (BASE_VERSION_FIELD.equals(field) || CURRENT_VERSION_FIELD.equals(field)) {
+				return;
+			}
+			scenarioVersions.put(toLong(field), toLong(version));
+		});
+
+		return new NotificationCacheVersion(toLong(baseVersion), toLong(currentVersion), scenarioVersions);
+	}
+
+	public boolean isDeltaAvailable(final Long since) {
+		return since != null && since >= baseVersion && since <= currentVersion;
+	}
+
+	public List<Long> findChangedScenarioIds(final Long since) {
+		return scenarioVersions.entrySet().stream()
+			.filter(entry -> entry.getValue() > since)
+			.map(Map.Entry::getKey)
+			.toList();
+	}
+
+	private static Long toLong(final Object value) {
+		return Long.parseLong(String.valueOf(value));
+	}
+
+}
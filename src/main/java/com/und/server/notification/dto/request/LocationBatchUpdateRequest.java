@@ -0,0 +1,18 @@
+package com.und.server.notification.dto.request;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+@Schema(description = "Device location samples collected since the last report")
+public record LocationBatchUpdateRequest(
+
+	@Schema(description = "Location samples, in any order")
+	@NotEmpty(message = "Samples must not be empty")
+	@Size(max = 500, message = "Samples must not exceed 500")
+	List<@Valid LocationSampleRequest> samples
+
+) { }
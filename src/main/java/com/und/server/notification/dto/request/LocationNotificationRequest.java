@@ -0,0 +1,93 @@
+package com.und.server.notification.dto.request;
+
+import java.math.BigDecimal;
+
+import com.und.server.notification.constants.LocationTrackingRadiusType;
+import com.und.server.notification.constants.NotificationType;
+import com.und.server.notification.entity.LocationNotification;
+import com.und.server.notification.entity.Notification;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+
+@Builder
+@Schema(description = "Location notification detail condition request")
+public record LocationNotificationRequest(
+
+	@Schema(
+		description = "Location notification type",
+		example = "location",
+		defaultValue = "location",
+		allowableValues = {"location"},
+		requiredMode = Schema.RequiredMode.REQUIRED
+	)
+	@NotNull
+	NotificationType notificationType,
+
+	@Schema(description = "Geofence center latitude", example = "37.566535")
+	@NotNull(message = "Latitude must not be null")
+	@DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90")
+	@DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90")
+	BigDecimal latitude,
+
+	@Schema(description = "Geofence center longitude", example = "126.977969")
+	@NotNull(message = "Longitude must not be null")
+	@DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180")
+	@DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180")
+	BigDecimal longitude,
+
+	@Schema(description = "Geofence radius", example = "M_500")
+	@NotNull(message = "Tracking radius type must not be null")
+	LocationTrackingRadiusType trackingRadiusType,
+
+	@Schema(description = "Tracking window start hour, 24-hour format", example = "8")
+	@NotNull(message = "Start hour must not be null")
+	@Min(value = 0, message = "Hour must be between 0 and 23")
+	@Max(value = 23, message = "Hour must be between 0 and 23")
+	Integer startHour,
+
+	@Schema(description = "Tracking window start minute", example = "0")
+	@NotNull(message = "Start minute must not be null")
+	@Min(value = 0, message = "Minute must be between 0 and 59")
+	@Max(value = 59, message = "Minute must be between 0 and 59")
+	Integer startMinute,
+
+	@Schema(description = "Tracking window end hour, 24-hour format", example = "10")
+	@NotNull(message = "End hour must not be null")
+	@Min(value = 0, message = "Hour must be between 0 and 23")
+	@Max(value = 23, message = "Hour must be between 0 and 23")
+	Integer endHour,
+
+	@Schema(description = "Tracking window end minute", example = "30")
+	@NotNull(message = "End minute must not be null")
+	@Min(value = 0, message = "Minute must be between 0 and 59")
+	@Max(value = 59, message = "Minute must be between 0 and 59")
+	Integer endMinute
+
+) implements NotificationConditionRequest {
+
+	public LocationNotificationRequest {
+		if (notificationType == null) {
+			notificationType = NotificationType.LOCATION;
+		}
+	}
+
+	public LocationNotification toEntity(final Notification notification) {
+		return LocationNotification.builder()
+			.notification(notification)
+			.latitude(latitude)
+			.longitude(longitude)
+			.trackingRadiusType(trackingRadiusType)
+			.startHour(startHour)
+			.startMinute(startMinute)
+			.endHour(endHour)
+			.endMinute(endMinute)
+			.build();
+	}
+
+}
@@ -0,0 +1,31 @@
+package com.und.server.notification.dto.request;
+
+import java.time.Instant;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+
+@Builder
+@Schema(description = "Device location sample")
+public record LocationSampleRequest(
+
+	@Schema(description = "Measured time, ISO-8601", example = "2025-01-06T00:30:00Z")
+	@NotNull(message = "Timestamp must not be null")
+	Instant timestamp,
+
+	@Schema(description = "Device latitude", example = "37.566535")
+	@NotNull(message = "Latitude must not be null")
+	@DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90")
+	@DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90")
+	Double latitude,
+
+	@Schema(description = "Device longitude", example = "126.977969")
+	@NotNull(message = "Longitude must not be null")
+	@DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180")
+	@DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180")
+	Double longitude
+
+) { }
@@ -11,7 +11,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 	property = "notificationType"
 )
 @JsonSubTypes({
-	@JsonSubTypes.Type(value = TimeNotificationRequest.class, name = "time")
+	@JsonSubTypes.Type(value = TimeNotificationRequest.class, name = "time"),
+	@JsonSubTypes.Type(value = LocationNotificationRequest.class, name = "location")
 })
 @Schema(
 	description =
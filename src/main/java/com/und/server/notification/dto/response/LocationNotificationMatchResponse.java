@@ -0,0 +1,13 @@
+package com.und.server.notification.dto.response;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Location notifications whose geofence was entered by the current device location")
+public record LocationNotificationMatchResponse(
+
+	@Schema(description = "Entered scenario notifications")
+	List<ScenarioNotificationResponse> scenarios
+
+) { }
@@ -0,0 +1,63 @@
+package com.und.server.notification.dto.response;
+
+import java.math.BigDecimal;
+
+import com.und.server.notification.constants.LocationTrackingRadiusType;
+import com.und.server.notification.constants.NotificationType;
+import com.und.server.notification.entity.LocationNotification;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+
+@Builder
+@Schema(description = "Location notification detail condition response")
+public record LocationNotificationResponse(
+
+	@Schema(
+		description = "Location notification type",
+		example = "LOCATION",
+		defaultValue = "LOCATION",
+		allowableValues = {"LOCATION"},
+		requiredMode = Schema.RequiredMode.REQUIRED
+	)
+	@NotNull
+	NotificationType notificationType,
+
+	@Schema(description = "Geofence center latitude", example = "37.566535")
+	BigDecimal latitude,
+
+	@Schema(description = "Geofence center longitude", example = "126.977969")
+	BigDecimal longitude,
+
+	@Schema(description = "Geofence radius", example = "M_500")
+	LocationTrackingRadiusType trackingRadiusType,
+
+	@Schema(description = "Tracking window start hour", example = "8")
+	Integer startHour,
+
+	@Schema(description = "Tracking window start minute", example = "0")
+	Integer startMinute,
+
+	@Schema(description = "Tracking window end hour", example = "10")
+	Integer endHour,
+
+	@Schema(description = "Tracking window end minute", example = "30")
+	Integer endMinute
+
+) implements NotificationConditionResponse {
+
+	public static NotificationConditionResponse from(final LocationNotification locationNotification) {
+		return LocationNotificationResponse.builder()
+			.notificationType(NotificationType.LOCATION)
+			.latitude(locationNotification.getLatitude())
+			.longitude(locationNotification.getLongitude())
+			.trackingRadiusType(locationNotification.getTrackingRadiusType())
+			.startHour(locationNotification.getStartHour())
+			.startMinute(locationNotification.getStartMinute())
+			.endHour(locationNotification.getEndHour())
+			.endMinute(locationNotification.getEndMinute())
+			.build();
+	}
+
+}
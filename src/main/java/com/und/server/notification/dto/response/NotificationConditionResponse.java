@@ -11,11 +11,12 @@ import io.swagger.v3.oas.annotations.media.Schema;
 	property = "notificationType"
 )
 @JsonSubTypes({
-	@JsonSubTypes.Type(value = TimeNotificationResponse.class, name = "TIME")
+	@JsonSubTypes.Type(value = TimeNotificationResponse.class, name = "TIME"),
+	@JsonSubTypes.Type(value = LocationNotificationResponse.class, name = "LOCATION")
 })
 @Schema(
 	description = "Notification condition polymorphic base",
 	discriminatorProperty = "notificationType",
-	oneOf = {TimeNotificationResponse.class}
+	oneOf = {TimeNotificationResponse.class, LocationNotificationResponse.class}
 )
 public interface NotificationConditionResponse { }
@@ -0,0 +1,50 @@
+package com.und.server.notification.dto.response;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+@Builder
+@Schema(description = "Scenario notification changes since the requested version")
+public record ScenarioNotificationChangesResponse(
+
+	@Schema(description = "Latest member notification version (use as next 'since')", example = "1756272632567")
+	Long version,
+
+	@Schema(description = "Whether the response is a full snapshot instead of a delta", example = "false")
+	Boolean isFullSync,
+
+	@Schema(description = "Scenario notifications created or updated since the requested version")
+	List<ScenarioNotificationResponse> upsertedScenarios,
+
+	@Schema(description = "Scenario ids whose notification was removed since the requested version", example = "[3]")
+	List<Long> deletedScenarioIds
+
+) {
+
+	public static ScenarioNotificationChangesResponse fullFrom(
+		final Long version, final List<ScenarioNotificationResponse> scenarios
+	) {
+		return ScenarioNotificationChangesResponse.builder()
+			.version(version)
+			.isFullSync(true)
+			.upsertedScenarios(scenarios)
+			.deletedScenarioIds(List.of())
+			.build();
+	}
+
+	public static ScenarioNotificationChangesResponse deltaFrom(
+		final Long version,
+		final List<ScenarioNotificationResponse> upsertedScenarios,
+		final List<Long> deletedScenarioIds
+	) {
+		return ScenarioNotificationChangesResponse.builder()
+			.version(version)
+			.isFullSync(false)
+			.upsertedScenarios(upsertedScenarios)
+			.deletedScenarioIds(deletedScenarioIds)
+			.build();
+	}
+
+}
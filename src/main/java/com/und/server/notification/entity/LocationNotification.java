@@ -79,4 +79,22 @@ public class LocationNotification extends BaseTimeEntity {
 	@Max(59)
 	private Integer endMinute;
 
+	public void updateLocationCondition(
+		final BigDecimal latitude,
+		final BigDecimal longitude,
+		final LocationTrackingRadiusType trackingRadiusType,
+		final Integer startHour,
+		final Integer startMinute,
+		final Integer endHour,
+		final Integer endMinute
+	) {
+		this.latitude = latitude;
+		this.longitude = longitude;
+		this.trackingRadiusType = trackingRadiusType;
+		this.startHour = startHour;
+		this.startMinute = startMinute;
+		this.endHour = endHour;
+		this.endMinute = endMinute;
+	}
+
 }
@@ -1,12 +1,11 @@
 package com.und.server.notification.entity;
 
-import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import com.und.server.common.entity.BaseTimeEntity;
 import com.und.server.notification.constants.NotificationMethodType;
 import com.und.server.notification.constants.NotificationType;
+import com.und.server.notification.util.DaysOfWeekMask;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -15,6 +14,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -31,7 +31,8 @@ import lombok.NoArgsConstructor;
 public class Notification extends BaseTimeEntity {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_seq")
+	@SequenceGenerator(name = "notification_seq", sequenceName = "notification_seq", allocationSize = 50)
 	private Long id;
 
 	@Column(nullable = false)
@@ -44,20 +45,19 @@ public class Notification extends BaseTimeEntity {
 	@Enumerated(EnumType.STRING)
 	private NotificationMethodType notificationMethodType;
 
-	@Column
-	private String daysOfWeek;
+	@Column(columnDefinition = "TINYINT")
+	private Integer daysMask;
 
 	public boolean isActive() {
 		return isActive;
 	}
 
 	public boolean isEveryDay() {
-		List<Integer> days = getDaysOfWeekOrdinalList();
-		return days.size() == 7;
+		return daysMask != null && daysMask == DaysOfWeekMask.EVERY_DAY;
 	}
 
 	public boolean hasNotificationCondition() {
-		return notificationMethodType != null && daysOfWeek != null;
+		return notificationMethodType != null && daysMask != null;
 	}
 
 	public void updateActive(Boolean isActive) {
@@ -78,27 +78,19 @@ public class Notification extends BaseTimeEntity {
 	public void deactivate() {
 		this.isActive = false;
 		this.notificationMethodType = null;
-		this.daysOfWeek = null;
+		this.daysMask = null;
 	}
 
 	public List<Integer> getDaysOfWeekOrdinalList() {
-		if (daysOfWeek == null || daysOfWeek.isEmpty()) {
-			return List.of();
-		}
-		return Arrays.stream(daysOfWeek.split(","))
-			.map(String::trim)
-			.map(Integer::parseInt)
-			.collect(Collectors.toList());
+		return DaysOfWeekMask.toOrdinals(daysMask);
 	}
 
 	public void updateDaysOfWeekOrdinal(final List<Integer> daysOfWeekOrdinal) {
 		if (!isActive || daysOfWeekOrdinal == null || daysOfWeekOrdinal.isEmpty()) {
-			this.daysOfWeek = null;
+			this.daysMask = null;
 			return;
 		}
-		this.daysOfWeek = daysOfWeekOrdinal.stream()
-			.map(String::valueOf)
-			.collect(Collectors.joining(","));
+		this.daysMask = DaysOfWeekMask.from(daysOfWeekOrdinal);
 	}
 
 }
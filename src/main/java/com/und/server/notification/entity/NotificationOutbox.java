@@ -0,0 +1,59 @@
+package com.und.server.notification.entity;
+
+import java.time.LocalDateTime;
+
+import com.und.server.notification.constants.NotificationOutboxEventType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Getter
+@Builder
+@Table(name = "notification_outbox", indexes = {
+	@Index(name = "idx_notification_outbox_claimed_until", columnList = "claimed_until, id"),
+	@Index(name = "idx_notification_outbox_claimed_by", columnList = "claimed_by, claimed_until, id")
+})
+public class NotificationOutbox {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(nullable = false)
+	private Long memberId;
+
+	private Long scenarioId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 10)
+	private NotificationOutboxEventType eventType;
+
+	@Column(nullable = false, updatable = false)
+	private LocalDateTime createdAt;
+
+	@Column(length = 36)
+	private String claimedBy;
+
+	// the row is claimable from this time: its creation, the end of a relay lease, or a retry after a failed apply
+	@Column(nullable = false)
+	private LocalDateTime claimedUntil;
+
+	@Column(nullable = false)
+	private int attempts;
+
+}
@@ -0,0 +1,36 @@
+package com.und.server.notification.event;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.und.server.notification.invalidation.LocalCacheInvalidationBus;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class LocalCacheInvalidationEventListener {
+
+	private final LocalCacheInvalidationBus localCacheInvalidationBus;
+
+	@TransactionalEventListener
+	public void handleCreate(final ScenarioCreateEvent event) {
+		localCacheInvalidationBus.publish(event.memberId());
+	}
+
+	@TransactionalEventListener
+	public void handleUpdate(final ScenarioUpdateEvent event) {
+		localCacheInvalidationBus.publish(event.memberId());
+	}
+
+	@TransactionalEventListener
+	public void handleDelete(final ScenarioDeleteEvent event) {
+		localCacheInvalidationBus.publish(event.memberId());
+	}
+
+	@TransactionalEventListener
+	public void handleActiveUpdate(final ActiveUpdateEvent event) {
+		localCacheInvalidationBus.publish(event.memberId());
+	}
+
+}
@@ -0,0 +1,125 @@
+package com.und.server.notification.event;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import com.und.server.notification.dto.response.NotificationConditionResponse;
+import com.und.server.notification.service.NotificationCacheService;
+import com.und.server.scenario.entity.Scenario;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class NotificationCacheEventCoalescer {
+
+	private final Map<Long, PendingCacheMutation> pendingMutations = new ConcurrentHashMap<>();
+	private final NotificationCacheService notificationCacheService;
+
+
+	public void upsert(final Long memberId, final Scenario scenario) {
+		pendingMutations.compute(memberId, (key, pending) -> getOrCreate(pending).upsert(scenario));
+	}
+
+
+	public void delete(final Long memberId, final Long scenarioId) {
+		pendingMutations.compute(memberId, (key, pending) -> getOrCreate(pending).delete(scenarioId));
+	}
+
+
+	public void refresh(final Long memberId) {
+		pendingMutations.compute(memberId, (key, pending) -> getOrCreate(pending).refresh());
+	}
+
+
+	public void evict(final Long memberId) {
+		pendingMutations.compute(memberId, (key, pending) -> getOrCreate(pending).evict());
+	}
+
+
+	public Set<Long> flush() {
+		Map<Long, PendingCacheMutation> drainedMutations = new HashMap<>();
+		for (Long memberId : pendingMutations.keySet()) {
+			PendingCacheMutation pending = pendingMutations.remove(memberId);
+			if (pending != null) {
+				drainedMutations.put(memberId, pending);
+			}
+		}
+
+		Map<Long, NotificationConditionResponse> conditions = findUpsertConditions(drainedMutations.values());
+		Set<Long> failedMemberIds = new HashSet<>();
+		drainedMutations.forEach((memberId, pending) -> {
+			if (!apply(memberId, pending, conditions)) {
+				failedMemberIds.add(memberId);
+			}
+		});
+		return failedMemberIds;
+	}
+
+	// One condition query per notification type for the whole batch instead of one per member
+	private Map<Long, NotificationConditionResponse> findUpsertConditions(
+		final Collection<PendingCacheMutation> mutations
+	) {
+		List<Scenario> upsertScenarios = mutations.stream()
+			.filter(pending -> pending.resolveAction() == PendingCacheMutation.Action.UPSERT)
+			.map(PendingCacheMutation::getSingleUpsert)
+			.toList();
+		if (upsertScenarios.isEmpty()) {
+			return Map.of();
+		}
+
+		try {
+			return notificationCacheService.findNotificationConditions(upsertScenarios);
+		} catch (Exception e) {
+			log.warn("Failed to load notification conditions in bulk, falling back to per scenario lookups", e);
+			return Map.of();
+		}
+	}
+
+	private boolean apply(
+		final Long memberId,
+		final PendingCacheMutation pending,
+		final Map<Long, NotificationConditionResponse> conditions
+	) {
+		try {
+			switch (pending.resolveAction()) {
+				case EVICT -> notificationCacheService.deleteMemberAllCache(memberId);
+				case REFRESH -> notificationCacheService.refreshCacheFromDatabase(memberId);
+				case UPSERT -> upsert(memberId, pending.getSingleUpsert(), conditions);
+				case DELETE -> notificationCacheService.deleteCache(memberId, pending.getSingleDelete());
+				default -> { }
+			}
+			return true;
+		} catch (Exception e) {
+			log.error("Failed to apply coalesced notification cache mutation memberId={}", memberId, e);
+			return false;
+		}
+	}
+
+	private void upsert(
+		final Long memberId,
+		final Scenario scenario,
+		final Map<Long, NotificationConditionResponse> conditions
+	) {
+		Long notificationId = scenario.getNotification().getId();
+		if (conditions.containsKey(notificationId)) {
+			notificationCacheService.updateCache(memberId, scenario, conditions.get(notificationId));
+		} else {
+			notificationCacheService.updateCache(memberId, scenario);
+		}
+	}
+
+	private PendingCacheMutation getOrCreate(final PendingCacheMutation pending) {
+		return pending == null ? new PendingCacheMutation() : pending;
+	}
+
+}
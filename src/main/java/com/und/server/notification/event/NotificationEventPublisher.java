@@ -1,5 +1,7 @@
 package com.und.server.notification.event;
 
+import java.util.List;
+
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
@@ -44,4 +46,10 @@ public class NotificationEventPublisher {
 		eventPublisher.publishEvent(event);
 	}
 
+	public void publishScheduleChangeEvent(final List<Long> notificationIds) {
+		TimeNotificationScheduleChangeEvent event = new TimeNotificationScheduleChangeEvent(notificationIds);
+
+		eventPublisher.publishEvent(event);
+	}
+
 }
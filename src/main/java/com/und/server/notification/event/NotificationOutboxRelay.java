@@ -0,0 +1,192 @@
+package com.und.server.notification.event;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.und.server.notification.constants.NotificationOutboxEventType;
+import com.und.server.notification.entity.Notification;
+import com.und.server.notification.entity.NotificationOutbox;
+import com.und.server.notification.repository.NotificationOutboxRepository;
+import com.und.server.scenario.entity.Scenario;
+import com.und.server.scenario.repository.ScenarioRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Drains the notification outbox into the cache at least once.
+ * Rows are leased to one relay instance before they are applied, so nodes do not apply the same rows twice.
+ * Scenario rows are resolved against the current database state, so replaying a row is harmless.
+ */
+@Component
+@Slf4j
+public class NotificationOutboxRelay {
+
+	private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+	private static final long RELAY_INTERVAL_MILLIS = 200L;
+	private static final int BATCH_SIZE = 500;
+	private static final Duration LEASE = Duration.ofSeconds(30);
+	private static final Duration MAX_BACKOFF = Duration.ofMinutes(1);
+	private static final int MAX_ATTEMPTS = 5;
+	private final String owner = UUID.randomUUID().toString();
+	private final NotificationOutboxRepository notificationOutboxRepository;
+	private final ScenarioRepository scenarioRepository;
+	private final NotificationCacheEventCoalescer eventCoalescer;
+	private final Clock clock;
+	private final Counter relayedCounter;
+	private final Counter failedCounter;
+	private final Counter evictedCounter;
+	private final Timer lagTimer;
+
+	public NotificationOutboxRelay(
+		final NotificationOutboxRepository notificationOutboxRepository,
+		final ScenarioRepository scenarioRepository,
+		final NotificationCacheEventCoalescer eventCoalescer,
+		final MeterRegistry meterRegistry,
+		final Clock clock
+	) {
+		this.notificationOutboxRepository = notificationOutboxRepository;
+		this.scenarioRepository = scenarioRepository;
+		this.eventCoalescer = eventCoalescer;
+		this.clock = clock;
+		this.relayedCounter = meterRegistry.counter("notification.outbox.relayed");
+		this.failedCounter = meterRegistry.counter("notification.outbox.failed");
+		this.evictedCounter = meterRegistry.counter("notification.outbox.evicted");
+		this.lagTimer = meterRegistry.timer("notification.outbox.lag");
+	}
+
+
+	/**
+	 * Every 200ms - 아웃박스에 쌓인 알림 캐시 이벤트를 캐시에 반영
+	 */
+	@Scheduled(fixedDelay = RELAY_INTERVAL_MILLIS)
+	public void relay() {
+		List<Long> claimableIds;
+		do {
+			LocalDateTime now = now();
+			claimableIds = notificationOutboxRepository.findClaimableIds(now, Limit.of(BATCH_SIZE));
+			if (claimableIds.isEmpty()) {
+				return;
+			}
+			if (notificationOutboxRepository.claim(claimableIds, owner, now, now.plus(LEASE)) > 0) {
+				relayBatch(notificationOutboxRepository.findByClaimedByAndClaimedUntilGreaterThanOrderByIdAsc(
+					owner, now));
+			}
+		} while (claimableIds.size() == BATCH_SIZE);
+	}
+
+	private void relayBatch(final List<NotificationOutbox> batch) {
+		Map<Long, Scenario> scenarios = findScenarios(batch);
+		for (NotificationOutbox outbox : batch) {
+			switch (outbox.getEventType()) {
+				case SCENARIO -> queueScenario(outbox, scenarios.get(outbox.getScenarioId()));
+				case REFRESH -> eventCoalescer.refresh(outbox.getMemberId());
+				case EVICT -> eventCoalescer.evict(outbox.getMemberId());
+				default -> { }
+			}
+		}
+		Set<Long> failedMemberIds = eventCoalescer.flush();
+
+		LocalDateTime now = now();
+		List<Long> relayedIds = new ArrayList<>();
+		Map<Long, List<NotificationOutbox>> failedRows = new HashMap<>();
+		for (NotificationOutbox outbox : batch) {
+			if (failedMemberIds.contains(outbox.getMemberId())) {
+				failedCounter.increment();
+				failedRows.computeIfAbsent(outbox.getMemberId(), memberId -> new ArrayList<>()).add(outbox);
+				continue;
+			}
+			relayedIds.add(outbox.getId());
+			lagTimer.record(Duration.between(outbox.getCreatedAt(), now));
+		}
+		relayedIds.addAll(retryOrEvict(failedRows, now));
+		notificationOutboxRepository.deleteAllByIdInBatch(relayedIds);
+		relayedCounter.increment(relayedIds.size());
+	}
+
+	/**
+	 * Failed rows are retried with exponential backoff. After MAX_ATTEMPTS the member's whole cache is evicted
+	 * instead, so the next read rebuilds it from the database, and the rows are dropped.
+	 */
+	private List<Long> retryOrEvict(final Map<Long, List<NotificationOutbox>> failedRows, final LocalDateTime now) {
+		Set<Long> exhaustedMemberIds = new HashSet<>();
+		failedRows.forEach((memberId, rows) -> {
+			int attempts = rows.stream().mapToInt(NotificationOutbox::getAttempts).max().orElse(0) + 1;
+			if (attempts >= MAX_ATTEMPTS) {
+				exhaustedMemberIds.add(memberId);
+				eventCoalescer.evict(memberId);
+				return;
+			}
+			release(rows, now, attempts);
+		});
+		if (exhaustedMemberIds.isEmpty()) {
+			return List.of();
+		}
+
+		Set<Long> evictFailedMemberIds = eventCoalescer.flush();
+		List<Long> evictedIds = new ArrayList<>();
+		for (Long memberId : exhaustedMemberIds) {
+			if (evictFailedMemberIds.contains(memberId)) {
+				release(failedRows.get(memberId), now, MAX_ATTEMPTS);
+				continue;
+			}
+			log.warn("[NOTIFICATION OUTBOX] Evicted cache after {} failed attempts memberId={}",
+				MAX_ATTEMPTS, memberId);
+			evictedCounter.increment();
+			failedRows.get(memberId).forEach(outbox -> evictedIds.add(outbox.getId()));
+		}
+		return evictedIds;
+	}
+
+	private void release(final List<NotificationOutbox> rows, final LocalDateTime now, final int attempts) {
+		Duration backoff = Duration.ofSeconds(1L << attempts);
+		LocalDateTime retryAt = now.plus(backoff.compareTo(MAX_BACKOFF) < 0 ? backoff : MAX_BACKOFF);
+		notificationOutboxRepository.release(rows.stream().map(NotificationOutbox::getId).toList(), retryAt, attempts);
+	}
+
+	private LocalDateTime now() {
+		// the column keeps whole seconds, so compare leases at the same precision
+		return LocalDateTime.now(clock.withZone(ZONE_ID)).truncatedTo(ChronoUnit.SECONDS);
+	}
+
+	private Map<Long, Scenario> findScenarios(final List<NotificationOutbox> batch) {
+		List<Long> scenarioIds = batch.stream()
+			.filter(outbox -> outbox.getEventType() == NotificationOutboxEventType.SCENARIO)
+			.map(NotificationOutbox::getScenarioId)
+			.distinct()
+			.toList();
+		if (scenarioIds.isEmpty()) {
+			return Map.of();
+		}
+		return scenarioRepository.findByIdIn(scenarioIds).stream()
+			.collect(Collectors.toMap(Scenario::getId, Function.identity()));
+	}
+
+	private void queueScenario(final NotificationOutbox outbox, final Scenario scenario) {
+		Notification notification = scenario == null ? null : scenario.getNotification();
+		if (notification == null || !notification.isActive()) {
+			eventCoalescer.delete(outbox.getMemberId(), outbox.getScenarioId());
+			return;
+		}
+		eventCoalescer.upsert(outbox.getMemberId(), scenario);
+	}
+
+}
@@ -0,0 +1,50 @@
+package com.und.server.notification.event;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+
+import org.springframework.stereotype.Component;
+
+import com.und.server.notification.constants.NotificationOutboxEventType;
+import com.und.server.notification.entity.NotificationOutbox;
+import com.und.server.notification.repository.NotificationOutboxRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxWriter {
+
+	private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+	private final NotificationOutboxRepository notificationOutboxRepository;
+	private final Clock clock;
+
+
+	public void appendScenarioChange(final Long memberId, final Long scenarioId) {
+		append(memberId, scenarioId, NotificationOutboxEventType.SCENARIO);
+	}
+
+
+	public void appendRefresh(final Long memberId) {
+		append(memberId, null, NotificationOutboxEventType.REFRESH);
+	}
+
+
+	public void appendEvict(final Long memberId) {
+		append(memberId, null, NotificationOutboxEventType.EVICT);
+	}
+
+	private void append(final Long memberId, final Long scenarioId, final NotificationOutboxEventType eventType) {
+		LocalDateTime now = LocalDateTime.now(clock.withZone(ZONE_ID));
+		notificationOutboxRepository.save(NotificationOutbox.builder()
+			.memberId(memberId)
+			.scenarioId(scenarioId)
+			.eventType(eventType)
+			.createdAt(now)
+			.claimedUntil(now.truncatedTo(ChronoUnit.SECONDS))
+			.build());
+	}
+
+}
@@ -0,0 +1,64 @@
+package com.und.server.notification.event;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.und.server.scenario.entity.Scenario;
+
+class PendingCacheMutation {
+
+	enum Action { NONE, UPSERT, DELETE, REFRESH, EVICT }
+
+	// Latest net change per scenario; a null value marks a delete
+	private final Map<Long, Scenario> scenarioMutations = new HashMap<>();
+	private Action memberAction = Action.NONE;
+
+	PendingCacheMutation upsert(final Scenario scenario) {
+		return mutateScenario(scenario.getId(), scenario);
+	}
+
+	PendingCacheMutation delete(final Long scenarioId) {
+		return mutateScenario(scenarioId, null);
+	}
+
+	PendingCacheMutation refresh() {
+		scenarioMutations.clear();
+		memberAction = Action.REFRESH;
+		return this;
+	}
+
+	PendingCacheMutation evict() {
+		scenarioMutations.clear();
+		memberAction = Action.EVICT;
+		return this;
+	}
+
+	Action resolveAction() {
+		if (memberAction != Action.NONE) {
+			return memberAction;
+		}
+		if (scenarioMutations.size() != 1) {
+			return scenarioMutations.isEmpty() ? Action.NONE : Action.REFRESH;
+		}
+		return getSingleUpsert() == null ? Action.DELETE : Action.UPSERT;
+	}
+
+	Scenario getSingleUpsert() {
+		return scenarioMutations.values().iterator().next();
+	}
+
+	Long getSingleDelete() {
+		return scenarioMutations.keySet().iterator().next();
+	}
+
+	private PendingCacheMutation mutateScenario(final Long scenarioId, final Scenario scenario) {
+		if (memberAction == Action.NONE) {
+			scenarioMutations.put(scenarioId, scenario);
+		} else {
+			// a scenario change on an evicted cache rebuilds it, same as a cache miss would
+			memberAction = Action.REFRESH;
+		}
+		return this;
+	}
+
+}
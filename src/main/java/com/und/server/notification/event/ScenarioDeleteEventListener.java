@@ -1,47 +1,24 @@
 package com.und.server.notification.event;
 
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
-import com.und.server.notification.exception.NotificationCacheException;
-import com.und.server.notification.service.NotificationCacheService;
 
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 
 @Component
-@Slf4j
 @RequiredArgsConstructor
 public class ScenarioDeleteEventListener {
 
-	private final NotificationCacheService notificationCacheService;
+	private final NotificationOutboxWriter notificationOutboxWriter;
 
-	@Async
-	@TransactionalEventListener
+	@TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
 	public void handleDelete(final ScenarioDeleteEvent event) {
-		final Long memberId = event.memberId();
-		final Long scenarioId = event.scenarioId();
-		final Boolean isNotificationActive = event.isNotificationActive();
-
-		try {
-			if (!isNotificationActive) {
-				return;
-			}
-			processWithNotification(memberId, scenarioId);
-
-		} catch (NotificationCacheException e) {
-			log.error("Failed to process scenario delete event due to cache error: {}", event, e);
-			notificationCacheService.deleteMemberAllCache(memberId);
-		} catch (Exception e) {
-			log.error("Failed to process scenario delete event due to an unexpected error: {}", event, e);
-			notificationCacheService.deleteMemberAllCache(memberId);
+		if (!event.isNotificationActive()) {
+			return;
 		}
-	}
-
-	private void processWithNotification(final Long memberId, final Long scenarioId) {
-		notificationCacheService.deleteCache(memberId, scenarioId);
+		notificationOutboxWriter.appendScenarioChange(event.memberId(), event.scenarioId());
 	}
 
 }
-
@@ -0,0 +1,9 @@
+package com.und.server.notification.event;
+
+import java.util.List;
+
+public record TimeNotificationScheduleChangeEvent(
+
+	List<Long> notificationIds
+
+) { }
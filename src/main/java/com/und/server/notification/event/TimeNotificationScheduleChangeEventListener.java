@@ -0,0 +1,48 @@
+package com.und.server.notification.event;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.und.server.notification.dto.TimeNotificationSchedule;
+import com.und.server.notification.scheduler.TimeNotificationScheduleIndex;
+import com.und.server.scenario.repository.ScenarioRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "notification.dispatch.mode", havingValue = "redis", matchIfMissing = true)
+public class TimeNotificationScheduleChangeEventListener {
+
+	private final ScenarioRepository scenarioRepository;
+	private final TimeNotificationScheduleIndex timeNotificationScheduleIndex;
+
+	// projects the committed rows, so a rolled back change never reaches the schedule index
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	@Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+	public void handleScheduleChange(final TimeNotificationScheduleChangeEvent event) {
+		List<TimeNotificationSchedule> schedules =
+			scenarioRepository.findActiveTimeNotificationSchedulesByNotificationIds(event.notificationIds());
+		schedules.forEach(schedule -> timeNotificationScheduleIndex.schedule(schedule.notificationId(),
+			schedule.daysOfWeekOrdinal(), schedule.startHour(), schedule.startMinute()));
+
+		Set<Long> scheduledIds = schedules.stream()
+			.map(TimeNotificationSchedule::notificationId)
+			.collect(Collectors.toSet());
+		List<Long> unscheduledIds = event.notificationIds().stream()
+			.filter(notificationId -> !scheduledIds.contains(notificationId))
+			.toList();
+		if (!unscheduledIds.isEmpty()) {
+			timeNotificationScheduleIndex.unschedule(unscheduledIds);
+		}
+	}
+
+}
@@ -0,0 +1,38 @@
+package com.und.server.notification.event;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.und.server.notification.scheduler.TimeNotificationDispatcher;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "notification.dispatch.mode", havingValue = "memory")
+public class TimeNotificationScheduleEventListener {
+
+	private final TimeNotificationDispatcher timeNotificationDispatcher;
+
+	@TransactionalEventListener
+	public void handleCreate(final ScenarioCreateEvent event) {
+		timeNotificationDispatcher.markStale(event.memberId());
+	}
+
+	@TransactionalEventListener
+	public void handleUpdate(final ScenarioUpdateEvent event) {
+		timeNotificationDispatcher.markStale(event.memberId());
+	}
+
+	@TransactionalEventListener
+	public void handleDelete(final ScenarioDeleteEvent event) {
+		timeNotificationDispatcher.markStale(event.memberId());
+	}
+
+	@TransactionalEventListener
+	public void handleActiveUpdate(final ActiveUpdateEvent event) {
+		timeNotificationDispatcher.markStale(event.memberId());
+	}
+
+}
@@ -26,9 +26,7 @@ public enum NotificationCacheErrorResult implements ErrorResult {
 	DESERIALIZE_FAILED(
 		HttpStatus.INTERNAL_SERVER_ERROR, "Failed to deserialize NotificationCacheData"),
 	CONDITION_PARSE_FAILED(
-		HttpStatus.INTERNAL_SERVER_ERROR, "Failed to parse NotificationConditionResponse from cache"),
-	CONDITION_SERIALIZE_FAILED(
-		HttpStatus.INTERNAL_SERVER_ERROR, "Failed to serialize NotificationConditionResponse");
+		HttpStatus.INTERNAL_SERVER_ERROR, "Failed to parse NotificationConditionResponse from cache");
 
 	private final HttpStatus httpStatus;
 	private final String message;
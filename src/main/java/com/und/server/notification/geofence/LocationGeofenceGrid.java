@@ -0,0 +1,68 @@
+package com.und.server.notification.geofence;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.und.server.notification.dto.LocationGeofence;
+
+/**
+ * Fixed lat/lon grid of one member's geofences. Each fence is registered in every cell its bounding box overlaps,
+ * so a position lookup only distance-checks the fences of a single cell instead of every fence.
+ */
+public class LocationGeofenceGrid {
+
+	static final double CELL_SIZE_DEGREES = 0.02;
+	private static final double METERS_PER_DEGREE = 111_320;
+	private static final double MIN_LONGITUDE_SCALE = 0.01;
+	private final Map<Long, List<LocationGeofence>> geofencesByCell = new HashMap<>();
+	private final int size;
+
+
+	public LocationGeofenceGrid(final List<LocationGeofence> geofences) {
+		geofences.forEach(this::register);
+		this.size = geofences.size();
+	}
+
+
+	public List<LocationGeofence> findContaining(final double latitude, final double longitude) {
+		List<LocationGeofence> candidates = geofencesByCell.getOrDefault(
+			toCellKey(toCellIndex(latitude), toCellIndex(longitude)), List.of());
+
+		return candidates.stream()
+			.filter(geofence -> geofence.contains(latitude, longitude))
+			.toList();
+	}
+
+
+	public int size() {
+		return size;
+	}
+
+	private void register(final LocationGeofence geofence) {
+		double latitudeDelta = geofence.radiusMeters() / METERS_PER_DEGREE;
+		double longitudeScale = Math.max(Math.cos(Math.toRadians(geofence.latitude())), MIN_LONGITUDE_SCALE);
+		double longitudeDelta = latitudeDelta / longitudeScale;
+
+		int minLatitudeIndex = toCellIndex(geofence.latitude() - latitudeDelta);
+		int maxLatitudeIndex = toCellIndex(geofence.latitude() + latitudeDelta);
+		int minLongitudeIndex = toCellIndex(geofence.longitude() - longitudeDelta);
+		int maxLongitudeIndex = toCellIndex(geofence.longitude() + longitudeDelta);
+		for (int latitudeIndex = minLatitudeIndex; latitudeIndex <= maxLatitudeIndex; latitudeIndex++) {
+			for (int longitudeIndex = minLongitudeIndex; longitudeIndex <= maxLongitudeIndex; longitudeIndex++) {
+				geofencesByCell.computeIfAbsent(toCellKey(latitudeIndex, longitudeIndex), key -> new ArrayList<>())
+					.add(geofence);
+			}
+		}
+	}
+
+	private static int toCellIndex(final double degrees) {
+		return (int) Math.floor(degrees / CELL_SIZE_DEGREES);
+	}
+
+	private static long toCellKey(final int latitudeIndex, final int longitudeIndex) {
+		return ((long) latitudeIndex << Integer.SIZE) | (longitudeIndex & 0xFFFFFFFFL);
+	}
+
+}
@@ -0,0 +1,124 @@
+package com.und.server.notification.geofence;
+
+import java.time.Clock;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.und.server.notification.dto.LocationGeofence;
+import com.und.server.notification.dto.request.LocationSampleRequest;
+import com.und.server.notification.dto.response.ScenarioNotificationResponse;
+import com.und.server.notification.invalidation.MemberLocalCache;
+import com.und.server.scenario.repository.ScenarioRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class LocationGeofenceMatcher implements MemberLocalCache {
+
+	private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+	private static final int MINUTES_PER_HOUR = 60;
+	private static final long GRID_TTL_MILLIS = 5 * 60_000L;
+	private final Map<Long, CachedGrid> gridsByMemberId = new ConcurrentHashMap<>();
+	private final ScenarioRepository scenarioRepository;
+	private final LocationGeofenceStateStore stateStore;
+	private final Clock clock;
+
+
+	public List<ScenarioNotificationResponse> findEntered(
+		final Long memberId, final double latitude, final double longitude
+	) {
+		return findEntered(memberId, List.of(LocationSampleRequest.builder()
+			.timestamp(clock.instant())
+			.latitude(latitude)
+			.longitude(longitude)
+			.build()));
+	}
+
+
+	public List<ScenarioNotificationResponse> findEntered(
+		final Long memberId, final List<LocationSampleRequest> samples
+	) {
+		LocationGeofenceGrid grid = findGrid(memberId);
+		Set<Long> previousInsideIds = stateStore.findInsideNotificationIds(memberId);
+
+		// replay samples in time order and keep only enter transitions
+		Set<Long> insideIds = previousInsideIds;
+		Map<Long, ScenarioNotificationResponse> entered = new LinkedHashMap<>();
+		List<LocationSampleRequest> orderedSamples = samples.stream()
+			.sorted(Comparator.comparing(LocationSampleRequest::timestamp))
+			.toList();
+		for (LocationSampleRequest sample : orderedSamples) {
+			List<LocationGeofence> inside = findTrackedInside(grid, sample);
+			for (LocationGeofence geofence : inside) {
+				if (!insideIds.contains(geofence.notificationId())) {
+					entered.putIfAbsent(geofence.notificationId(), geofence.scenarioNotification());
+				}
+			}
+			insideIds = inside.stream()
+				.map(LocationGeofence::notificationId)
+				.collect(Collectors.toSet());
+		}
+
+		if (!insideIds.equals(previousInsideIds)) {
+			stateStore.saveInsideNotificationIds(memberId, insideIds);
+		}
+		return new ArrayList<>(entered.values());
+	}
+
+
+	@Override
+	public void evict(final Long memberId) {
+		gridsByMemberId.remove(memberId);
+	}
+
+
+	@Override
+	public void evictAll() {
+		gridsByMemberId.clear();
+	}
+
+	private LocationGeofenceGrid findGrid(final Long memberId) {
+		long now = clock.millis();
+
+		// the TTL bounds staleness when an invalidation from another node is lost
+		return gridsByMemberId.compute(memberId, (key, cached) ->
+			cached == null || cached.expiresAtMillis() <= now
+				? new CachedGrid(loadGrid(memberId), now + GRID_TTL_MILLIS)
+				: cached
+		).grid();
+	}
+
+	private List<LocationGeofence> findTrackedInside(
+		final LocationGeofenceGrid grid, final LocationSampleRequest sample
+	) {
+		ZonedDateTime measuredAt = sample.timestamp().atZone(ZONE_ID);
+		int dayOfWeekOrdinal = measuredAt.getDayOfWeek().ordinal();
+		int minuteOfDay = measuredAt.getHour() * MINUTES_PER_HOUR + measuredAt.getMinute();
+
+		return grid.findContaining(sample.latitude(), sample.longitude()).stream()
+			.filter(geofence -> geofence.isTrackingAt(dayOfWeekOrdinal, minuteOfDay))
+			.toList();
+	}
+
+	private LocationGeofenceGrid loadGrid(final Long memberId) {
+		List<LocationGeofence> geofences = scenarioRepository.findLocationScenarioNotifications(memberId).stream()
+			.map(LocationGeofence::from)
+			.toList();
+
+		return new LocationGeofenceGrid(geofences);
+	}
+
+	private record CachedGrid(LocationGeofenceGrid grid, long expiresAtMillis) { }
+
+}
@@ -0,0 +1,51 @@
+package com.und.server.notification.geofence;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.und.server.notification.util.NotificationCacheKeyGenerator;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class LocationGeofenceStateStore {
+
+	private static final Duration STATE_TTL = Duration.ofDays(1);
+	private static final String DELIMITER = ",";
+	private final StringRedisTemplate stringRedisTemplate;
+	private final NotificationCacheKeyGenerator keyGenerator;
+
+
+	public Set<Long> findInsideNotificationIds(final Long memberId) {
+		String insideNotificationIds = stringRedisTemplate.opsForValue()
+			.get(keyGenerator.generateGeofenceStateKey(memberId));
+		if (insideNotificationIds == null) {
+			return Set.of();
+		}
+
+		return Arrays.stream(insideNotificationIds.split(DELIMITER))
+			.map(Long::valueOf)
+			.collect(Collectors.toSet());
+	}
+
+
+	public void saveInsideNotificationIds(final Long memberId, final Set<Long> insideNotificationIds) {
+		String stateKey = keyGenerator.generateGeofenceStateKey(memberId);
+		if (insideNotificationIds.isEmpty()) {
+			stringRedisTemplate.delete(stateKey);
+			return;
+		}
+
+		String value = insideNotificationIds.stream()
+			.map(String::valueOf)
+			.collect(Collectors.joining(DELIMITER));
+		stringRedisTemplate.opsForValue().set(stateKey, value, STATE_TTL);
+	}
+
+}
@@ -0,0 +1,73 @@
+package com.und.server.notification.invalidation;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis pub/sub bus that keeps per-node member caches coherent.
+ * A gap in the message sequence means this node missed invalidations, so every local cache is dropped;
+ * entries also expire on their own TTL in case the subscription is down for longer.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class LocalCacheInvalidationBus implements MessageListener {
+
+	public static final String CHANNEL = "notif:invalidation";
+	public static final String SEQUENCE_KEY = "notif:invalidation:seq";
+	private static final RedisScript<Long> PUBLISH_SCRIPT =
+		RedisScript.of(new ClassPathResource("scripts/local-cache-invalidation-publish.lua"), Long.class);
+	private final StringRedisTemplate stringRedisTemplate;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+	private final List<MemberLocalCache> memberLocalCaches;
+	private long lastSequence;
+
+
+	@PostConstruct
+	public void subscribe() {
+		redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+	}
+
+
+	public void publish(final Long memberId) {
+		memberLocalCaches.forEach(cache -> cache.evict(memberId));
+		try {
+			stringRedisTemplate.execute(PUBLISH_SCRIPT, List.of(SEQUENCE_KEY), CHANNEL, memberId.toString());
+		} catch (RedisSystemException | RedisConnectionFailureException e) {
+			log.error("Failed to publish local cache invalidation memberId={}", memberId, e);
+		}
+	}
+
+
+	@Override
+	public synchronized void onMessage(final Message message, final byte[] pattern) {
+		String[] sequenceAndMemberId = new String(message.getBody(), StandardCharsets.UTF_8).split(":");
+		long sequence = Long.parseLong(sequenceAndMemberId[0]);
+		boolean missed = lastSequence > 0 && sequence > lastSequence + 1;
+		lastSequence = sequence;
+
+		if (missed) {
+			log.warn("Missed local cache invalidations before sequence={}, evicting all", sequence);
+			memberLocalCaches.forEach(MemberLocalCache::evictAll);
+			return;
+		}
+		Long memberId = Long.valueOf(sequenceAndMemberId[1]);
+		memberLocalCaches.forEach(cache -> cache.evict(memberId));
+	}
+
+}
@@ -0,0 +1,9 @@
+package com.und.server.notification.invalidation;
+
+public interface MemberLocalCache {
+
+	void evict(Long memberId);
+
+	void evictAll();
+
+}
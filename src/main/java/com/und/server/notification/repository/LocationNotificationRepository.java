@@ -0,0 +1,23 @@
+package com.und.server.notification.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+
+import com.und.server.notification.entity.LocationNotification;
+
+import jakarta.validation.constraints.NotNull;
+
+public interface LocationNotificationRepository extends JpaRepository<LocationNotification, Long> {
+
+	LocationNotification findByNotificationId(@NotNull Long notificationId);
+
+	@NotNull
+	List<LocationNotification> findByNotificationIdIn(@NotNull Collection<Long> notificationIds);
+
+	@Modifying
+	void deleteByNotificationId(@NotNull Long notificationId);
+
+}
@@ -0,0 +1,56 @@
+package com.und.server.notification.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.und.server.notification.entity.NotificationOutbox;
+
+import jakarta.validation.constraints.NotNull;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+	// a single range on (claimed_until, id) in index order, so the scan stops at the limit
+	@Query("""
+		SELECT o.id FROM NotificationOutbox o
+		WHERE o.claimedUntil <= :now
+		ORDER BY o.claimedUntil, o.id
+		""")
+	@NotNull
+	List<Long> findClaimableIds(@NotNull LocalDateTime now, @NotNull Limit limit);
+
+	// re-checks the lease per row, so of two relays racing for the same rows only one wins each row
+	@Transactional
+	@Modifying(clearAutomatically = true)
+	@Query("""
+		UPDATE NotificationOutbox o
+		SET o.claimedBy = :owner, o.claimedUntil = :leaseUntil
+		WHERE o.id IN :ids
+			AND o.claimedUntil <= :now
+		""")
+	int claim(
+		@NotNull Collection<Long> ids,
+		@NotNull String owner,
+		@NotNull LocalDateTime now,
+		@NotNull LocalDateTime leaseUntil);
+
+	@NotNull
+	List<NotificationOutbox> findByClaimedByAndClaimedUntilGreaterThanOrderByIdAsc(
+		@NotNull String owner, @NotNull LocalDateTime now);
+
+	@Transactional
+	@Modifying
+	@Query("""
+		UPDATE NotificationOutbox o
+		SET o.claimedBy = NULL, o.claimedUntil = :retryAt, o.attempts = :attempts
+		WHERE o.id IN :ids
+		""")
+	void release(@NotNull Collection<Long> ids, @NotNull LocalDateTime retryAt, int attempts);
+
+}
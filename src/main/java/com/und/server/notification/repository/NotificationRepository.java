@@ -1,7 +1,34 @@
 package com.und.server.notification.repository;
 
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 import com.und.server.notification.entity.Notification;
 
-public interface NotificationRepository extends JpaRepository<Notification, Long> { }
+import jakarta.validation.constraints.NotNull;
+
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+
+	@Query("""
+		SELECT n.id FROM Scenario s
+		JOIN s.notification n
+		WHERE s.member.id = :memberId
+			AND n.isActive <> :isActive
+			AND n.notificationMethodType IS NOT NULL
+			AND n.daysMask IS NOT NULL
+		""")
+	@NotNull
+	List<Long> findIdsToUpdateActive(@NotNull Long memberId, boolean isActive);
+
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("""
+		UPDATE Notification n
+		SET n.isActive = :isActive, n.updatedAt = LOCAL DATETIME
+		WHERE n.id IN :ids
+		""")
+	int updateActiveByIdIn(@NotNull List<Long> ids, boolean isActive);
+
+}
@@ -1,5 +1,8 @@
 package com.und.server.notification.repository;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 
@@ -12,6 +15,9 @@ public interface TimeNotificationRepository extends JpaRepository<TimeNotificati
 	@NotNull
 	TimeNotification findByNotificationId(@NotNull Long notificationId);
 
+	@NotNull
+	List<TimeNotification> findByNotificationIdIn(@NotNull Collection<Long> notificationIds);
+
 	@Modifying
 	void deleteByNotificationId(@NotNull Long notificationId);
 
@@ -0,0 +1,108 @@
+package com.und.server.notification.scheduler;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.und.server.notification.dto.TimeNotificationSchedule;
+import com.und.server.notification.sender.NotificationSender;
+import com.und.server.scenario.repository.ScenarioRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "notification.dispatch.mode", havingValue = "redis", matchIfMissing = true)
+public class TimeNotificationClaimJob {
+
+	private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+	private static final int LOAD_PAGE_SIZE = 1_000;
+	private static final int CLAIM_BATCH_SIZE = 500;
+	private final TimeNotificationScheduleIndex scheduleIndex;
+	private final ScenarioRepository scenarioRepository;
+	private final NotificationSender notificationSender;
+	private final Clock clock;
+
+
+	// one node per lock window backfills, and only ids missing from the index are added
+	@EventListener(ApplicationReadyEvent.class)
+	public void backfillSchedules() {
+		if (!scheduleIndex.tryLockBackfill()) {
+			return;
+		}
+		Long lastScenarioId = 0L;
+		List<TimeNotificationSchedule> page;
+		do {
+			page = scenarioRepository.findActiveTimeNotificationSchedules(lastScenarioId, LOAD_PAGE_SIZE);
+			page.forEach(this::scheduleIfAbsent);
+			lastScenarioId = page.isEmpty() ? lastScenarioId : page.get(page.size() - 1).scenarioId();
+		} while (page.size() == LOAD_PAGE_SIZE);
+	}
+
+
+	/**
+	 * Every minute - 도래한 TIME 알림을 노드 간 중복 없이 선점하여 발송
+	 * Schedules due in the next minute that are missing from the index, e.g. after a failed projection, are
+	 * added back before they come due.
+	 */
+	@Scheduled(cron = "0 * * * * *", zone = "Asia/Seoul")
+	public void dispatchDueNotifications() {
+		List<Long> claimedIds;
+		do {
+			claimedIds = scheduleIndex.claimDue(CLAIM_BATCH_SIZE);
+			if (!claimedIds.isEmpty()) {
+				dispatch(claimedIds);
+			}
+		} while (claimedIds.size() == CLAIM_BATCH_SIZE);
+
+		restoreNextMinute();
+	}
+
+	private void restoreNextMinute() {
+		LocalDateTime nextMinute = LocalDateTime.now(clock.withZone(ZONE_ID)).plusMinutes(1);
+		scenarioRepository.findActiveTimeNotificationSchedulesDueAt(
+				nextMinute.getDayOfWeek().ordinal(), nextMinute.getHour(), nextMinute.getMinute())
+			.forEach(this::scheduleIfAbsent);
+	}
+
+	private void dispatch(final List<Long> claimedIds) {
+		List<TimeNotificationSchedule> schedules =
+			scenarioRepository.findActiveTimeNotificationSchedulesByNotificationIds(claimedIds);
+		try {
+			notificationSender.send(schedules);
+		} catch (Exception e) {
+			log.error("[NOTIFICATION DISPATCH] Failed to send claimed time notifications: size={}",
+				schedules.size(), e);
+		}
+
+		schedules.forEach(this::reschedule);
+		Set<Long> activeIds = schedules.stream()
+			.map(TimeNotificationSchedule::notificationId)
+			.collect(Collectors.toSet());
+		claimedIds.stream()
+			.filter(notificationId -> !activeIds.contains(notificationId))
+			.forEach(scheduleIndex::unschedule);
+	}
+
+	private void scheduleIfAbsent(final TimeNotificationSchedule schedule) {
+		scheduleIndex.scheduleIfAbsent(
+			schedule.notificationId(), schedule.daysOfWeekOrdinal(), schedule.startHour(), schedule.startMinute());
+	}
+
+	private void reschedule(final TimeNotificationSchedule schedule) {
+		scheduleIndex.schedule(
+			schedule.notificationId(), schedule.daysOfWeekOrdinal(), schedule.startHour(), schedule.startMinute());
+	}
+
+}
@@ -0,0 +1,111 @@
+package com.und.server.notification.scheduler;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.und.server.notification.dto.TimeNotificationSchedule;
+import com.und.server.notification.sender.NotificationSender;
+import com.und.server.scenario.repository.ScenarioRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "notification.dispatch.mode", havingValue = "memory")
+public class TimeNotificationDispatcher {
+
+	private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+	private static final int LOAD_PAGE_SIZE = 1_000;
+	private static final int DISPATCH_BATCH_SIZE = 500;
+	private final Set<Long> staleMemberIds = ConcurrentHashMap.newKeySet();
+	private final TimeNotificationTimingWheel timingWheel;
+	private final ScenarioRepository scenarioRepository;
+	private final NotificationSender notificationSender;
+	private final Clock clock;
+	private Integer lastDispatchedMinuteOfWeek;
+
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void loadSchedules() {
+		Long lastScenarioId = 0L;
+		List<TimeNotificationSchedule> page;
+		do {
+			page = scenarioRepository.findActiveTimeNotificationSchedules(lastScenarioId, LOAD_PAGE_SIZE);
+			page.forEach(timingWheel::add);
+			lastScenarioId = page.isEmpty() ? lastScenarioId : page.get(page.size() - 1).scenarioId();
+		} while (page.size() == LOAD_PAGE_SIZE);
+
+		log.info("[NOTIFICATION DISPATCH] Loaded time notification schedules: size={}", timingWheel.size());
+	}
+
+
+	public void markStale(final Long memberId) {
+		staleMemberIds.add(memberId);
+	}
+
+
+	/**
+	 * Every minute - 변경된 회원 일정 반영 후 도래한 TIME 알림 발송
+	 */
+	@Scheduled(cron = "0 * * * * *", zone = "Asia/Seoul")
+	public synchronized void dispatchDueNotifications() {
+		reloadStaleMembers();
+
+		LocalDateTime now = LocalDateTime.now(clock.withZone(ZONE_ID));
+		int currentMinuteOfWeek = TimeNotificationTimingWheel.toMinuteOfWeek(
+			now.getDayOfWeek().ordinal(), now.getHour() * 60 + now.getMinute());
+		int elapsedMinutes = lastDispatchedMinuteOfWeek == null
+			? 1
+			: Math.floorMod(currentMinuteOfWeek - lastDispatchedMinuteOfWeek, TimeNotificationTimingWheel.SLOT_COUNT);
+
+		// catch up on slots skipped by a delayed tick
+		for (int i = elapsedMinutes - 1; i >= 0; i--) {
+			int minuteOfWeek = Math.floorMod(currentMinuteOfWeek - i, TimeNotificationTimingWheel.SLOT_COUNT);
+			dispatch(timingWheel.findDue(minuteOfWeek));
+		}
+		lastDispatchedMinuteOfWeek = currentMinuteOfWeek;
+	}
+
+	private void reloadStaleMembers() {
+		for (Long memberId : new ArrayList<>(staleMemberIds)) {
+			staleMemberIds.remove(memberId);
+			try {
+				List<TimeNotificationSchedule> schedules = scenarioRepository.findTimeScenarioNotifications(memberId)
+					.stream()
+					.map(scenarioNotification -> TimeNotificationSchedule.from(memberId, scenarioNotification))
+					.toList();
+				timingWheel.replaceMember(memberId, schedules);
+			} catch (Exception e) {
+				log.error("[NOTIFICATION DISPATCH] Failed to reload time notification schedules: memberId={}",
+					memberId, e);
+				staleMemberIds.add(memberId);
+			}
+		}
+	}
+
+	private void dispatch(final List<TimeNotificationSchedule> dueSchedules) {
+		for (int from = 0; from < dueSchedules.size(); from += DISPATCH_BATCH_SIZE) {
+			List<TimeNotificationSchedule> batch =
+				dueSchedules.subList(from, Math.min(from + DISPATCH_BATCH_SIZE, dueSchedules.size()));
+			try {
+				notificationSender.send(batch);
+			} catch (Exception e) {
+				log.error("[NOTIFICATION DISPATCH] Failed to send time notification batch: size={}", batch.size(), e);
+			}
+		}
+	}
+
+}
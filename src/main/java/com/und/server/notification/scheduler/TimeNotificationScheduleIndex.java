@@ -0,0 +1,128 @@
+package com.und.server.notification.scheduler;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class TimeNotificationScheduleIndex {
+
+	public static final String SCHEDULE_KEY = "notif:schedule:time";
+	public static final String BACKFILL_LOCK_KEY = "notif:schedule:time:backfill-lock";
+	private static final Duration BACKFILL_LOCK_TTL = Duration.ofMinutes(10);
+	private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+	private static final int DAYS_PER_WEEK = 7;
+	private static final long CLAIM_LEASE_MILLIS = 60_000L;
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> CLAIM_SCRIPT =
+		RedisScript.of(new ClassPathResource("scripts/notification-schedule-claim.lua"), List.class);
+	private final StringRedisTemplate stringRedisTemplate;
+	private final Clock clock;
+
+
+	public static Long findNextFireTime(
+		final List<Integer> daysOfWeekOrdinal, final int startHour, final int startMinute, final Instant after
+	) {
+		ZonedDateTime now = after.atZone(ZONE_ID);
+		for (int plusDays = 0; plusDays <= DAYS_PER_WEEK; plusDays++) {
+			ZonedDateTime candidate = now.toLocalDate().plusDays(plusDays)
+				.atTime(startHour, startMinute)
+				.atZone(ZONE_ID);
+			if (candidate.isAfter(now) && daysOfWeekOrdinal.contains(candidate.getDayOfWeek().ordinal())) {
+				return candidate.toInstant().toEpochMilli();
+			}
+		}
+		return null;
+	}
+
+
+	public void schedule(
+		final Long notificationId, final List<Integer> daysOfWeekOrdinal, final int startHour, final int startMinute
+	) {
+		Long nextFireTime = findNextFireTime(daysOfWeekOrdinal, startHour, startMinute, clock.instant());
+		if (nextFireTime == null) {
+			unschedule(notificationId);
+			return;
+		}
+		try {
+			stringRedisTemplate.opsForZSet().add(SCHEDULE_KEY, notificationId.toString(), nextFireTime);
+		} catch (RedisSystemException | RedisConnectionFailureException e) {
+			log.error("Failed to schedule time notification notificationId={}", notificationId, e);
+		}
+	}
+
+
+	// ZADD NX: an entry already in the index keeps its score, so a due or leased minute is never pushed back
+	public void scheduleIfAbsent(
+		final Long notificationId, final List<Integer> daysOfWeekOrdinal, final int startHour, final int startMinute
+	) {
+		Long nextFireTime = findNextFireTime(daysOfWeekOrdinal, startHour, startMinute, clock.instant());
+		if (nextFireTime == null) {
+			return;
+		}
+		try {
+			stringRedisTemplate.opsForZSet().addIfAbsent(SCHEDULE_KEY, notificationId.toString(), nextFireTime);
+		} catch (RedisSystemException | RedisConnectionFailureException e) {
+			log.error("Failed to schedule time notification notificationId={}", notificationId, e);
+		}
+	}
+
+
+	public boolean tryLockBackfill() {
+		try {
+			return Boolean.TRUE.equals(stringRedisTemplate.opsForValue()
+				.setIfAbsent(BACKFILL_LOCK_KEY, "1", BACKFILL_LOCK_TTL));
+		} catch (RedisSystemException | RedisConnectionFailureException e) {
+			log.error("Failed to lock time notification schedule backfill", e);
+			return false;
+		}
+	}
+
+
+	public void unschedule(final Long notificationId) {
+		try {
+			stringRedisTemplate.opsForZSet().remove(SCHEDULE_KEY, notificationId.toString());
+		} catch (RedisSystemException | RedisConnectionFailureException e) {
+			log.error("Failed to unschedule time notification notificationId={}", notificationId, e);
+		}
+	}
+
+
+	public void unschedule(final List<Long> notificationIds) {
+		try {
+			Object[] members = notificationIds.stream().map(String::valueOf).toArray();
+			stringRedisTemplate.opsForZSet().remove(SCHEDULE_KEY, members);
+		} catch (RedisSystemException | RedisConnectionFailureException e) {
+			log.error("Failed to unschedule time notifications size={}", notificationIds.size(), e);
+		}
+	}
+
+
+	@SuppressWarnings("unchecked")
+	public List<Long> claimDue(final int limit) {
+		long now = clock.millis();
+		List<String> claimedIds = stringRedisTemplate.execute(
+			CLAIM_SCRIPT,
+			List.of(SCHEDULE_KEY),
+			String.valueOf(now), String.valueOf(now + CLAIM_LEASE_MILLIS), String.valueOf(limit)
+		);
+
+		return claimedIds.stream().map(Long::valueOf).toList();
+	}
+
+}
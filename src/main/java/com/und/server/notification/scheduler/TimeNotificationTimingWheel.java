@@ -0,0 +1,90 @@
+package com.und.server.notification.scheduler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.und.server.notification.dto.TimeNotificationSchedule;
+
+/**
+ * Weekly timing wheel: day-of-week buckets of minute-of-day slots, addressed as one minute-of-week index.
+ * Schedules repeat every week, so a single revolution covers every fire time and no overflow wheel is needed.
+ * The wheel lives in one JVM, so memory dispatch is for a single node; multi-node deployments use redis dispatch.
+ */
+@Component
+@ConditionalOnProperty(name = "notification.dispatch.mode", havingValue = "memory")
+public class TimeNotificationTimingWheel {
+
+	public static final int MINUTES_PER_DAY = 24 * 60;
+	public static final int SLOT_COUNT = 7 * MINUTES_PER_DAY;
+	private final List<Map<Long, TimeNotificationSchedule>> slots =
+		new ArrayList<>(Collections.nCopies(SLOT_COUNT, null));
+	private final Map<Long, TimeNotificationSchedule> schedulesByNotificationId = new HashMap<>();
+	private final Map<Long, Set<Long>> notificationIdsByMemberId = new HashMap<>();
+
+
+	public static int toMinuteOfWeek(final int dayOfWeekOrdinal, final int minuteOfDay) {
+		return dayOfWeekOrdinal * MINUTES_PER_DAY + minuteOfDay;
+	}
+
+
+	public synchronized void add(final TimeNotificationSchedule schedule) {
+		remove(schedule.notificationId());
+
+		schedulesByNotificationId.put(schedule.notificationId(), schedule);
+		notificationIdsByMemberId.computeIfAbsent(schedule.memberId(), key -> new HashSet<>())
+			.add(schedule.notificationId());
+		for (Integer dayOfWeekOrdinal : schedule.daysOfWeekOrdinal()) {
+			int slot = toMinuteOfWeek(dayOfWeekOrdinal, schedule.minuteOfDay());
+			if (slots.get(slot) == null) {
+				slots.set(slot, new HashMap<>());
+			}
+			slots.get(slot).put(schedule.notificationId(), schedule);
+		}
+	}
+
+
+	public synchronized void remove(final Long notificationId) {
+		TimeNotificationSchedule schedule = schedulesByNotificationId.remove(notificationId);
+		if (schedule == null) {
+			return;
+		}
+		Set<Long> memberNotificationIds = notificationIdsByMemberId.get(schedule.memberId());
+		memberNotificationIds.remove(notificationId);
+		if (memberNotificationIds.isEmpty()) {
+			notificationIdsByMemberId.remove(schedule.memberId());
+		}
+		for (Integer dayOfWeekOrdinal : schedule.daysOfWeekOrdinal()) {
+			slots.get(toMinuteOfWeek(dayOfWeekOrdinal, schedule.minuteOfDay())).remove(notificationId);
+		}
+	}
+
+
+	public synchronized void replaceMember(final Long memberId, final List<TimeNotificationSchedule> schedules) {
+		Set<Long> notificationIds = notificationIdsByMemberId.getOrDefault(memberId, Set.of());
+		for (Long notificationId : new ArrayList<>(notificationIds)) {
+			remove(notificationId);
+		}
+		schedules.forEach(this::add);
+	}
+
+
+	public synchronized List<TimeNotificationSchedule> findDue(final int minuteOfWeek) {
+		Map<Long, TimeNotificationSchedule> slot = slots.get(minuteOfWeek);
+
+		return slot == null ? List.of() : new ArrayList<>(slot.values());
+	}
+
+
+	public synchronized int size() {
+		return schedulesByNotificationId.size();
+	}
+
+}
@@ -0,0 +1,23 @@
+package com.und.server.notification.sender;
+
+import java.util.List;
+
+import com.und.server.notification.dto.TimeNotificationSchedule;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fallback sender used until a real push or SMS sender bean is registered.
+ */
+@Slf4j
+public class LogNotificationSender implements NotificationSender {
+
+	@Override
+	public void send(final List<TimeNotificationSchedule> notifications) {
+		for (TimeNotificationSchedule notification : notifications) {
+			log.debug("[NOTIFICATION DISPATCH] memberId={}, scenarioId={}, method={}",
+				notification.memberId(), notification.scenarioId(), notification.notificationMethodType());
+		}
+	}
+
+}
@@ -0,0 +1,11 @@
+package com.und.server.notification.sender;
+
+import java.util.List;
+
+import com.und.server.notification.dto.TimeNotificationSchedule;
+
+public interface NotificationSender {
+
+	void send(List<TimeNotificationSchedule> notifications);
+
+}
@@ -0,0 +1,135 @@
+package com.und.server.notification.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+
+import com.und.server.notification.constants.NotificationType;
+import com.und.server.notification.dto.request.LocationBatchUpdateRequest;
+import com.und.server.notification.dto.request.LocationNotificationRequest;
+import com.und.server.notification.dto.request.LocationUpdateRequest;
+import com.und.server.notification.dto.request.NotificationConditionRequest;
+import com.und.server.notification.dto.response.LocationNotificationMatchResponse;
+import com.und.server.notification.dto.response.LocationNotificationResponse;
+import com.und.server.notification.dto.response.NotificationConditionResponse;
+import com.und.server.notification.entity.LocationNotification;
+import com.und.server.notification.entity.Notification;
+import com.und.server.notification.geofence.LocationGeofenceMatcher;
+import com.und.server.notification.repository.LocationNotificationRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class LocationNotificationService implements NotificationConditionService {
+
+	private final LocationNotificationRepository locationNotificationRepository;
+	private final LocationGeofenceMatcher locationGeofenceMatcher;
+
+
+	@Override
+	public boolean supports(final NotificationType notificationType) {
+		return notificationType == NotificationType.LOCATION;
+	}
+
+
+	@Override
+	public NotificationConditionResponse findNotificationInfoByType(final Notification notification) {
+		if (!notification.isActive()) {
+			return null;
+		}
+
+		LocationNotification locationNotification =
+			locationNotificationRepository.findByNotificationId(notification.getId());
+
+		return LocationNotificationResponse.from(locationNotification);
+	}
+
+
+	@Override
+	public Map<Long, NotificationConditionResponse> findNotificationInfosByType(
+		final List<Notification> notifications
+	) {
+		List<Long> activeNotificationIds = notifications.stream()
+			.filter(Notification::isActive)
+			.map(Notification::getId)
+			.toList();
+		if (activeNotificationIds.isEmpty()) {
+			return Map.of();
+		}
+
+		return locationNotificationRepository.findByNotificationIdIn(activeNotificationIds).stream()
+			.collect(Collectors.toMap(
+				locationNotification -> locationNotification.getNotification().getId(),
+				LocationNotificationResponse::from));
+	}
+
+
+	@Override
+	public void addNotificationCondition(
+		final Notification notification,
+		final NotificationConditionRequest notificationConditionRequest
+	) {
+		if (!notification.isActive()) {
+			return;
+		}
+
+		LocationNotificationRequest locationNotificationRequest =
+			(LocationNotificationRequest) notificationConditionRequest;
+
+		LocationNotification locationNotification = locationNotificationRequest.toEntity(notification);
+		locationNotificationRepository.save(locationNotification);
+	}
+
+
+	@Override
+	public void updateNotificationCondition(
+		final Notification notification,
+		final NotificationConditionRequest notificationConditionRequest
+	) {
+		LocationNotificationRequest locationNotificationRequest =
+			(LocationNotificationRequest) notificationConditionRequest;
+		LocationNotification oldLocationNotification =
+			locationNotificationRepository.findByNotificationId(notification.getId());
+
+		if (oldLocationNotification == null) {
+			addNotificationCondition(notification, notificationConditionRequest);
+			return;
+		}
+
+		oldLocationNotification.updateLocationCondition(
+			locationNotificationRequest.latitude(),
+			locationNotificationRequest.longitude(),
+			locationNotificationRequest.trackingRadiusType(),
+			locationNotificationRequest.startHour(),
+			locationNotificationRequest.startMinute(),
+			locationNotificationRequest.endHour(),
+			locationNotificationRequest.endMinute()
+		);
+	}
+
+
+	@Override
+	public void deleteNotificationCondition(final Long notificationId) {
+		locationNotificationRepository.deleteByNotificationId(notificationId);
+	}
+
+
+	public LocationNotificationMatchResponse findEnteredNotifications(
+		final Long memberId, final LocationUpdateRequest locationUpdateRequest
+	) {
+		return new LocationNotificationMatchResponse(locationGeofenceMatcher.findEntered(
+			memberId, locationUpdateRequest.latitude(), locationUpdateRequest.longitude()));
+	}
+
+
+	public LocationNotificationMatchResponse findEnteredNotifications(
+		final Long memberId, final LocationBatchUpdateRequest locationBatchUpdateRequest
+	) {
+		return new LocationNotificationMatchResponse(
+			locationGeofenceMatcher.findEntered(memberId, locationBatchUpdateRequest.samples()));
+	}
+
+}
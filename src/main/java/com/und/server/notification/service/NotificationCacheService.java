@@ -4,7 +4,6 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
 
 import org.springframework.data.redis.RedisConnectionFailureException;
 import org.springframework.data.redis.RedisSystemException;
@@ -13,13 +12,18 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.und.server.notification.dto.cache.NotificationCacheData;
+import com.und.server.notification.dto.cache.NotificationCacheVersion;
 import com.und.server.notification.dto.response.NotificationConditionResponse;
+import com.und.server.notification.dto.response.ScenarioNotificationChangesResponse;
 import com.und.server.notification.dto.response.ScenarioNotificationListResponse;
 import com.und.server.notification.dto.response.ScenarioNotificationResponse;
+import com.und.server.notification.entity.Notification;
 import com.und.server.notification.exception.NotificationCacheErrorResult;
 import com.und.server.notification.exception.NotificationCacheException;
 import com.und.server.notification.util.NotificationCacheKeyGenerator;
+import com.und.server.notification.util.NotificationCacheScriptExecutor;
 import com.und.server.notification.util.NotificationCacheSerializer;
+import com.und.server.notification.util.NotificationCacheVersionManager;
 import com.und.server.scenario.entity.Scenario;
 import com.und.server.scenario.service.ScenarioNotificationService;
 
@@ -32,10 +36,11 @@ import lombok.extern.slf4j.Slf4j;
 @Transactional(readOnly = true)
 public class NotificationCacheService {
 
-	private static final int CACHE_TTL_DAYS = 30;
 	private final RedisTemplate<String, Object> redisTemplate;
 	private final NotificationCacheKeyGenerator keyGenerator;
 	private final NotificationCacheSerializer serializer;
+	private final NotificationCacheVersionManager versionManager;
+	private final NotificationCacheScriptExecutor scriptExecutor;
 	private final NotificationConditionSelector notificationConditionSelector;
 	private final ScenarioNotificationService scenarioNotificationService;
 
@@ -47,13 +52,7 @@ public class NotificationCacheService {
 
 			String etag = (String) redisTemplate.opsForValue().get(etagKey);
 			if (etag == null) {
-				List<ScenarioNotificationResponse> scenarioNotifications =
-					scenarioNotificationService.getScenarioNotifications(memberId);
-
-				saveToCache(memberId, scenarioNotifications);
-				String newEtag = updateEtag(memberId);
-
-				return ScenarioNotificationListResponse.from(newEtag, scenarioNotifications);
+				return refreshCacheFromDatabase(memberId);
 			}
 
 			Map<Object, Object> cacheData = redisTemplate.opsForHash().entries(cacheKey);
@@ -75,6 +74,38 @@ public class NotificationCacheService {
 	}
 
 
+	public String getEtag(final Long memberId) {
+		try {
+			String etagKey = keyGenerator.generateEtagKey(memberId);
+
+			return (String) redisTemplate.opsForValue().get(etagKey);
+
+		} catch (RedisSystemException | RedisConnectionFailureException e) {
+			throw new NotificationCacheException(NotificationCacheErrorResult.CACHE_FETCH_ALL_FAILED);
+		}
+	}
+
+
+	public ScenarioNotificationChangesResponse getScenarioNotificationChanges(final Long memberId, final Long since) {
+		try {
+			NotificationCacheVersion cacheVersion = versionManager.getVersion(memberId);
+			if (cacheVersion == null || !cacheVersion.isDeltaAvailable(since)) {
+				ScenarioNotificationListResponse snapshot = cacheVersion == null
+					? refreshCacheFromDatabase(memberId)
+					: getScenariosNotificationCache(memberId);
+
+				return ScenarioNotificationChangesResponse.fullFrom(
+					Long.parseLong(snapshot.etag()), snapshot.scenarios());
+			}
+
+			return getChangedScenarios(memberId, cacheVersion, since);
+
+		} catch (RedisSystemException | RedisConnectionFailureException e) {
+			throw new NotificationCacheException(NotificationCacheErrorResult.CACHE_FETCH_ALL_FAILED);
+		}
+	}
+
+
 	public ScenarioNotificationResponse getSingleScenarioNotificationCache(
 		final Long memberId, final Long scenarioId
 	) {
@@ -98,35 +129,43 @@ public class NotificationCacheService {
 	}
 
 
-	public void updateCache(final Long memberId, final Scenario scenario) {
-		if (handleRefreshCacheFromDatabase(memberId)) {
-			return;
-		}
+	public Map<Long, NotificationConditionResponse> findNotificationConditions(final List<Scenario> scenarios) {
+		List<Notification> notifications = scenarios.stream()
+			.map(Scenario::getNotification)
+			.toList();
 
-		NotificationCacheData cacheData = createCacheData(scenario);
+		return notificationConditionSelector.findNotificationConditions(notifications);
+	}
 
-		String cacheKey = keyGenerator.generateNotificationCacheKey(memberId);
-		String fieldKey = scenario.getId().toString();
-		String jsonValue = serializer.serialize(cacheData);
 
-		redisTemplate.opsForHash().put(cacheKey, fieldKey, jsonValue);
-		redisTemplate.expire(cacheKey, CACHE_TTL_DAYS, TimeUnit.DAYS);
+	public void updateCache(final Long memberId, final Scenario scenario) {
+		NotificationConditionResponse condition =
+			notificationConditionSelector.findNotificationCondition(scenario.getNotification());
 
-		updateEtag(memberId);
+		updateCache(memberId, scenario, condition);
 	}
 
 
-	public void deleteCache(final Long memberId, final Long scenarioId) {
-		if (handleRefreshCacheFromDatabase(memberId)) {
-			return;
-		}
+	public void updateCache(
+		final Long memberId,
+		final Scenario scenario,
+		final NotificationConditionResponse condition
+	) {
+		NotificationCacheData cacheData = NotificationCacheData.from(scenario, condition);
+		String jsonValue = serializer.serialize(cacheData);
 
-		String cacheKey = keyGenerator.generateNotificationCacheKey(memberId);
-		String fieldKey = scenarioId.toString();
+		long version = scriptExecutor.upsert(memberId, scenario.getId(), jsonValue);
+		if (version == NotificationCacheScriptExecutor.CACHE_MISS) {
+			refreshCacheFromDatabase(memberId);
+		}
+	}
 
-		redisTemplate.opsForHash().delete(cacheKey, fieldKey);
 
-		updateEtag(memberId);
+	public void deleteCache(final Long memberId, final Long scenarioId) {
+		long version = scriptExecutor.delete(memberId, scenarioId);
+		if (version == NotificationCacheScriptExecutor.CACHE_MISS) {
+			refreshCacheFromDatabase(memberId);
+		}
 	}
 
 
@@ -134,9 +173,11 @@ public class NotificationCacheService {
 		try {
 			String cacheKey = keyGenerator.generateNotificationCacheKey(memberId);
 			String etagKey = keyGenerator.generateEtagKey(memberId);
+			String versionKey = keyGenerator.generateVersionKey(memberId);
 
 			redisTemplate.delete(cacheKey);
 			redisTemplate.delete(etagKey);
+			redisTemplate.delete(versionKey);
 
 		} catch (RedisSystemException | RedisConnectionFailureException e) {
 			log.error("Failed to process scenario fetch delete event memberId={}", memberId, e);
@@ -154,53 +195,41 @@ public class NotificationCacheService {
 		return false;
 	}
 
-	public void refreshCacheFromDatabase(Long memberId) {
+	public ScenarioNotificationListResponse refreshCacheFromDatabase(Long memberId) {
 		List<ScenarioNotificationResponse> scenarioNotifications =
 			scenarioNotificationService.getScenarioNotifications(memberId);
 
-		saveToCache(memberId, scenarioNotifications);
-		updateEtag(memberId);
-	}
-
-	private void saveToCache(
-		final Long memberId, final List<ScenarioNotificationResponse> scenarioNotificationResponses
-	) {
-		if (scenarioNotificationResponses == null || scenarioNotificationResponses.isEmpty()) {
-			return;
-		}
-		String cacheKey = keyGenerator.generateNotificationCacheKey(memberId);
 		Map<String, String> values = new HashMap<>();
-
-		for (ScenarioNotificationResponse scenario : scenarioNotificationResponses) {
-			NotificationCacheData cacheData = NotificationCacheData.from(
-				scenario,
-				serializer.serializeCondition(scenario.notificationCondition())
-			);
-
-			String fieldKey = scenario.scenarioId().toString();
-			String jsonValue = serializer.serialize(cacheData);
-			values.put(fieldKey, jsonValue);
+		for (ScenarioNotificationResponse scenario : scenarioNotifications) {
+			NotificationCacheData cacheData = NotificationCacheData.from(scenario, scenario.notificationCondition());
+			values.put(scenario.scenarioId().toString(), serializer.serialize(cacheData));
 		}
+		long version = scriptExecutor.rebuild(memberId, values);
 
-		redisTemplate.opsForHash().putAll(cacheKey, values);
-		redisTemplate.expire(cacheKey, CACHE_TTL_DAYS, TimeUnit.DAYS);
+		return ScenarioNotificationListResponse.from(String.valueOf(version), scenarioNotifications);
 	}
 
-	private String updateEtag(Long memberId) {
-		String etagKey = keyGenerator.generateEtagKey(memberId);
-		String etag = String.valueOf(System.currentTimeMillis());
-
-		redisTemplate.opsForValue().set(etagKey, etag);
-		redisTemplate.expire(etagKey, CACHE_TTL_DAYS, TimeUnit.DAYS);
-
-		return etag;
-	}
+	private ScenarioNotificationChangesResponse getChangedScenarios(
+		final Long memberId, final NotificationCacheVersion cacheVersion, final Long since
+	) {
+		List<Long> changedScenarioIds = cacheVersion.findChangedScenarioIds(since);
+		String cacheKey = keyGenerator.generateNotificationCacheKey(memberId);
+		List<Object> fieldKeys = changedScenarioIds.stream().map(id -> (Object) id.toString()).toList();
+		List<Object> cachedValues = redisTemplate.opsForHash().multiGet(cacheKey, fieldKeys);
 
-	private NotificationCacheData createCacheData(final Scenario scenario) {
-		NotificationConditionResponse condition =
-			notificationConditionSelector.findNotificationCondition(scenario.getNotification());
+		List<ScenarioNotificationResponse> upsertedScenarios = new ArrayList<>();
+		List<Long> deletedScenarioIds = new ArrayList<>();
+		for (int i = 0; i < changedScenarioIds.size(); i++) {
+			Object cachedValue = cachedValues.get(i);
+			if (cachedValue == null) {
+				deletedScenarioIds.add(changedScenarioIds.get(i));
+				continue;
+			}
+			upsertedScenarios.add(convertToResponse(serializer.deserialize((String) cachedValue)));
+		}
 
-		return NotificationCacheData.from(scenario, serializer.serializeCondition(condition));
+		return ScenarioNotificationChangesResponse.deltaFrom(
+			cacheVersion.currentVersion(), upsertedScenarios, deletedScenarioIds);
 	}
 
 	private ScenarioNotificationResponse convertToResponse(final NotificationCacheData notificationCacheData) {
@@ -0,0 +1,44 @@
+package com.und.server.notification.service;
+
+import java.time.Duration;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import com.und.server.common.config.AsyncConfig;
+import com.und.server.notification.util.NotificationCacheKeyGenerator;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class NotificationCacheWarmUpService {
+
+	private static final Duration WARM_UP_LOCK_TTL = Duration.ofSeconds(30);
+	private final NotificationCacheService notificationCacheService;
+	private final NotificationCacheKeyGenerator keyGenerator;
+	private final StringRedisTemplate stringRedisTemplate;
+
+
+	@Async(AsyncConfig.CACHE_WARM_UP_EXECUTOR)
+	public void warmUp(final Long memberId) {
+		try {
+			if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(keyGenerator.generateEtagKey(memberId)))) {
+				return;
+			}
+			// one rebuild per member across concurrent logins and nodes
+			Boolean locked = stringRedisTemplate.opsForValue()
+				.setIfAbsent(keyGenerator.generateWarmUpLockKey(memberId), "1", WARM_UP_LOCK_TTL);
+			if (!Boolean.TRUE.equals(locked)) {
+				return;
+			}
+			notificationCacheService.refreshCacheFromDatabase(memberId);
+		} catch (Exception e) {
+			log.warn("Failed to warm up notification cache memberId={}", memberId, e);
+		}
+	}
+
+}
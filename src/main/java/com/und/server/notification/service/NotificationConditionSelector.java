@@ -1,6 +1,10 @@
 package com.und.server.notification.service;
 
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Component;
 
@@ -11,13 +15,25 @@ import com.und.server.notification.dto.response.NotificationConditionResponse;
 import com.und.server.notification.entity.Notification;
 import com.und.server.notification.exception.NotificationErrorResult;
 
-import lombok.RequiredArgsConstructor;
-
 @Component
-@RequiredArgsConstructor
 public class NotificationConditionSelector {
 
-	private final List<NotificationConditionService> services;
+	private final Map<NotificationType, NotificationConditionService> servicesByNotificationType =
+		new EnumMap<>(NotificationType.class);
+
+	public NotificationConditionSelector(final List<NotificationConditionService> services) {
+		for (NotificationType notificationType : NotificationType.values()) {
+			List<NotificationConditionService> supportingServices = services.stream()
+				.filter(service -> service.supports(notificationType))
+				.toList();
+			if (supportingServices.size() != 1) {
+				throw new IllegalStateException(
+					"Expected exactly one condition service for " + notificationType + " but found "
+						+ supportingServices.size());
+			}
+			servicesByNotificationType.put(notificationType, supportingServices.get(0));
+		}
+	}
 
 
 	public NotificationConditionResponse findNotificationCondition(final Notification notification) {
@@ -27,6 +43,21 @@ public class NotificationConditionSelector {
 	}
 
 
+	public Map<Long, NotificationConditionResponse> findNotificationConditions(
+		final List<Notification> notifications
+	) {
+		Map<NotificationType, List<Notification>> notificationsByType = notifications.stream()
+			.collect(Collectors.groupingBy(
+				Notification::getNotificationType, () -> new EnumMap<>(NotificationType.class), Collectors.toList()));
+
+		Map<Long, NotificationConditionResponse> conditions = new HashMap<>();
+		notificationsByType.forEach((notificationType, typedNotifications) -> conditions.putAll(
+			findServiceByNotificationType(notificationType).findNotificationInfosByType(typedNotifications)));
+
+		return conditions;
+	}
+
+
 	public void addNotificationCondition(
 		final Notification notification,
 		final NotificationConditionRequest notificationConditionRequest
@@ -52,10 +83,10 @@ public class NotificationConditionSelector {
 
 
 	private NotificationConditionService findServiceByNotificationType(final NotificationType notificationType) {
-		return services.stream()
-			.filter(service -> service.supports(notificationType))
-			.findAny()
-			.orElseThrow(() -> new ServerException(NotificationErrorResult.UNSUPPORTED_NOTIFICATION));
+		if (notificationType == null) {
+			throw new ServerException(NotificationErrorResult.UNSUPPORTED_NOTIFICATION);
+		}
+		return servicesByNotificationType.get(notificationType);
 	}
 
 }
@@ -1,5 +1,8 @@
 package com.und.server.notification.service;
 
+import java.util.List;
+import java.util.Map;
+
 import com.und.server.notification.constants.NotificationType;
 import com.und.server.notification.dto.request.NotificationConditionRequest;
 import com.und.server.notification.dto.response.NotificationConditionResponse;
@@ -11,6 +14,8 @@ public interface NotificationConditionService {
 
 	NotificationConditionResponse findNotificationInfoByType(final Notification notification);
 
+	Map<Long, NotificationConditionResponse> findNotificationInfosByType(final List<Notification> notifications);
+
 	void addNotificationCondition(
 		final Notification notification,
 		final NotificationConditionRequest notificationConditionRequest);
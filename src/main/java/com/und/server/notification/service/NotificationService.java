@@ -1,7 +1,6 @@
 package com.und.server.notification.service;
 
 import java.util.List;
-import java.util.Objects;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,8 +12,6 @@ import com.und.server.notification.dto.response.NotificationConditionResponse;
 import com.und.server.notification.entity.Notification;
 import com.und.server.notification.event.NotificationEventPublisher;
 import com.und.server.notification.repository.NotificationRepository;
-import com.und.server.scenario.entity.Scenario;
-import com.und.server.scenario.repository.ScenarioRepository;
 
 import lombok.RequiredArgsConstructor;
 
@@ -23,7 +20,6 @@ import lombok.RequiredArgsConstructor;
 public class NotificationService {
 
 	private final NotificationRepository notificationRepository;
-	private final ScenarioRepository scenarioRepository;
 	private final NotificationConditionSelector notificationConditionSelector;
 	private final NotificationEventPublisher notificationEventPublisher;
 
@@ -65,22 +61,11 @@ public class NotificationService {
 
 	@Transactional
 	public void updateNotificationActiveStatus(final Long memberId, final Boolean isActive) {
-		List<Scenario> scenarios = scenarioRepository.findByMemberId(memberId);
-
-		if (scenarios.isEmpty()) {
-			return;
+		List<Long> notificationIds = notificationRepository.findIdsToUpdateActive(memberId, isActive);
+		if (!notificationIds.isEmpty()) {
+			notificationRepository.updateActiveByIdIn(notificationIds, isActive);
+			notificationEventPublisher.publishScheduleChangeEvent(notificationIds);
 		}
-		scenarios.stream()
-			.map(Scenario::getNotification)
-			.filter(Objects::nonNull)
-			.filter(notification -> {
-				if (!isActive) {
-					return notification.isActive() && notification.hasNotificationCondition();
-				} else {
-					return notification.hasNotificationCondition();
-				}
-			})
-			.forEach(notification -> notification.updateActive(isActive));
 
 		notificationEventPublisher.publishActiveUpdateEvent(memberId, isActive);
 	}
@@ -92,6 +77,7 @@ public class NotificationService {
 			notification.getNotificationType(),
 			notification.getId()
 		);
+		notificationEventPublisher.publishScheduleChangeEvent(List.of(notification.getId()));
 	}
 
 
@@ -99,11 +85,11 @@ public class NotificationService {
 		final NotificationRequest notificationRequest,
 		final NotificationConditionRequest notificationConditionRequest
 	) {
-		Notification notification = notificationRequest.toEntity();
+		Notification notification = notificationRepository.save(notificationRequest.toEntity());
 
-		notificationRepository.save(notification);
 		notificationConditionSelector.addNotificationCondition(
 			notification, notificationConditionRequest);
+		notificationEventPublisher.publishScheduleChangeEvent(List.of(notification.getId()));
 
 		return notification;
 	}
@@ -134,11 +120,11 @@ public class NotificationService {
 			notificationConditionSelector.deleteNotificationCondition(oldNotificationType, notification.getId());
 			notificationConditionSelector.addNotificationCondition(
 				notification, notificationConditionRequest);
-			return;
+		} else {
+			notificationConditionSelector.updateNotificationCondition(
+				notification, notificationConditionRequest);
 		}
-
-		notificationConditionSelector.updateNotificationCondition(
-			notification, notificationConditionRequest);
+		notificationEventPublisher.publishScheduleChangeEvent(List.of(notification.getId()));
 	}
 
 	private void updateWithoutNotification(final Notification oldNotification) {
@@ -146,6 +132,7 @@ public class NotificationService {
 			oldNotification.getNotificationType(), oldNotification.getId());
 
 		oldNotification.deactivate();
+		notificationEventPublisher.publishScheduleChangeEvent(List.of(oldNotification.getId()));
 	}
 
 }
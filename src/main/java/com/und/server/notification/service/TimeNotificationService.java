@@ -1,5 +1,9 @@
 package com.und.server.notification.service;
 
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 import org.springframework.stereotype.Service;
 
 import com.und.server.notification.constants.NotificationType;
@@ -39,6 +43,25 @@ public class TimeNotificationService implements NotificationConditionService {
 	}
 
 
+	@Override
+	public Map<Long, NotificationConditionResponse> findNotificationInfosByType(
+		final List<Notification> notifications
+	) {
+		List<Long> activeNotificationIds = notifications.stream()
+			.filter(Notification::isActive)
+			.map(Notification::getId)
+			.toList();
+		if (activeNotificationIds.isEmpty()) {
+			return Map.of();
+		}
+
+		return timeNotificationRepository.findByNotificationIdIn(activeNotificationIds).stream()
+			.collect(Collectors.toMap(
+				timeNotification -> timeNotification.getNotification().getId(),
+				TimeNotificationResponse::from));
+	}
+
+
 	@Override
 	public void addNotificationCondition(
 		final Notification notification,
@@ -0,0 +1,53 @@
+package com.und.server.notification.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 7-bit days-of-week mask where bit n is set when day ordinal n (0=Monday ... 6=Sunday) is included.
+ */
+public final class DaysOfWeekMask {
+
+	public static final int DAYS_PER_WEEK = 7;
+	public static final int EVERY_DAY = (1 << DAYS_PER_WEEK) - 1;
+	private static final List<List<Integer>> ORDINALS_BY_MASK = IntStream.rangeClosed(0, EVERY_DAY)
+		.mapToObj(DaysOfWeekMask::decode)
+		.toList();
+
+	private DaysOfWeekMask() {
+	}
+
+
+	public static int from(final List<Integer> daysOfWeekOrdinal) {
+		int mask = 0;
+		for (Integer dayOfWeekOrdinal : daysOfWeekOrdinal) {
+			mask |= 1 << dayOfWeekOrdinal;
+		}
+		return mask;
+	}
+
+
+	public static List<Integer> toOrdinals(final Integer mask) {
+		return mask == null ? List.of() : ORDINALS_BY_MASK.get(mask);
+	}
+
+
+	public static List<Integer> findMasksContaining(final int dayOfWeekOrdinal) {
+		return IntStream.rangeClosed(0, EVERY_DAY)
+			.filter(mask -> (mask & (1 << dayOfWeekOrdinal)) != 0)
+			.boxed()
+			.toList();
+	}
+
+	private static List<Integer> decode(final int mask) {
+		List<Integer> daysOfWeekOrdinal = new ArrayList<>();
+		for (int dayOfWeekOrdinal = 0; dayOfWeekOrdinal < DAYS_PER_WEEK; dayOfWeekOrdinal++) {
+			if ((mask & (1 << dayOfWeekOrdinal)) != 0) {
+				daysOfWeekOrdinal.add(dayOfWeekOrdinal);
+			}
+		}
+		return List.copyOf(daysOfWeekOrdinal);
+	}
+
+}
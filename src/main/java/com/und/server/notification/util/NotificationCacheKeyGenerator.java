@@ -7,6 +7,9 @@ public class NotificationCacheKeyGenerator {
 
 	private static final String NOTIFICATION_CACHE_PREFIX = "notif";
 	private static final String ETAG_PREFIX = "etag";
+	private static final String VERSION_PREFIX = "version";
+	private static final String GEOFENCE_PREFIX = "geofence";
+	private static final String WARM_UP_PREFIX = "warmup";
 
 	public String generateNotificationCacheKey(final Long memberId) {
 		return String.format("%s:%d", NOTIFICATION_CACHE_PREFIX, memberId);
@@ -16,4 +19,16 @@ public class NotificationCacheKeyGenerator {
 		return String.format("%s:%s:%d", NOTIFICATION_CACHE_PREFIX, ETAG_PREFIX, memberId);
 	}
 
+	public String generateVersionKey(final Long memberId) {
+		return String.format("%s:%s:%d", NOTIFICATION_CACHE_PREFIX, VERSION_PREFIX, memberId);
+	}
+
+	public String generateGeofenceStateKey(final Long memberId) {
+		return String.format("%s:%s:%d", NOTIFICATION_CACHE_PREFIX, GEOFENCE_PREFIX, memberId);
+	}
+
+	public String generateWarmUpLockKey(final Long memberId) {
+		return String.format("%s:%s:%d", NOTIFICATION_CACHE_PREFIX, WARM_UP_PREFIX, memberId);
+	}
+
 }
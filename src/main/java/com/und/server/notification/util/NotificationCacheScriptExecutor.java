@@ -0,0 +1,80 @@
+package com.und.server.notification.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class NotificationCacheScriptExecutor {
+
+	public static final long CACHE_MISS = -1L;
+	private static final long CACHE_TTL_DAYS = 30;
+	private static final String DELETE_VALUE = "";
+	// Same serializer as RedisConfig#redisTemplate so that scripted writes stay readable through opsForHash()
+	private static final RedisSerializer<Object> HASH_VALUE_SERIALIZER = RedisSerializer.json();
+	private static final RedisScript<Long> MUTATION_SCRIPT =
+		RedisScript.of(new ClassPathResource("scripts/notification-cache-mutation.lua"), Long.class);
+	private static final RedisScript<Long> REBUILD_SCRIPT =
+		RedisScript.of(new ClassPathResource("scripts/notification-cache-rebuild.lua"), Long.class);
+	private final RedisTemplate<String, Object> redisTemplate;
+	private final NotificationCacheKeyGenerator keyGenerator;
+
+
+	public long upsert(final Long memberId, final Long scenarioId, final String cacheValue) {
+		return execute(MUTATION_SCRIPT, memberId, scenarioId.toString(), toStoredValue(cacheValue));
+	}
+
+
+	public long delete(final Long memberId, final Long scenarioId) {
+		return execute(MUTATION_SCRIPT, memberId, scenarioId.toString(), DELETE_VALUE);
+	}
+
+
+	public long rebuild(final Long memberId, final Map<String, String> cacheValues) {
+		List<String> args = new ArrayList<>();
+		args.add(String.valueOf(System.currentTimeMillis()));
+		cacheValues.forEach((fieldKey, cacheValue) -> {
+			args.add(fieldKey);
+			args.add(toStoredValue(cacheValue));
+		});
+
+		return execute(REBUILD_SCRIPT, memberId, args.toArray());
+	}
+
+
+	private long execute(final RedisScript<Long> script, final Long memberId, final Object... args) {
+		List<String> keys = List.of(
+			keyGenerator.generateNotificationCacheKey(memberId),
+			keyGenerator.generateEtagKey(memberId),
+			keyGenerator.generateVersionKey(memberId)
+		);
+		Object[] scriptArgs = new Object[args.length + 1];
+		scriptArgs[0] = String.valueOf(TimeUnit.DAYS.toSeconds(CACHE_TTL_DAYS));
+		System.arraycopy(args, 0, scriptArgs, 1, args.length);
+
+		Long result = redisTemplate.execute(
+			script, RedisSerializer.string(), new GenericToStringSerializer<>(Long.class), keys, scriptArgs);
+
+		return Objects.requireNonNullElse(result, CACHE_MISS);
+	}
+
+	private String toStoredValue(final String cacheValue) {
+		byte[] storedValue = HASH_VALUE_SERIALIZER.serialize(cacheValue);
+
+		return new String(storedValue, StandardCharsets.UTF_8);
+	}
+
+}
@@ -36,6 +36,9 @@ public class NotificationCacheSerializer {
 	}
 
 	public NotificationConditionResponse parseCondition(final NotificationCacheData notificationCacheData) {
+		if (notificationCacheData.notificationCondition() != null || notificationCacheData.conditionJson() == null) {
+			return notificationCacheData.notificationCondition();
+		}
 		try {
 			return objectMapper.readValue(
 				notificationCacheData.conditionJson(), NotificationConditionResponse.class);
@@ -44,12 +47,4 @@ public class NotificationCacheSerializer {
 		}
 	}
 
-	public String serializeCondition(final NotificationConditionResponse notificationConditionResponse) {
-		try {
-			return objectMapper.writeValueAsString(notificationConditionResponse);
-		} catch (JsonProcessingException e) {
-			throw new NotificationCacheException(NotificationCacheErrorResult.CONDITION_SERIALIZE_FAILED);
-		}
-	}
-
 }
@@ -0,0 +1,23 @@
+package com.und.server.notification.util;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.und.server.notification.dto.cache.NotificationCacheVersion;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class NotificationCacheVersionManager {
+
+	private final RedisTemplate<String, Object> redisTemplate;
+	private final NotificationCacheKeyGenerator keyGenerator;
+
+	public NotificationCacheVersion getVersion(final Long memberId) {
+		String versionKey = keyGenerator.generateVersionKey(memberId);
+
+		return NotificationCacheVersion.from(redisTemplate.opsForHash().entries(versionKey));
+	}
+
+}
@@ -0,0 +1,9 @@
+package com.und.server.scenario.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "mission.rollover")
+public record MissionRolloverProperties(
+	int sweepBatchSize,
+	int parallelism
+) { }
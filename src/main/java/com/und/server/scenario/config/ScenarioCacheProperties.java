@@ -0,0 +1,12 @@
+package com.und.server.scenario.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "scenario.cache")
+public record ScenarioCacheProperties(
+	boolean enabled,
+	boolean localEnabled,
+	Duration ttl
+) { }
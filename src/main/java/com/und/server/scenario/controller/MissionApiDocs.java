@@ -5,6 +5,7 @@ import java.time.LocalDate;
 import org.springframework.http.ResponseEntity;
 
 import com.und.server.common.dto.response.ErrorResponse;
+import com.und.server.scenario.dto.request.MissionCheckBatchRequest;
 import com.und.server.scenario.dto.request.TodayMissionRequest;
 import com.und.server.scenario.dto.response.MissionGroupResponse;
 import com.und.server.scenario.dto.response.MissionResponse;
@@ -259,6 +260,82 @@ public interface MissionApiDocs {
 	);
 
 
+	@Operation(summary = "Update Mission Check Statuses in Batch API")
+	@ApiResponses({
+			@ApiResponse(
+					responseCode = "204",
+					description = "Update check statuses successful"
+			),
+			@ApiResponse(
+					responseCode = "400",
+					description = "Bad Request",
+					content = @Content(
+							mediaType = "application/json",
+							schema = @Schema(implementation = ErrorResponse.class),
+							examples = {
+								@ExampleObject(
+										name = "Invalid parameter",
+										value = """
+											{
+											  "code": "INVALID_PARAMETER",
+											  "message": "missionChecks must not be empty"
+											}
+											"""
+								),
+								@ExampleObject(
+										name = "Invalid today mission date",
+										value = """
+											{
+											  "code": "INVALID_TODAY_MISSION_DATE",
+											  "message": "Today mission can only be added for today or future dates"
+											}
+											"""
+								)
+							}
+					)
+			),
+			@ApiResponse(
+					responseCode = "401",
+					description = "Unauthorized access",
+					content = @Content(
+							mediaType = "application/json",
+							schema = @Schema(implementation = ErrorResponse.class),
+							examples = @ExampleObject(
+									name = "Unauthorized access",
+									value = """
+										{
+										  "code": "UNAUTHORIZED_ACCESS",
+										  "message": "Unauthorized access"
+										}
+										"""
+							)
+					)
+			),
+			@ApiResponse(
+					responseCode = "404",
+					description = "Mission not found",
+					content = @Content(
+							mediaType = "application/json",
+							schema = @Schema(implementation = ErrorResponse.class),
+							examples = @ExampleObject(
+									name = "Mission not found",
+									value = """
+										{
+										  "code": "NOT_FOUND_MISSION",
+										  "message": "Mission not found"
+										}
+										"""
+							)
+					)
+			)
+	})
+	ResponseEntity<Void> updateMissionChecks(
+			@Parameter(hidden = true) final Long memberId,
+			@Parameter(description = "Mission check statuses to update") @Valid final MissionCheckBatchRequest request,
+			@Parameter(description = "Target date for missions (yyyy-MM-dd)") final LocalDate date
+	);
+
+
 	@Operation(summary = "Delete Today Mission API")
 	@ApiResponses({
 			@ApiResponse(
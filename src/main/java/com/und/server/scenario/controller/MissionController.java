@@ -17,9 +17,11 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.und.server.auth.filter.AuthMember;
+import com.und.server.scenario.dto.request.MissionCheckBatchRequest;
 import com.und.server.scenario.dto.request.TodayMissionRequest;
 import com.und.server.scenario.dto.response.MissionGroupResponse;
 import com.und.server.scenario.dto.response.MissionResponse;
+import com.und.server.scenario.service.MissionCheckService;
 import com.und.server.scenario.service.MissionService;
 import com.und.server.scenario.service.ScenarioService;
 
@@ -35,6 +37,7 @@ public class MissionController implements MissionApiDocs {
 
 	private final ScenarioService scenarioService;
 	private final MissionService missionService;
+	private final MissionCheckService missionCheckService;
 
 
 	@Override
@@ -74,7 +77,20 @@ public class MissionController implements MissionApiDocs {
 		@RequestBody @NotNull final Boolean isChecked,
 		@RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") final LocalDate date
 	) {
-		missionService.updateMissionCheck(memberId, missionId, isChecked, date);
+		missionCheckService.updateMissionCheck(memberId, missionId, isChecked, date);
+
+		return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+	}
+
+
+	@Override
+	@PatchMapping("/missions/check")
+	public ResponseEntity<Void> updateMissionChecks(
+		@AuthMember final Long memberId,
+		@RequestBody @Valid final MissionCheckBatchRequest request,
+		@RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") final LocalDate date
+	) {
+		missionCheckService.updateMissionChecks(memberId, request.missionChecks(), date);
 
 		return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
 	}
@@ -9,6 +9,7 @@ import com.und.server.scenario.dto.request.ScenarioOrderUpdateRequest;
 import com.und.server.scenario.dto.response.MissionGroupResponse;
 import com.und.server.scenario.dto.response.OrderUpdateResponse;
 import com.und.server.scenario.dto.response.ScenarioDetailResponse;
+import com.und.server.scenario.dto.response.ScenarioHomeResponse;
 import com.und.server.scenario.dto.response.ScenarioResponse;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -34,6 +35,10 @@ public interface ScenarioApiDocs {
 							schema = @Schema(implementation = ScenarioResponse.class)
 					)
 			),
+			@ApiResponse(
+					responseCode = "304",
+					description = "Scenario list not modified since the given ETag"
+			),
 			@ApiResponse(
 					responseCode = "401",
 					description = "Unauthorized access",
@@ -53,6 +58,70 @@ public interface ScenarioApiDocs {
 			)
 	})
 	ResponseEntity<List<ScenarioResponse>> getScenarios(
+			@Parameter(hidden = true) final Long memberId,
+			@Parameter(description = "Notification type filter (TIME, LOCATION)") final NotificationType notificationType,
+			@Parameter(description = "ETag of the cached scenario list") final String ifNoneMatch
+	);
+
+
+	@Operation(summary = "Get Home Scenarios API", description = "Scenarios with today's missions in one request")
+	@ApiResponses({
+			@ApiResponse(
+					responseCode = "200",
+					description = "Get home scenarios successful",
+					content = @Content(
+							mediaType = "application/json",
+							schema = @Schema(implementation = ScenarioHomeResponse.class),
+							examples = @ExampleObject(
+									name = "Scenarios with missions",
+									value = """
+										[
+										  {
+										    "scenarioId": 1,
+										    "scenarioName": "Home out",
+										    "memo": "Item to carry",
+										    "scenarioOrder": "i",
+										    "basicMissions": [
+										      {
+										        "missionId": 1,
+										        "content": "Lock door",
+										        "isChecked": true,
+										        "missionType": "BASIC"
+										      }
+										    ],
+										    "todayMissions": [
+										      {
+										        "missionId": 2,
+										        "content": "Buy milk",
+										        "isChecked": false,
+										        "missionType": "TODAY"
+										      }
+										    ]
+										  }
+										]
+										"""
+							)
+					)
+			),
+			@ApiResponse(
+					responseCode = "401",
+					description = "Unauthorized access",
+					content = @Content(
+							mediaType = "application/json",
+							schema = @Schema(implementation = ErrorResponse.class),
+							examples = @ExampleObject(
+									name = "Unauthorized access",
+									value = """
+										{
+										  "code": "UNAUTHORIZED_ACCESS",
+										  "message": "Unauthorized access"
+										}
+										"""
+							)
+					)
+			)
+	})
+	ResponseEntity<List<ScenarioHomeResponse>> getHomeScenarios(
 			@Parameter(hidden = true) final Long memberId,
 			@Parameter(description = "Notification type filter (TIME, LOCATION)") final NotificationType notificationType
 	);
@@ -497,7 +566,11 @@ public interface ScenarioApiDocs {
 	);
 
 
-	@Operation(summary = "Update Scenario Order API")
+	@Operation(
+		summary = "Update Scenario Order API",
+		description = "Orders are string rank keys. Integer prevOrder and nextOrder from older clients are mapped to "
+			+ "the keys their orders were migrated to; responses always return string keys"
+	)
 	@ApiResponses({
 			@ApiResponse(
 					responseCode = "200",
@@ -505,40 +578,20 @@ public interface ScenarioApiDocs {
 					content = @Content(
 							mediaType = "application/json",
 							schema = @Schema(implementation = OrderUpdateResponse.class),
-							examples = {
-								@ExampleObject(
-										name = "No reorder required",
-										value = """
-											{
-											  "isReorder": false,
-											  "orderUpdates": [
-											    {
-											      "id": 1,
-											      "newOrder": 100500
-											    }
-											  ]
-											}
-											"""
-								),
-								@ExampleObject(
-										name = "Reorder required",
-										value = """
-											{
-											  "isReorder": true,
-											  "orderUpdates": [
-											    {
-											      "id": 1,
-											      "newOrder": 100000
-											    },
-											    {
-											      "id": 2,
-											      "newOrder": 101000
-											    }
-											  ]
-											}
-											"""
-								)
-							}
+							examples = @ExampleObject(
+									name = "Order updated",
+									value = """
+										{
+										  "isReorder": false,
+										  "orderUpdates": [
+										    {
+										      "id": 1,
+										      "newOrder": "m"
+										    }
+										  ]
+										}
+										"""
+							)
 					)
 			),
 			@ApiResponse(
@@ -549,20 +602,20 @@ public interface ScenarioApiDocs {
 							schema = @Schema(implementation = ErrorResponse.class),
 							examples = {
 								@ExampleObject(
-										name = "PrevOrder must be greater than or equal to 1",
+										name = "PrevOrder must be a valid order",
 										value = """
 											{
 											  "code": "INVALID_PARAMETER",
-											  "message": "PrevOrder must be greater than or equal to 1"
+											  "message": "prevOrder must be a valid order"
 											}
 											"""
 								),
 								@ExampleObject(
-										name = "NextOrder must be greater than or equal to 1",
+										name = "PrevOrder is not before nextOrder",
 										value = """
 											{
-											  "code": "INVALID_PARAMETER",
-											  "message": "NextOrder must be greater than or equal to 1"
+											  "code": "INVALID_ORDER",
+											  "message": "Invalid order"
 											}
 											"""
 								)
@@ -619,7 +672,7 @@ public interface ScenarioApiDocs {
 										value = """
 											{
 											  "prevOrder": null,
-											  "nextOrder": 100000
+											  "nextOrder": "i"
 											}
 											"""
 								),
@@ -627,7 +680,7 @@ public interface ScenarioApiDocs {
 										name = "Move to back",
 										value = """
 											{
-											  "prevOrder": 101000,
+											  "prevOrder": "r",
 											  "nextOrder": null
 											}
 											"""
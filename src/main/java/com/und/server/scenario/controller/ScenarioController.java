@@ -2,6 +2,7 @@ package com.und.server.scenario.controller;
 
 import java.util.List;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -12,17 +13,21 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.und.server.auth.filter.AuthMember;
 import com.und.server.notification.constants.NotificationType;
+import com.und.server.scenario.dto.VersionedScenarios;
 import com.und.server.scenario.dto.request.ScenarioDetailRequest;
 import com.und.server.scenario.dto.request.ScenarioOrderUpdateRequest;
 import com.und.server.scenario.dto.response.OrderUpdateResponse;
 import com.und.server.scenario.dto.response.ScenarioDetailResponse;
+import com.und.server.scenario.dto.response.ScenarioHomeResponse;
 import com.und.server.scenario.dto.response.ScenarioResponse;
+import com.und.server.scenario.service.ScenarioHomeService;
 import com.und.server.scenario.service.ScenarioService;
 
 import jakarta.validation.Valid;
@@ -35,16 +40,38 @@ import lombok.RequiredArgsConstructor;
 public class ScenarioController implements ScenarioApiDocs {
 
 	private final ScenarioService scenarioService;
+	private final ScenarioHomeService scenarioHomeService;
 
 
 	@Override
 	@GetMapping("/scenarios")
 	public ResponseEntity<List<ScenarioResponse>> getScenarios(
+		@AuthMember final Long memberId,
+		@RequestParam(defaultValue = "TIME") final NotificationType notificationType,
+		@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch
+	) {
+		final VersionedScenarios scenarios =
+			scenarioService.findVersionedScenarios(memberId, notificationType);
+
+		if (scenarios.matches(ifNoneMatch)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(scenarios.eTag()).build();
+		}
+		final HttpHeaders headers = new HttpHeaders();
+		if (scenarios.eTag() != null) {
+			headers.setETag(scenarios.eTag());
+		}
+		return ResponseEntity.ok().headers(headers).body(scenarios.scenarios());
+	}
+
+
+	@Override
+	@GetMapping("/scenarios/home")
+	public ResponseEntity<List<ScenarioHomeResponse>> getHomeScenarios(
 		@AuthMember final Long memberId,
 		@RequestParam(defaultValue = "TIME") final NotificationType notificationType
 	) {
-		final List<ScenarioResponse> scenarios =
-			scenarioService.findScenariosByMemberId(memberId, notificationType);
+		final List<ScenarioHomeResponse> scenarios =
+			scenarioHomeService.findHomeScenarios(memberId, notificationType);
 
 		return ResponseEntity.ok().body(scenarios);
 	}
@@ -0,0 +1,21 @@
+package com.und.server.scenario.dto;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import lombok.Builder;
+
+@Builder
+public record PendingMissionChecks(
+
+	Long memberId,
+	LocalDate date,
+	Map<Long, Boolean> checks
+
+) {
+
+	public PendingMissionChecks withChecks(final Map<Long, Boolean> checks) {
+		return new PendingMissionChecks(memberId, date, checks);
+	}
+
+}
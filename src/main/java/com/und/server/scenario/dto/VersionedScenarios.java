@@ -0,0 +1,18 @@
+package com.und.server.scenario.dto;
+
+import java.util.List;
+
+import com.und.server.scenario.dto.response.ScenarioResponse;
+
+public record VersionedScenarios(
+
+	String eTag,
+	List<ScenarioResponse> scenarios
+
+) {
+
+	public boolean matches(final String ifNoneMatch) {
+		return eTag != null && eTag.equals(ifNoneMatch);
+	}
+
+}
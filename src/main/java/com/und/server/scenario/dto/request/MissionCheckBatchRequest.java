@@ -0,0 +1,24 @@
+package com.und.server.scenario.dto.request;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+@Builder
+@Schema(description = "Batch mission check status request")
+public record MissionCheckBatchRequest(
+
+	@ArraySchema(
+		arraySchema = @Schema(description = "Mission check status list"),
+		schema = @Schema(implementation = MissionCheckRequest.class), maxItems = 40
+	)
+	@NotEmpty(message = "missionChecks must not be empty")
+	@Size(max = 40, message = "missionChecks must be at most 40 items")
+	List<@Valid MissionCheckRequest> missionChecks
+
+) { }
@@ -0,0 +1,19 @@
+package com.und.server.scenario.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+
+@Builder
+@Schema(description = "Mission check status request")
+public record MissionCheckRequest(
+
+	@Schema(description = "Mission id", example = "1")
+	@NotNull(message = "missionId must not be null")
+	Long missionId,
+
+	@Schema(description = "Check status to update", example = "true")
+	@NotNull(message = "isChecked must not be null")
+	Boolean isChecked
+
+) { }
@@ -1,19 +1,28 @@
 package com.und.server.scenario.dto.request;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.und.server.scenario.util.LegacyOrderDeserializer;
+import com.und.server.scenario.util.OrderCalculator;
+
 import io.swagger.v3.oas.annotations.media.Schema;
-import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 import lombok.Builder;
 
 @Builder
 @Schema(description = "Scenario order update request")
 public record ScenarioOrderUpdateRequest(
 
-	@Schema(description = "Previous Scenario order", example = "101000")
-	@Min(value = 0, message = "prevOrder must be greater than or equal to 1")
-	Integer prevOrder,
+	@Schema(description = "Previous Scenario order. A legacy integer order is still accepted", example = "i")
+	@JsonDeserialize(using = LegacyOrderDeserializer.class)
+	@Size(max = OrderCalculator.MAX_ORDER_LENGTH, message = "prevOrder must be at most 64 characters")
+	@Pattern(regexp = OrderCalculator.ORDER_PATTERN, message = "prevOrder must be a valid order")
+	String prevOrder,
 
-	@Schema(description = "Next Scenario order", example = "102000")
-	@Min(value = 0, message = "nextOrder must be greater than or equal to 1")
-	Integer nextOrder
+	@Schema(description = "Next Scenario order. A legacy integer order is still accepted", example = "r")
+	@JsonDeserialize(using = LegacyOrderDeserializer.class)
+	@Size(max = OrderCalculator.MAX_ORDER_LENGTH, message = "nextOrder must be at most 64 characters")
+	@Pattern(regexp = OrderCalculator.ORDER_PATTERN, message = "nextOrder must be a valid order")
+	String nextOrder
 
 ) { }
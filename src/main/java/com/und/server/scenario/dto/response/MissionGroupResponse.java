@@ -1,8 +1,11 @@
 package com.und.server.scenario.dto.response;
 
 import java.util.List;
+import java.util.Map;
 
+import com.und.server.scenario.constants.MissionType;
 import com.und.server.scenario.entity.Mission;
+import com.und.server.scenario.entity.MissionHistory;
 
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -46,6 +49,19 @@ public record MissionGroupResponse(
 			.build();
 	}
 
+	public static MissionGroupResponse from(
+		final Long scenarioId,
+		final List<Mission> basic,
+		final List<Mission> today,
+		final Map<Long, Boolean> checkOverrides
+	) {
+		return MissionGroupResponse.builder()
+			.scenarioId(scenarioId)
+			.basicMissions(MissionResponse.listFrom(basic, checkOverrides))
+			.todayMissions(MissionResponse.listFrom(today, checkOverrides))
+			.build();
+	}
+
 	public static MissionGroupResponse futureFrom(
 		final Long scenarioId, final List<MissionResponse> futureBasic, final List<Mission> today
 	) {
@@ -56,4 +72,21 @@ public record MissionGroupResponse(
 			.build();
 	}
 
+	public static MissionGroupResponse historyFrom(final Long scenarioId, final List<MissionHistory> histories) {
+		return MissionGroupResponse.builder()
+			.scenarioId(scenarioId)
+			.basicMissions(listHistoryFrom(histories, MissionType.BASIC))
+			.todayMissions(listHistoryFrom(histories, MissionType.TODAY))
+			.build();
+	}
+
+	private static List<MissionResponse> listHistoryFrom(
+		final List<MissionHistory> histories, final MissionType missionType
+	) {
+		return histories.stream()
+			.filter(history -> history.getMissionType() == missionType)
+			.map(MissionResponse::from)
+			.toList();
+	}
+
 }
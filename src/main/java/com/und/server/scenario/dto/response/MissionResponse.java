@@ -2,9 +2,11 @@ package com.und.server.scenario.dto.response;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import com.und.server.scenario.constants.MissionType;
 import com.und.server.scenario.entity.Mission;
+import com.und.server.scenario.entity.MissionHistory;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
@@ -36,6 +38,15 @@ public record MissionResponse(
 			.build();
 	}
 
+	public static MissionResponse from(final MissionHistory missionHistory) {
+		return MissionResponse.builder()
+			.missionId(missionHistory.getId())
+			.content(missionHistory.getContent())
+			.isChecked(missionHistory.getIsChecked())
+			.missionType(missionHistory.getMissionType())
+			.build();
+	}
+
 	public static MissionResponse fromWithOverride(final Mission mission, final Boolean overrideChecked) {
 		return MissionResponse.builder()
 			.missionId(mission.getId())
@@ -54,4 +65,16 @@ public record MissionResponse(
 			.toList();
 	}
 
+	public static List<MissionResponse> listFrom(
+		final List<Mission> missionList, final Map<Long, Boolean> checkOverrides
+	) {
+		if (missionList == null || missionList.isEmpty()) {
+			return new ArrayList<>();
+		}
+		return missionList.stream()
+			.map(mission -> fromWithOverride(
+				mission, checkOverrides.getOrDefault(mission.getId(), mission.getIsChecked())))
+			.toList();
+	}
+
 }
@@ -12,8 +12,8 @@ public record OrderResponse(
 	@Schema(description = "Scenario id", example = "1")
 	Long id,
 
-	@Schema(description = "Updated Scenario order", example = "2500")
-	Integer newOrder
+	@Schema(description = "Updated Scenario order", example = "m")
+	String newOrder
 
 ) {
 
@@ -12,15 +12,14 @@ import lombok.Builder;
 @Schema(description = "Scenarios order update response")
 public record OrderUpdateResponse(
 
-	@Schema(description = "Reordering all Scenarios", example = "false")
+	@Schema(description = "Reordering all Scenarios. Always false since orders are fractional keys", example = "false")
 	Boolean isReorder,
 
 	@ArraySchema(
 		arraySchema = @Schema(
 			description = """
 				List of (id, order) pairs reflecting the final order.
-				When isReorder=false, it usually contains only one item.
-				When true, it includes all affected scenarios.
+				Orders are compared as plain strings, so only the moved scenario is included.
 				"""),
 		schema = @Schema(implementation = OrderResponse.class), minItems = 1, maxItems = 20
 	)
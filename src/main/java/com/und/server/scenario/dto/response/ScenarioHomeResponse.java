@@ -0,0 +1,59 @@
+package com.und.server.scenario.dto.response;
+
+import java.util.List;
+import java.util.Map;
+
+import com.und.server.scenario.entity.Mission;
+import com.und.server.scenario.entity.Scenario;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+@Builder
+@Schema(description = "Home display scenario with today's missions response")
+public record ScenarioHomeResponse(
+
+	@Schema(description = "Scenario id", example = "1")
+	Long scenarioId,
+
+	@Schema(description = "Scenario name", example = "Home out")
+	String scenarioName,
+
+	@Schema(description = "Scenario memo", example = "Item to carry")
+	String memo,
+
+	@Schema(description = "Scenario order", example = "i")
+	String scenarioOrder,
+
+	@ArraySchema(
+		arraySchema = @Schema(description = "Basic type mission list, Sort in order"),
+		schema = @Schema(implementation = MissionResponse.class), maxItems = 20
+	)
+	List<MissionResponse> basicMissions,
+
+	@ArraySchema(
+		arraySchema = @Schema(description = "Today type mission list, Sort in order of created date"),
+		schema = @Schema(implementation = MissionResponse.class), maxItems = 20
+	)
+	List<MissionResponse> todayMissions
+
+) {
+
+	public static ScenarioHomeResponse from(
+		final Scenario scenario,
+		final List<Mission> basic,
+		final List<Mission> today,
+		final Map<Long, Boolean> checkOverrides
+	) {
+		return ScenarioHomeResponse.builder()
+			.scenarioId(scenario.getId())
+			.scenarioName(scenario.getScenarioName())
+			.memo(scenario.getMemo())
+			.scenarioOrder(scenario.getScenarioOrder())
+			.basicMissions(MissionResponse.listFrom(basic, checkOverrides))
+			.todayMissions(MissionResponse.listFrom(today, checkOverrides))
+			.build();
+	}
+
+}
@@ -20,8 +20,8 @@ public record ScenarioResponse(
 	@Schema(description = "Scenario memo", example = "Item to carry")
 	String memo,
 
-	@Schema(description = "Scenario order", example = "3000")
-	Integer scenarioOrder
+	@Schema(description = "Scenario order, a string rank key since it replaced the integer order", example = "i")
+	String scenarioOrder
 
 ) {
 
@@ -4,6 +4,7 @@ import java.time.LocalDate;
 
 import com.und.server.common.entity.BaseTimeEntity;
 import com.und.server.scenario.constants.MissionType;
+import com.und.server.scenario.util.OrderCalculator;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -13,11 +14,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
-import jakarta.validation.constraints.Max;
-import jakarta.validation.constraints.Min;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -29,11 +30,15 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @Getter
 @Builder
-@Table(name = "mission")
+@Table(name = "mission", indexes = {
+	@Index(name = "idx_mission_scenario_date_type", columnList = "scenario_id, use_date, mission_type"),
+	@Index(name = "uk_mission_parent_date", columnList = "parent_mission_id, use_date", unique = true)
+})
 public class Mission extends BaseTimeEntity {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "mission_seq")
+	@SequenceGenerator(name = "mission_seq", sequenceName = "mission_seq", allocationSize = 50)
 	private Long id;
 
 	@ManyToOne(fetch = FetchType.LAZY)
@@ -46,10 +51,8 @@ public class Mission extends BaseTimeEntity {
 	@Column(nullable = false)
 	private Boolean isChecked;
 
-	@Column
-	@Min(0)
-	@Max(10_000_000)
-	private Integer missionOrder;
+	@Column(length = OrderCalculator.MAX_ORDER_LENGTH)
+	private String missionOrder;
 
 	@Column
 	private Long parentMissionId;
@@ -65,7 +68,7 @@ public class Mission extends BaseTimeEntity {
 		this.isChecked = checked;
 	}
 
-	public void updateMissionOrder(final Integer missionOrder) {
+	public void updateMissionOrder(final String missionOrder) {
 		this.missionOrder = missionOrder;
 	}
 
@@ -0,0 +1,50 @@
+package com.und.server.scenario.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Progress of one day's expired mission history cleanup, committed together with each deleted chunk.
+ */
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Getter
+@Builder
+@Table(name = "mission_daily_job_checkpoint")
+public class MissionDailyJobCheckpoint {
+
+	@Id
+	private LocalDate jobDate;
+
+	@Column(nullable = false)
+	private LocalDate expireBefore;
+
+	@Column(nullable = false)
+	private Long deletedCount;
+
+	private LocalDateTime completedAt;
+
+	public boolean isCompleted() {
+		return completedAt != null;
+	}
+
+	public void addDeleted(final int deleted) {
+		this.deletedCount += deleted;
+	}
+
+	public void complete(final LocalDateTime completedAt) {
+		this.completedAt = completedAt;
+	}
+
+}
@@ -0,0 +1,70 @@
+package com.und.server.scenario.entity;
+
+import java.time.LocalDate;
+
+import com.und.server.common.entity.BaseTimeEntity;
+import com.und.server.scenario.constants.MissionType;
+import com.und.server.scenario.util.OrderCalculator;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Dated snapshot of a mission, kept apart from live missions and expired by dropping whole days.
+ * The table is partitioned on MySQL, which rules out a foreign key to scenario.
+ */
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Getter
+@Builder
+@Table(name = "mission_history", indexes = {
+	@Index(name = "idx_mission_history_scenario_date", columnList = "scenario_id, use_date"),
+	@Index(name = "idx_mission_history_use_date", columnList = "use_date")
+})
+public class MissionHistory extends BaseTimeEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "scenario_id", nullable = false)
+	private Scenario scenario;
+
+	@Column(nullable = false, length = 10)
+	private String content;
+
+	@Column(nullable = false)
+	private Boolean isChecked;
+
+	@Column(length = OrderCalculator.MAX_ORDER_LENGTH)
+	private String missionOrder;
+
+	@Column(nullable = false)
+	private LocalDate useDate;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false)
+	private MissionType missionType;
+
+	public void updateCheckStatus(final Boolean checked) {
+		this.isChecked = checked;
+	}
+
+}
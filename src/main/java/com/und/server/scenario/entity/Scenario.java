@@ -1,10 +1,12 @@
 package com.und.server.scenario.entity;
 
+import java.time.LocalDate;
 import java.util.List;
 
 import com.und.server.common.entity.BaseTimeEntity;
 import com.und.server.member.entity.Member;
 import com.und.server.notification.entity.Notification;
+import com.und.server.scenario.util.OrderCalculator;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
@@ -13,13 +15,13 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
-import jakarta.validation.constraints.Max;
-import jakarta.validation.constraints.Min;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -31,11 +33,15 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @Getter
 @Builder
-@Table(name = "scenario")
+@Table(name = "scenario", indexes = {
+	@Index(name = "idx_scenario_last_rolled_date", columnList = "last_rolled_date"),
+	@Index(name = "idx_scenario_member_order", columnList = "member_id, scenario_order")
+})
 public class Scenario extends BaseTimeEntity {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "scenario_seq")
+	@SequenceGenerator(name = "scenario_seq", sequenceName = "scenario_seq", allocationSize = 50)
 	private Long id;
 
 	@ManyToOne(fetch = FetchType.LAZY)
@@ -48,15 +54,17 @@ public class Scenario extends BaseTimeEntity {
 	@Column(length = 15)
 	private String memo;
 
-	@Column(nullable = false)
-	@Min(0)
-	@Max(10_000_000)
-	private Integer scenarioOrder;
+	@Column(nullable = false, length = OrderCalculator.MAX_ORDER_LENGTH)
+	private String scenarioOrder;
 
 	@OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
 	@JoinColumn(name = "notification_id", nullable = false, unique = true)
 	private Notification notification;
 
+	// written only by the rollover statement, so a stale entity flush never rewinds it
+	@Column(nullable = false, updatable = false)
+	private LocalDate lastRolledDate;
+
 	@OneToMany(mappedBy = "scenario", fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
 	private List<Mission> missions;
 
@@ -68,7 +76,7 @@ public class Scenario extends BaseTimeEntity {
 		this.memo = memo;
 	}
 
-	public void updateScenarioOrder(final Integer scenarioOrder) {
+	public void updateScenarioOrder(final String scenarioOrder) {
 		this.scenarioOrder = scenarioOrder;
 	}
 
@@ -0,0 +1,8 @@
+package com.und.server.scenario.event;
+
+public record ScenarioCacheEvictEvent(
+
+	Long memberId,
+	boolean scenarioChanged
+
+) { }
@@ -0,0 +1,27 @@
+package com.und.server.scenario.event;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.und.server.scenario.util.ScenarioCache;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class ScenarioCacheEvictEventListener {
+
+	private final ScenarioCache scenarioCache;
+
+	// after commit, so a reader that misses the new version already sees the committed rows
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void handleEvict(final ScenarioCacheEvictEvent event) {
+		if (event.scenarioChanged()) {
+			scenarioCache.evictScenarios(event.memberId());
+			return;
+		}
+		scenarioCache.evictHome(event.memberId());
+	}
+
+}
@@ -0,0 +1,22 @@
+package com.und.server.scenario.event;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class ScenarioEventPublisher {
+
+	private final ApplicationEventPublisher eventPublisher;
+
+	public void publishCacheEvictEvent(final Long memberId) {
+		eventPublisher.publishEvent(new ScenarioCacheEvictEvent(memberId, true));
+	}
+
+	public void publishMissionCacheEvictEvent(final Long memberId) {
+		eventPublisher.publishEvent(new ScenarioCacheEvictEvent(memberId, false));
+	}
+
+}
@@ -17,8 +17,8 @@ public enum ScenarioErrorResult implements ErrorResult {
 		HttpStatus.NOT_FOUND, "Mission not found"),
 	UNSUPPORTED_MISSION_TYPE(
 		HttpStatus.BAD_REQUEST, "Unsupported mission type"),
-	REORDER_REQUIRED(
-		HttpStatus.BAD_REQUEST, "Reorder required"),
+	INVALID_ORDER(
+		HttpStatus.BAD_REQUEST, "Invalid order"),
 	INVALID_TODAY_MISSION_DATE(
 		HttpStatus.BAD_REQUEST, "Today mission can only be added for today or future dates"),
 	INVALID_MISSION_FOUND_DATE(
@@ -0,0 +1,11 @@
+package com.und.server.scenario.repository;
+
+import java.time.LocalDate;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.und.server.scenario.entity.MissionDailyJobCheckpoint;
+
+public interface MissionDailyJobCheckpointRepository extends JpaRepository<MissionDailyJobCheckpoint, LocalDate> {
+
+}
@@ -0,0 +1,99 @@
+package com.und.server.scenario.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import com.und.server.scenario.entity.MissionHistory;
+
+import jakarta.validation.constraints.NotNull;
+
+public interface MissionHistoryRepository extends JpaRepository<MissionHistory, Long> {
+
+	Optional<MissionHistory> findByIdAndScenarioMemberId(Long historyId, Long memberId);
+
+	@Query("""
+		SELECT h FROM MissionHistory h
+		WHERE h.scenario.id = :scenarioId
+			AND h.scenario.member.id = :memberId
+			AND h.useDate = :date
+		ORDER BY h.missionOrder, h.createdAt DESC
+		""")
+	@NotNull
+	List<MissionHistory> findHistories(@NotNull Long memberId, @NotNull Long scenarioId, @NotNull LocalDate date);
+
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query(value = """
+		INSERT INTO mission_history (
+			scenario_id, content, is_checked, mission_order, use_date, mission_type, created_at, updated_at
+		)
+		SELECT m.scenario_id, m.content, m.is_checked, m.mission_order, :useDate, m.mission_type,
+			CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+		FROM mission m
+		WHERE m.scenario_id = :scenarioId
+			AND m.use_date IS NULL
+			AND m.mission_type = 'BASIC'
+		""", nativeQuery = true)
+	int snapshotBasicMissions(Long scenarioId, LocalDate useDate);
+
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query(value = """
+		INSERT INTO mission_history (
+			scenario_id, content, is_checked, mission_order, use_date, mission_type, created_at, updated_at
+		)
+		SELECT m.scenario_id, m.content,
+			COALESCE(
+				(SELECT c.is_checked
+				FROM mission c
+				WHERE c.parent_mission_id = m.id
+				AND c.use_date = :useDate
+				AND c.mission_type = 'BASIC'
+				), false
+			),
+			m.mission_order, :useDate, m.mission_type, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+		FROM mission m
+		WHERE m.scenario_id = :scenarioId
+			AND m.use_date IS NULL
+			AND m.mission_type = 'BASIC'
+		""", nativeQuery = true)
+	int snapshotFutureCheckedBasicMissions(Long scenarioId, LocalDate useDate);
+
+	// keeps the mission id so a client holding it can still check the mission on a past date
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query(value = """
+		INSERT INTO mission_history (
+			id, scenario_id, content, is_checked, mission_order, use_date, mission_type, created_at, updated_at
+		)
+		SELECT m.id, m.scenario_id, m.content, m.is_checked, m.mission_order, m.use_date, m.mission_type,
+			m.created_at, m.updated_at
+		FROM mission m
+		WHERE m.scenario_id = :scenarioId
+			AND m.use_date < :today
+			AND m.mission_type = 'TODAY'
+		""", nativeQuery = true)
+	int archiveTodayMissionsBefore(Long scenarioId, LocalDate today);
+
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query("DELETE FROM MissionHistory h WHERE h.scenario.id = :scenarioId")
+	int deleteByScenarioId(Long scenarioId);
+
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query("""
+		DELETE FROM MissionHistory h
+		WHERE h.scenario.id IN (SELECT s.id FROM Scenario s WHERE s.member.id = :memberId)
+		""")
+	int deleteByMemberId(Long memberId);
+
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query(value = """
+		DELETE FROM mission_history
+		WHERE use_date < :expireBefore
+		LIMIT :limit
+		""", nativeQuery = true)
+	int bulkDeleteExpired(LocalDate expireBefore, int limit);
+
+}
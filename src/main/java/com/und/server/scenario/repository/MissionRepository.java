@@ -1,6 +1,7 @@
 package com.und.server.scenario.repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,13 +19,18 @@ public interface MissionRepository extends JpaRepository<Mission, Long> {
 	@EntityGraph(attributePaths = {"scenario"})
 	Optional<Mission> findByIdAndScenarioMemberId(Long missionId, Long memberId);
 
+	boolean existsByIdAndScenarioMemberId(Long missionId, Long memberId);
+
+	List<Mission> findAllByIdInAndScenarioMemberId(Collection<Long> missionIds, Long memberId);
+
 	Optional<Mission> findByParentMissionIdAndUseDate(Long parentMissionId, LocalDate useDate);
 
+	List<Mission> findAllByParentMissionIdInAndUseDate(Collection<Long> parentMissionIds, LocalDate useDate);
+
 	@Query("""
 		SELECT m FROM Mission m
-		LEFT JOIN m.scenario s
-		WHERE s.id = :scenarioId
-			AND s.member.id = :memberId
+		WHERE m.scenario.id = :scenarioId
+			AND m.scenario.member.id = :memberId
 			AND (m.useDate IS NULL OR m.useDate = :date)
 		""")
 	@NotNull
@@ -33,14 +39,12 @@ public interface MissionRepository extends JpaRepository<Mission, Long> {
 
 	@Query("""
 		SELECT m FROM Mission m
-		LEFT JOIN m.scenario s
-		WHERE s.id = :scenarioId
-			AND s.member.id = :memberId
-			AND m.useDate = :date
+		WHERE m.scenario.id IN :scenarioIds
+			AND (m.useDate IS NULL OR m.useDate = :date)
 		""")
 	@NotNull
-	List<Mission> findPastMissionsByDate(
-		@NotNull Long memberId, @NotNull Long scenarioId, @NotNull LocalDate date);
+	List<Mission> findTodayAndFutureMissionsByScenarioIdIn(
+		@NotNull Collection<Long> scenarioIds, @NotNull LocalDate date);
 
 	@Modifying(clearAutomatically = true, flushAutomatically = true)
 	@Query("DELETE FROM Mission m WHERE m.scenario.id = :scenarioId")
@@ -53,11 +57,12 @@ public interface MissionRepository extends JpaRepository<Mission, Long> {
 	@Modifying
 	@Query("""
 		DELETE FROM Mission m
-		WHERE m.useDate = :today
+		WHERE m.scenario.id = :scenarioId
+			AND m.useDate <= :today
 			AND m.parentMissionId IS NOT NULL
 			AND m.missionType = 'BASIC'
 		""")
-	int deleteTodayChildBasics(LocalDate today);
+	int deleteChildBasicsUntil(Long scenarioId, LocalDate today);
 
 	@Modifying(clearAutomatically = true, flushAutomatically = true)
 	@Query("""
@@ -70,31 +75,31 @@ public interface MissionRepository extends JpaRepository<Mission, Long> {
 				AND c.missionType = 'BASIC'
 				), false
 			)
-			WHERE p.useDate IS NULL
+			WHERE p.scenario.id = :scenarioId
+				AND p.useDate IS NULL
 				AND p.missionType = 'BASIC'
 		""")
-	int bulkResetBasicIsChecked(LocalDate today);
+	int resetBasicIsChecked(Long scenarioId, LocalDate today);
+
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query("""
+		DELETE FROM Mission m
+		WHERE m.scenario.id = :scenarioId
+			AND m.useDate < :today
+			AND m.missionType = 'TODAY'
+		""")
+	int deleteTodayMissionsBefore(Long scenarioId, LocalDate today);
 
 	@Modifying(clearAutomatically = true, flushAutomatically = true)
-	@Query(value = """
-		INSERT INTO mission (
-			scenario_id, content, is_checked, mission_order, use_date, mission_type, created_at, updated_at
-		)
-		SELECT m.scenario_id, m.content, m.is_checked, m.mission_order, :yesterday, m.mission_type,
-			CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
-		FROM mission m
-		WHERE m.use_date IS NULL
-			AND m.mission_type = 'BASIC'
-		""", nativeQuery = true)
-	int bulkCloneBasicToYesterday(LocalDate yesterday);
+	@Query("""
+		UPDATE Mission m
+		SET m.isChecked = CASE WHEN m.id IN :checkedIds THEN true ELSE false END
+		WHERE m.id IN :missionIds
+		""")
+	int updateCheckStatuses(Collection<Long> missionIds, Collection<Long> checkedIds);
 
 	@Modifying(clearAutomatically = true, flushAutomatically = true)
-	@Query(value = """
-		DELETE FROM mission
-		WHERE use_date IS NOT NULL
-			AND use_date < :expireBefore
-		LIMIT :limit
-		""", nativeQuery = true)
-	int bulkDeleteExpired(LocalDate expireBefore, int limit);
+	@Query("DELETE FROM Mission m WHERE m.parentMissionId IN :parentMissionIds AND m.useDate = :useDate")
+	int deleteFutureChildMissions(Collection<Long> parentMissionIds, LocalDate useDate);
 
 }
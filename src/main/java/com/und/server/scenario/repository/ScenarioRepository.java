@@ -1,16 +1,21 @@
 package com.und.server.scenario.repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import com.und.server.notification.constants.NotificationType;
 import com.und.server.scenario.entity.Scenario;
 
+import jakarta.persistence.LockModeType;
 import jakarta.validation.constraints.NotNull;
 
 public interface ScenarioRepository extends JpaRepository<Scenario, Long>, ScenarioRepositoryCustom {
@@ -20,6 +25,9 @@ public interface ScenarioRepository extends JpaRepository<Scenario, Long>, Scena
 	@EntityGraph(attributePaths = {"notification"})
 	List<Scenario> findByMemberId(Long memberId);
 
+	@EntityGraph(attributePaths = {"notification"})
+	List<Scenario> findByIdIn(Collection<Long> ids);
+
 	@Query("""
 		SELECT s FROM Scenario s
 		LEFT JOIN FETCH s.notification
@@ -68,7 +76,66 @@ public interface ScenarioRepository extends JpaRepository<Scenario, Long>, Scena
 		ORDER BY s.scenarioOrder
 		""")
 	@NotNull
-	List<Integer> findOrdersByMemberIdAndNotificationType(
+	List<String> findOrdersByMemberIdAndNotificationType(
+		@NotNull Long memberId, @NotNull NotificationType notificationType);
+
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("""
+		SELECT s FROM Scenario s
+		WHERE s.member.id = :memberId
+			AND s.notification.notificationType = :notificationType
+		ORDER BY s.scenarioOrder
+		""")
+	@NotNull
+	List<Scenario> findWithLockByMemberIdAndNotificationType(
 		@NotNull Long memberId, @NotNull NotificationType notificationType);
 
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	Optional<Scenario> findWithLockById(@NotNull Long id);
+
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	Optional<Scenario> findWithLockByIdAndMemberId(@NotNull Long id, @NotNull Long memberId);
+
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT m.scenario FROM Mission m WHERE m.id = :missionId AND m.scenario.member.id = :memberId")
+	Optional<Scenario> findWithLockByMissionIdAndMemberId(@NotNull Long missionId, @NotNull Long memberId);
+
+	boolean existsByIdAndMemberIdAndLastRolledDateGreaterThanEqual(
+		@NotNull Long id, @NotNull Long memberId, @NotNull LocalDate today);
+
+	@Query("""
+		SELECT COUNT(m) > 0 FROM Mission m
+		WHERE m.id = :missionId
+			AND m.scenario.member.id = :memberId
+			AND m.scenario.lastRolledDate >= :today
+		""")
+	boolean existsRolledByMissionIdAndMemberId(
+		@NotNull Long missionId, @NotNull Long memberId, @NotNull LocalDate today);
+
+	@Query("SELECT s.lastRolledDate FROM Scenario s WHERE s.id = :id")
+	LocalDate findLastRolledDateById(@NotNull Long id);
+
+	@Query("""
+		SELECT s.id FROM Scenario s
+		WHERE s.lastRolledDate < :today
+			AND s.id > :afterId
+		ORDER BY s.id
+		""")
+	List<Long> findIdsToRollover(@NotNull LocalDate today, @NotNull Long afterId, Limit limit);
+
+	@Query("SELECT COALESCE(MAX(s.id), 0) FROM Scenario s")
+	long findMaxId();
+
+	@Query("""
+		SELECT DISTINCT s.member.id FROM Scenario s
+		WHERE s.member.id > :lastMemberId
+			AND LENGTH(s.scenarioOrder) > :orderLength
+		ORDER BY s.member.id
+		""")
+	List<Long> findMemberIdsWithOrderLongerThan(@NotNull Long lastMemberId, int orderLength, Limit limit);
+
+	@Modifying(flushAutomatically = true)
+	@Query(value = "UPDATE scenario SET last_rolled_date = :today WHERE id = :scenarioId", nativeQuery = true)
+	void updateLastRolledDate(@NotNull Long scenarioId, @NotNull LocalDate today);
+
 }
@@ -2,10 +2,20 @@ package com.und.server.scenario.repository;
 
 import java.util.List;
 
+import com.und.server.notification.dto.TimeNotificationSchedule;
 import com.und.server.notification.dto.response.ScenarioNotificationResponse;
 
 public interface ScenarioRepositoryCustom {
 
 	List<ScenarioNotificationResponse> findTimeScenarioNotifications(Long memberId);
 
+	List<ScenarioNotificationResponse> findLocationScenarioNotifications(Long memberId);
+
+	List<TimeNotificationSchedule> findActiveTimeNotificationSchedules(Long lastScenarioId, int limit);
+
+	List<TimeNotificationSchedule> findActiveTimeNotificationSchedulesDueAt(
+		int dayOfWeekOrdinal, int startHour, int startMinute);
+
+	List<TimeNotificationSchedule> findActiveTimeNotificationSchedulesByNotificationIds(List<Long> notificationIds);
+
 }
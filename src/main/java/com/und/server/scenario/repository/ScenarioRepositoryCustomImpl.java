@@ -1,14 +1,18 @@
 package com.und.server.scenario.repository;
 
-import java.util.Arrays;
+import java.math.BigDecimal;
 import java.util.List;
 
 import org.springframework.stereotype.Repository;
 
+import com.und.server.notification.constants.LocationTrackingRadiusType;
 import com.und.server.notification.constants.NotificationMethodType;
 import com.und.server.notification.constants.NotificationType;
+import com.und.server.notification.dto.TimeNotificationSchedule;
+import com.und.server.notification.dto.response.LocationNotificationResponse;
 import com.und.server.notification.dto.response.ScenarioNotificationResponse;
 import com.und.server.notification.dto.response.TimeNotificationResponse;
+import com.und.server.notification.util.DaysOfWeekMask;
 
 import jakarta.persistence.EntityManager;
 import lombok.Builder;
@@ -18,6 +22,23 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ScenarioRepositoryCustomImpl implements ScenarioRepositoryCustom {
 
+	private static final String TIME_NOTIFICATION_SCHEDULE_SELECT = """
+		SELECT new com.und.server.scenario.repository.ScenarioRepositoryCustomImpl$TimeNotificationScheduleQueryDto(
+			s.member.id,
+			s.id,
+			n.id,
+			s.scenarioName,
+			n.notificationMethodType,
+			n.daysMask,
+			t.startHour,
+			t.startMinute
+		)
+		FROM Scenario s
+		JOIN s.notification n
+		JOIN TimeNotification t ON n.id = t.notification.id
+		WHERE n.notificationType = :timeType
+			AND n.isActive = true
+		""";
 	private final EntityManager em;
 
 	@Override
@@ -30,7 +51,7 @@ public class ScenarioRepositoryCustomImpl implements ScenarioRepositoryCustom {
 				n.id,
 				n.notificationType,
 				n.notificationMethodType,
-				n.daysOfWeek,
+				n.daysMask,
 				t.startHour,
 				t.startMinute
 			)
@@ -53,6 +74,108 @@ public class ScenarioRepositoryCustomImpl implements ScenarioRepositoryCustom {
 	}
 
 
+	@Override
+	public List<ScenarioNotificationResponse> findLocationScenarioNotifications(Long memberId) {
+		String jpql = """
+			SELECT new com.und.server.scenario.repository.ScenarioRepositoryCustomImpl$LocationNotificationQueryDto(
+				s.id,
+				s.scenarioName,
+				s.memo,
+				n.id,
+				n.notificationMethodType,
+				n.daysMask,
+				l.latitude,
+				l.longitude,
+				l.trackingRadiusType,
+				l.startHour,
+				l.startMinute,
+				l.endHour,
+				l.endMinute
+			)
+			FROM Scenario s
+			JOIN s.notification n
+			JOIN LocationNotification l ON n.id = l.notification.id
+			WHERE s.member.id = :memberId
+				AND n.notificationType = :locationType
+				AND n.isActive = true
+			""";
+
+		List<LocationNotificationQueryDto> queryResults = em.createQuery(jpql, LocationNotificationQueryDto.class)
+			.setParameter("memberId", memberId)
+			.setParameter("locationType", NotificationType.LOCATION)
+			.getResultList();
+
+		return queryResults.stream()
+			.map(LocationNotificationQueryDto::toResponse)
+			.toList();
+	}
+
+
+	@Override
+	public List<TimeNotificationSchedule> findActiveTimeNotificationSchedules(Long lastScenarioId, int limit) {
+		String jpql = TIME_NOTIFICATION_SCHEDULE_SELECT + """
+				AND s.id > :lastScenarioId
+			ORDER BY s.id
+			""";
+
+		List<TimeNotificationScheduleQueryDto> queryResults =
+			em.createQuery(jpql, TimeNotificationScheduleQueryDto.class)
+				.setParameter("lastScenarioId", lastScenarioId)
+				.setParameter("timeType", NotificationType.TIME)
+				.setMaxResults(limit)
+				.getResultList();
+
+		return queryResults.stream()
+			.map(TimeNotificationScheduleQueryDto::toSchedule)
+			.toList();
+	}
+
+
+	@Override
+	public List<TimeNotificationSchedule> findActiveTimeNotificationSchedulesDueAt(
+		int dayOfWeekOrdinal, int startHour, int startMinute
+	) {
+		// IN over every mask containing the day keeps the (type, active, days_mask) index usable
+		String jpql = TIME_NOTIFICATION_SCHEDULE_SELECT + """
+				AND n.daysMask IN :daysMasks
+				AND t.startHour = :startHour
+				AND t.startMinute = :startMinute
+			""";
+
+		List<TimeNotificationScheduleQueryDto> queryResults =
+			em.createQuery(jpql, TimeNotificationScheduleQueryDto.class)
+				.setParameter("daysMasks", DaysOfWeekMask.findMasksContaining(dayOfWeekOrdinal))
+				.setParameter("startHour", startHour)
+				.setParameter("startMinute", startMinute)
+				.setParameter("timeType", NotificationType.TIME)
+				.getResultList();
+
+		return queryResults.stream()
+			.map(TimeNotificationScheduleQueryDto::toSchedule)
+			.toList();
+	}
+
+
+	@Override
+	public List<TimeNotificationSchedule> findActiveTimeNotificationSchedulesByNotificationIds(
+		List<Long> notificationIds
+	) {
+		String jpql = TIME_NOTIFICATION_SCHEDULE_SELECT + """
+				AND n.id IN :notificationIds
+			""";
+
+		List<TimeNotificationScheduleQueryDto> queryResults =
+			em.createQuery(jpql, TimeNotificationScheduleQueryDto.class)
+				.setParameter("notificationIds", notificationIds)
+				.setParameter("timeType", NotificationType.TIME)
+				.getResultList();
+
+		return queryResults.stream()
+			.map(TimeNotificationScheduleQueryDto::toSchedule)
+			.toList();
+	}
+
+
 	@Builder
 	public record TimeNotificationQueryDto(
 		Long scenarioId,
@@ -61,18 +184,13 @@ public class ScenarioRepositoryCustomImpl implements ScenarioRepositoryCustom {
 		Long notificationId,
 		NotificationType notificationType,
 		NotificationMethodType notificationMethodType,
-		String daysOfWeek,
+		Integer daysMask,
 		Integer startHour,
 		Integer startMinute
 	) {
 
 		public ScenarioNotificationResponse toResponse() {
-			List<Integer> days = (daysOfWeek == null || daysOfWeek.isBlank())
-				? List.of()
-				: Arrays.stream(daysOfWeek.split(","))
-				.map(String::trim)
-				.map(Integer::parseInt)
-				.toList();
+			List<Integer> days = DaysOfWeekMask.toOrdinals(daysMask);
 
 			TimeNotificationResponse timeNotificationResponse =
 				TimeNotificationResponse.builder()
@@ -94,4 +212,75 @@ public class ScenarioRepositoryCustomImpl implements ScenarioRepositoryCustom {
 		}
 	}
 
+
+	@Builder
+	public record LocationNotificationQueryDto(
+		Long scenarioId,
+		String scenarioName,
+		String memo,
+		Long notificationId,
+		NotificationMethodType notificationMethodType,
+		Integer daysMask,
+		BigDecimal latitude,
+		BigDecimal longitude,
+		LocationTrackingRadiusType trackingRadiusType,
+		Integer startHour,
+		Integer startMinute,
+		Integer endHour,
+		Integer endMinute
+	) {
+
+		public ScenarioNotificationResponse toResponse() {
+			LocationNotificationResponse locationNotificationResponse =
+				LocationNotificationResponse.builder()
+					.notificationType(NotificationType.LOCATION)
+					.latitude(latitude)
+					.longitude(longitude)
+					.trackingRadiusType(trackingRadiusType)
+					.startHour(startHour)
+					.startMinute(startMinute)
+					.endHour(endHour)
+					.endMinute(endMinute)
+					.build();
+
+			return ScenarioNotificationResponse.builder()
+				.scenarioId(scenarioId)
+				.scenarioName(scenarioName)
+				.memo(memo)
+				.notificationId(notificationId)
+				.notificationType(NotificationType.LOCATION)
+				.notificationMethodType(notificationMethodType)
+				.daysOfWeekOrdinal(DaysOfWeekMask.toOrdinals(daysMask))
+				.notificationCondition(locationNotificationResponse)
+				.build();
+		}
+	}
+
+
+	@Builder
+	public record TimeNotificationScheduleQueryDto(
+		Long memberId,
+		Long scenarioId,
+		Long notificationId,
+		String scenarioName,
+		NotificationMethodType notificationMethodType,
+		Integer daysMask,
+		Integer startHour,
+		Integer startMinute
+	) {
+
+		public TimeNotificationSchedule toSchedule() {
+			return TimeNotificationSchedule.builder()
+				.memberId(memberId)
+				.scenarioId(scenarioId)
+				.notificationId(notificationId)
+				.scenarioName(scenarioName)
+				.notificationMethodType(notificationMethodType)
+				.daysOfWeekOrdinal(DaysOfWeekMask.toOrdinals(daysMask))
+				.startHour(startHour)
+				.startMinute(startMinute)
+				.build();
+		}
+	}
+
 }
@@ -0,0 +1,50 @@
+package com.und.server.scenario.scheduler;
+
+import java.util.List;
+
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.und.server.scenario.dto.PendingMissionChecks;
+import com.und.server.scenario.service.MissionCheckFlushService;
+import com.und.server.scenario.util.MissionCheckBuffer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class MissionCheckFlushScheduler {
+
+	private static final int FLUSH_BATCH_SIZE = 500;
+	private final MissionCheckBuffer missionCheckBuffer;
+	private final MissionCheckFlushService missionCheckFlushService;
+
+
+	/**
+	 * Every 5s - 버퍼에 쌓인 미션 체크 상태 DB 반영
+	 */
+	@Scheduled(fixedDelay = 5_000)
+	public void flushDirtyChecks() {
+		List<PendingMissionChecks> dirty;
+		try {
+			dirty = missionCheckBuffer.findDirty(FLUSH_BATCH_SIZE);
+		} catch (RedisSystemException | RedisConnectionFailureException e) {
+			log.error("[MISSION CHECK] Failed to load buffered mission checks", e);
+			return;
+		}
+
+		for (PendingMissionChecks pending : dirty) {
+			try {
+				missionCheckFlushService.flush(pending);
+			} catch (Exception e) {
+				log.error("[MISSION CHECK] Failed to flush mission checks: memberId={}, date={}",
+					pending.memberId(), pending.date(), e);
+			}
+		}
+	}
+
+}
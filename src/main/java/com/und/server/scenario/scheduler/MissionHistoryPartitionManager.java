@@ -0,0 +1,130 @@
+package com.und.server.scenario.scheduler;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps one MySQL partition per day of mission history, so expiry drops whole partitions instead of deleting rows.
+ * Partition {@code pYYYYMMDD} holds that day only, except the oldest one which also holds everything before it.
+ * Every node runs the maintenance, but only the one holding the Redis lock changes the partitions.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "mission.history.expiry-mode", havingValue = "partition")
+public class MissionHistoryPartitionManager {
+
+	private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+	private static final int MONTHS_TO_SUBTRACT = 1;
+	private static final int DAYS_AHEAD = 3;
+	private static final String LOCK_KEY = "mission:history:partition-lock";
+	private static final Duration LOCK_TTL = Duration.ofMinutes(10);
+	private static final DateTimeFormatter PARTITION_NAME_FORMAT = DateTimeFormatter.ofPattern("'p'uuuuMMdd");
+	private static final String FIND_PARTITIONS_SQL = """
+		SELECT partition_name FROM information_schema.partitions
+		WHERE table_schema = DATABASE()
+			AND table_name = 'mission_history'
+			AND partition_name <> 'pmax'
+		""";
+	private final JdbcTemplate jdbcTemplate;
+	private final StringRedisTemplate stringRedisTemplate;
+	private final Clock clock;
+
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void prepare() {
+		maintainPartitions();
+	}
+
+
+	/**
+	 * Daily at 4 AM (04:00) - 미션 기록 파티션 추가 및 만료 파티션 삭제
+	 */
+	@Scheduled(cron = "0 0 4 * * *", zone = "Asia/Seoul")
+	public synchronized void maintainPartitions() {
+		LocalDate today = LocalDate.now(clock.withZone(ZONE_ID));
+		LocalDate expireBefore = today.minusMonths(MONTHS_TO_SUBTRACT);
+		if (!tryLock()) {
+			return;
+		}
+
+		try {
+			List<LocalDate> partitionDays = jdbcTemplate.queryForList(FIND_PARTITIONS_SQL, String.class).stream()
+				.map(name -> LocalDate.parse(name, PARTITION_NAME_FORMAT))
+				.sorted()
+				.toList();
+
+			addPartitions(partitionDays, expireBefore, today.plusDays(DAYS_AHEAD));
+			dropPartitions(partitionDays, expireBefore);
+		} catch (DataAccessException e) {
+			log.error("[MISSION HISTORY] Partition maintenance failed. expireBefore={}", expireBefore, e);
+		}
+	}
+
+	// the lock is left to expire, so nodes starting or firing within the same window skip the run
+	private boolean tryLock() {
+		try {
+			return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY, "1", LOCK_TTL));
+		} catch (RedisSystemException | RedisConnectionFailureException e) {
+			log.error("[MISSION HISTORY] Failed to lock partition maintenance", e);
+			return false;
+		}
+	}
+
+	private void addPartitions(
+		final List<LocalDate> partitionDays, final LocalDate expireBefore, final LocalDate lastDay
+	) {
+		// the first partition also catches rows older than the retention window and is dropped on the next run
+		LocalDate day = partitionDays.isEmpty()
+			? expireBefore.minusDays(1)
+			: partitionDays.get(partitionDays.size() - 1).plusDays(1);
+
+		List<String> definitions = new ArrayList<>();
+		for (; !day.isAfter(lastDay); day = day.plusDays(1)) {
+			definitions.add("PARTITION " + day.format(PARTITION_NAME_FORMAT)
+				+ " VALUES LESS THAN ('" + day.plusDays(1) + "')");
+		}
+		if (definitions.isEmpty()) {
+			return;
+		}
+
+		definitions.add("PARTITION pmax VALUES LESS THAN (MAXVALUE)");
+		jdbcTemplate.execute("ALTER TABLE mission_history REORGANIZE PARTITION pmax INTO ("
+			+ String.join(", ", definitions) + ")");
+		log.info("[MISSION HISTORY] Added partitions until {}", lastDay);
+	}
+
+	private void dropPartitions(final List<LocalDate> partitionDays, final LocalDate expireBefore) {
+		String expired = partitionDays.stream()
+			.filter(day -> day.isBefore(expireBefore))
+			.map(day -> day.format(PARTITION_NAME_FORMAT))
+			.collect(Collectors.joining(", "));
+		if (expired.isEmpty()) {
+			return;
+		}
+
+		jdbcTemplate.execute("ALTER TABLE mission_history DROP PARTITION " + expired);
+		log.info("[MISSION HISTORY] Dropped expired partitions: {}", expired);
+	}
+
+}
@@ -0,0 +1,104 @@
+package com.und.server.scenario.scheduler;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.und.server.common.config.AsyncConfig;
+import com.und.server.scenario.config.MissionRolloverProperties;
+import com.und.server.scenario.repository.ScenarioRepository;
+import com.und.server.scenario.service.MissionRolloverService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+public class MissionRolloverSweeper {
+
+	private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+	private static final long SWEEP_INTERVAL_MILLIS = 10_000L;
+	private static final long NO_CURSOR = -1L;
+	private final ScenarioRepository scenarioRepository;
+	private final MissionRolloverService missionRolloverService;
+	private final MissionRolloverProperties properties;
+	private final Executor executor;
+	private final Clock clock;
+	private final Counter rolledCounter;
+	private final Counter failedCounter;
+	private final AtomicBoolean sweeping = new AtomicBoolean();
+	private long cursor = NO_CURSOR;
+
+	public MissionRolloverSweeper(
+		final ScenarioRepository scenarioRepository,
+		final MissionRolloverService missionRolloverService,
+		final MissionRolloverProperties properties,
+		@Qualifier(AsyncConfig.MISSION_ROLLOVER_EXECUTOR) final Executor executor,
+		final MeterRegistry meterRegistry,
+		final Clock clock
+	) {
+		this.scenarioRepository = scenarioRepository;
+		this.missionRolloverService = missionRolloverService;
+		this.properties = properties;
+		this.executor = executor;
+		this.clock = clock;
+		this.rolledCounter = meterRegistry.counter("mission.rollover.swept");
+		this.failedCounter = meterRegistry.counter("mission.rollover.failed");
+	}
+
+
+	/**
+	 * Every 10s - 오늘 접근되지 않은 시나리오의 미션 롤오버를 배치 단위로 처리
+	 * The batch runs on the rollover executor; the shared scheduler thread only starts it and never waits.
+	 * Each node walks the stale scenarios with its own keyset cursor from a random start, so nodes take different
+	 * batches instead of all selecting the same lowest ids, and rows another node rolled drop out of the range.
+	 */
+	@Scheduled(fixedDelay = SWEEP_INTERVAL_MILLIS)
+	public void sweep() {
+		if (!sweeping.compareAndSet(false, true)) {
+			return;
+		}
+
+		List<Long> scenarioIds;
+		try {
+			LocalDate today = LocalDate.now(clock.withZone(ZONE_ID));
+			if (cursor == NO_CURSOR) {
+				cursor = ThreadLocalRandom.current().nextLong(scenarioRepository.findMaxId() + 1);
+			}
+			scenarioIds = scenarioRepository.findIdsToRollover(today, cursor, Limit.of(properties.sweepBatchSize()));
+			// a short batch reached the end of the ids, so the next sweep starts over from the lowest one
+			cursor = scenarioIds.size() < properties.sweepBatchSize() ? 0L : scenarioIds.get(scenarioIds.size() - 1);
+		} catch (RuntimeException e) {
+			sweeping.set(false);
+			throw e;
+		}
+
+		CompletableFuture.allOf(scenarioIds.stream()
+				.map(scenarioId -> CompletableFuture.runAsync(() -> rollover(scenarioId), executor))
+				.toArray(CompletableFuture[]::new))
+			.whenComplete((result, error) -> sweeping.set(false));
+	}
+
+	private void rollover(final Long scenarioId) {
+		try {
+			if (missionRolloverService.rolloverIfStale(scenarioId)) {
+				rolledCounter.increment();
+			}
+		} catch (Exception e) {
+			failedCounter.increment();
+			log.warn("[MISSION ROLLOVER] Failed to roll over scenarioId={}", scenarioId, e);
+		}
+	}
+
+}
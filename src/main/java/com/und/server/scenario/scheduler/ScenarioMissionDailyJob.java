@@ -2,74 +2,101 @@ package com.und.server.scenario.scheduler;
 
 import java.time.Clock;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import com.und.server.scenario.repository.MissionRepository;
+import com.und.server.scenario.entity.MissionDailyJobCheckpoint;
+import com.und.server.scenario.repository.MissionDailyJobCheckpointRepository;
+import com.und.server.scenario.repository.MissionHistoryRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Deletes expired mission history in chunks, each committed in its own transaction together with the day's checkpoint,
+ * so row locks are held for one chunk only and an interrupted run resumes on startup.
+ */
 @Component
 @Slf4j
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "mission.history.expiry-mode", havingValue = "delete", matchIfMissing = true)
 public class ScenarioMissionDailyJob {
 
+	private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
 	private static final int DEFAULT_DELETE_LIMIT = 10_000;
-	private static final int DAYS_TO_SUBTRACT = 1;
 	private static final int MONTHS_TO_SUBTRACT = 1;
-	private final MissionRepository missionRepository;
+	private final MissionHistoryRepository missionHistoryRepository;
+	private final MissionDailyJobCheckpointRepository checkpointRepository;
+	private final TransactionTemplate transactionTemplate;
 	private final Clock clock;
 
 	/**
-	 * Daily job at midnight (00:00) - BASIC 미션 백업, DEFAULT BASIC 미션 체크상태 리셋
+	 * Daily cleanup job at 1 AM (01:00) - 기간 만료 미션 기록 삭제
 	 */
-	@Scheduled(cron = "0 0 0 * * *", zone = "Asia/Seoul")
-	@Transactional
-	public void runDailyBackupJob() {
-		LocalDate today = LocalDate.now(clock.withZone(ZoneId.of("Asia/Seoul")));
-		LocalDate yesterday = today.minusDays(DAYS_TO_SUBTRACT);
-
-		try {
-			int cloned = missionRepository.bulkCloneBasicToYesterday(yesterday);
-			int reset = missionRepository.bulkResetBasicIsChecked(today);
-			int deleteChildBasic = missionRepository.deleteTodayChildBasics(today);
-
-			log.info("[MISSION DAILY] Daily Mission Job: cloned={}, reset={} deleteChildBasic={}",
-				cloned, reset, deleteChildBasic);
-		} catch (Exception e) {
-			log.error("[MISSION DAILY] Backup and reset failed, rolling back", e);
-			throw e;
+	@Scheduled(cron = "0 0 1 * * *", zone = "Asia/Seoul")
+	public void runExpiredMissionCleanupJob() {
+		LocalDate today = LocalDate.now(clock.withZone(ZONE_ID));
+		boolean completed = checkpointRepository.findById(today)
+			.map(MissionDailyJobCheckpoint::isCompleted)
+			.orElse(false);
+		if (!completed) {
+			cleanup(today, today.minusMonths(MONTHS_TO_SUBTRACT));
 		}
 	}
 
+
 	/**
-	 * Daily cleanup job at 1 AM (01:00) - 기간 만료 미션 삭제
+	 * On startup - 중단된 오늘자 만료 미션 기록 삭제 재개
 	 */
-	@Scheduled(cron = "0 0 1 * * *", zone = "Asia/Seoul")
-	@Transactional
-	public void runExpiredMissionCleanupJob() {
-		LocalDate today = LocalDate.now(clock.withZone(ZoneId.of("Asia/Seoul")));
-		LocalDate expireBefore = today.minusMonths(MONTHS_TO_SUBTRACT);
+	@EventListener(ApplicationReadyEvent.class)
+	public void resumeExpiredMissionCleanupJob() {
+		LocalDate today = LocalDate.now(clock.withZone(ZONE_ID));
+		checkpointRepository.findById(today)
+			.filter(checkpoint -> !checkpoint.isCompleted())
+			.ifPresent(checkpoint -> cleanup(today, checkpoint.getExpireBefore()));
+	}
 
+	private synchronized void cleanup(final LocalDate jobDate, final LocalDate expireBefore) {
 		int totalDeleted = 0;
 
 		try {
 			int batchDeleted;
 
 			do {
-				batchDeleted = missionRepository.bulkDeleteExpired(expireBefore, DEFAULT_DELETE_LIMIT);
+				batchDeleted = transactionTemplate.execute(status -> deleteChunk(jobDate, expireBefore));
 				totalDeleted += batchDeleted;
 			} while (batchDeleted == DEFAULT_DELETE_LIMIT);
 
-			log.info("[MISSION DAILY] Expired mission cleanup completed: deleted={}", totalDeleted);
+			log.info("[MISSION DAILY] Expired mission history cleanup completed: deleted={}", totalDeleted);
 		} catch (Exception e) {
-			log.error("[MISSION DAILY] Expired mission cleanup failed. expireBefore={}, deletedUntilError={}",
+			log.error("[MISSION DAILY] Expired mission history cleanup failed. expireBefore={}, deletedUntilError={}",
 				expireBefore, totalDeleted, e);
 		}
 	}
 
+	private int deleteChunk(final LocalDate jobDate, final LocalDate expireBefore) {
+		int deleted = missionHistoryRepository.bulkDeleteExpired(expireBefore, DEFAULT_DELETE_LIMIT);
+
+		MissionDailyJobCheckpoint checkpoint = checkpointRepository.findById(jobDate)
+			.orElseGet(() -> MissionDailyJobCheckpoint.builder()
+				.jobDate(jobDate)
+				.expireBefore(expireBefore)
+				.deletedCount(0L)
+				.build());
+		checkpoint.addDeleted(deleted);
+		if (deleted < DEFAULT_DELETE_LIMIT) {
+			checkpoint.complete(LocalDateTime.now(clock.withZone(ZONE_ID)));
+		}
+		checkpointRepository.save(checkpoint);
+
+		return deleted;
+	}
+
 }
@@ -0,0 +1,50 @@
+package com.und.server.scenario.scheduler;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.und.server.scenario.repository.ScenarioRepository;
+import com.und.server.scenario.service.ScenarioOrderRebalanceService;
+import com.und.server.scenario.util.OrderCalculator;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ScenarioOrderRebalanceScheduler {
+
+	private static final int MEMBER_BATCH_SIZE = 500;
+	private final ScenarioRepository scenarioRepository;
+	private final ScenarioOrderRebalanceService scenarioOrderRebalanceService;
+
+
+	/**
+	 * Every day 04:30 - 길어진 시나리오 순서 키를 회원 단위로 균등 재배치
+	 */
+	@Scheduled(cron = "0 30 4 * * *", zone = "Asia/Seoul")
+	public void rebalanceLongOrders() {
+		Long lastMemberId = 0L;
+		int rebalanced = 0;
+		List<Long> memberIds;
+		do {
+			memberIds = scenarioRepository.findMemberIdsWithOrderLongerThan(
+				lastMemberId, OrderCalculator.REBALANCE_ORDER_LENGTH, Limit.of(MEMBER_BATCH_SIZE));
+			for (Long memberId : memberIds) {
+				try {
+					rebalanced += scenarioOrderRebalanceService.rebalance(memberId);
+				} catch (Exception e) {
+					log.error("[SCENARIO ORDER] Failed to rebalance scenario orders: memberId={}", memberId, e);
+				}
+			}
+			lastMemberId = memberIds.isEmpty() ? lastMemberId : memberIds.get(memberIds.size() - 1);
+		} while (memberIds.size() == MEMBER_BATCH_SIZE);
+
+		log.info("[SCENARIO ORDER] Rebalanced scenario orders: size={}", rebalanced);
+	}
+
+}
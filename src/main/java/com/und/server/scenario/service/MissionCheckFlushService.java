@@ -0,0 +1,103 @@
+package com.und.server.scenario.service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.und.server.scenario.dto.PendingMissionChecks;
+import com.und.server.scenario.util.MissionCheckBuffer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class MissionCheckFlushService {
+
+	private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+	// a scenario not yet rolled over to the toggle's day matches nothing, so the toggle waits for the rollover
+	private static final String UPDATE_CHECK_SQL = """
+		UPDATE mission
+		SET is_checked = ?
+		WHERE id = ?
+			AND parent_mission_id IS NULL
+			AND (use_date IS NULL OR use_date = ?)
+			AND scenario_id IN (SELECT s.id FROM scenario s WHERE s.member_id = ? AND s.last_rolled_date = ?)
+		""";
+	private final MissionCheckBuffer missionCheckBuffer;
+	private final JdbcTemplate jdbcTemplate;
+	private final MeterRegistry meterRegistry;
+	private final Clock clock;
+
+
+	@Transactional
+	public void flush(final Long memberId, final LocalDate date) {
+		flush(missionCheckBuffer.find(memberId, date));
+	}
+
+
+	@Transactional
+	public void flush(final PendingMissionChecks pending) {
+		List<Map.Entry<Long, Boolean>> checks = List.copyOf(pending.checks().entrySet());
+		int[] updatedCounts = jdbcTemplate.batchUpdate(UPDATE_CHECK_SQL, checks.stream()
+			.map(check -> new Object[] {
+				check.getValue(), check.getKey(), pending.date(), pending.memberId(), pending.date()})
+			.toList());
+
+		Map<Long, Boolean> settled = new HashMap<>();
+		Map<Long, Boolean> dropped = new HashMap<>();
+		boolean expired = pending.date().isBefore(LocalDate.now(clock.withZone(ZONE_ID)));
+		for (int i = 0; i < checks.size(); i++) {
+			if (updatedCounts[i] == 0 && !expired) {
+				continue;
+			}
+			settled.put(checks.get(i).getKey(), checks.get(i).getValue());
+			if (updatedCounts[i] == 0) {
+				dropped.put(checks.get(i).getKey(), checks.get(i).getValue());
+			}
+		}
+		recordDropped(pending, dropped);
+		// written and dropped toggles both leave the buffer; unmatched toggles of today wait for the rollover
+		acknowledgeAfterCommit(pending.withChecks(settled));
+	}
+
+	/**
+	 * A toggle of a past day can no longer land and is removed from the buffer without being written.
+	 * This happens when its mission was deleted, or when the toggle was buffered before the sweeper rolled the
+	 * scenario over to that day and midnight passed first. The window stays open until the scenario is read or a
+	 * sweeper reaches it, which after midnight can take many sweeps when most scenarios are stale at once.
+	 */
+	private void recordDropped(final PendingMissionChecks pending, final Map<Long, Boolean> dropped) {
+		if (dropped.isEmpty()) {
+			return;
+		}
+		meterRegistry.counter("mission.check.dropped").increment(dropped.size());
+		log.warn("[MISSION CHECK] Dropped {} buffered toggles memberId={} date={} missionIds={}",
+			dropped.size(), pending.memberId(), pending.date(), dropped.keySet());
+	}
+
+	private void acknowledgeAfterCommit(final PendingMissionChecks flushed) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			missionCheckBuffer.acknowledge(flushed);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				missionCheckBuffer.acknowledge(flushed);
+			}
+		});
+	}
+
+}
@@ -0,0 +1,248 @@
+package com.und.server.scenario.service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.und.server.common.exception.ServerException;
+import com.und.server.scenario.constants.MissionSearchType;
+import com.und.server.scenario.constants.MissionType;
+import com.und.server.scenario.dto.request.MissionCheckRequest;
+import com.und.server.scenario.entity.Mission;
+import com.und.server.scenario.entity.MissionHistory;
+import com.und.server.scenario.event.ScenarioEventPublisher;
+import com.und.server.scenario.exception.ScenarioErrorResult;
+import com.und.server.scenario.repository.MissionHistoryRepository;
+import com.und.server.scenario.repository.MissionRepository;
+import com.und.server.scenario.util.MissionCheckBuffer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class MissionCheckService {
+
+	private final MissionRepository missionRepository;
+	private final MissionHistoryRepository missionHistoryRepository;
+	private final MissionRolloverService missionRolloverService;
+	private final MissionCheckBuffer missionCheckBuffer;
+	private final ScenarioEventPublisher scenarioEventPublisher;
+	private final TransactionTemplate transactionTemplate;
+	private final Clock clock;
+
+
+	public void updateMissionCheck(
+		final Long memberId,
+		final Long missionId,
+		final Boolean isChecked,
+		final LocalDate date
+	) {
+		executeRetryingOnDuplicateChild(() -> applyMissionCheck(memberId, missionId, isChecked, date));
+	}
+
+	public void updateMissionChecks(
+		final Long memberId,
+		final List<MissionCheckRequest> missionChecks,
+		final LocalDate date
+	) {
+		executeRetryingOnDuplicateChild(() -> applyMissionChecks(memberId, missionChecks, date));
+	}
+
+	// a concurrent request may insert the same future child first; the retry re-reads it instead of inserting
+	private void executeRetryingOnDuplicateChild(final Runnable update) {
+		try {
+			transactionTemplate.executeWithoutResult(status -> update.run());
+		} catch (DataIntegrityViolationException e) {
+			log.info("Future child mission created concurrently, retrying mission check");
+			transactionTemplate.executeWithoutResult(status -> update.run());
+		}
+	}
+
+	private void applyMissionCheck(
+		final Long memberId,
+		final Long missionId,
+		final Boolean isChecked,
+		final LocalDate date
+	) {
+		LocalDate today = LocalDate.now(clock.withZone(ZoneId.of("Asia/Seoul")));
+		MissionSearchType missionSearchType = MissionSearchType.getMissionSearchType(today, date);
+
+		if (missionSearchType == MissionSearchType.PAST) {
+			updatePastMissionCheck(memberId, missionId, isChecked);
+			return;
+		}
+		if (missionSearchType == MissionSearchType.TODAY && bufferMissionCheck(memberId, missionId, isChecked, today)) {
+			scenarioEventPublisher.publishMissionCacheEvictEvent(memberId);
+			return;
+		}
+
+		missionRolloverService.rolloverIfStaleByMissionId(memberId, missionId);
+		Mission mission = missionRepository.findByIdAndScenarioMemberId(missionId, memberId)
+			.orElseThrow(() -> new ServerException(ScenarioErrorResult.NOT_FOUND_MISSION));
+
+		if (mission.getMissionType() == MissionType.BASIC && missionSearchType == MissionSearchType.FUTURE) {
+			updateFutureBasicMission(mission, isChecked, date);
+			return;
+		}
+		mission.updateCheckStatus(isChecked);
+		if (missionSearchType == MissionSearchType.TODAY) {
+			scenarioEventPublisher.publishMissionCacheEvictEvent(memberId);
+		}
+	}
+
+	private void applyMissionChecks(
+		final Long memberId,
+		final List<MissionCheckRequest> missionChecks,
+		final LocalDate date
+	) {
+		Map<Long, Boolean> checks = new LinkedHashMap<>();
+		missionChecks.forEach(missionCheck -> checks.put(missionCheck.missionId(), missionCheck.isChecked()));
+
+		LocalDate today = LocalDate.now(clock.withZone(ZoneId.of("Asia/Seoul")));
+		MissionSearchType missionSearchType = MissionSearchType.getMissionSearchType(today, date);
+
+		if (missionSearchType == MissionSearchType.PAST) {
+			checks.forEach((missionId, isChecked) -> updatePastMissionCheck(memberId, missionId, isChecked));
+			return;
+		}
+
+		List<Mission> missions = missionRepository.findAllByIdInAndScenarioMemberId(checks.keySet(), memberId);
+		if (missions.size() != checks.size()) {
+			throw new ServerException(ScenarioErrorResult.NOT_FOUND_MISSION);
+		}
+		if (missionSearchType == MissionSearchType.TODAY && bufferMissionChecks(memberId, checks, today)) {
+			scenarioEventPublisher.publishMissionCacheEvictEvent(memberId);
+			return;
+		}
+
+		missions.stream()
+			.map(mission -> mission.getScenario().getId())
+			.distinct()
+			.forEach(scenarioId -> missionRolloverService.rolloverIfStale(memberId, scenarioId));
+
+		Map<Boolean, List<Mission>> missionsByFutureBasic = missions.stream()
+			.collect(Collectors.partitioningBy(
+				mission -> mission.getMissionType() == MissionType.BASIC
+					&& missionSearchType == MissionSearchType.FUTURE));
+
+		updateFutureBasicMissions(missionsByFutureBasic.get(true), checks, date);
+		updateCheckStatuses(missionsByFutureBasic.get(false).stream().map(Mission::getId).toList(), checks);
+		if (missionSearchType == MissionSearchType.TODAY) {
+			scenarioEventPublisher.publishMissionCacheEvictEvent(memberId);
+		}
+	}
+
+	private boolean bufferMissionChecks(final Long memberId, final Map<Long, Boolean> checks, final LocalDate today) {
+		try {
+			missionCheckBuffer.recordAll(memberId, today, checks);
+			return true;
+		} catch (RedisSystemException | RedisConnectionFailureException e) {
+			log.warn("Failed to buffer mission checks, writing through size={}", checks.size(), e);
+			return false;
+		}
+	}
+
+	private void updateFutureBasicMissions(
+		final List<Mission> parentMissions, final Map<Long, Boolean> checks, final LocalDate date
+	) {
+		Map<Boolean, List<Mission>> parentMissionsByChecked = parentMissions.stream()
+			.filter(mission -> mission.getParentMissionId() == null && mission.getUseDate() == null)
+			.collect(Collectors.partitioningBy(mission -> checks.get(mission.getId())));
+
+		List<Long> checkedParentIds = parentMissionsByChecked.get(true).stream().map(Mission::getId).toList();
+		if (!checkedParentIds.isEmpty()) {
+			Set<Long> existingParentIds = missionRepository
+				.findAllByParentMissionIdInAndUseDate(checkedParentIds, date).stream()
+				.map(Mission::getParentMissionId)
+				.collect(Collectors.toSet());
+			missionRepository.saveAllAndFlush(parentMissionsByChecked.get(true).stream()
+				.filter(mission -> !existingParentIds.contains(mission.getId()))
+				.map(mission -> mission.createFutureChildMission(true, date))
+				.toList());
+		}
+
+		List<Long> uncheckedParentIds = parentMissionsByChecked.get(false).stream().map(Mission::getId).toList();
+		if (!uncheckedParentIds.isEmpty()) {
+			missionRepository.deleteFutureChildMissions(uncheckedParentIds, date);
+		}
+	}
+
+	private void updateCheckStatuses(final List<Long> missionIds, final Map<Long, Boolean> checks) {
+		if (missionIds.isEmpty()) {
+			return;
+		}
+
+		List<Long> checkedIds = missionIds.stream().filter(checks::get).toList();
+		// a TODAY mission archived by the rollover above is no longer live
+		if (missionRepository.updateCheckStatuses(missionIds, checkedIds) != missionIds.size()) {
+			throw new ServerException(ScenarioErrorResult.NOT_FOUND_MISSION);
+		}
+	}
+
+	private boolean bufferMissionCheck(
+		final Long memberId, final Long missionId, final Boolean isChecked, final LocalDate today
+	) {
+		if (!missionRepository.existsByIdAndScenarioMemberId(missionId, memberId)) {
+			throw new ServerException(ScenarioErrorResult.NOT_FOUND_MISSION);
+		}
+
+		try {
+			missionCheckBuffer.record(memberId, today, missionId, isChecked);
+			return true;
+		} catch (RedisSystemException | RedisConnectionFailureException e) {
+			log.warn("Failed to buffer mission check, writing through missionId={}", missionId, e);
+			return false;
+		}
+	}
+
+	private void updatePastMissionCheck(final Long memberId, final Long missionId, final Boolean isChecked) {
+		Optional<MissionHistory> missionHistory = missionHistoryRepository.findByIdAndScenarioMemberId(
+			missionId, memberId);
+		if (missionHistory.isEmpty()) {
+			// a TODAY mission of a past day stays live until its scenario rolls over
+			missionRolloverService.rolloverIfStaleByMissionId(memberId, missionId);
+			missionHistory = missionHistoryRepository.findByIdAndScenarioMemberId(missionId, memberId);
+		}
+
+		missionHistory
+			.orElseThrow(() -> new ServerException(ScenarioErrorResult.NOT_FOUND_MISSION))
+			.updateCheckStatus(isChecked);
+	}
+
+	private void updateFutureBasicMission(
+		final Mission mission,
+		final Boolean isChecked,
+		final LocalDate date
+	) {
+		missionRepository.findByParentMissionIdAndUseDate(mission.getId(), date)
+			.ifPresentOrElse(
+				future -> {
+					if (isChecked) {
+						future.updateCheckStatus(true);
+					} else {
+						missionRepository.delete(future);
+					}
+				},
+				() -> {
+					if (isChecked) {
+						missionRepository.saveAndFlush(mission.createFutureChildMission(true, date));
+					}
+				}
+			);
+	}
+
+}
@@ -0,0 +1,104 @@
+package com.und.server.scenario.service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.und.server.common.exception.ServerException;
+import com.und.server.scenario.entity.Scenario;
+import com.und.server.scenario.exception.ScenarioErrorResult;
+import com.und.server.scenario.repository.MissionHistoryRepository;
+import com.und.server.scenario.repository.MissionRepository;
+import com.und.server.scenario.repository.ScenarioRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Rolls a scenario's BASIC missions over to today on first access instead of in a nightly bulk job.
+ * A plain read skips scenarios already rolled today; only stale ones take the row lock,
+ * so concurrent requests and the sweeper still roll each scenario once per day.
+ */
+@Service
+@RequiredArgsConstructor
+public class MissionRolloverService {
+
+	private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+	private static final int HISTORY_MONTHS = 1;
+	private final ScenarioRepository scenarioRepository;
+	private final MissionRepository missionRepository;
+	private final MissionHistoryRepository missionHistoryRepository;
+	private final MissionCheckFlushService missionCheckFlushService;
+	private final Clock clock;
+
+
+	@Transactional
+	public boolean rolloverIfStale(final Long scenarioId) {
+		Scenario scenario = scenarioRepository.findWithLockById(scenarioId)
+			.orElseThrow(() -> new ServerException(ScenarioErrorResult.NOT_FOUND_SCENARIO));
+
+		return rollover(scenario);
+	}
+
+
+	@Transactional
+	public void rolloverIfStale(final Long memberId, final Long scenarioId) {
+		if (scenarioRepository.existsByIdAndMemberIdAndLastRolledDateGreaterThanEqual(scenarioId, memberId, today())) {
+			return;
+		}
+		Scenario scenario = scenarioRepository.findWithLockByIdAndMemberId(scenarioId, memberId)
+			.orElseThrow(() -> new ServerException(ScenarioErrorResult.NOT_FOUND_SCENARIO));
+
+		rollover(scenario);
+	}
+
+
+	@Transactional
+	public void rolloverIfStaleByMissionId(final Long memberId, final Long missionId) {
+		if (scenarioRepository.existsRolledByMissionIdAndMemberId(missionId, memberId, today())) {
+			return;
+		}
+		Scenario scenario = scenarioRepository.findWithLockByMissionIdAndMemberId(missionId, memberId)
+			.orElseThrow(() -> new ServerException(ScenarioErrorResult.NOT_FOUND_MISSION));
+
+		rollover(scenario);
+	}
+
+	private LocalDate today() {
+		return LocalDate.now(clock.withZone(ZONE_ID));
+	}
+
+	private boolean rollover(final Scenario scenario) {
+		LocalDate today = today();
+		// re-read under the lock, an entity loaded earlier in this transaction may predate another rollover
+		LocalDate lastRolledDate = scenarioRepository.findLastRolledDateById(scenario.getId());
+		if (!lastRolledDate.isBefore(today)) {
+			return false;
+		}
+
+		missionCheckFlushService.flush(scenario.getMember().getId(), lastRolledDate);
+		snapshotHistory(scenario.getId(), lastRolledDate, today);
+		missionRepository.resetBasicIsChecked(scenario.getId(), today);
+		missionRepository.deleteChildBasicsUntil(scenario.getId(), today);
+		missionHistoryRepository.archiveTodayMissionsBefore(scenario.getId(), today);
+		missionRepository.deleteTodayMissionsBefore(scenario.getId(), today);
+		scenarioRepository.updateLastRolledDate(scenario.getId(), today);
+		return true;
+	}
+
+	private void snapshotHistory(final Long scenarioId, final LocalDate lastRolledDate, final LocalDate today) {
+		LocalDate historyStart = today.minusMonths(HISTORY_MONTHS);
+		if (!lastRolledDate.isBefore(historyStart)) {
+			missionHistoryRepository.snapshotBasicMissions(scenarioId, lastRolledDate);
+		}
+
+		// days nobody opened the scenario keep only what was checked ahead of time
+		LocalDate date = lastRolledDate.plusDays(1).isBefore(historyStart) ? historyStart : lastRolledDate.plusDays(1);
+		for (; date.isBefore(today); date = date.plusDays(1)) {
+			missionHistoryRepository.snapshotFutureCheckedBasicMissions(scenarioId, date);
+		}
+	}
+
+}
@@ -6,6 +6,7 @@ import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -20,13 +21,16 @@ import com.und.server.scenario.dto.request.TodayMissionRequest;
 import com.und.server.scenario.dto.response.MissionGroupResponse;
 import com.und.server.scenario.dto.response.MissionResponse;
 import com.und.server.scenario.entity.Mission;
+import com.und.server.scenario.entity.MissionHistory;
 import com.und.server.scenario.entity.Scenario;
+import com.und.server.scenario.event.ScenarioEventPublisher;
 import com.und.server.scenario.exception.ScenarioErrorResult;
+import com.und.server.scenario.repository.MissionHistoryRepository;
 import com.und.server.scenario.repository.MissionRepository;
+import com.und.server.scenario.util.MissionCheckBuffer;
 import com.und.server.scenario.util.MissionTypeGroupSorter;
 import com.und.server.scenario.util.MissionValidator;
 import com.und.server.scenario.util.OrderCalculator;
-import com.und.server.scenario.util.ScenarioValidator;
 
 import lombok.RequiredArgsConstructor;
 
@@ -35,22 +39,35 @@ import lombok.RequiredArgsConstructor;
 public class MissionService {
 
 	private final MissionRepository missionRepository;
+	private final MissionHistoryRepository missionHistoryRepository;
 	private final MissionTypeGroupSorter missionTypeGroupSorter;
-	private final ScenarioValidator scenarioValidator;
+	private final MissionRolloverService missionRolloverService;
 	private final MissionValidator missionValidator;
+	private final OrderCalculator orderCalculator;
+	private final MissionCheckBuffer missionCheckBuffer;
+	private final ScenarioEventPublisher scenarioEventPublisher;
 	private final Clock clock;
 
 
-	@Transactional(readOnly = true)
+	@Transactional
 	public MissionGroupResponse findMissionsByScenarioId(
 		final Long memberId, final Long scenarioId, final LocalDate date
 	) {
-		scenarioValidator.validateScenarioExists(scenarioId);
+		missionRolloverService.rolloverIfStale(memberId, scenarioId);
 
 		LocalDate today = LocalDate.now(clock.withZone(ZoneId.of("Asia/Seoul")));
 		MissionSearchType missionSearchType = MissionSearchType.getMissionSearchType(today, date);
 
-		List<Mission> missions = getMissionsByDate(missionSearchType, memberId, scenarioId, date);
+		if (missionSearchType == MissionSearchType.PAST) {
+			return MissionGroupResponse.historyFrom(
+				scenarioId, missionHistoryRepository.findHistories(memberId, scenarioId, date));
+		}
+
+		// read the buffer first, a toggle flushed in between is then already in the database
+		Map<Long, Boolean> bufferedChecks = missionSearchType == MissionSearchType.TODAY
+			? missionCheckBuffer.findChecks(memberId, today)
+			: Map.of();
+		List<Mission> missions = missionRepository.findTodayAndFutureMissions(memberId, scenarioId, date);
 
 		if (missions == null || missions.isEmpty()) {
 			return MissionGroupResponse.from(scenarioId, List.of(), List.of());
@@ -65,7 +82,7 @@ public class MissionService {
 			return MissionGroupResponse.futureFrom(
 				scenarioId, getFutureCheckStatusMissions(groupedBasicMissions), groupedTodayMissions);
 		}
-		return MissionGroupResponse.from(scenarioId, groupedBasicMissions, groupedTodayMissions);
+		return MissionGroupResponse.from(scenarioId, groupedBasicMissions, groupedTodayMissions, bufferedChecks);
 	}
 
 
@@ -77,10 +94,9 @@ public class MissionService {
 
 		List<Mission> missions = new ArrayList<>();
 
-		int order = OrderCalculator.START_ORDER;
-		for (BasicMissionRequest missionInfo : missionRequests) {
-			missions.add(missionInfo.toEntity(scenario, order));
-			order += OrderCalculator.DEFAULT_ORDER;
+		List<String> orders = orderCalculator.getOrders(missionRequests.size());
+		for (int i = 0; i < missionRequests.size(); i++) {
+			missions.add(missionRequests.get(i).toEntity(scenario, orders.get(i)));
 		}
 		missionValidator.validateMaxBasicMissionCount(missions);
 
@@ -126,25 +142,31 @@ public class MissionService {
 		List<Long> requestedMissionIds = new ArrayList<>();
 
 		List<Mission> toAdd = new ArrayList<>();
+		List<String> currentOrders = new ArrayList<>();
 
-		int order = OrderCalculator.START_ORDER;
 		for (BasicMissionRequest missionInfo : missionRequests) {
 			Long missionId = missionInfo.missionId();
 
 			if (missionId == null) {
-				toAdd.add(missionInfo.toEntity(oldSCenario, order));
+				toAdd.add(missionInfo.toEntity(oldSCenario, null));
+				currentOrders.add(null);
 			} else {
 				Mission existingMission = existingMissions.get(missionId);
 				if (existingMission != null) {
-					existingMission.updateMissionOrder(order);
 					toAdd.add(existingMission);
+					currentOrders.add(existingMission.getMissionOrder());
 					requestedMissionIds.add(missionId);
 				}
 			}
-			order += OrderCalculator.DEFAULT_ORDER;
 		}
 		missionValidator.validateMaxBasicMissionCount(toAdd);
 
+		// only missions that actually moved get a new order, so an unchanged list issues no UPDATE
+		List<String> orders = orderCalculator.reassignOrders(currentOrders);
+		for (int i = 0; i < toAdd.size(); i++) {
+			toAdd.get(i).updateMissionOrder(orders.get(i));
+		}
+
 		List<Long> toDeleteId = existingMissionIds.stream()
 			.filter(id -> !requestedMissionIds.contains(id))
 			.toList();
@@ -159,59 +181,28 @@ public class MissionService {
 	}
 
 
-	@Transactional
-	public void updateMissionCheck(
-		final Long memberId,
-		final Long missionId,
-		final Boolean isChecked,
-		final LocalDate date
-	) {
-		Mission mission = missionRepository.findByIdAndScenarioMemberId(missionId, memberId)
-			.orElseThrow(() -> new ServerException(ScenarioErrorResult.NOT_FOUND_MISSION));
-
-		MissionSearchType missionSearchType = MissionSearchType.getMissionSearchType(
-			LocalDate.now(clock.withZone(ZoneId.of("Asia/Seoul"))), date);
-
-		if (mission.getMissionType() == MissionType.BASIC && missionSearchType == MissionSearchType.FUTURE) {
-			updateFutureBasicMission(mission, isChecked, date);
-			return;
-		}
-		mission.updateCheckStatus(isChecked);
-	}
-
-
 	@Transactional
 	public void deleteMissions(final Long scenarioId) {
 		missionRepository.deleteByScenarioId(scenarioId);
+		missionHistoryRepository.deleteByScenarioId(scenarioId);
 	}
 
 
 	@Transactional
 	public void deleteTodayMission(final Long memberId, final Long missionId) {
-		Mission mission = missionRepository.findByIdAndScenarioMemberId(missionId, memberId)
-			.orElseThrow(() -> new ServerException(ScenarioErrorResult.NOT_FOUND_MISSION));
+		Optional<Mission> mission = missionRepository.findByIdAndScenarioMemberId(missionId, memberId);
+		if (mission.isPresent()) {
+			missionRepository.delete(mission.get());
+			scenarioEventPublisher.publishMissionCacheEvictEvent(memberId);
+			return;
+		}
 
-		missionRepository.delete(mission);
+		MissionHistory missionHistory = missionHistoryRepository.findByIdAndScenarioMemberId(missionId, memberId)
+			.orElseThrow(() -> new ServerException(ScenarioErrorResult.NOT_FOUND_MISSION));
+		missionHistoryRepository.delete(missionHistory);
 	}
 
 
-	private List<Mission> getMissionsByDate(
-		final MissionSearchType missionSearchType,
-		final Long memberId,
-		final Long scenarioId,
-		final LocalDate date
-	) {
-		switch (missionSearchType) {
-			case TODAY, FUTURE -> {
-				return missionRepository.findTodayAndFutureMissions(memberId, scenarioId, date);
-			}
-			case PAST -> {
-				return missionRepository.findPastMissionsByDate(memberId, scenarioId, date);
-			}
-		}
-		throw new ServerException(ScenarioErrorResult.INVALID_MISSION_FOUND_DATE);
-	}
-
 	private List<MissionResponse> getFutureCheckStatusMissions(List<Mission> groupedBasicMissions) {
 		Map<Long, Mission> overlayMap = groupedBasicMissions.stream()
 			.filter(m -> m.getParentMissionId() != null)
@@ -227,26 +218,4 @@ public class MissionService {
 			.toList();
 	}
 
-	private void updateFutureBasicMission(
-		final Mission mission,
-		final Boolean isChecked,
-		final LocalDate date
-	) {
-		missionRepository.findByParentMissionIdAndUseDate(mission.getId(), date)
-			.ifPresentOrElse(
-				future -> {
-					if (isChecked) {
-						future.updateCheckStatus(true);
-					} else {
-						missionRepository.delete(future);
-					}
-				},
-				() -> {
-					if (isChecked) {
-						missionRepository.save(mission.createFutureChildMission(true, date));
-					}
-				}
-			);
-	}
-
 }
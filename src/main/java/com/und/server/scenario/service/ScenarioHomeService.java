@@ -0,0 +1,95 @@
+package com.und.server.scenario.service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.und.server.notification.constants.NotificationType;
+import com.und.server.scenario.constants.MissionType;
+import com.und.server.scenario.dto.response.ScenarioHomeResponse;
+import com.und.server.scenario.entity.Mission;
+import com.und.server.scenario.entity.Scenario;
+import com.und.server.scenario.repository.MissionRepository;
+import com.und.server.scenario.repository.ScenarioRepository;
+import com.und.server.scenario.util.MissionCheckBuffer;
+import com.und.server.scenario.util.MissionTypeGroupSorter;
+import com.und.server.scenario.util.ScenarioCache;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Home screen read: every scenario of a notification type with today's missions,
+ * loaded with one scenario query and one mission query instead of a request per scenario.
+ */
+@Service
+@RequiredArgsConstructor
+public class ScenarioHomeService {
+
+	private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+	private final ScenarioRepository scenarioRepository;
+	private final MissionRepository missionRepository;
+	private final MissionRolloverService missionRolloverService;
+	private final MissionTypeGroupSorter missionTypeGroupSorter;
+	private final MissionCheckBuffer missionCheckBuffer;
+	private final ScenarioCache scenarioCache;
+	private final Clock clock;
+
+
+	@Transactional
+	public List<ScenarioHomeResponse> findHomeScenarios(
+		final Long memberId, final NotificationType notificationType
+	) {
+		LocalDate today = LocalDate.now(clock.withZone(ZONE_ID));
+
+		// read the version before the database, a write committed in between then misses this entry
+		Optional<Long> version = scenarioCache.findHomeVersion(memberId);
+		Optional<List<ScenarioHomeResponse>> cached = version.flatMap(
+			cacheVersion -> scenarioCache.findHome(memberId, cacheVersion, notificationType, today));
+		if (cached.isPresent()) {
+			return cached.get();
+		}
+
+		List<ScenarioHomeResponse> home = loadHomeScenarios(memberId, notificationType, today);
+		version.ifPresent(
+			cacheVersion -> scenarioCache.saveHome(memberId, cacheVersion, notificationType, today, home));
+
+		return home;
+	}
+
+	private List<ScenarioHomeResponse> loadHomeScenarios(
+		final Long memberId, final NotificationType notificationType, final LocalDate today
+	) {
+		List<Scenario> scenarios = scenarioRepository.findByMemberIdAndNotificationType(memberId, notificationType);
+		if (scenarios.isEmpty()) {
+			return List.of();
+		}
+		scenarios.stream()
+			.filter(scenario -> scenario.getLastRolledDate().isBefore(today))
+			.forEach(scenario -> missionRolloverService.rolloverIfStale(memberId, scenario.getId()));
+
+		Map<Long, Boolean> bufferedChecks = missionCheckBuffer.findChecks(memberId, today);
+		Map<Long, List<Mission>> missionsByScenarioId = missionRepository
+			.findTodayAndFutureMissionsByScenarioIdIn(scenarios.stream().map(Scenario::getId).toList(), today)
+			.stream()
+			.collect(Collectors.groupingBy(mission -> mission.getScenario().getId()));
+
+		return scenarios.stream()
+			.map(scenario -> {
+				List<Mission> missions = missionsByScenarioId.getOrDefault(scenario.getId(), List.of());
+				return ScenarioHomeResponse.from(
+					scenario,
+					missionTypeGroupSorter.groupAndSortByType(missions, MissionType.BASIC),
+					missionTypeGroupSorter.groupAndSortByType(missions, MissionType.TODAY),
+					bufferedChecks);
+			})
+			.toList();
+	}
+
+}
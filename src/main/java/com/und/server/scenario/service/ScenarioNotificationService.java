@@ -26,6 +26,8 @@ public class ScenarioNotificationService {
 			switch (type) {
 				case TIME -> scenarioNotificationResponses.addAll(
 					scenarioRepository.findTimeScenarioNotifications(memberId));
+				case LOCATION -> scenarioNotificationResponses.addAll(
+					scenarioRepository.findLocationScenarioNotifications(memberId));
 			}
 		}
 		return scenarioNotificationResponses;
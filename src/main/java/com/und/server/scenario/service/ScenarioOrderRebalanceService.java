@@ -0,0 +1,49 @@
+package com.und.server.scenario.service;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.und.server.notification.constants.NotificationType;
+import com.und.server.scenario.entity.Scenario;
+import com.und.server.scenario.event.ScenarioEventPublisher;
+import com.und.server.scenario.repository.ScenarioRepository;
+import com.und.server.scenario.util.OrderCalculator;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class ScenarioOrderRebalanceService {
+
+	private final ScenarioRepository scenarioRepository;
+	private final OrderCalculator orderCalculator;
+	private final ScenarioEventPublisher scenarioEventPublisher;
+
+
+	// the rows are locked as they are read, so a reorder committed meanwhile is seen and a later one waits
+	@Transactional
+	public int rebalance(final Long memberId) {
+		int rebalanced = 0;
+		for (NotificationType notificationType : NotificationType.values()) {
+			List<Scenario> scenarios =
+				scenarioRepository.findWithLockByMemberIdAndNotificationType(memberId, notificationType);
+			if (scenarios.stream().noneMatch(scenario -> orderCalculator.needsRebalance(scenario.getScenarioOrder()))) {
+				continue;
+			}
+
+			List<String> orders = orderCalculator.getOrders(scenarios.size());
+			for (int i = 0; i < scenarios.size(); i++) {
+				scenarios.get(i).updateScenarioOrder(orders.get(i));
+			}
+			rebalanced += scenarios.size();
+		}
+
+		if (rebalanced > 0) {
+			scenarioEventPublisher.publishCacheEvictEvent(memberId);
+		}
+		return rebalanced;
+	}
+
+}
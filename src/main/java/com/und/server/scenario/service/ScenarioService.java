@@ -2,8 +2,10 @@ package com.und.server.scenario.service;
 
 import java.time.Clock;
 import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,6 +20,7 @@ import com.und.server.notification.entity.Notification;
 import com.und.server.notification.event.NotificationEventPublisher;
 import com.und.server.notification.service.NotificationService;
 import com.und.server.scenario.constants.MissionType;
+import com.und.server.scenario.dto.VersionedScenarios;
 import com.und.server.scenario.dto.request.ScenarioDetailRequest;
 import com.und.server.scenario.dto.request.ScenarioOrderUpdateRequest;
 import com.und.server.scenario.dto.request.TodayMissionRequest;
@@ -27,11 +30,12 @@ import com.und.server.scenario.dto.response.ScenarioDetailResponse;
 import com.und.server.scenario.dto.response.ScenarioResponse;
 import com.und.server.scenario.entity.Mission;
 import com.und.server.scenario.entity.Scenario;
-import com.und.server.scenario.exception.ReorderRequiredException;
+import com.und.server.scenario.event.ScenarioEventPublisher;
 import com.und.server.scenario.exception.ScenarioErrorResult;
 import com.und.server.scenario.repository.ScenarioRepository;
 import com.und.server.scenario.util.MissionTypeGroupSorter;
 import com.und.server.scenario.util.OrderCalculator;
+import com.und.server.scenario.util.ScenarioCache;
 import com.und.server.scenario.util.ScenarioValidator;
 
 import jakarta.persistence.EntityManager;
@@ -41,17 +45,41 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ScenarioService {
 
+	private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
 	private final NotificationService notificationService;
 	private final MissionService missionService;
+	private final MissionRolloverService missionRolloverService;
 	private final ScenarioRepository scenarioRepository;
 	private final MissionTypeGroupSorter missionTypeGroupSorter;
 	private final OrderCalculator orderCalculator;
 	private final ScenarioValidator scenarioValidator;
+	private final ScenarioCache scenarioCache;
 	private final EntityManager em;
 	private final NotificationEventPublisher notificationEventPublisher;
+	private final ScenarioEventPublisher scenarioEventPublisher;
 	private final Clock clock;
 
 
+	/**
+	 * Cached list read for the list endpoint, tagged with the member's list version.
+	 * Writes read their own result through findScenariosByMemberId, the version only moves after commit.
+	 */
+	@Transactional(readOnly = true)
+	public VersionedScenarios findVersionedScenarios(final Long memberId, final NotificationType notificationType) {
+		Optional<Long> version = scenarioCache.findListVersion(memberId);
+		Optional<List<ScenarioResponse>> cached = version.flatMap(
+			cacheVersion -> scenarioCache.findScenarios(memberId, cacheVersion, notificationType));
+		List<ScenarioResponse> scenarios = cached.orElseGet(() -> findScenariosByMemberId(memberId, notificationType));
+
+		if (cached.isEmpty()) {
+			version.ifPresent(
+				cacheVersion -> scenarioCache.saveScenarios(memberId, cacheVersion, notificationType, scenarios));
+		}
+		String eTag = version.map(cacheVersion -> "\"" + cacheVersion + "-" + notificationType + "\"").orElse(null);
+		return new VersionedScenarios(eTag, scenarios);
+	}
+
+
 	@Transactional(readOnly = true)
 	public List<ScenarioResponse> findScenariosByMemberId(
 		final Long memberId, final NotificationType notificationType
@@ -92,7 +120,10 @@ public class ScenarioService {
 		Scenario scenario = scenarioRepository.findTodayScenarioFetchByIdAndMemberId(memberId, scenarioId, date)
 			.orElseThrow(() -> new ServerException(ScenarioErrorResult.NOT_FOUND_SCENARIO));
 
-		return missionService.addTodayMission(scenario, todayMissionRequest, date);
+		MissionResponse missionResponse = missionService.addTodayMission(scenario, todayMissionRequest, date);
+
+		scenarioEventPublisher.publishMissionCacheEvictEvent(memberId);
+		return missionResponse;
 	}
 
 
@@ -103,13 +134,11 @@ public class ScenarioService {
 		NotificationRequest notificationRequest = scenarioDetailRequest.notification();
 		NotificationType notificationType = notificationRequest.notificationType();
 
-		List<Integer> orders =
+		List<String> orders =
 			scenarioRepository.findOrdersByMemberIdAndNotificationType(memberId, notificationType);
 		scenarioValidator.validateMaxScenarioCount(orders);
 
-		int order = orders.isEmpty()
-			? OrderCalculator.START_ORDER
-			: getValidScenarioOrder(Collections.min(orders), memberId, notificationType);
+		String order = orderCalculator.getOrder(null, orders.isEmpty() ? null : Collections.min(orders));
 
 		Notification notification = notificationService.addNotification(
 			notificationRequest, scenarioDetailRequest.notificationCondition());
@@ -120,12 +149,14 @@ public class ScenarioService {
 			.memo(scenarioDetailRequest.memo())
 			.scenarioOrder(order)
 			.notification(notification)
+			.lastRolledDate(LocalDate.now(clock.withZone(ZONE_ID)))
 			.build();
 
 		scenarioRepository.save(scenario);
 		missionService.addBasicMission(scenario, scenarioDetailRequest.basicMissions());
 
 		notificationEventPublisher.publishCreateEvent(memberId, scenario);
+		scenarioEventPublisher.publishCacheEvictEvent(memberId);
 		return findScenariosByMemberId(memberId, notificationType);
 	}
 
@@ -136,6 +167,7 @@ public class ScenarioService {
 		final Long scenarioId,
 		final ScenarioDetailRequest scenarioDetailRequest
 	) {
+		missionRolloverService.rolloverIfStale(memberId, scenarioId);
 		Scenario oldScenario = scenarioRepository.findScenarioDetailFetchByIdAndMemberId(memberId, scenarioId)
 			.orElseThrow(() -> new ServerException(ScenarioErrorResult.NOT_FOUND_SCENARIO));
 		Notification oldNotification = oldScenario.getNotification();
@@ -154,6 +186,7 @@ public class ScenarioService {
 		oldScenario.updateMemo(scenarioDetailRequest.memo());
 
 		notificationEventPublisher.publishUpdateEvent(memberId, oldScenario, isOldScenarioNotificationActive);
+		scenarioEventPublisher.publishCacheEvictEvent(memberId);
 		return findScenariosByMemberId(memberId, scenarioDetailRequest.notification().notificationType());
 	}
 
@@ -164,26 +197,18 @@ public class ScenarioService {
 		final Long scenarioId,
 		final ScenarioOrderUpdateRequest scenarioOrderUpdateRequest
 	) {
-		Scenario scenario = scenarioRepository.findByIdAndMemberId(scenarioId, memberId)
+		// locked like the nightly rebalance, so neither overwrites the other's order
+		Scenario scenario = scenarioRepository.findWithLockByIdAndMemberId(scenarioId, memberId)
 			.orElseThrow(() -> new ServerException(ScenarioErrorResult.NOT_FOUND_SCENARIO));
 
-		try {
-			int toUpdateOrder = orderCalculator.getOrder(
-				scenarioOrderUpdateRequest.prevOrder(),
-				scenarioOrderUpdateRequest.nextOrder()
-			);
-			scenario.updateScenarioOrder(toUpdateOrder);
-			return OrderUpdateResponse.from(List.of(scenario), false);
-
-		} catch (ReorderRequiredException e) {
-			int errorOrder = e.getErrorOrder();
-			Notification notification = scenario.getNotification();
-			List<Scenario> scenarios =
-				scenarioRepository.findByMemberIdAndNotificationType(memberId, notification.getNotificationType());
-			scenarios = orderCalculator.reorder(scenarios, scenarioId, errorOrder);
-
-			return OrderUpdateResponse.from(scenarios, true);
-		}
+		String toUpdateOrder = orderCalculator.getOrder(
+			scenarioOrderUpdateRequest.prevOrder(),
+			scenarioOrderUpdateRequest.nextOrder()
+		);
+		scenario.updateScenarioOrder(toUpdateOrder);
+		scenarioEventPublisher.publishCacheEvictEvent(memberId);
+
+		return OrderUpdateResponse.from(List.of(scenario), false);
 	}
 
 
@@ -201,22 +226,7 @@ public class ScenarioService {
 		scenarioRepository.delete(scenario);
 
 		notificationEventPublisher.publishDeleteEvent(memberId, scenarioId, isNotificationActive);
-	}
-
-
-	private int getValidScenarioOrder(
-		final int minScenarioOrder,
-		final Long memberId,
-		final NotificationType notificationType
-	) {
-		try {
-			return orderCalculator.getOrder(null, minScenarioOrder);
-		} catch (ReorderRequiredException e) {
-			List<Scenario> scenarios =
-				scenarioRepository.findByMemberIdAndNotificationType(memberId, notificationType);
-
-			return orderCalculator.getMinOrderAfterReorder(scenarios);
-		}
+		scenarioEventPublisher.publishCacheEvictEvent(memberId);
 	}
 
 }
@@ -0,0 +1,24 @@
+package com.und.server.scenario.util;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+
+/**
+ * Reads an order that older clients still send as the integer they got before orders became rank keys,
+ * and maps it to the key that integer was migrated to. String orders are read as they are.
+ */
+public class LegacyOrderDeserializer extends JsonDeserializer<String> {
+
+	@Override
+	public String deserialize(final JsonParser parser, final DeserializationContext context) throws IOException {
+		if (parser.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+			return OrderCalculator.fromLegacyOrder(parser.getLongValue());
+		}
+		return parser.getValueAsString();
+	}
+
+}
@@ -0,0 +1,110 @@
+package com.und.server.scenario.util;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.und.server.scenario.dto.PendingMissionChecks;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis write-behind buffer for mission check toggles, one hash per member and day.
+ * Hashes with unflushed toggles are listed in a dirty set, so pending toggles outlive a server restart.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class MissionCheckBuffer {
+
+	public static final String DIRTY_KEY = "mission:check:dirty";
+	private static final String CHECK_KEY_PREFIX = "mission:check";
+	private static final Duration CHECK_TTL = Duration.ofDays(2);
+	private static final RedisScript<Long> ACKNOWLEDGE_SCRIPT =
+		RedisScript.of(new ClassPathResource("scripts/mission-check-acknowledge.lua"), Long.class);
+	private final StringRedisTemplate stringRedisTemplate;
+
+
+	public void record(final Long memberId, final LocalDate date, final Long missionId, final Boolean isChecked) {
+		recordAll(memberId, date, Map.of(missionId, isChecked));
+	}
+
+
+	public void recordAll(final Long memberId, final LocalDate date, final Map<Long, Boolean> checks) {
+		Map<String, String> fields = new HashMap<>();
+		checks.forEach((missionId, isChecked) -> fields.put(missionId.toString(), isChecked.toString()));
+
+		String key = generateKey(memberId, date);
+		stringRedisTemplate.opsForHash().putAll(key, fields);
+		stringRedisTemplate.expire(key, CHECK_TTL);
+		stringRedisTemplate.opsForSet().add(DIRTY_KEY, key);
+	}
+
+
+	public Map<Long, Boolean> findChecks(final Long memberId, final LocalDate date) {
+		try {
+			Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(generateKey(memberId, date));
+			Map<Long, Boolean> checks = new HashMap<>();
+			entries.forEach((missionId, isChecked) ->
+				checks.put(Long.valueOf((String) missionId), Boolean.valueOf((String) isChecked)));
+			return checks;
+		} catch (RedisSystemException | RedisConnectionFailureException e) {
+			log.warn("Failed to read buffered mission checks memberId={} date={}", memberId, date, e);
+			return Map.of();
+		}
+	}
+
+
+	public PendingMissionChecks find(final Long memberId, final LocalDate date) {
+		return new PendingMissionChecks(memberId, date, findChecks(memberId, date));
+	}
+
+
+	public List<PendingMissionChecks> findDirty(final int limit) {
+		Set<String> keys = stringRedisTemplate.opsForSet().distinctRandomMembers(DIRTY_KEY, limit);
+		if (keys == null) {
+			return List.of();
+		}
+
+		List<PendingMissionChecks> dirty = new ArrayList<>();
+		for (String key : keys) {
+			String[] parts = key.split(":");
+			dirty.add(find(Long.valueOf(parts[2]), LocalDate.parse(parts[3])));
+		}
+		return dirty;
+	}
+
+
+	public void acknowledge(final PendingMissionChecks flushed) {
+		List<String> args = new ArrayList<>();
+		flushed.checks().forEach((missionId, isChecked) -> {
+			args.add(missionId.toString());
+			args.add(isChecked.toString());
+		});
+
+		try {
+			stringRedisTemplate.execute(ACKNOWLEDGE_SCRIPT,
+				List.of(generateKey(flushed.memberId(), flushed.date()), DIRTY_KEY), args.toArray());
+		} catch (RedisSystemException | RedisConnectionFailureException e) {
+			log.warn("Failed to acknowledge flushed mission checks memberId={} date={}",
+				flushed.memberId(), flushed.date(), e);
+		}
+	}
+
+	private String generateKey(final Long memberId, final LocalDate date) {
+		return String.format("%s:%d:%s", CHECK_KEY_PREFIX, memberId, date);
+	}
+
+}
@@ -1,105 +1,178 @@
 package com.und.server.scenario.util;
 
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.springframework.stereotype.Component;
 
-import com.und.server.scenario.entity.Scenario;
-import com.und.server.scenario.exception.ReorderRequiredException;
+import com.und.server.common.exception.ServerException;
+import com.und.server.scenario.exception.ScenarioErrorResult;
 
+/**
+ * Fractional rank keys: base-36 digit strings compared lexicographically, never ending in '0',
+ * so a key strictly between any two keys always exists and an insert never rewrites its neighbours.
+ */
 @Component
 public class OrderCalculator {
 
-	public static final int START_ORDER = 100000;
-	public static final int DEFAULT_ORDER = 1000;
-	private static final int MIN_ORDER = 0;
-	private static final int MAX_ORDER = 10_000_000;
-	private static final int MIN_GAP = 100;
+	public static final int MAX_ORDER_LENGTH = 64;
+	public static final int REBALANCE_ORDER_LENGTH = 16;
+	public static final String ORDER_PATTERN = "^[0-9a-z]*[1-9a-z]$";
+	private static final int LEGACY_ORDER_WIDTH = 8;
+	private static final String DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz";
+	private static final int BASE = DIGITS.length();
 
 
-	public int getOrder(final Integer prevOrder, final Integer nextOrder) {
-		int resultOrder = 0;
-
-		if (prevOrder == null && nextOrder == null) {
-			return START_ORDER;
-		}
-		if (prevOrder == null) {
-			resultOrder = calculateStartOrder(nextOrder);
-		} else if (nextOrder == null) {
-			resultOrder = calculateLastOrder(prevOrder);
-		} else {
-			resultOrder = calculateMiddleOrder(prevOrder, nextOrder);
-			validateOrderGap(prevOrder, nextOrder, resultOrder);
+	public String getOrder(final String prevOrder, final String nextOrder) {
+		validateOrder(prevOrder);
+		validateOrder(nextOrder);
+		if (prevOrder != null && nextOrder != null && prevOrder.compareTo(nextOrder) >= 0) {
+			throw new ServerException(ScenarioErrorResult.INVALID_ORDER);
 		}
-		validateOrderRange(resultOrder);
 
-		return resultOrder;
+		String order = midpoint(prevOrder == null ? "" : prevOrder, nextOrder);
+		if (order.length() > MAX_ORDER_LENGTH) {
+			throw new ServerException(ScenarioErrorResult.INVALID_ORDER);
+		}
+		return order;
 	}
 
 
-	public List<Scenario> reorder(
-		final List<Scenario> scenarios,
-		final Long targetScenarioId,
-		final int errorOrder
-	) {
-		scenarios.sort(
-			Comparator
-				.comparingInt((Scenario s) ->
-					s.getId().equals(targetScenarioId) ? errorOrder : s.getScenarioOrder())
-				.thenComparingLong(Scenario::getId)
-		);
-
-		assignSequentialOrders(scenarios);
-		scenarios.sort(Comparator.comparing(Scenario::getScenarioOrder));
+	public List<String> getOrders(final int count) {
+		List<String> orders = new ArrayList<>(count);
+		fillOrders("", null, count, orders);
 
-		return scenarios;
+		return orders;
 	}
 
 
-	public Integer getMinOrderAfterReorder(final List<Scenario> scenarios) {
-		if (scenarios.isEmpty()) {
-			return START_ORDER;
+	/**
+	 * Keeps the longest already-ascending run of current orders and only assigns new orders to the rest.
+	 * A null current order marks a new item. Falls back to evenly spaced orders once keys grow too long.
+	 */
+	public List<String> reassignOrders(final List<String> currentOrders) {
+		boolean[] kept = findLongestAscendingOrders(currentOrders);
+		String[] orders = new String[currentOrders.size()];
+
+		int index = 0;
+		String prevOrder = "";
+		while (index < orders.length) {
+			if (kept[index]) {
+				orders[index] = currentOrders.get(index);
+				prevOrder = orders[index];
+				index++;
+				continue;
+			}
+			int nextIndex = index;
+			while (nextIndex < orders.length && !kept[nextIndex]) {
+				nextIndex++;
+			}
+			String nextOrder = nextIndex < orders.length ? currentOrders.get(nextIndex) : null;
+			List<String> filled = new ArrayList<>(nextIndex - index);
+			fillOrders(prevOrder, nextOrder, nextIndex - index, filled);
+			for (String order : filled) {
+				orders[index++] = order;
+			}
 		}
-		scenarios.sort(Comparator.comparing(Scenario::getScenarioOrder));
 
-		assignSequentialOrders(scenarios);
-		Scenario firstScenario = scenarios.get(0);
-
-		return calculateStartOrder(firstScenario.getScenarioOrder());
+		if (Arrays.stream(orders).anyMatch(this::needsRebalance)) {
+			return getOrders(orders.length);
+		}
+		return Arrays.asList(orders);
 	}
 
 
-	private void assignSequentialOrders(final List<Scenario> scenarios) {
-		int order = OrderCalculator.START_ORDER;
-		for (Scenario scenario : scenarios) {
-			scenario.updateScenarioOrder(order);
-			order += OrderCalculator.DEFAULT_ORDER;
+	// the same mapping V16 applied to the stored integer orders, so a legacy order names its migrated key
+	public static String fromLegacyOrder(final long legacyOrder) {
+		if (legacyOrder < 0) {
+			return String.valueOf(legacyOrder);
 		}
+		String padded = String.format("%0" + LEGACY_ORDER_WIDTH + "d", legacyOrder + 1);
+		return padded.replaceAll("0+$", "");
 	}
 
-	private Integer calculateMiddleOrder(final Integer prevOrder, final Integer nextOrder) {
-		return (prevOrder + nextOrder) / 2;
+
+	public boolean needsRebalance(final String order) {
+		return order != null && order.length() > REBALANCE_ORDER_LENGTH;
 	}
 
-	private Integer calculateStartOrder(final int minOrder) {
-		return minOrder - DEFAULT_ORDER;
+
+	private void fillOrders(
+		final String prevOrder, final String nextOrder, final int count, final List<String> orders
+	) {
+		if (count == 0) {
+			return;
+		}
+		String middleOrder = midpoint(prevOrder, nextOrder);
+		int leftCount = (count - 1) / 2;
+
+		fillOrders(prevOrder, middleOrder, leftCount, orders);
+		orders.add(middleOrder);
+		fillOrders(middleOrder, nextOrder, count - 1 - leftCount, orders);
 	}
 
-	private Integer calculateLastOrder(final int maxOrder) {
-		return maxOrder + DEFAULT_ORDER;
+	private boolean[] findLongestAscendingOrders(final List<String> orders) {
+		int size = orders.size();
+		int[] lengths = new int[size];
+		int[] previous = new int[size];
+		int last = -1;
+
+		for (int i = 0; i < size; i++) {
+			previous[i] = -1;
+			if (orders.get(i) == null) {
+				continue;
+			}
+			lengths[i] = 1;
+			for (int j = 0; j < i; j++) {
+				boolean ascending = orders.get(j) != null && orders.get(j).compareTo(orders.get(i)) < 0;
+				if (ascending && lengths[j] + 1 > lengths[i]) {
+					lengths[i] = lengths[j] + 1;
+					previous[i] = j;
+				}
+			}
+			if (last == -1 || lengths[i] > lengths[last]) {
+				last = i;
+			}
+		}
+
+		boolean[] kept = new boolean[size];
+		for (int i = last; i != -1; i = previous[i]) {
+			kept[i] = true;
+		}
+		return kept;
 	}
 
-	private void validateOrderGap(final Integer prevOrder, final Integer nextOrder, final int resultOrder) {
-		int gap = nextOrder - prevOrder;
-		if (gap <= MIN_GAP) {
-			throw new ReorderRequiredException(resultOrder);
+	private String midpoint(final String lower, final String upper) {
+		if (upper != null) {
+			int prefixLength = 0;
+			while (prefixLength < upper.length() && digitAt(lower, prefixLength) == upper.charAt(prefixLength)) {
+				prefixLength++;
+			}
+			if (prefixLength > 0) {
+				return upper.substring(0, prefixLength) + midpoint(
+					lower.substring(Math.min(prefixLength, lower.length())), upper.substring(prefixLength));
+			}
 		}
+
+		int lowerDigit = DIGITS.indexOf(digitAt(lower, 0));
+		int upperDigit = upper == null ? BASE : DIGITS.indexOf(upper.charAt(0));
+		if (upperDigit - lowerDigit > 1) {
+			return String.valueOf(DIGITS.charAt((lowerDigit + upperDigit) / 2));
+		}
+		if (upper != null && upper.length() > 1) {
+			return upper.substring(0, 1);
+		}
+		return DIGITS.charAt(lowerDigit) + midpoint(lower.isEmpty() ? "" : lower.substring(1), null);
+	}
+
+	private char digitAt(final String order, final int index) {
+		return index < order.length() ? order.charAt(index) : DIGITS.charAt(0);
 	}
 
-	private void validateOrderRange(final int order) {
-		if (order < MIN_ORDER || order > MAX_ORDER) {
-			throw new ReorderRequiredException(order);
+	private void validateOrder(final String order) {
+		if (order != null && (order.length() > MAX_ORDER_LENGTH || !order.matches(ORDER_PATTERN))) {
+			throw new ServerException(ScenarioErrorResult.INVALID_ORDER);
 		}
 	}
 
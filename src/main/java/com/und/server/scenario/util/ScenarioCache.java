@@ -0,0 +1,223 @@
+package com.und.server.scenario.util;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.und.server.notification.constants.NotificationType;
+import com.und.server.scenario.config.ScenarioCacheProperties;
+import com.und.server.scenario.dto.response.ScenarioHomeResponse;
+import com.und.server.scenario.dto.response.ScenarioResponse;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis cache of scenario reads, keyed by per-member versions that writes bump.
+ * The home version moves on every scenario or mission write, the list version only on scenario writes,
+ * so check taps do not invalidate scenario lists or their ETags.
+ * Entries of older versions are never read again and simply expire, so a write never races a stale put.
+ * Scenario lists are also kept in memory under their version, so a hit costs only the version lookup.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ScenarioCache {
+
+	private static final String VERSION_KEY_PREFIX = "scenario:version";
+	private static final String LIST_VERSION_KEY_PREFIX = "scenario:list-version";
+	private static final String HOME_KEY_PREFIX = "scenario:home";
+	private static final String LIST_KEY_PREFIX = "scenario:list";
+	private static final int LOCAL_MAX_ENTRIES = 10_000;
+	private static final TypeReference<List<ScenarioHomeResponse>> HOME_TYPE = new TypeReference<>() { };
+	private static final TypeReference<List<ScenarioResponse>> LIST_TYPE = new TypeReference<>() { };
+	private final Map<String, LocalScenarios> localScenarios = new ConcurrentHashMap<>();
+	private final StringRedisTemplate stringRedisTemplate;
+	private final ObjectMapper objectMapper;
+	private final ScenarioCacheProperties scenarioCacheProperties;
+	private final Clock clock;
+
+
+	public Optional<Long> findHomeVersion(final Long memberId) {
+		return findVersion(VERSION_KEY_PREFIX, memberId);
+	}
+
+
+	public Optional<Long> findListVersion(final Long memberId) {
+		return findVersion(LIST_VERSION_KEY_PREFIX, memberId);
+	}
+
+
+	public Optional<List<ScenarioHomeResponse>> findHome(
+		final Long memberId, final Long version, final NotificationType notificationType, final LocalDate date
+	) {
+		try {
+			String json = stringRedisTemplate.opsForValue()
+				.get(generateHomeKey(memberId, version, notificationType, date));
+			return json == null ? Optional.empty() : Optional.of(objectMapper.readValue(json, HOME_TYPE));
+		} catch (RedisSystemException | RedisConnectionFailureException | JsonProcessingException e) {
+			log.warn("Failed to read home scenario cache memberId={}", memberId, e);
+			return Optional.empty();
+		}
+	}
+
+
+	public void saveHome(
+		final Long memberId,
+		final Long version,
+		final NotificationType notificationType,
+		final LocalDate date,
+		final List<ScenarioHomeResponse> home
+	) {
+		try {
+			stringRedisTemplate.opsForValue().set(
+				generateHomeKey(memberId, version, notificationType, date),
+				objectMapper.writeValueAsString(home),
+				scenarioCacheProperties.ttl());
+		} catch (RedisSystemException | RedisConnectionFailureException | JsonProcessingException e) {
+			log.warn("Failed to save home scenario cache memberId={}", memberId, e);
+		}
+	}
+
+
+	public Optional<List<ScenarioResponse>> findScenarios(
+		final Long memberId, final Long version, final NotificationType notificationType
+	) {
+		String key = generateListKey(memberId, version, notificationType);
+		LocalScenarios local = localScenarios.get(generateLocalKey(memberId, notificationType));
+		if (local != null && local.key().equals(key) && local.expiresAt() > clock.millis()) {
+			return Optional.of(local.scenarios());
+		}
+
+		try {
+			String json = stringRedisTemplate.opsForValue().get(key);
+			if (json == null) {
+				return Optional.empty();
+			}
+			List<ScenarioResponse> scenarios = objectMapper.readValue(json, LIST_TYPE);
+			saveLocal(memberId, notificationType, key, scenarios);
+			return Optional.of(scenarios);
+		} catch (RedisSystemException | RedisConnectionFailureException | JsonProcessingException e) {
+			log.warn("Failed to read scenario list cache memberId={}", memberId, e);
+			return Optional.empty();
+		}
+	}
+
+
+	public void saveScenarios(
+		final Long memberId,
+		final Long version,
+		final NotificationType notificationType,
+		final List<ScenarioResponse> scenarios
+	) {
+		String key = generateListKey(memberId, version, notificationType);
+		saveLocal(memberId, notificationType, key, scenarios);
+		try {
+			stringRedisTemplate.opsForValue()
+				.set(key, objectMapper.writeValueAsString(scenarios), scenarioCacheProperties.ttl());
+		} catch (RedisSystemException | RedisConnectionFailureException | JsonProcessingException e) {
+			log.warn("Failed to save scenario list cache memberId={}", memberId, e);
+		}
+	}
+
+
+	public void evictHome(final Long memberId) {
+		bumpVersion(VERSION_KEY_PREFIX, memberId);
+	}
+
+
+	public void evictScenarios(final Long memberId) {
+		bumpVersion(LIST_VERSION_KEY_PREFIX, memberId);
+		bumpVersion(VERSION_KEY_PREFIX, memberId);
+	}
+
+	private Optional<Long> findVersion(final String prefix, final Long memberId) {
+		if (!scenarioCacheProperties.enabled()) {
+			return Optional.empty();
+		}
+		try {
+			ValueOperations<String, String> operations = stringRedisTemplate.opsForValue();
+			String key = generateVersionKey(prefix, memberId);
+			String version = operations.get(key);
+			if (version == null) {
+				String seed = seedVersion();
+				version = Boolean.TRUE.equals(operations.setIfAbsent(key, seed)) ? seed : operations.get(key);
+			}
+			return Optional.ofNullable(version).map(Long::parseLong);
+		} catch (RedisSystemException | RedisConnectionFailureException e) {
+			log.warn("Failed to read scenario cache version memberId={}", memberId, e);
+			return Optional.empty();
+		}
+	}
+
+	private void bumpVersion(final String prefix, final Long memberId) {
+		if (!scenarioCacheProperties.enabled()) {
+			return;
+		}
+		try {
+			ValueOperations<String, String> operations = stringRedisTemplate.opsForValue();
+			String key = generateVersionKey(prefix, memberId);
+			operations.setIfAbsent(key, seedVersion());
+			operations.increment(key);
+		} catch (RedisSystemException | RedisConnectionFailureException e) {
+			log.error("Failed to evict scenario cache memberId={}", memberId, e);
+		}
+	}
+
+	// a lost version key restarts from the clock, never from a value old entries or ETags were tagged with
+	private String seedVersion() {
+		return String.valueOf(clock.millis());
+	}
+
+	private void saveLocal(
+		final Long memberId,
+		final NotificationType notificationType,
+		final String key,
+		final List<ScenarioResponse> scenarios
+	) {
+		if (!scenarioCacheProperties.localEnabled()) {
+			return;
+		}
+		if (localScenarios.size() >= LOCAL_MAX_ENTRIES) {
+			localScenarios.clear();
+		}
+		long expiresAt = clock.millis() + scenarioCacheProperties.ttl().toMillis();
+		localScenarios.put(
+			generateLocalKey(memberId, notificationType), new LocalScenarios(key, scenarios, expiresAt));
+	}
+
+	private String generateVersionKey(final String prefix, final Long memberId) {
+		return prefix + ":" + memberId;
+	}
+
+	private String generateHomeKey(
+		final Long memberId, final Long version, final NotificationType notificationType, final LocalDate date
+	) {
+		return HOME_KEY_PREFIX + ":" + memberId + ":" + version + ":" + notificationType + ":" + date;
+	}
+
+	private String generateListKey(
+		final Long memberId, final Long version, final NotificationType notificationType
+	) {
+		return LIST_KEY_PREFIX + ":" + memberId + ":" + version + ":" + notificationType;
+	}
+
+	private String generateLocalKey(final Long memberId, final NotificationType notificationType) {
+		return memberId + ":" + notificationType;
+	}
+
+	private record LocalScenarios(String key, List<ScenarioResponse> scenarios, long expiresAt) { }
+
+}
@@ -14,7 +14,7 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ScenarioValidator {
 
-	private static final int SCENARIO_MAX_COUNT = 20;
+	public static final int SCENARIO_MAX_COUNT = 20;
 	private final ScenarioRepository scenarioRepository;
 
 	public void validateScenarioExists(final Long scenarioId) {
@@ -23,7 +23,7 @@ public class ScenarioValidator {
 		}
 	}
 
-	public void validateMaxScenarioCount(final List<Integer> orderList) {
+	public void validateMaxScenarioCount(final List<String> orderList) {
 		if (orderList.size() >= SCENARIO_MAX_COUNT) {
 			throw new ServerException(ScenarioErrorResult.MAX_SCENARIO_COUNT_EXCEEDED);
 		}
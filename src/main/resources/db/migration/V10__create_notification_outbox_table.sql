@@ -0,0 +1,7 @@
+CREATE TABLE notification_outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    member_id BIGINT NOT NULL,
+    scenario_id BIGINT,
+    event_type VARCHAR(10) NOT NULL,
+    created_at DATETIME NOT NULL
+);
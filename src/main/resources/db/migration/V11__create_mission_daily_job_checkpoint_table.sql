@@ -0,0 +1,6 @@
+CREATE TABLE mission_daily_job_checkpoint (
+    job_date DATE PRIMARY KEY,
+    expire_before DATE NOT NULL,
+    deleted_count BIGINT NOT NULL,
+    completed_at DATETIME
+);
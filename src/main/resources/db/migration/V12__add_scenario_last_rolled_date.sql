@@ -0,0 +1,3 @@
+ALTER TABLE scenario ADD COLUMN last_rolled_date DATE;
+
+CREATE INDEX idx_scenario_last_rolled_date ON scenario (last_rolled_date);
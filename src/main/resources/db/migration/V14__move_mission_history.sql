@@ -0,0 +1,13 @@
+INSERT INTO mission_history (
+    id, scenario_id, content, is_checked, mission_order, use_date, mission_type, created_at, updated_at
+)
+SELECT id, scenario_id, content, is_checked, mission_order, use_date, mission_type, created_at, updated_at
+FROM mission
+WHERE parent_mission_id IS NULL
+    AND ((mission_type = 'BASIC' AND use_date IS NOT NULL)
+        OR (mission_type = 'TODAY' AND use_date < CURRENT_DATE));
+
+DELETE FROM mission
+WHERE parent_mission_id IS NULL
+    AND ((mission_type = 'BASIC' AND use_date IS NOT NULL)
+        OR (mission_type = 'TODAY' AND use_date < CURRENT_DATE));
@@ -0,0 +1,7 @@
+CREATE INDEX idx_mission_scenario_date_type ON mission (scenario_id, use_date, mission_type);
+
+CREATE INDEX idx_mission_parent_date ON mission (parent_mission_id, use_date);
+
+CREATE INDEX idx_scenario_member_order ON scenario (member_id, scenario_order);
+
+CREATE INDEX idx_mission_history_use_date ON mission_history (use_date);
@@ -0,0 +1,10 @@
+ALTER TABLE notification_outbox ADD COLUMN claimed_by VARCHAR(36);
+
+-- a row is claimable from its creation, so the relay filters on a single range of claimed_until
+ALTER TABLE notification_outbox ADD COLUMN claimed_until DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+ALTER TABLE notification_outbox ADD COLUMN attempts INT NOT NULL DEFAULT 0;
+
+CREATE INDEX idx_notification_outbox_claimed_until ON notification_outbox (claimed_until, id);
+
+CREATE INDEX idx_notification_outbox_claimed_by ON notification_outbox (claimed_by, claimed_until, id);
@@ -0,0 +1,16 @@
+-- contract step of V9: pick up rows written by pre-mask nodes during the rollout, then drop the old column
+UPDATE notification
+SET days_mask =
+        (CASE WHEN CONCAT(',', REPLACE(days_of_week, ' ', ''), ',') LIKE '%,0,%' THEN 1 ELSE 0 END)
+        + (CASE WHEN CONCAT(',', REPLACE(days_of_week, ' ', ''), ',') LIKE '%,1,%' THEN 2 ELSE 0 END)
+        + (CASE WHEN CONCAT(',', REPLACE(days_of_week, ' ', ''), ',') LIKE '%,2,%' THEN 4 ELSE 0 END)
+        + (CASE WHEN CONCAT(',', REPLACE(days_of_week, ' ', ''), ',') LIKE '%,3,%' THEN 8 ELSE 0 END)
+        + (CASE WHEN CONCAT(',', REPLACE(days_of_week, ' ', ''), ',') LIKE '%,4,%' THEN 16 ELSE 0 END)
+        + (CASE WHEN CONCAT(',', REPLACE(days_of_week, ' ', ''), ',') LIKE '%,5,%' THEN 32 ELSE 0 END)
+        + (CASE WHEN CONCAT(',', REPLACE(days_of_week, ' ', ''), ',') LIKE '%,6,%' THEN 64 ELSE 0 END)
+WHERE days_mask IS NULL
+  AND days_of_week IS NOT NULL
+  AND days_of_week <> '';
+
+ALTER TABLE notification
+    DROP COLUMN days_of_week;
@@ -0,0 +1,23 @@
+ALTER TABLE notification
+    ADD COLUMN days_mask TINYINT NULL;
+
+UPDATE notification
+SET days_mask =
+        (CASE WHEN CONCAT(',', REPLACE(days_of_week, ' ', ''), ',') LIKE '%,0,%' THEN 1 ELSE 0 END)
+        + (CASE WHEN CONCAT(',', REPLACE(days_of_week, ' ', ''), ',') LIKE '%,1,%' THEN 2 ELSE 0 END)
+        + (CASE WHEN CONCAT(',', REPLACE(days_of_week, ' ', ''), ',') LIKE '%,2,%' THEN 4 ELSE 0 END)
+        + (CASE WHEN CONCAT(',', REPLACE(days_of_week, ' ', ''), ',') LIKE '%,3,%' THEN 8 ELSE 0 END)
+        + (CASE WHEN CONCAT(',', REPLACE(days_of_week, ' ', ''), ',') LIKE '%,4,%' THEN 16 ELSE 0 END)
+        + (CASE WHEN CONCAT(',', REPLACE(days_of_week, ' ', ''), ',') LIKE '%,5,%' THEN 32 ELSE 0 END)
+        + (CASE WHEN CONCAT(',', REPLACE(days_of_week, ' ', ''), ',') LIKE '%,6,%' THEN 64 ELSE 0 END)
+WHERE days_of_week IS NOT NULL
+  AND days_of_week <> '';
+
+ALTER TABLE notification
+    ADD CONSTRAINT chk_days_mask CHECK (days_mask >= 0 AND days_mask <= 127);
+
+CREATE INDEX idx_notification_type_active_days
+    ON notification (notification_type, is_active, days_mask);
+
+CREATE INDEX idx_time_notification_start_time
+    ON time_notification (start_hour, start_minute, notification_id);
@@ -0,0 +1,7 @@
+-- KEYS[1]: invalidation sequence counter
+-- ARGV[1]: invalidation channel, ARGV[2]: member id
+-- Numbers and publishes in one step so every subscriber sees sequences in order.
+local sequence = redis.call('INCR', KEYS[1])
+redis.call('PUBLISH', ARGV[1], sequence .. ':' .. ARGV[2])
+
+return sequence
@@ -0,0 +1,14 @@
+-- KEYS[1]: member day mission check hash, KEYS[2]: dirty check hash set
+-- ARGV: mission id and flushed check value pairs
+-- Removes only checks not toggled again since they were flushed, then the hash from the dirty set once empty.
+for i = 1, #ARGV, 2 do
+	if redis.call('HGET', KEYS[1], ARGV[i]) == ARGV[i + 1] then
+		redis.call('HDEL', KEYS[1], ARGV[i])
+	end
+end
+
+if redis.call('EXISTS', KEYS[1]) == 0 then
+	redis.call('SREM', KEYS[2], KEYS[1])
+end
+
+return 0
@@ -0,0 +1,21 @@
+-- KEYS[1]: notification hash, KEYS[2]: etag, KEYS[3]: version hash
+-- ARGV[1]: ttl seconds, ARGV[2]: scenario field, ARGV[3]: serialized cache value (empty to delete)
+-- Returns the new member version, or -1 when the cache must be rebuilt from the database.
+if redis.call('EXISTS', KEYS[2]) == 0 or redis.call('HEXISTS', KEYS[3], 'current') == 0 then
+	return -1
+end
+
+if ARGV[3] == '' then
+	redis.call('HDEL', KEYS[1], ARGV[2])
+else
+	redis.call('HSET', KEYS[1], ARGV[2], ARGV[3])
+end
+
+local version = string.format('%d', redis.call('HINCRBY', KEYS[3], 'current', 1))
+redis.call('HSET', KEYS[3], ARGV[2], version)
+-- etag is read through the JSON value serializer, so it is stored as a JSON string
+redis.call('SET', KEYS[2], '"' .. version .. '"', 'EX', ARGV[1])
+redis.call('EXPIRE', KEYS[1], ARGV[1])
+redis.call('EXPIRE', KEYS[3], ARGV[1])
+
+return tonumber(version)
@@ -0,0 +1,17 @@
+-- KEYS[1]: notification hash, KEYS[2]: etag, KEYS[3]: version hash
+-- ARGV[1]: ttl seconds, ARGV[2]: base version seed, ARGV[3..]: scenario field and serialized cache value pairs
+-- Returns the new base version, always greater than any version handed out before.
+local previousVersion = tonumber(redis.call('HGET', KEYS[3], 'current') or '0')
+local version = string.format('%d', math.max(tonumber(ARGV[2]), previousVersion + 1))
+
+redis.call('DEL', KEYS[1], KEYS[3])
+for i = 3, #ARGV, 2 do
+	redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+end
+redis.call('HSET', KEYS[3], 'base', version, 'current', version)
+-- etag is read through the JSON value serializer, so it is stored as a JSON string
+redis.call('SET', KEYS[2], '"' .. version .. '"', 'EX', ARGV[1])
+redis.call('EXPIRE', KEYS[1], ARGV[1])
+redis.call('EXPIRE', KEYS[3], ARGV[1])
+
+return tonumber(version)
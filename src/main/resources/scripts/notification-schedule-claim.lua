@@ -0,0 +1,9 @@
+-- KEYS[1]: time notification schedule sorted set
+-- ARGV[1]: now millis, ARGV[2]: lease expiry millis, ARGV[3]: max claim count
+-- Returns due notification ids, leased to the caller so no other node claims them until rescheduled.
+local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[3]))
+for _, notificationId in ipairs(due) do
+	redis.call('ZADD', KEYS[1], 'XX', ARGV[2], notificationId)
+end
+
+return due
@@ -37,6 +37,7 @@ import com.und.server.common.util.ProfileManager;
 import com.und.server.member.entity.Member;
 import com.und.server.member.exception.MemberErrorResult;
 import com.und.server.member.service.MemberService;
+import com.und.server.notification.service.NotificationCacheWarmUpService;
 
 @ExtendWith(MockitoExtension.class)
 class AuthServiceTest {
@@ -68,6 +69,9 @@ class AuthServiceTest {
 	@Mock
 	private ProfileManager profileManager;
 
+	@Mock
+	private NotificationCacheWarmUpService notificationCacheWarmUpService;
+
 	private final Long memberId = 1L;
 	private final String idToken = "dummy.id.token";
 	private final String accessToken = "dummy.access.token";
@@ -204,6 +208,7 @@ class AuthServiceTest {
 
 		// then
 		verify(nonceService).verifyNonce("nonce", Provider.KAKAO);
+		verify(notificationCacheWarmUpService).warmUp(memberId);
 		verify(refreshTokenService).saveRefreshToken(memberId, refreshToken);
 		assertThat(response.tokenType()).isEqualTo("Bearer");
 		assertThat(response.accessToken()).isEqualTo(accessToken);
@@ -396,6 +401,7 @@ class AuthServiceTest {
 		final AuthResponse response = authService.reissueTokens(request);
 
 		// then
+		verify(notificationCacheWarmUpService).warmUp(memberId);
 		verify(refreshTokenService).saveRefreshToken(memberId, newRefreshToken);
 		assertThat(response.accessToken()).isEqualTo(newAccessToken);
 		assertThat(response.refreshToken()).isEqualTo(newRefreshToken);
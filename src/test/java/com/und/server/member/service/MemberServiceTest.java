@@ -27,6 +27,7 @@ import com.und.server.member.dto.response.MemberResponse;
 import com.und.server.member.entity.Member;
 import com.und.server.member.exception.MemberErrorResult;
 import com.und.server.member.repository.MemberRepository;
+import com.und.server.scenario.repository.MissionHistoryRepository;
 
 @ExtendWith(MockitoExtension.class)
 class MemberServiceTest {
@@ -40,6 +41,9 @@ class MemberServiceTest {
 	@Mock
 	private RefreshTokenService refreshTokenService;
 
+	@Mock
+	private MissionHistoryRepository missionHistoryRepository;
+
 	private final Long memberId = 1L;
 	private final String providerId = "test-provider-id";
 	private final String nickname = "test-nickname";
@@ -265,6 +269,7 @@ class MemberServiceTest {
 		// then
 		verify(memberRepository).existsById(memberIdToDelete);
 		verify(refreshTokenService).deleteRefreshToken(memberIdToDelete);
+		verify(missionHistoryRepository).deleteByMemberId(memberIdToDelete);
 		verify(memberRepository).deleteById(memberIdToDelete);
 	}
 
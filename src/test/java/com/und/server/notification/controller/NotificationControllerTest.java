@@ -3,8 +3,10 @@ package com.und.server.notification.controller;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
+import java.time.Instant;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -15,10 +17,16 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import com.und.server.notification.dto.request.LocationBatchUpdateRequest;
+import com.und.server.notification.dto.request.LocationSampleRequest;
+import com.und.server.notification.dto.request.LocationUpdateRequest;
+import com.und.server.notification.dto.response.LocationNotificationMatchResponse;
+import com.und.server.notification.dto.response.ScenarioNotificationChangesResponse;
 import com.und.server.notification.dto.response.ScenarioNotificationListResponse;
 import com.und.server.notification.dto.response.ScenarioNotificationResponse;
 import com.und.server.notification.exception.NotificationCacheErrorResult;
 import com.und.server.notification.exception.NotificationCacheException;
+import com.und.server.notification.service.LocationNotificationService;
 import com.und.server.notification.service.NotificationCacheService;
 import com.und.server.notification.service.NotificationService;
 
@@ -34,6 +42,9 @@ class NotificationControllerTest {
 	@Mock
 	private NotificationService notificationService;
 
+	@Mock
+	private LocationNotificationService locationNotificationService;
+
 	private final Long memberId = 1L;
 	private final Long scenarioId = 10L;
 
@@ -78,11 +89,32 @@ class NotificationControllerTest {
 	void Given_ValidEtag_When_GetScenarioNotifications_Then_Return304NotModified() {
 		// given
 		String ifNoneMatch = "1234567890";
+
+		given(notificationCacheService.getEtag(memberId)).willReturn("1234567890");
+
+		// when
+		ResponseEntity<ScenarioNotificationListResponse> response =
+			notificationController.getScenarioNotifications(memberId, ifNoneMatch);
+
+		// then
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+		assertThat(response.getBody()).isNull();
+		assertThat(response.getHeaders().getFirst("ETag")).isEqualTo("1234567890");
+		verify(notificationCacheService).getEtag(memberId);
+		verify(notificationCacheService, never()).getScenariosNotificationCache(memberId);
+	}
+
+
+	@Test
+	void Given_MissingEtag_When_GetScenarioNotifications_Then_LoadFullCache() {
+		// given
+		String ifNoneMatch = "1234567890";
 		ScenarioNotificationListResponse expectedResponse = ScenarioNotificationListResponse.from(
-			"1234567890",
+			"9876543210",
 			List.of()
 		);
 
+		given(notificationCacheService.getEtag(memberId)).willReturn(null);
 		given(notificationCacheService.getScenariosNotificationCache(memberId))
 			.willReturn(expectedResponse);
 
@@ -91,8 +123,8 @@ class NotificationControllerTest {
 			notificationController.getScenarioNotifications(memberId, ifNoneMatch);
 
 		// then
-		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
-		assertThat(response.getBody()).isNull();
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getHeaders().getFirst("ETag")).isEqualTo("9876543210");
 		verify(notificationCacheService).getScenariosNotificationCache(memberId);
 	}
 
@@ -113,6 +145,7 @@ class NotificationControllerTest {
 			)
 		);
 
+		given(notificationCacheService.getEtag(memberId)).willReturn("new-etag");
 		given(notificationCacheService.getScenariosNotificationCache(memberId))
 			.willReturn(expectedResponse);
 
@@ -151,6 +184,31 @@ class NotificationControllerTest {
 	}
 
 
+	@Test
+	void Given_SinceVersion_When_GetScenarioNotificationChanges_Then_ReturnDeltaWithVersionEtag() {
+		// given
+		Long since = 1000L;
+		ScenarioNotificationChangesResponse expectedResponse = ScenarioNotificationChangesResponse.deltaFrom(
+			1002L,
+			List.of(ScenarioNotificationResponse.builder().scenarioId(1L).build()),
+			List.of(2L)
+		);
+
+		given(notificationCacheService.getScenarioNotificationChanges(memberId, since))
+			.willReturn(expectedResponse);
+
+		// when
+		ResponseEntity<ScenarioNotificationChangesResponse> response =
+			notificationController.getScenarioNotificationChanges(memberId, since);
+
+		// then
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getBody()).isEqualTo(expectedResponse);
+		assertThat(response.getHeaders().getFirst("ETag")).isEqualTo("1002");
+		verify(notificationCacheService).getScenarioNotificationChanges(memberId, since);
+	}
+
+
 	@Test
 	void Given_ValidRequest_When_GetSingleScenarioNotification_Then_ReturnNotification() {
 		// given
@@ -264,4 +322,54 @@ class NotificationControllerTest {
 		verify(notificationService).updateNotificationActiveStatus(differentMemberId, isActive);
 	}
 
+
+	@Test
+	void Given_LocationUpdate_When_ReportLocation_Then_ReturnEnteredNotifications() {
+		// given
+		LocationUpdateRequest request = LocationUpdateRequest.builder()
+			.latitude(37.566535)
+			.longitude(126.977969)
+			.build();
+		LocationNotificationMatchResponse expectedResponse = new LocationNotificationMatchResponse(List.of(
+			ScenarioNotificationResponse.builder()
+				.scenarioId(scenarioId)
+				.scenarioName("헬스장")
+				.build()
+		));
+
+		given(locationNotificationService.findEnteredNotifications(memberId, request)).willReturn(expectedResponse);
+
+		// when
+		ResponseEntity<LocationNotificationMatchResponse> response =
+			notificationController.reportLocation(memberId, request);
+
+		// then
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getBody()).isEqualTo(expectedResponse);
+	}
+
+
+	@Test
+	void Given_LocationSamples_When_ReportLocations_Then_ReturnEnteredNotifications() {
+		// given
+		LocationBatchUpdateRequest request = new LocationBatchUpdateRequest(List.of(
+			LocationSampleRequest.builder()
+				.timestamp(Instant.parse("2025-01-06T00:30:00Z"))
+				.latitude(37.566535)
+				.longitude(126.977969)
+				.build()
+		));
+		LocationNotificationMatchResponse expectedResponse = new LocationNotificationMatchResponse(List.of());
+
+		given(locationNotificationService.findEnteredNotifications(memberId, request)).willReturn(expectedResponse);
+
+		// when
+		ResponseEntity<LocationNotificationMatchResponse> response =
+			notificationController.reportLocations(memberId, request);
+
+		// then
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getBody()).isEqualTo(expectedResponse);
+	}
+
 }
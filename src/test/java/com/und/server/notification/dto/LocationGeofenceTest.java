@@ -0,0 +1,101 @@
+package com.und.server.notification.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.und.server.notification.constants.LocationTrackingRadiusType;
+import com.und.server.notification.constants.NotificationType;
+import com.und.server.notification.dto.response.LocationNotificationResponse;
+import com.und.server.notification.dto.response.ScenarioNotificationResponse;
+
+
+class LocationGeofenceTest {
+
+	@Test
+	void Given_LocationScenarioNotification_When_From_Then_ReturnGeofence() {
+		// given
+		ScenarioNotificationResponse scenarioNotification = ScenarioNotificationResponse.builder()
+			.notificationId(2L)
+			.notificationType(NotificationType.LOCATION)
+			.daysOfWeekOrdinal(List.of(0, 1))
+			.notificationCondition(LocationNotificationResponse.builder()
+				.notificationType(NotificationType.LOCATION)
+				.latitude(new BigDecimal("37.566535"))
+				.longitude(new BigDecimal("126.977969"))
+				.trackingRadiusType(LocationTrackingRadiusType.KM_1)
+				.startHour(8)
+				.startMinute(15)
+				.endHour(22)
+				.endMinute(0)
+				.build())
+			.build();
+
+		// when
+		LocationGeofence geofence = LocationGeofence.from(scenarioNotification);
+
+		// then
+		assertThat(geofence.notificationId()).isEqualTo(2L);
+		assertThat(geofence.latitude()).isEqualTo(37.566535);
+		assertThat(geofence.radiusMeters()).isEqualTo(1_000);
+		assertThat(geofence.startMinuteOfDay()).isEqualTo(8 * 60 + 15);
+		assertThat(geofence.endMinuteOfDay()).isEqualTo(22 * 60);
+		assertThat(geofence.scenarioNotification()).isEqualTo(scenarioNotification);
+	}
+
+
+	@Test
+	void Given_PointsAroundRadius_When_Contains_Then_ReturnWhetherInside() {
+		// given
+		LocationGeofence geofence = createGeofence(500, 0, 24 * 60 - 1);
+
+		// when & then
+		assertThat(geofence.contains(37.5665, 126.9780)).isTrue();
+		// about 440m north
+		assertThat(geofence.contains(37.5705, 126.9780)).isTrue();
+		// about 560m north
+		assertThat(geofence.contains(37.5715, 126.9780)).isFalse();
+	}
+
+
+	@Test
+	void Given_DaytimeWindow_When_IsTrackingAt_Then_CheckDayAndMinute() {
+		// given
+		LocationGeofence geofence = createGeofence(500, 8 * 60, 10 * 60);
+
+		// when & then
+		assertThat(geofence.isTrackingAt(0, 9 * 60)).isTrue();
+		assertThat(geofence.isTrackingAt(0, 10 * 60 + 1)).isFalse();
+		assertThat(geofence.isTrackingAt(1, 9 * 60)).isFalse();
+	}
+
+
+	@Test
+	void Given_WindowCrossingMidnight_When_IsTrackingAt_Then_ApplyPreviousDayAfterMidnight() {
+		// given
+		LocationGeofence geofence = createGeofence(500, 22 * 60, 2 * 60);
+
+		// when & then
+		assertThat(geofence.isTrackingAt(0, 23 * 60)).isTrue();
+		assertThat(geofence.isTrackingAt(1, 60)).isTrue();
+		assertThat(geofence.isTrackingAt(0, 60)).isFalse();
+		assertThat(geofence.isTrackingAt(1, 3 * 60)).isFalse();
+		assertThat(geofence.isTrackingAt(1, 23 * 60)).isFalse();
+	}
+
+	private LocationGeofence createGeofence(final int radiusMeters, final int startMinute, final int endMinute) {
+		return LocationGeofence.builder()
+			.notificationId(1L)
+			.latitude(37.5665)
+			.longitude(126.9780)
+			.radiusMeters(radiusMeters)
+			.daysOfWeekOrdinal(List.of(0))
+			.startMinuteOfDay(startMinute)
+			.endMinuteOfDay(endMinute)
+			.build();
+	}
+
+}
@@ -0,0 +1,49 @@
+package com.und.server.notification.dto.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class NotificationCacheVersionTest {
+
+	private final NotificationCacheVersion cacheVersion =
+		new NotificationCacheVersion(1000L, 1003L, Map.of(1L, 1001L, 2L, 1003L));
+
+
+	@Test
+	void Given_SinceWithinRange_When_IsDeltaAvailable_Then_ReturnTrue() {
+		// when & then
+		assertThat(cacheVersion.isDeltaAvailable(1000L)).isTrue();
+		assertThat(cacheVersion.isDeltaAvailable(1003L)).isTrue();
+	}
+
+
+	@Test
+	void Given_SinceOutOfRange_When_IsDeltaAvailable_Then_ReturnFalse() {
+		// when & then
+		assertThat(cacheVersion.isDeltaAvailable(null)).isFalse();
+		assertThat(cacheVersion.isDeltaAvailable(999L)).isFalse();
+		assertThat(cacheVersion.isDeltaAvailable(1004L)).isFalse();
+	}
+
+
+	@Test
+	void Given_Since_When_FindChangedScenarioIds_Then_ReturnOnlyNewerScenarios() {
+		// when & then
+		assertThat(cacheVersion.findChangedScenarioIds(1001L)).containsExactly(2L);
+		assertThat(cacheVersion.findChangedScenarioIds(1000L)).containsExactlyInAnyOrder(1L, 2L);
+	}
+
+
+	@Test
+	void Given_MissingCurrentVersion_When_From_Then_ReturnNull() {
+		// when
+		NotificationCacheVersion result = NotificationCacheVersion.from(Map.of("base", "1000"));
+
+		// then
+		assertThat(result).isNull();
+	}
+
+}
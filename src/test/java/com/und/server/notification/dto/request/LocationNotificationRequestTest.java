@@ -0,0 +1,56 @@
+package com.und.server.notification.dto.request;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+
+import com.und.server.notification.constants.LocationTrackingRadiusType;
+import com.und.server.notification.constants.NotificationType;
+import com.und.server.notification.entity.LocationNotification;
+import com.und.server.notification.entity.Notification;
+
+class LocationNotificationRequestTest {
+
+	@Test
+	void constructor_nullType_defaultsToLocation() {
+		LocationNotificationRequest req = LocationNotificationRequest.builder()
+			.notificationType(null)
+			.build();
+
+		assertThat(req.notificationType()).isEqualTo(NotificationType.LOCATION);
+	}
+
+	@Test
+	void constructor_givenType_keepsType() {
+		LocationNotificationRequest req = LocationNotificationRequest.builder()
+			.notificationType(NotificationType.LOCATION)
+			.build();
+
+		assertThat(req.notificationType()).isEqualTo(NotificationType.LOCATION);
+	}
+
+	@Test
+	void toEntity_mapsFields() {
+		Notification notification = Notification.builder().id(1L).build();
+
+		LocationNotificationRequest req = LocationNotificationRequest.builder()
+			.latitude(new BigDecimal("37.566535"))
+			.longitude(new BigDecimal("126.977969"))
+			.trackingRadiusType(LocationTrackingRadiusType.KM_1)
+			.startHour(8)
+			.startMinute(0)
+			.endHour(10)
+			.endMinute(30)
+			.build();
+
+		LocationNotification entity = req.toEntity(notification);
+
+		assertThat(entity.getNotification()).isEqualTo(notification);
+		assertThat(entity.getLatitude()).isEqualTo(new BigDecimal("37.566535"));
+		assertThat(entity.getTrackingRadiusType()).isEqualTo(LocationTrackingRadiusType.KM_1);
+		assertThat(entity.getEndMinute()).isEqualTo(30);
+	}
+
+}
@@ -10,6 +10,7 @@ import com.und.server.notification.constants.NotificationMethodType;
 import com.und.server.notification.constants.NotificationType;
 import com.und.server.notification.dto.cache.NotificationCacheData;
 import com.und.server.notification.entity.Notification;
+import com.und.server.notification.util.DaysOfWeekMask;
 import com.und.server.scenario.entity.Scenario;
 
 
@@ -66,7 +67,7 @@ class ScenarioNotificationResponseTest {
 			.id(notificationId)
 			.notificationType(notificationType)
 			.notificationMethodType(notificationMethodType)
-			.daysOfWeek("1,2,3,4,5")
+			.daysMask(DaysOfWeekMask.from(List.of(1, 2, 3, 4, 5)))
 			.build();
 
 		Scenario scenario = Scenario.builder()
@@ -167,7 +168,7 @@ class ScenarioNotificationResponseTest {
 			.id(notificationId)
 			.notificationType(notificationType)
 			.notificationMethodType(NotificationMethodType.ALARM)
-			.daysOfWeek("1,2,3,4,5")
+			.daysMask(DaysOfWeekMask.from(List.of(1, 2, 3, 4, 5)))
 			.build();
 
 		Scenario scenario = Scenario.builder()
@@ -1,9 +1,5 @@
 package com.und.server.notification.event;
 
-import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.Mockito.doAnswer;
-import static org.mockito.Mockito.doThrow;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import org.junit.jupiter.api.Test;
@@ -12,7 +8,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import com.und.server.notification.service.NotificationCacheService;
 
 @ExtendWith(MockitoExtension.class)
 class ActiveUpdateEventListenerTest {
@@ -21,13 +16,13 @@ class ActiveUpdateEventListenerTest {
 	private ActiveUpdateEventListener activeUpdateEventListener;
 
 	@Mock
-	private NotificationCacheService notificationCacheService;
+	private NotificationOutboxWriter notificationOutboxWriter;
 
 	private final Long memberId = 1L;
 
 
 	@Test
-	void Given_ActiveUpdateEventWithTrue_When_HandleActiveUpdate_Then_RefreshCacheFromDatabase() {
+	void Given_ActiveUpdateEventWithTrue_When_HandleActiveUpdate_Then_AppendRefresh() {
 		// given
 		ActiveUpdateEvent event = new ActiveUpdateEvent(memberId, true);
 
@@ -35,12 +30,12 @@ class ActiveUpdateEventListenerTest {
 		activeUpdateEventListener.handleActiveUpdate(event);
 
 		// then
-		verify(notificationCacheService).refreshCacheFromDatabase(memberId);
+		verify(notificationOutboxWriter).appendRefresh(memberId);
 	}
 
 
 	@Test
-	void Given_ActiveUpdateEventWithFalse_When_HandleActiveUpdate_Then_DeleteMemberAllCache() {
+	void Given_ActiveUpdateEventWithFalse_When_HandleActiveUpdate_Then_AppendEvict() {
 		// given
 		ActiveUpdateEvent event = new ActiveUpdateEvent(memberId, false);
 
@@ -48,12 +43,12 @@ class ActiveUpdateEventListenerTest {
 		activeUpdateEventListener.handleActiveUpdate(event);
 
 		// then
-		verify(notificationCacheService).deleteMemberAllCache(memberId);
+		verify(notificationOutboxWriter).appendEvict(memberId);
 	}
 
 
 	@Test
-	void Given_ActiveUpdateEventWithDifferentMemberId_When_HandleActiveUpdate_Then_RefreshCacheFromDatabase() {
+	void Given_ActiveUpdateEventWithDifferentMemberId_When_HandleActiveUpdate_Then_AppendRefresh() {
 		// given
 		Long differentMemberId = 2L;
 		ActiveUpdateEvent event = new ActiveUpdateEvent(differentMemberId, true);
@@ -62,12 +57,12 @@ class ActiveUpdateEventListenerTest {
 		activeUpdateEventListener.handleActiveUpdate(event);
 
 		// then
-		verify(notificationCacheService).refreshCacheFromDatabase(differentMemberId);
+		verify(notificationOutboxWriter).appendRefresh(differentMemberId);
 	}
 
 
 	@Test
-	void Given_ActiveUpdateEventWithDifferentMemberIdAndFalse_When_HandleActiveUpdate_Then_DeleteMemberAllCache() {
+	void Given_ActiveUpdateEventWithDifferentMemberIdAndFalse_When_HandleActiveUpdate_Then_AppendEvict() {
 		// given
 		Long differentMemberId = 3L;
 		ActiveUpdateEvent event = new ActiveUpdateEvent(differentMemberId, false);
@@ -76,41 +71,7 @@ class ActiveUpdateEventListenerTest {
 		activeUpdateEventListener.handleActiveUpdate(event);
 
 		// then
-		verify(notificationCacheService).deleteMemberAllCache(differentMemberId);
-	}
-
-
-	@Test
-	void Given_ExceptionOccursWhenActiveTrue_When_HandleActiveUpdate_Then_DeleteMemberAllCache() {
-		// given
-		ActiveUpdateEvent event = new ActiveUpdateEvent(memberId, true);
-
-		doThrow(new RuntimeException("Cache refresh failed"))
-			.when(notificationCacheService).refreshCacheFromDatabase(anyLong());
-
-		// when
-		activeUpdateEventListener.handleActiveUpdate(event);
-
-		// then
-		verify(notificationCacheService).refreshCacheFromDatabase(memberId);
-		verify(notificationCacheService).deleteMemberAllCache(memberId);
-	}
-
-
-	@Test
-	void Given_ExceptionOccursWhenActiveFalse_When_HandleActiveUpdate_Then_DeleteMemberAllCache() {
-		// given
-		ActiveUpdateEvent event = new ActiveUpdateEvent(memberId, false);
-
-		doAnswer(invocation -> {
-			throw new RuntimeException("Cache delete failed");
-		}).doNothing().when(notificationCacheService).deleteMemberAllCache(anyLong());
-
-		// when
-		activeUpdateEventListener.handleActiveUpdate(event);
-
-		// then
-		verify(notificationCacheService, times(2)).deleteMemberAllCache(memberId);
+		verify(notificationOutboxWriter).appendEvict(differentMemberId);
 	}
 
 }
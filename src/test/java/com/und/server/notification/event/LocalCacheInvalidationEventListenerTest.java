@@ -0,0 +1,67 @@
+package com.und.server.notification.event;
+
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.und.server.notification.invalidation.LocalCacheInvalidationBus;
+import com.und.server.scenario.entity.Scenario;
+
+
+@ExtendWith(MockitoExtension.class)
+class LocalCacheInvalidationEventListenerTest {
+
+	@InjectMocks
+	private LocalCacheInvalidationEventListener localCacheInvalidationEventListener;
+
+	@Mock
+	private LocalCacheInvalidationBus localCacheInvalidationBus;
+
+	private final Long memberId = 1L;
+	private final Scenario scenario = Scenario.builder().id(10L).build();
+
+
+	@Test
+	void Given_ScenarioCreateEvent_When_HandleCreate_Then_PublishInvalidation() {
+		// when
+		localCacheInvalidationEventListener.handleCreate(new ScenarioCreateEvent(memberId, scenario));
+
+		// then
+		verify(localCacheInvalidationBus).publish(memberId);
+	}
+
+
+	@Test
+	void Given_ScenarioUpdateEvent_When_HandleUpdate_Then_PublishInvalidation() {
+		// when
+		localCacheInvalidationEventListener.handleUpdate(new ScenarioUpdateEvent(memberId, scenario, true));
+
+		// then
+		verify(localCacheInvalidationBus).publish(memberId);
+	}
+
+
+	@Test
+	void Given_ScenarioDeleteEvent_When_HandleDelete_Then_PublishInvalidation() {
+		// when
+		localCacheInvalidationEventListener.handleDelete(new ScenarioDeleteEvent(memberId, 10L, true));
+
+		// then
+		verify(localCacheInvalidationBus).publish(memberId);
+	}
+
+
+	@Test
+	void Given_ActiveUpdateEvent_When_HandleActiveUpdate_Then_PublishInvalidation() {
+		// when
+		localCacheInvalidationEventListener.handleActiveUpdate(new ActiveUpdateEvent(memberId, false));
+
+		// then
+		verify(localCacheInvalidationBus).publish(memberId);
+	}
+
+}
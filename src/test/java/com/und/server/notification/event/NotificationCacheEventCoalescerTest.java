@@ -0,0 +1,223 @@
+package com.und.server.notification.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.und.server.notification.dto.response.TimeNotificationResponse;
+import com.und.server.notification.entity.Notification;
+import com.und.server.notification.service.NotificationCacheService;
+import com.und.server.scenario.entity.Scenario;
+
+
+@ExtendWith(MockitoExtension.class)
+class NotificationCacheEventCoalescerTest {
+
+	@InjectMocks
+	private NotificationCacheEventCoalescer eventCoalescer;
+
+	@Mock
+	private NotificationCacheService notificationCacheService;
+
+	private final Long memberId = 1L;
+	private final Scenario scenario = Scenario.builder()
+		.id(10L)
+		.notification(Notification.builder().id(100L).build())
+		.build();
+
+
+	@Test
+	void Given_NoPendingMutation_When_Flush_Then_DoNothing() {
+		// when
+		eventCoalescer.flush();
+
+		// then
+		verifyNoInteractions(notificationCacheService);
+	}
+
+
+	@Test
+	void Given_SingleUpsert_When_Flush_Then_UpdateCacheOnce() {
+		// given
+		eventCoalescer.upsert(memberId, scenario);
+		eventCoalescer.upsert(memberId, scenario);
+
+		// when
+		eventCoalescer.flush();
+		eventCoalescer.flush();
+
+		// then
+		verify(notificationCacheService).findNotificationConditions(List.of(scenario));
+		verify(notificationCacheService).updateCache(memberId, scenario);
+		verifyNoMoreInteractions(notificationCacheService);
+	}
+
+
+	@Test
+	void Given_UpsertsOfSeveralMembers_When_Flush_Then_LoadConditionsOnceForAll() {
+		// given
+		Long otherMemberId = 2L;
+		Scenario otherScenario = Scenario.builder()
+			.id(20L)
+			.notification(Notification.builder().id(200L).build())
+			.build();
+		TimeNotificationResponse condition = TimeNotificationResponse.builder().startHour(9).build();
+		TimeNotificationResponse otherCondition = TimeNotificationResponse.builder().startHour(18).build();
+		given(notificationCacheService.findNotificationConditions(argThat(scenarios -> scenarios.size() == 2)))
+			.willReturn(Map.of(100L, condition, 200L, otherCondition));
+		eventCoalescer.upsert(memberId, scenario);
+		eventCoalescer.upsert(otherMemberId, otherScenario);
+
+		// when
+		eventCoalescer.flush();
+
+		// then
+		verify(notificationCacheService).updateCache(memberId, scenario, condition);
+		verify(notificationCacheService).updateCache(otherMemberId, otherScenario, otherCondition);
+		verify(notificationCacheService, never()).updateCache(anyLong(), any(Scenario.class));
+	}
+
+
+	@Test
+	void Given_BulkConditionLookupFails_When_Flush_Then_FallBackToSingleLookup() {
+		// given
+		given(notificationCacheService.findNotificationConditions(List.of(scenario)))
+			.willThrow(new RuntimeException("Database unavailable"));
+		eventCoalescer.upsert(memberId, scenario);
+
+		// when
+		Set<Long> failedMemberIds = eventCoalescer.flush();
+
+		// then
+		assertThat(failedMemberIds).isEmpty();
+		verify(notificationCacheService).updateCache(memberId, scenario);
+	}
+
+
+	@Test
+	void Given_UpsertThenDeleteOfSameScenario_When_Flush_Then_DeleteCacheOnly() {
+		// given
+		eventCoalescer.upsert(memberId, scenario);
+		eventCoalescer.delete(memberId, scenario.getId());
+
+		// when
+		eventCoalescer.flush();
+
+		// then
+		verify(notificationCacheService).deleteCache(memberId, scenario.getId());
+		verifyNoMoreInteractions(notificationCacheService);
+	}
+
+
+	@Test
+	void Given_MutationsOnSeveralScenarios_When_Flush_Then_RefreshOnce() {
+		// given
+		eventCoalescer.upsert(memberId, scenario);
+		eventCoalescer.delete(memberId, 20L);
+
+		// when
+		eventCoalescer.flush();
+
+		// then
+		verify(notificationCacheService).refreshCacheFromDatabase(memberId);
+		verifyNoMoreInteractions(notificationCacheService);
+	}
+
+
+	@Test
+	void Given_RefreshThenUpsert_When_Flush_Then_RefreshOnce() {
+		// given
+		eventCoalescer.refresh(memberId);
+		eventCoalescer.upsert(memberId, scenario);
+
+		// when
+		eventCoalescer.flush();
+
+		// then
+		verify(notificationCacheService).refreshCacheFromDatabase(memberId);
+		verifyNoMoreInteractions(notificationCacheService);
+	}
+
+
+	@Test
+	void Given_UpsertThenEvict_When_Flush_Then_DeleteMemberAllCacheOnly() {
+		// given
+		eventCoalescer.upsert(memberId, scenario);
+		eventCoalescer.evict(memberId);
+
+		// when
+		eventCoalescer.flush();
+
+		// then
+		verify(notificationCacheService).deleteMemberAllCache(memberId);
+		verifyNoMoreInteractions(notificationCacheService);
+	}
+
+
+	@Test
+	void Given_EvictThenDelete_When_Flush_Then_RefreshOnce() {
+		// given
+		eventCoalescer.evict(memberId);
+		eventCoalescer.delete(memberId, scenario.getId());
+
+		// when
+		eventCoalescer.flush();
+
+		// then
+		verify(notificationCacheService).refreshCacheFromDatabase(memberId);
+		verifyNoMoreInteractions(notificationCacheService);
+	}
+
+
+	@Test
+	void Given_MutationsOfDifferentMembers_When_Flush_Then_ApplyPerMember() {
+		// given
+		Long otherMemberId = 2L;
+		eventCoalescer.upsert(memberId, scenario);
+		eventCoalescer.delete(otherMemberId, 30L);
+
+		// when
+		eventCoalescer.flush();
+
+		// then
+		verify(notificationCacheService).updateCache(memberId, scenario);
+		verify(notificationCacheService).deleteCache(otherMemberId, 30L);
+		verify(notificationCacheService, never()).refreshCacheFromDatabase(memberId);
+	}
+
+
+	@Test
+	void Given_CacheMutationFails_When_Flush_Then_ReturnFailedMember() {
+		// given
+		Long otherMemberId = 2L;
+		eventCoalescer.upsert(memberId, scenario);
+		eventCoalescer.delete(otherMemberId, 30L);
+		doThrow(new RuntimeException("Redis connection failed"))
+			.when(notificationCacheService).updateCache(memberId, scenario);
+
+		// when
+		Set<Long> failedMemberIds = eventCoalescer.flush();
+
+		// then
+		assertThat(failedMemberIds).containsExactly(memberId);
+		verify(notificationCacheService, never()).deleteMemberAllCache(memberId);
+	}
+
+}
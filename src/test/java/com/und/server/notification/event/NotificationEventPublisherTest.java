@@ -3,6 +3,8 @@ package com.und.server.notification.event;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -203,4 +205,14 @@ class NotificationEventPublisherTest {
 		verify(eventPublisher).publishEvent(any(ActiveUpdateEvent.class));
 	}
 
+
+	@Test
+	void Given_NotificationIds_When_PublishScheduleChangeEvent_Then_PublishScheduleChangeEvent() {
+		// when
+		notificationEventPublisher.publishScheduleChangeEvent(List.of(1L, 2L));
+
+		// then
+		verify(eventPublisher).publishEvent(new TimeNotificationScheduleChangeEvent(List.of(1L, 2L)));
+	}
+
 }
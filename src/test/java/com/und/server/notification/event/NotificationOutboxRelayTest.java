@@ -0,0 +1,263 @@
+package com.und.server.notification.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import com.und.server.notification.constants.NotificationOutboxEventType;
+import com.und.server.notification.entity.Notification;
+import com.und.server.notification.entity.NotificationOutbox;
+import com.und.server.notification.repository.NotificationOutboxRepository;
+import com.und.server.scenario.entity.Scenario;
+import com.und.server.scenario.repository.ScenarioRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+
+@ExtendWith(MockitoExtension.class)
+class NotificationOutboxRelayTest {
+
+	// Monday 09:30 in Asia/Seoul
+	private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 6, 9, 30);
+
+	@Mock
+	private NotificationOutboxRepository notificationOutboxRepository;
+
+	@Mock
+	private ScenarioRepository scenarioRepository;
+
+	@Mock
+	private NotificationCacheEventCoalescer eventCoalescer;
+
+	@Mock
+	private Clock clock;
+
+	private MeterRegistry meterRegistry;
+	private NotificationOutboxRelay notificationOutboxRelay;
+
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		notificationOutboxRelay = new NotificationOutboxRelay(
+			notificationOutboxRepository, scenarioRepository, eventCoalescer, meterRegistry, clock);
+	}
+
+
+	@Test
+	void Given_EmptyOutbox_When_Relay_Then_DoNothing() {
+		// given
+		givenNow();
+		given(notificationOutboxRepository.findClaimableIds(NOW, Limit.of(500))).willReturn(List.of());
+
+		// when
+		notificationOutboxRelay.relay();
+
+		// then
+		verify(notificationOutboxRepository, never()).claim(any(), anyString(), any(), any());
+		verify(eventCoalescer, never()).flush();
+	}
+
+
+	@Test
+	void Given_ScenarioRows_When_Relay_Then_ApplyCurrentScenarioStateAndDeleteRows() {
+		// given
+		Scenario activeScenario = createScenario(10L, true);
+		Scenario inactiveScenario = createScenario(20L, false);
+		givenClaimed(List.of(
+			createOutbox(1L, 10L, NotificationOutboxEventType.SCENARIO),
+			createOutbox(2L, 20L, NotificationOutboxEventType.SCENARIO),
+			createOutbox(3L, 30L, NotificationOutboxEventType.SCENARIO)));
+		given(scenarioRepository.findByIdIn(List.of(10L, 20L, 30L)))
+			.willReturn(List.of(activeScenario, inactiveScenario));
+		given(eventCoalescer.flush()).willReturn(Set.of());
+
+		// when
+		notificationOutboxRelay.relay();
+
+		// then
+		verify(eventCoalescer).upsert(1L, activeScenario);
+		verify(eventCoalescer).delete(1L, 20L);
+		verify(eventCoalescer).delete(1L, 30L);
+		verify(notificationOutboxRepository).deleteAllByIdInBatch(List.of(1L, 2L, 3L));
+		assertThat(meterRegistry.counter("notification.outbox.relayed").count()).isEqualTo(3);
+		assertThat(meterRegistry.timer("notification.outbox.lag").max(TimeUnit.SECONDS)).isEqualTo(5);
+	}
+
+
+	@Test
+	void Given_MemberRows_When_Relay_Then_QueueMemberActions() {
+		// given
+		givenClaimed(List.of(
+			createOutbox(1L, null, NotificationOutboxEventType.REFRESH),
+			createOutbox(2L, null, NotificationOutboxEventType.EVICT)));
+		given(eventCoalescer.flush()).willReturn(Set.of());
+
+		// when
+		notificationOutboxRelay.relay();
+
+		// then
+		verify(eventCoalescer).refresh(1L);
+		verify(eventCoalescer).evict(1L);
+		verify(scenarioRepository, never()).findByIdIn(any());
+		verify(notificationOutboxRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+	}
+
+
+	@Test
+	void Given_RowsClaimedByAnotherRelay_When_Relay_Then_SkipApply() {
+		// given
+		givenNow();
+		given(notificationOutboxRepository.findClaimableIds(NOW, Limit.of(500))).willReturn(List.of(1L));
+		given(notificationOutboxRepository.claim(eq(List.of(1L)), anyString(), eq(NOW), eq(NOW.plusSeconds(30))))
+			.willReturn(0);
+
+		// when
+		notificationOutboxRelay.relay();
+
+		// then
+		verify(notificationOutboxRepository, never()).findByClaimedByAndClaimedUntilGreaterThanOrderByIdAsc(
+			anyString(), any());
+		verify(eventCoalescer, never()).flush();
+	}
+
+
+	@Test
+	void Given_FailedMember_When_Relay_Then_ReleaseRowsWithBackoff() {
+		// given
+		NotificationOutbox failedRow = createOutbox(1L, null, NotificationOutboxEventType.REFRESH);
+		NotificationOutbox relayedRow = NotificationOutbox.builder()
+			.id(2L)
+			.memberId(2L)
+			.eventType(NotificationOutboxEventType.EVICT)
+			.createdAt(NOW)
+			.build();
+		givenClaimed(List.of(failedRow, relayedRow));
+		given(eventCoalescer.flush()).willReturn(Set.of(1L));
+
+		// when
+		notificationOutboxRelay.relay();
+
+		// then
+		verify(notificationOutboxRepository).release(List.of(1L), NOW.plusSeconds(2), 1);
+		verify(notificationOutboxRepository).deleteAllByIdInBatch(List.of(2L));
+		assertThat(meterRegistry.counter("notification.outbox.failed").count()).isEqualTo(1);
+	}
+
+
+	@Test
+	void Given_MemberFailedTooOften_When_Relay_Then_EvictMemberCacheAndDropRows() {
+		// given
+		givenClaimed(List.of(createOutbox(1L, null, NotificationOutboxEventType.REFRESH, 4)));
+		given(eventCoalescer.flush()).willReturn(Set.of(1L), Set.of());
+
+		// when
+		notificationOutboxRelay.relay();
+
+		// then
+		verify(eventCoalescer).evict(1L);
+		verify(notificationOutboxRepository, never()).release(any(), any(), anyInt());
+		verify(notificationOutboxRepository).deleteAllByIdInBatch(List.of(1L));
+		assertThat(meterRegistry.counter("notification.outbox.evicted").count()).isEqualTo(1);
+	}
+
+
+	@Test
+	void Given_FallbackEvictFails_When_Relay_Then_KeepRowsAtMaxBackoff() {
+		// given
+		givenClaimed(List.of(createOutbox(1L, null, NotificationOutboxEventType.REFRESH, 9)));
+		given(eventCoalescer.flush()).willReturn(Set.of(1L), Set.of(1L));
+
+		// when
+		notificationOutboxRelay.relay();
+
+		// then
+		verify(notificationOutboxRepository).release(List.of(1L), NOW.plusSeconds(32), 5);
+		verify(notificationOutboxRepository).deleteAllByIdInBatch(List.of());
+		assertThat(meterRegistry.counter("notification.outbox.evicted").count()).isZero();
+	}
+
+
+	@Test
+	void Given_FullBatch_When_Relay_Then_ClaimNextBatch() {
+		// given
+		List<NotificationOutbox> fullBatch = LongStream.rangeClosed(1, 500)
+			.mapToObj(id -> createOutbox(id, null, NotificationOutboxEventType.REFRESH))
+			.toList();
+		givenClaimed(fullBatch);
+		given(notificationOutboxRepository.findClaimableIds(NOW, Limit.of(500)))
+			.willReturn(fullBatch.stream().map(NotificationOutbox::getId).toList(), List.of());
+		given(eventCoalescer.flush()).willReturn(Set.of());
+
+		// when
+		notificationOutboxRelay.relay();
+
+		// then
+		verify(notificationOutboxRepository, times(2)).findClaimableIds(NOW, Limit.of(500));
+	}
+
+	private void givenClaimed(final List<NotificationOutbox> batch) {
+		givenNow();
+		List<Long> ids = batch.stream().map(NotificationOutbox::getId).toList();
+		given(notificationOutboxRepository.findClaimableIds(NOW, Limit.of(500))).willReturn(ids);
+		given(notificationOutboxRepository.claim(eq(ids), anyString(), eq(NOW), eq(NOW.plusSeconds(30))))
+			.willReturn(batch.size());
+		given(notificationOutboxRepository.findByClaimedByAndClaimedUntilGreaterThanOrderByIdAsc(anyString(), eq(NOW)))
+			.willReturn(batch);
+	}
+
+	private void givenNow() {
+		given(clock.withZone(any()))
+			.willReturn(Clock.fixed(Instant.parse("2025-01-06T00:30:00Z"), ZoneId.of("Asia/Seoul")));
+	}
+
+	private Scenario createScenario(final Long scenarioId, final boolean isActive) {
+		return Scenario.builder()
+			.id(scenarioId)
+			.notification(Notification.builder().id(scenarioId).isActive(isActive).build())
+			.build();
+	}
+
+	private NotificationOutbox createOutbox(
+		final Long id, final Long scenarioId, final NotificationOutboxEventType eventType
+	) {
+		return createOutbox(id, scenarioId, eventType, 0);
+	}
+
+	private NotificationOutbox createOutbox(
+		final Long id, final Long scenarioId, final NotificationOutboxEventType eventType, final int attempts
+	) {
+		return NotificationOutbox.builder()
+			.id(id)
+			.memberId(1L)
+			.scenarioId(scenarioId)
+			.eventType(eventType)
+			.createdAt(NOW.minusSeconds(5))
+			.attempts(attempts)
+			.build();
+	}
+
+}
@@ -0,0 +1,92 @@
+package com.und.server.notification.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.und.server.notification.constants.NotificationOutboxEventType;
+import com.und.server.notification.entity.NotificationOutbox;
+import com.und.server.notification.repository.NotificationOutboxRepository;
+
+
+@ExtendWith(MockitoExtension.class)
+class NotificationOutboxWriterTest {
+
+	@InjectMocks
+	private NotificationOutboxWriter notificationOutboxWriter;
+
+	@Mock
+	private NotificationOutboxRepository notificationOutboxRepository;
+
+	@Mock
+	private Clock clock;
+
+	private final Long memberId = 1L;
+
+
+	@BeforeEach
+	void setUp() {
+		given(clock.withZone(any()))
+			.willReturn(Clock.fixed(Instant.parse("2025-01-06T00:30:00Z"), ZoneId.of("Asia/Seoul")));
+	}
+
+
+	@Test
+	void Given_ScenarioChange_When_AppendScenarioChange_Then_SaveScenarioRow() {
+		// when
+		notificationOutboxWriter.appendScenarioChange(memberId, 10L);
+
+		// then
+		NotificationOutbox outbox = captureSavedOutbox();
+		assertThat(outbox.getMemberId()).isEqualTo(memberId);
+		assertThat(outbox.getScenarioId()).isEqualTo(10L);
+		assertThat(outbox.getEventType()).isEqualTo(NotificationOutboxEventType.SCENARIO);
+		assertThat(outbox.getCreatedAt()).isEqualTo(LocalDateTime.of(2025, 1, 6, 9, 30));
+		assertThat(outbox.getClaimedUntil()).isEqualTo(outbox.getCreatedAt());
+	}
+
+
+	@Test
+	void Given_ActivatedMember_When_AppendRefresh_Then_SaveRefreshRow() {
+		// when
+		notificationOutboxWriter.appendRefresh(memberId);
+
+		// then
+		NotificationOutbox outbox = captureSavedOutbox();
+		assertThat(outbox.getScenarioId()).isNull();
+		assertThat(outbox.getEventType()).isEqualTo(NotificationOutboxEventType.REFRESH);
+	}
+
+
+	@Test
+	void Given_DeactivatedMember_When_AppendEvict_Then_SaveEvictRow() {
+		// when
+		notificationOutboxWriter.appendEvict(memberId);
+
+		// then
+		NotificationOutbox outbox = captureSavedOutbox();
+		assertThat(outbox.getScenarioId()).isNull();
+		assertThat(outbox.getEventType()).isEqualTo(NotificationOutboxEventType.EVICT);
+	}
+
+	private NotificationOutbox captureSavedOutbox() {
+		ArgumentCaptor<NotificationOutbox> captor = ArgumentCaptor.forClass(NotificationOutbox.class);
+		verify(notificationOutboxRepository).save(captor.capture());
+		return captor.getValue();
+	}
+
+}
@@ -1,9 +1,7 @@
 package com.und.server.notification.event;
 
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
@@ -14,7 +12,6 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.und.server.notification.entity.Notification;
-import com.und.server.notification.service.NotificationCacheService;
 import com.und.server.scenario.entity.Scenario;
 
 
@@ -25,14 +22,14 @@ class ScenarioCreateEventListenerTest {
 	private ScenarioCreateEventListener scenarioCreateEventListener;
 
 	@Mock
-	private NotificationCacheService notificationCacheService;
+	private NotificationOutboxWriter notificationOutboxWriter;
 
 	private final Long memberId = 1L;
 	private final Long scenarioId = 1L;
 
 
 	@Test
-	void Given_ValidScenarioWithActiveNotification_When_HandleCreate_Then_UpdateCache() {
+	void Given_ValidScenarioWithActiveNotification_When_HandleCreate_Then_AppendScenarioChange() {
 		// given
 		Notification notification = Notification.builder()
 			.id(1L)
@@ -52,7 +49,7 @@ class ScenarioCreateEventListenerTest {
 		scenarioCreateEventListener.handleCreate(event);
 
 		// then
-		verify(notificationCacheService).updateCache(eq(memberId), eq(scenario));
+		verify(notificationOutboxWriter).appendScenarioChange(eq(memberId), eq(scenario.getId()));
 	}
 
 
@@ -77,7 +74,7 @@ class ScenarioCreateEventListenerTest {
 		scenarioCreateEventListener.handleCreate(event);
 
 		// then
-		verify(notificationCacheService, never()).updateCache(anyLong(), any());
+		verify(notificationOutboxWriter, never()).appendScenarioChange(any(), any());
 	}
 
 
@@ -97,36 +94,7 @@ class ScenarioCreateEventListenerTest {
 		scenarioCreateEventListener.handleCreate(event);
 
 		// then
-		verify(notificationCacheService, never()).updateCache(anyLong(), any());
-	}
-
-
-	@Test
-	void Given_ExceptionOccurs_When_HandleCreate_Then_DeleteMemberAllCache() {
-		// given
-		Notification notification = Notification.builder()
-			.id(1L)
-			.isActive(true)
-			.build();
-
-		Scenario scenario = Scenario.builder()
-			.id(scenarioId)
-			.scenarioName("테스트 루틴")
-			.memo("테스트 메모")
-			.notification(notification)
-			.build();
-
-		ScenarioCreateEvent event = new ScenarioCreateEvent(memberId, scenario);
-
-		doThrow(new RuntimeException("Cache update failed"))
-			.when(notificationCacheService).updateCache(anyLong(), any());
-
-		// when
-		scenarioCreateEventListener.handleCreate(event);
-
-		// then
-		verify(notificationCacheService).updateCache(eq(memberId), eq(scenario));
-		verify(notificationCacheService).deleteMemberAllCache(eq(memberId));
+		verify(notificationOutboxWriter, never()).appendScenarioChange(any(), any());
 	}
 
 
@@ -151,7 +119,7 @@ class ScenarioCreateEventListenerTest {
 		scenarioCreateEventListener.handleCreate(event);
 
 		// then
-		verify(notificationCacheService).updateCache(eq(memberId), eq(scenario));
+		verify(notificationOutboxWriter).appendScenarioChange(eq(memberId), eq(scenario.getId()));
 	}
 
 }
@@ -1,8 +1,7 @@
 package com.und.server.notification.event;
 
-import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
@@ -12,7 +11,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import com.und.server.notification.service.NotificationCacheService;
 
 
 @ExtendWith(MockitoExtension.class)
@@ -22,14 +20,14 @@ class ScenarioDeleteEventListenerTest {
 	private ScenarioDeleteEventListener scenarioDeleteEventListener;
 
 	@Mock
-	private NotificationCacheService notificationCacheService;
+	private NotificationOutboxWriter notificationOutboxWriter;
 
 	private final Long memberId = 1L;
 	private final Long scenarioId = 1L;
 
 
 	@Test
-	void Given_ValidScenarioWithActiveNotification_When_HandleDelete_Then_DeleteCache() {
+	void Given_ValidScenarioWithActiveNotification_When_HandleDelete_Then_AppendScenarioChange() {
 		// given
 		ScenarioDeleteEvent event = new ScenarioDeleteEvent(memberId, scenarioId, true);
 
@@ -37,7 +35,7 @@ class ScenarioDeleteEventListenerTest {
 		scenarioDeleteEventListener.handleDelete(event);
 
 		// then
-		verify(notificationCacheService).deleteCache(eq(memberId), eq(scenarioId));
+		verify(notificationOutboxWriter).appendScenarioChange(eq(memberId), eq(scenarioId));
 	}
 
 
@@ -50,24 +48,7 @@ class ScenarioDeleteEventListenerTest {
 		scenarioDeleteEventListener.handleDelete(event);
 
 		// then
-		verify(notificationCacheService, never()).deleteCache(anyLong(), anyLong());
-	}
-
-
-	@Test
-	void Given_ExceptionOccurs_When_HandleDelete_Then_DeleteMemberAllCache() {
-		// given
-		ScenarioDeleteEvent event = new ScenarioDeleteEvent(memberId, scenarioId, true);
-
-		doThrow(new RuntimeException("Cache delete failed"))
-			.when(notificationCacheService).deleteCache(anyLong(), anyLong());
-
-		// when
-		scenarioDeleteEventListener.handleDelete(event);
-
-		// then
-		verify(notificationCacheService).deleteCache(eq(memberId), eq(scenarioId));
-		verify(notificationCacheService).deleteMemberAllCache(eq(memberId));
+		verify(notificationOutboxWriter, never()).appendScenarioChange(any(), any());
 	}
 
 
@@ -80,12 +61,12 @@ class ScenarioDeleteEventListenerTest {
 		scenarioDeleteEventListener.handleDelete(event);
 
 		// then
-		verify(notificationCacheService).deleteCache(eq(memberId), eq(scenarioId));
+		verify(notificationOutboxWriter).appendScenarioChange(eq(memberId), eq(scenarioId));
 	}
 
 
 	@Test
-	void Given_DifferentMemberIdAndScenarioId_When_HandleDelete_Then_DeleteCorrectCache() {
+	void Given_DifferentMemberIdAndScenarioId_When_HandleDelete_Then_QueueDeleteForMember() {
 		// given
 		Long differentMemberId = 2L;
 		Long differentScenarioId = 3L;
@@ -95,7 +76,7 @@ class ScenarioDeleteEventListenerTest {
 		scenarioDeleteEventListener.handleDelete(event);
 
 		// then
-		verify(notificationCacheService).deleteCache(eq(differentMemberId), eq(differentScenarioId));
+		verify(notificationOutboxWriter).appendScenarioChange(eq(differentMemberId), eq(differentScenarioId));
 	}
 
 }
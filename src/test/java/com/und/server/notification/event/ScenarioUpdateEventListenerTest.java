@@ -1,9 +1,7 @@
 package com.und.server.notification.event;
 
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
@@ -14,7 +12,6 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.und.server.notification.entity.Notification;
-import com.und.server.notification.service.NotificationCacheService;
 import com.und.server.scenario.entity.Scenario;
 
 
@@ -25,14 +22,14 @@ class ScenarioUpdateEventListenerTest {
 	private ScenarioUpdateEventListener scenarioUpdateEventListener;
 
 	@Mock
-	private NotificationCacheService notificationCacheService;
+	private NotificationOutboxWriter notificationOutboxWriter;
 
 	private final Long memberId = 1L;
 	private final Long scenarioId = 1L;
 
 
 	@Test
-	void Given_ValidScenarioWithActiveNotification_When_HandleUpdate_Then_UpdateCache() {
+	void Given_ValidScenarioWithActiveNotification_When_HandleUpdate_Then_AppendScenarioChange() {
 		// given
 		Notification notification = Notification.builder()
 			.id(1L)
@@ -52,13 +49,12 @@ class ScenarioUpdateEventListenerTest {
 		scenarioUpdateEventListener.handleUpdate(event);
 
 		// then
-		verify(notificationCacheService, never()).deleteCache(anyLong(), anyLong());
-		verify(notificationCacheService).updateCache(eq(memberId), eq(scenario));
+		verify(notificationOutboxWriter).appendScenarioChange(eq(memberId), eq(scenario.getId()));
 	}
 
 
 	@Test
-	void Given_ValidScenarioWithInactiveNotificationAndOldNotificationWasActive_When_HandleUpdate_Then_DeleteCache() {
+	void Given_ValidScenarioWithInactiveNotificationAndOldNotificationWasActive_When_HandleUpdate_Then_AppendChange() {
 		// given
 		Notification notification = Notification.builder()
 			.id(1L)
@@ -78,8 +74,7 @@ class ScenarioUpdateEventListenerTest {
 		scenarioUpdateEventListener.handleUpdate(event);
 
 		// then
-		verify(notificationCacheService).deleteCache(eq(memberId), eq(scenarioId));
-		verify(notificationCacheService, never()).updateCache(anyLong(), any());
+		verify(notificationOutboxWriter).appendScenarioChange(eq(memberId), eq(scenarioId));
 	}
 
 
@@ -104,13 +99,12 @@ class ScenarioUpdateEventListenerTest {
 		scenarioUpdateEventListener.handleUpdate(event);
 
 		// then
-		verify(notificationCacheService, never()).deleteCache(anyLong(), anyLong());
-		verify(notificationCacheService, never()).updateCache(anyLong(), any());
+		verify(notificationOutboxWriter, never()).appendScenarioChange(any(), any());
 	}
 
 
 	@Test
-	void Given_ValidScenarioWithNullNotificationAndOldNotificationWasActive_When_HandleUpdate_Then_DeleteCache() {
+	void Given_ValidScenarioWithNullNotificationAndOldNotificationWasActive_When_HandleUpdate_Then_AppendChange() {
 		// given
 		Scenario scenario = Scenario.builder()
 			.id(scenarioId)
@@ -125,8 +119,7 @@ class ScenarioUpdateEventListenerTest {
 		scenarioUpdateEventListener.handleUpdate(event);
 
 		// then
-		verify(notificationCacheService).deleteCache(eq(memberId), eq(scenarioId));
-		verify(notificationCacheService, never()).updateCache(anyLong(), any());
+		verify(notificationOutboxWriter).appendScenarioChange(eq(memberId), eq(scenarioId));
 	}
 
 
@@ -146,38 +139,7 @@ class ScenarioUpdateEventListenerTest {
 		scenarioUpdateEventListener.handleUpdate(event);
 
 		// then
-		verify(notificationCacheService, never()).deleteCache(anyLong(), anyLong());
-		verify(notificationCacheService, never()).updateCache(anyLong(), any());
-	}
-
-
-	@Test
-	void Given_ExceptionOccurs_When_HandleUpdate_Then_DeleteMemberAllCache() {
-		// given
-		Notification notification = Notification.builder()
-			.id(1L)
-			.isActive(true)
-			.build();
-
-		Scenario scenario = Scenario.builder()
-			.id(scenarioId)
-			.scenarioName("예외 발생 루틴")
-			.memo("예외 발생 메모")
-			.notification(notification)
-			.build();
-
-		ScenarioUpdateEvent event = new ScenarioUpdateEvent(memberId, scenario, false);
-
-		doThrow(new RuntimeException("Cache operation failed"))
-			.when(notificationCacheService).updateCache(anyLong(), any());
-
-		// when
-		scenarioUpdateEventListener.handleUpdate(event);
-
-		// then
-		verify(notificationCacheService, never()).deleteCache(anyLong(), anyLong());
-		verify(notificationCacheService).updateCache(eq(memberId), eq(scenario));
-		verify(notificationCacheService).deleteMemberAllCache(eq(memberId));
+		verify(notificationOutboxWriter, never()).appendScenarioChange(any(), any());
 	}
 
 
@@ -202,8 +164,7 @@ class ScenarioUpdateEventListenerTest {
 		scenarioUpdateEventListener.handleUpdate(event);
 
 		// then
-		verify(notificationCacheService, never()).deleteCache(anyLong(), anyLong());
-		verify(notificationCacheService).updateCache(eq(memberId), eq(scenario));
+		verify(notificationOutboxWriter).appendScenarioChange(eq(memberId), eq(scenario.getId()));
 	}
 
 }
@@ -0,0 +1,74 @@
+package com.und.server.notification.event;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.und.server.notification.dto.TimeNotificationSchedule;
+import com.und.server.notification.scheduler.TimeNotificationScheduleIndex;
+import com.und.server.scenario.repository.ScenarioRepository;
+
+@ExtendWith(MockitoExtension.class)
+class TimeNotificationScheduleChangeEventListenerTest {
+
+	@InjectMocks
+	private TimeNotificationScheduleChangeEventListener timeNotificationScheduleChangeEventListener;
+
+	@Mock
+	private ScenarioRepository scenarioRepository;
+
+	@Mock
+	private TimeNotificationScheduleIndex timeNotificationScheduleIndex;
+
+
+	@Test
+	void Given_ActiveAndRemovedNotifications_When_HandleScheduleChange_Then_ScheduleActiveAndUnscheduleRest() {
+		// given
+		given(scenarioRepository.findActiveTimeNotificationSchedulesByNotificationIds(List.of(1L, 2L)))
+			.willReturn(List.of(createSchedule(1L)));
+
+		// when
+		timeNotificationScheduleChangeEventListener.handleScheduleChange(
+			new TimeNotificationScheduleChangeEvent(List.of(1L, 2L)));
+
+		// then
+		verify(timeNotificationScheduleIndex).schedule(1L, List.of(0, 1, 2), 7, 45);
+		verify(timeNotificationScheduleIndex).unschedule(List.of(2L));
+	}
+
+
+	@Test
+	void Given_AllNotificationsActive_When_HandleScheduleChange_Then_SkipUnschedule() {
+		// given
+		given(scenarioRepository.findActiveTimeNotificationSchedulesByNotificationIds(List.of(1L)))
+			.willReturn(List.of(createSchedule(1L)));
+
+		// when
+		timeNotificationScheduleChangeEventListener.handleScheduleChange(
+			new TimeNotificationScheduleChangeEvent(List.of(1L)));
+
+		// then
+		verify(timeNotificationScheduleIndex, never()).unschedule(anyList());
+	}
+
+	private TimeNotificationSchedule createSchedule(final Long notificationId) {
+		return TimeNotificationSchedule.builder()
+			.memberId(1L)
+			.scenarioId(10L)
+			.notificationId(notificationId)
+			.daysOfWeekOrdinal(List.of(0, 1, 2))
+			.startHour(7)
+			.startMinute(45)
+			.build();
+	}
+
+}
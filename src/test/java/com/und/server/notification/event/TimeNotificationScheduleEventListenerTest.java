@@ -0,0 +1,67 @@
+package com.und.server.notification.event;
+
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.und.server.notification.scheduler.TimeNotificationDispatcher;
+import com.und.server.scenario.entity.Scenario;
+
+
+@ExtendWith(MockitoExtension.class)
+class TimeNotificationScheduleEventListenerTest {
+
+	@InjectMocks
+	private TimeNotificationScheduleEventListener timeNotificationScheduleEventListener;
+
+	@Mock
+	private TimeNotificationDispatcher timeNotificationDispatcher;
+
+	private final Long memberId = 1L;
+	private final Scenario scenario = Scenario.builder().id(10L).build();
+
+
+	@Test
+	void Given_ScenarioCreateEvent_When_HandleCreate_Then_MarkMemberStale() {
+		// when
+		timeNotificationScheduleEventListener.handleCreate(new ScenarioCreateEvent(memberId, scenario));
+
+		// then
+		verify(timeNotificationDispatcher).markStale(memberId);
+	}
+
+
+	@Test
+	void Given_ScenarioUpdateEvent_When_HandleUpdate_Then_MarkMemberStale() {
+		// when
+		timeNotificationScheduleEventListener.handleUpdate(new ScenarioUpdateEvent(memberId, scenario, true));
+
+		// then
+		verify(timeNotificationDispatcher).markStale(memberId);
+	}
+
+
+	@Test
+	void Given_ScenarioDeleteEvent_When_HandleDelete_Then_MarkMemberStale() {
+		// when
+		timeNotificationScheduleEventListener.handleDelete(new ScenarioDeleteEvent(memberId, 10L, true));
+
+		// then
+		verify(timeNotificationDispatcher).markStale(memberId);
+	}
+
+
+	@Test
+	void Given_ActiveUpdateEvent_When_HandleActiveUpdate_Then_MarkMemberStale() {
+		// when
+		timeNotificationScheduleEventListener.handleActiveUpdate(new ActiveUpdateEvent(memberId, false));
+
+		// then
+		verify(timeNotificationDispatcher).markStale(memberId);
+	}
+
+}
@@ -0,0 +1,92 @@
+package com.und.server.notification.geofence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.und.server.notification.dto.LocationGeofence;
+
+
+class LocationGeofenceGridTest {
+
+	@Test
+	void Given_NoGeofence_When_FindContaining_Then_ReturnEmpty() {
+		// given
+		LocationGeofenceGrid grid = new LocationGeofenceGrid(List.of());
+
+		// when
+		List<LocationGeofence> result = grid.findContaining(37.5665, 126.9780);
+
+		// then
+		assertThat(result).isEmpty();
+		assertThat(grid.size()).isZero();
+	}
+
+
+	@Test
+	void Given_LargeFenceSpanningCells_When_FindContaining_Then_MatchFromNeighbourCell() {
+		// given
+		LocationGeofence geofence = createGeofence(1L, 37.5665, 126.9780, 4_000);
+		LocationGeofenceGrid grid = new LocationGeofenceGrid(List.of(geofence));
+
+		// when
+		// about 3.3km east, several cells away from the center
+		List<LocationGeofence> inside = grid.findContaining(37.5665, 127.0155);
+		// about 4.9km east
+		List<LocationGeofence> outside = grid.findContaining(37.5665, 127.0335);
+
+		// then
+		assertThat(inside).containsExactly(geofence);
+		assertThat(outside).isEmpty();
+	}
+
+
+	@Test
+	void Given_ManyFences_When_FindContaining_Then_ReturnOnlyFencesAroundPoint() {
+		// given
+		// fences every 0.01 degrees of longitude (about 880m) along one latitude
+		List<LocationGeofence> geofences = LongStream.range(0, 10_000)
+			.mapToObj(id -> createGeofence(id, 37.5, 120.0 + id * 0.01, 100))
+			.toList();
+		LocationGeofenceGrid grid = new LocationGeofenceGrid(geofences);
+
+		// when
+		List<LocationGeofence> result = grid.findContaining(37.5, 120.0 + 5_000 * 0.01);
+
+		// then
+		assertThat(grid.size()).isEqualTo(10_000);
+		assertThat(result).extracting(LocationGeofence::notificationId).containsExactly(5_000L);
+	}
+
+
+	@Test
+	void Given_FenceInSouthWesternHemisphere_When_FindContaining_Then_HandleNegativeCells() {
+		// given
+		LocationGeofence geofence = createGeofence(1L, -33.8688, -70.6693, 500);
+		LocationGeofenceGrid grid = new LocationGeofenceGrid(List.of(geofence));
+
+		// when
+		List<LocationGeofence> result = grid.findContaining(-33.8690, -70.6690);
+
+		// then
+		assertThat(result).containsExactly(geofence);
+	}
+
+	private LocationGeofence createGeofence(
+		final Long notificationId, final double latitude, final double longitude, final int radiusMeters
+	) {
+		return LocationGeofence.builder()
+			.notificationId(notificationId)
+			.latitude(latitude)
+			.longitude(longitude)
+			.radiusMeters(radiusMeters)
+			.daysOfWeekOrdinal(List.of(0, 1, 2, 3, 4, 5, 6))
+			.startMinuteOfDay(0)
+			.endMinuteOfDay(24 * 60 - 1)
+			.build();
+	}
+
+}
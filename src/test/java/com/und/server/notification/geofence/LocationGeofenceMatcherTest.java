@@ -0,0 +1,256 @@
+package com.und.server.notification.geofence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.und.server.notification.constants.LocationTrackingRadiusType;
+import com.und.server.notification.constants.NotificationType;
+import com.und.server.notification.dto.request.LocationSampleRequest;
+import com.und.server.notification.dto.response.LocationNotificationResponse;
+import com.und.server.notification.dto.response.ScenarioNotificationResponse;
+import com.und.server.scenario.repository.ScenarioRepository;
+
+
+@ExtendWith(MockitoExtension.class)
+class LocationGeofenceMatcherTest {
+
+	// Monday 09:30 in Asia/Seoul
+	private static final Instant MONDAY_0930_KST = Instant.parse("2025-01-06T00:30:00Z");
+	private static final double CENTER_LATITUDE = 37.566535;
+	private static final double CENTER_LONGITUDE = 126.977969;
+	private static final double OUTSIDE_LATITUDE = 37.60;
+
+	@Mock
+	private ScenarioRepository scenarioRepository;
+
+	@Mock
+	private LocationGeofenceStateStore stateStore;
+
+	@Mock
+	private Clock clock;
+
+	private LocationGeofenceMatcher matcher;
+
+	private final Long memberId = 1L;
+
+
+	@BeforeEach
+	void setUp() {
+		matcher = new LocationGeofenceMatcher(scenarioRepository, stateStore, clock);
+	}
+
+
+	@Test
+	void Given_PositionInsideFence_When_FindEntered_Then_ReturnEnteredAndSaveState() {
+		// given
+		ScenarioNotificationResponse scenarioNotification = createScenarioNotification(List.of(0), 8, 10);
+		given(clock.instant()).willReturn(MONDAY_0930_KST);
+		given(scenarioRepository.findLocationScenarioNotifications(memberId))
+			.willReturn(List.of(scenarioNotification));
+		given(stateStore.findInsideNotificationIds(memberId)).willReturn(Set.of());
+
+		// when
+		List<ScenarioNotificationResponse> result =
+			matcher.findEntered(memberId, CENTER_LATITUDE, CENTER_LONGITUDE);
+
+		// then
+		assertThat(result).containsExactly(scenarioNotification);
+		verify(stateStore).saveInsideNotificationIds(memberId, Set.of(100L));
+	}
+
+
+	@Test
+	void Given_AlreadyInsideFence_When_FindEntered_Then_ReturnEmptyWithoutSavingState() {
+		// given
+		given(clock.instant()).willReturn(MONDAY_0930_KST);
+		given(scenarioRepository.findLocationScenarioNotifications(memberId))
+			.willReturn(List.of(createScenarioNotification(List.of(0), 8, 10)));
+		given(stateStore.findInsideNotificationIds(memberId)).willReturn(Set.of(100L));
+
+		// when
+		List<ScenarioNotificationResponse> result =
+			matcher.findEntered(memberId, CENTER_LATITUDE, CENTER_LONGITUDE);
+
+		// then
+		assertThat(result).isEmpty();
+		verify(stateStore, never()).saveInsideNotificationIds(any(), any());
+	}
+
+
+	@Test
+	void Given_LeftFence_When_FindEntered_Then_ClearState() {
+		// given
+		given(clock.instant()).willReturn(MONDAY_0930_KST);
+		given(scenarioRepository.findLocationScenarioNotifications(memberId))
+			.willReturn(List.of(createScenarioNotification(List.of(0), 8, 10)));
+		given(stateStore.findInsideNotificationIds(memberId)).willReturn(Set.of(100L));
+
+		// when
+		List<ScenarioNotificationResponse> result =
+			matcher.findEntered(memberId, OUTSIDE_LATITUDE, CENTER_LONGITUDE);
+
+		// then
+		assertThat(result).isEmpty();
+		verify(stateStore).saveInsideNotificationIds(memberId, Set.of());
+	}
+
+
+	@Test
+	void Given_UnorderedSamples_When_FindEntered_Then_ReplayInTimeOrder() {
+		// given
+		ScenarioNotificationResponse scenarioNotification = createScenarioNotification(List.of(0), 8, 10);
+		given(scenarioRepository.findLocationScenarioNotifications(memberId))
+			.willReturn(List.of(scenarioNotification));
+		given(stateStore.findInsideNotificationIds(memberId)).willReturn(Set.of());
+		List<LocationSampleRequest> samples = List.of(
+			createSample(MONDAY_0930_KST.plusSeconds(60), OUTSIDE_LATITUDE),
+			createSample(MONDAY_0930_KST, CENTER_LATITUDE),
+			createSample(MONDAY_0930_KST.minusSeconds(60), OUTSIDE_LATITUDE)
+		);
+
+		// when
+		List<ScenarioNotificationResponse> result = matcher.findEntered(memberId, samples);
+
+		// then
+		assertThat(result).containsExactly(scenarioNotification);
+		verify(stateStore, never()).saveInsideNotificationIds(any(), any());
+	}
+
+
+	@Test
+	void Given_SamplesReenteringFence_When_FindEntered_Then_ReturnEachFenceOnce() {
+		// given
+		ScenarioNotificationResponse scenarioNotification = createScenarioNotification(List.of(0), 8, 10);
+		given(scenarioRepository.findLocationScenarioNotifications(memberId))
+			.willReturn(List.of(scenarioNotification));
+		given(stateStore.findInsideNotificationIds(memberId)).willReturn(Set.of());
+		List<LocationSampleRequest> samples = List.of(
+			createSample(MONDAY_0930_KST, CENTER_LATITUDE),
+			createSample(MONDAY_0930_KST.plusSeconds(60), OUTSIDE_LATITUDE),
+			createSample(MONDAY_0930_KST.plusSeconds(120), CENTER_LATITUDE)
+		);
+
+		// when
+		List<ScenarioNotificationResponse> result = matcher.findEntered(memberId, samples);
+
+		// then
+		assertThat(result).containsExactly(scenarioNotification);
+		verify(stateStore).saveInsideNotificationIds(memberId, Set.of(100L));
+	}
+
+
+	@Test
+	void Given_OutsideTrackingWindow_When_FindEntered_Then_ReturnEmpty() {
+		// given
+		given(clock.instant()).willReturn(MONDAY_0930_KST);
+		given(scenarioRepository.findLocationScenarioNotifications(memberId))
+			.willReturn(List.of(createScenarioNotification(List.of(1), 8, 10)));
+		given(stateStore.findInsideNotificationIds(memberId)).willReturn(Set.of());
+
+		// when
+		List<ScenarioNotificationResponse> result =
+			matcher.findEntered(memberId, CENTER_LATITUDE, CENTER_LONGITUDE);
+
+		// then
+		assertThat(result).isEmpty();
+	}
+
+
+	@Test
+	void Given_EvictedMember_When_FindEntered_Then_ReloadGeofences() {
+		// given
+		given(clock.instant()).willReturn(MONDAY_0930_KST);
+		given(scenarioRepository.findLocationScenarioNotifications(memberId)).willReturn(List.of());
+		given(stateStore.findInsideNotificationIds(memberId)).willReturn(Set.of());
+		matcher.findEntered(memberId, CENTER_LATITUDE, CENTER_LONGITUDE);
+		matcher.findEntered(memberId, CENTER_LATITUDE, CENTER_LONGITUDE);
+
+		// when
+		matcher.evict(memberId);
+		matcher.findEntered(memberId, CENTER_LATITUDE, CENTER_LONGITUDE);
+
+		// then
+		verify(scenarioRepository, times(2)).findLocationScenarioNotifications(memberId);
+	}
+
+
+	@Test
+	void Given_EvictAll_When_FindEntered_Then_ReloadGeofences() {
+		// given
+		given(clock.instant()).willReturn(MONDAY_0930_KST);
+		given(scenarioRepository.findLocationScenarioNotifications(memberId)).willReturn(List.of());
+		given(stateStore.findInsideNotificationIds(memberId)).willReturn(Set.of());
+		matcher.findEntered(memberId, CENTER_LATITUDE, CENTER_LONGITUDE);
+
+		// when
+		matcher.evictAll();
+		matcher.findEntered(memberId, CENTER_LATITUDE, CENTER_LONGITUDE);
+
+		// then
+		verify(scenarioRepository, times(2)).findLocationScenarioNotifications(memberId);
+	}
+
+
+	@Test
+	void Given_ExpiredGrid_When_FindEntered_Then_ReloadGeofences() {
+		// given
+		given(clock.instant()).willReturn(MONDAY_0930_KST);
+		given(clock.millis()).willReturn(0L, 60_000L, 300_000L);
+		given(scenarioRepository.findLocationScenarioNotifications(memberId)).willReturn(List.of());
+		given(stateStore.findInsideNotificationIds(memberId)).willReturn(Set.of());
+
+		// when
+		matcher.findEntered(memberId, CENTER_LATITUDE, CENTER_LONGITUDE);
+		matcher.findEntered(memberId, CENTER_LATITUDE, CENTER_LONGITUDE);
+		matcher.findEntered(memberId, CENTER_LATITUDE, CENTER_LONGITUDE);
+
+		// then
+		verify(scenarioRepository, times(2)).findLocationScenarioNotifications(memberId);
+	}
+
+	private LocationSampleRequest createSample(final Instant timestamp, final double latitude) {
+		return LocationSampleRequest.builder()
+			.timestamp(timestamp)
+			.latitude(latitude)
+			.longitude(CENTER_LONGITUDE)
+			.build();
+	}
+
+	private ScenarioNotificationResponse createScenarioNotification(
+		final List<Integer> days, final int startHour, final int endHour
+	) {
+		return ScenarioNotificationResponse.builder()
+			.scenarioId(10L)
+			.notificationId(100L)
+			.notificationType(NotificationType.LOCATION)
+			.daysOfWeekOrdinal(days)
+			.notificationCondition(LocationNotificationResponse.builder()
+				.notificationType(NotificationType.LOCATION)
+				.latitude(BigDecimal.valueOf(CENTER_LATITUDE))
+				.longitude(BigDecimal.valueOf(CENTER_LONGITUDE))
+				.trackingRadiusType(LocationTrackingRadiusType.M_500)
+				.startHour(startHour)
+				.startMinute(0)
+				.endHour(endHour)
+				.endMinute(0)
+				.build())
+			.build();
+	}
+
+}
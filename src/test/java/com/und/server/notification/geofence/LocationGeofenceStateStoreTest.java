@@ -0,0 +1,74 @@
+package com.und.server.notification.geofence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.und.server.notification.util.NotificationCacheKeyGenerator;
+
+@DataRedisTest
+@Import({NotificationCacheKeyGenerator.class, LocationGeofenceStateStore.class})
+class LocationGeofenceStateStoreTest {
+
+	@Autowired
+	private LocationGeofenceStateStore stateStore;
+
+	@Autowired
+	private NotificationCacheKeyGenerator keyGenerator;
+
+	@Autowired
+	private StringRedisTemplate stringRedisTemplate;
+
+	private final Long memberId = 987654321L;
+
+
+	@AfterEach
+	void tearDown() {
+		stringRedisTemplate.delete(keyGenerator.generateGeofenceStateKey(memberId));
+	}
+
+
+	@Test
+	void Given_NoState_When_FindInsideNotificationIds_Then_ReturnEmpty() {
+		// when
+		Set<Long> result = stateStore.findInsideNotificationIds(memberId);
+
+		// then
+		assertThat(result).isEmpty();
+	}
+
+
+	@Test
+	void Given_SavedState_When_FindInsideNotificationIds_Then_ReturnSavedIdsWithTtl() {
+		// given
+		stateStore.saveInsideNotificationIds(memberId, Set.of(1L, 2L));
+
+		// when
+		Set<Long> result = stateStore.findInsideNotificationIds(memberId);
+
+		// then
+		assertThat(result).containsExactlyInAnyOrder(1L, 2L);
+		assertThat(stringRedisTemplate.getExpire(keyGenerator.generateGeofenceStateKey(memberId))).isPositive();
+	}
+
+
+	@Test
+	void Given_SavedState_When_SaveEmptyState_Then_DeleteState() {
+		// given
+		stateStore.saveInsideNotificationIds(memberId, Set.of(1L));
+
+		// when
+		stateStore.saveInsideNotificationIds(memberId, Set.of());
+
+		// then
+		assertThat(stringRedisTemplate.hasKey(keyGenerator.generateGeofenceStateKey(memberId))).isFalse();
+	}
+
+}
@@ -0,0 +1,118 @@
+package com.und.server.notification.invalidation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@DataRedisTest
+class LocalCacheInvalidationBusTest {
+
+	@Autowired
+	private StringRedisTemplate stringRedisTemplate;
+
+	private RedisMessageListenerContainer redisMessageListenerContainer;
+	private MemberLocalCache memberLocalCache;
+	private LocalCacheInvalidationBus invalidationBus;
+
+
+	@BeforeEach
+	void setUp() {
+		redisMessageListenerContainer = mock(RedisMessageListenerContainer.class);
+		memberLocalCache = mock(MemberLocalCache.class);
+		invalidationBus = new LocalCacheInvalidationBus(
+			stringRedisTemplate, redisMessageListenerContainer, List.of(memberLocalCache));
+	}
+
+
+	@AfterEach
+	void tearDown() {
+		stringRedisTemplate.delete(LocalCacheInvalidationBus.SEQUENCE_KEY);
+	}
+
+
+	@Test
+	void Given_Bus_When_Subscribe_Then_ListenOnInvalidationChannel() {
+		// when
+		invalidationBus.subscribe();
+
+		// then
+		verify(redisMessageListenerContainer)
+			.addMessageListener(invalidationBus, new ChannelTopic(LocalCacheInvalidationBus.CHANNEL));
+	}
+
+
+	@Test
+	void Given_MemberChange_When_Publish_Then_EvictLocallyAndAdvanceSequence() {
+		// when
+		invalidationBus.publish(1L);
+		invalidationBus.publish(2L);
+
+		// then
+		verify(memberLocalCache).evict(1L);
+		verify(memberLocalCache).evict(2L);
+		assertThat(stringRedisTemplate.opsForValue().get(LocalCacheInvalidationBus.SEQUENCE_KEY)).isEqualTo("2");
+	}
+
+
+	@Test
+	void Given_ConsecutiveMessages_When_OnMessage_Then_EvictEachMember() {
+		// when
+		invalidationBus.onMessage(createMessage("1:10"), null);
+		invalidationBus.onMessage(createMessage("2:20"), null);
+
+		// then
+		verify(memberLocalCache).evict(10L);
+		verify(memberLocalCache).evict(20L);
+		verify(memberLocalCache, never()).evictAll();
+	}
+
+
+	@Test
+	void Given_SequenceGap_When_OnMessage_Then_EvictAll() {
+		// given
+		invalidationBus.onMessage(createMessage("1:10"), null);
+
+		// when
+		invalidationBus.onMessage(createMessage("3:30"), null);
+
+		// then
+		verify(memberLocalCache).evictAll();
+		verify(memberLocalCache, never()).evict(eq(30L));
+	}
+
+
+	@Test
+	void Given_SequenceReset_When_OnMessage_Then_EvictMemberOnly() {
+		// given
+		invalidationBus.onMessage(createMessage("5:10"), null);
+
+		// when
+		invalidationBus.onMessage(createMessage("1:20"), null);
+
+		// then
+		verify(memberLocalCache).evict(20L);
+		verify(memberLocalCache, never()).evictAll();
+	}
+
+	private DefaultMessage createMessage(final String body) {
+		return new DefaultMessage(
+			LocalCacheInvalidationBus.CHANNEL.getBytes(StandardCharsets.UTF_8),
+			body.getBytes(StandardCharsets.UTF_8));
+	}
+
+}
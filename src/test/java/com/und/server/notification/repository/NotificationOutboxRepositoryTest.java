@@ -0,0 +1,97 @@
+package com.und.server.notification.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+
+import com.und.server.notification.constants.NotificationOutboxEventType;
+import com.und.server.notification.entity.NotificationOutbox;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest
+class NotificationOutboxRepositoryTest {
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 6, 9, 30);
+
+	@Autowired
+	private NotificationOutboxRepository notificationOutboxRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+
+	@Test
+	void Given_RowsClaimedByOneRelay_When_AnotherRelayClaims_Then_ClaimNothingUntilLeaseExpires() {
+		// given
+		List<Long> ids = List.of(saveOutbox().getId(), saveOutbox().getId());
+		notificationOutboxRepository.claim(ids, "relay-a", NOW, NOW.plusSeconds(30));
+
+		// when
+		int claimedByB = notificationOutboxRepository.claim(ids, "relay-b", NOW.plusSeconds(1), NOW.plusSeconds(31));
+		List<Long> claimableAfterLease = notificationOutboxRepository.findClaimableIds(
+			NOW.plusSeconds(31), Limit.of(10));
+
+		// then
+		assertThat(claimedByB).isZero();
+		assertThat(notificationOutboxRepository.findClaimableIds(NOW.plusSeconds(1), Limit.of(10))).isEmpty();
+		assertThat(notificationOutboxRepository.findByClaimedByAndClaimedUntilGreaterThanOrderByIdAsc("relay-a", NOW))
+			.extracting(NotificationOutbox::getId)
+			.containsExactlyElementsOf(ids);
+		assertThat(claimableAfterLease).containsExactlyElementsOf(ids);
+	}
+
+
+	@Test
+	void Given_ReleasedRow_When_FindClaimableIds_Then_WaitForRetryTime() {
+		// given
+		Long id = saveOutbox().getId();
+		notificationOutboxRepository.claim(List.of(id), "relay-a", NOW, NOW.plusSeconds(30));
+
+		// when
+		notificationOutboxRepository.release(List.of(id), NOW.plusSeconds(4), 2);
+		entityManager.clear();
+
+		// then
+		assertThat(notificationOutboxRepository.findClaimableIds(NOW.plusSeconds(3), Limit.of(10))).isEmpty();
+		assertThat(notificationOutboxRepository.findClaimableIds(NOW.plusSeconds(5), Limit.of(10)))
+			.containsExactly(id);
+		assertThat(notificationOutboxRepository.findById(id))
+			.get()
+			.satisfies(outbox -> assertThat(outbox.getAttempts()).isEqualTo(2))
+			.satisfies(outbox -> assertThat(outbox.getClaimedBy()).isNull());
+	}
+
+	@Test
+	void Given_NewAndReleasedRows_When_FindClaimableIds_Then_ReturnInClaimableOrder() {
+		// given
+		Long released = saveOutbox().getId();
+		Long created = saveOutbox().getId();
+		notificationOutboxRepository.claim(List.of(released), "relay-a", NOW, NOW.plusSeconds(30));
+		notificationOutboxRepository.release(List.of(released), NOW.plusSeconds(2), 1);
+		entityManager.clear();
+
+		// when
+		List<Long> claimableIds = notificationOutboxRepository.findClaimableIds(NOW.plusSeconds(2), Limit.of(10));
+
+		// then
+		assertThat(notificationOutboxRepository.findClaimableIds(NOW, Limit.of(10))).containsExactly(created);
+		assertThat(claimableIds).containsExactly(created, released);
+	}
+
+	private NotificationOutbox saveOutbox() {
+		return notificationOutboxRepository.save(NotificationOutbox.builder()
+			.memberId(1L)
+			.eventType(NotificationOutboxEventType.REFRESH)
+			.createdAt(NOW)
+			.claimedUntil(NOW)
+			.build());
+	}
+
+}
@@ -0,0 +1,116 @@
+package com.und.server.notification.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import com.und.server.member.entity.Member;
+import com.und.server.member.repository.MemberRepository;
+import com.und.server.notification.constants.NotificationMethodType;
+import com.und.server.notification.constants.NotificationType;
+import com.und.server.notification.entity.Notification;
+import com.und.server.notification.util.DaysOfWeekMask;
+import com.und.server.scenario.entity.Scenario;
+import com.und.server.scenario.repository.ScenarioRepository;
+import com.und.server.scenario.util.ScenarioValidator;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class NotificationRepositoryTest {
+
+	@Autowired
+	private NotificationRepository notificationRepository;
+
+	@Autowired
+	private ScenarioRepository scenarioRepository;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private Member member;
+	private Statistics statistics;
+
+
+	@BeforeEach
+	void setUp() {
+		member = memberRepository.save(Member.builder().nickname("test-user").build());
+		statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+	}
+
+
+	@Test
+	void Given_MixedNotifications_When_FindIdsToUpdateActive_Then_ReturnOnlyTogglableIds() {
+		// given
+		Long inactiveId = saveScenario(1, false, DaysOfWeekMask.EVERY_DAY);
+		saveScenario(2, true, DaysOfWeekMask.EVERY_DAY);
+		saveScenario(3, false, null);
+
+		// when
+		List<Long> result = notificationRepository.findIdsToUpdateActive(member.getId(), true);
+
+		// then
+		assertThat(result).containsExactly(inactiveId);
+	}
+
+
+	@Test
+	void Given_MemberAtScenarioMaxCount_When_BulkUpdateActive_Then_IssueTwoStatementsInsteadOfOnePerScenario() {
+		// given
+		for (int i = 0; i < ScenarioValidator.SCENARIO_MAX_COUNT; i++) {
+			saveScenario(i, false, DaysOfWeekMask.EVERY_DAY);
+		}
+		entityManager.flush();
+		entityManager.clear();
+		statistics.clear();
+
+		// when
+		List<Long> notificationIds = notificationRepository.findIdsToUpdateActive(member.getId(), true);
+		int updatedCount = notificationRepository.updateActiveByIdIn(notificationIds, true);
+		long bulkStatementCount = statistics.getPrepareStatementCount();
+
+		statistics.clear();
+		scenarioRepository.findByMemberId(member.getId())
+			.forEach(scenario -> scenario.getNotification().updateActive(false));
+		entityManager.flush();
+		long dirtyCheckStatementCount = statistics.getPrepareStatementCount();
+		long dirtyCheckUpdateCount = statistics.getEntityUpdateCount();
+
+		// then
+		assertThat(updatedCount).isEqualTo(ScenarioValidator.SCENARIO_MAX_COUNT);
+		assertThat(bulkStatementCount).isEqualTo(2);
+		// dirty checking shares one batched statement but still sends one row update per scenario
+		assertThat(dirtyCheckStatementCount).isEqualTo(2);
+		assertThat(dirtyCheckUpdateCount).isEqualTo(ScenarioValidator.SCENARIO_MAX_COUNT);
+	}
+
+	private Long saveScenario(final int order, final boolean isActive, final Integer daysMask) {
+		Notification notification = Notification.builder()
+			.isActive(isActive)
+			.notificationType(NotificationType.TIME)
+			.notificationMethodType(daysMask == null ? null : NotificationMethodType.PUSH)
+			.daysMask(daysMask)
+			.build();
+		scenarioRepository.save(Scenario.builder()
+			.member(member)
+			.scenarioName("루틴" + order)
+			.scenarioOrder(String.valueOf(order + 1))
+			.lastRolledDate(LocalDate.now())
+			.notification(notification)
+			.build());
+
+		return notification.getId();
+	}
+
+}
@@ -0,0 +1,187 @@
+package com.und.server.notification.scheduler;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.und.server.notification.constants.NotificationMethodType;
+import com.und.server.notification.dto.TimeNotificationSchedule;
+import com.und.server.notification.sender.NotificationSender;
+import com.und.server.scenario.repository.ScenarioRepository;
+
+
+@ExtendWith(MockitoExtension.class)
+class TimeNotificationClaimJobTest {
+
+	@InjectMocks
+	private TimeNotificationClaimJob claimJob;
+
+	@Mock
+	private TimeNotificationScheduleIndex scheduleIndex;
+
+	@Mock
+	private ScenarioRepository scenarioRepository;
+
+	@Mock
+	private NotificationSender notificationSender;
+
+	@Mock
+	private Clock clock;
+
+
+	@BeforeEach
+	void setUp() {
+		// Monday 09:29 in Asia/Seoul
+		lenient().when(clock.withZone(any()))
+			.thenReturn(Clock.fixed(Instant.parse("2025-01-06T00:29:00Z"), ZoneId.of("Asia/Seoul")));
+	}
+
+
+	@Test
+	void Given_PagedSchedules_When_BackfillSchedules_Then_ScheduleEveryPage() {
+		// given
+		List<TimeNotificationSchedule> firstPage = LongStream.rangeClosed(1, 1_000)
+			.mapToObj(this::createSchedule)
+			.toList();
+		given(scheduleIndex.tryLockBackfill()).willReturn(true);
+		given(scenarioRepository.findActiveTimeNotificationSchedules(0L, 1_000)).willReturn(firstPage);
+		given(scenarioRepository.findActiveTimeNotificationSchedules(1_000L, 1_000)).willReturn(List.of());
+
+		// when
+		claimJob.backfillSchedules();
+
+		// then
+		verify(scheduleIndex).scheduleIfAbsent(1L, List.of(0), 9, 30);
+		verify(scheduleIndex).scheduleIfAbsent(1_000L, List.of(0), 9, 30);
+		verify(scheduleIndex, never()).schedule(anyLong(), anyList(), anyInt(), anyInt());
+	}
+
+
+	@Test
+	void Given_BackfillLockedByAnotherNode_When_BackfillSchedules_Then_SkipBackfill() {
+		// given
+		given(scheduleIndex.tryLockBackfill()).willReturn(false);
+
+		// when
+		claimJob.backfillSchedules();
+
+		// then
+		verifyNoInteractions(scenarioRepository);
+	}
+
+
+	@Test
+	void Given_NothingDue_When_DispatchDueNotifications_Then_DoNotSend() {
+		// given
+		given(scheduleIndex.claimDue(500)).willReturn(List.of());
+
+		// when
+		claimJob.dispatchDueNotifications();
+
+		// then
+		verifyNoInteractions(notificationSender);
+		verify(scenarioRepository, never()).findActiveTimeNotificationSchedulesByNotificationIds(anyList());
+	}
+
+
+	@Test
+	void Given_NextMinuteScheduleMissingFromIndex_When_DispatchDueNotifications_Then_AddItBack() {
+		// given
+		TimeNotificationSchedule schedule = createSchedule(1L);
+		given(scheduleIndex.claimDue(500)).willReturn(List.of());
+		given(scenarioRepository.findActiveTimeNotificationSchedulesDueAt(0, 9, 30)).willReturn(List.of(schedule));
+
+		// when
+		claimJob.dispatchDueNotifications();
+
+		// then
+		verify(scheduleIndex).scheduleIfAbsent(1L, List.of(0), 9, 30);
+		verify(scheduleIndex, never()).schedule(anyLong(), anyList(), anyInt(), anyInt());
+	}
+
+
+	@Test
+	void Given_ClaimedIds_When_DispatchDueNotifications_Then_SendAndReschedule() {
+		// given
+		TimeNotificationSchedule schedule = createSchedule(1L);
+		given(scheduleIndex.claimDue(500)).willReturn(List.of(1L, 2L));
+		given(scenarioRepository.findActiveTimeNotificationSchedulesByNotificationIds(List.of(1L, 2L)))
+			.willReturn(List.of(schedule));
+
+		// when
+		claimJob.dispatchDueNotifications();
+
+		// then
+		verify(notificationSender).send(List.of(schedule));
+		verify(scheduleIndex).schedule(1L, List.of(0), 9, 30);
+		verify(scheduleIndex).unschedule(2L);
+		verify(scheduleIndex, never()).unschedule(1L);
+	}
+
+
+	@Test
+	void Given_FullClaimBatch_When_DispatchDueNotifications_Then_ClaimAgain() {
+		// given
+		List<Long> fullBatch = LongStream.rangeClosed(1, 500).boxed().toList();
+		given(scheduleIndex.claimDue(500)).willReturn(fullBatch, List.of());
+		given(scenarioRepository.findActiveTimeNotificationSchedulesByNotificationIds(fullBatch))
+			.willReturn(List.of());
+
+		// when
+		claimJob.dispatchDueNotifications();
+
+		// then
+		verify(scheduleIndex, times(2)).claimDue(500);
+	}
+
+
+	@Test
+	void Given_SenderFails_When_DispatchDueNotifications_Then_StillReschedule() {
+		// given
+		TimeNotificationSchedule schedule = createSchedule(1L);
+		given(scheduleIndex.claimDue(500)).willReturn(List.of(1L));
+		given(scenarioRepository.findActiveTimeNotificationSchedulesByNotificationIds(List.of(1L)))
+			.willReturn(List.of(schedule));
+		doThrow(new RuntimeException("Push failed")).when(notificationSender).send(anyList());
+
+		// when
+		claimJob.dispatchDueNotifications();
+
+		// then
+		verify(scheduleIndex).schedule(1L, List.of(0), 9, 30);
+	}
+
+	private TimeNotificationSchedule createSchedule(final Long notificationId) {
+		return TimeNotificationSchedule.builder()
+			.memberId(notificationId)
+			.scenarioId(notificationId)
+			.notificationId(notificationId)
+			.notificationMethodType(NotificationMethodType.PUSH)
+			.daysOfWeekOrdinal(List.of(0))
+			.startHour(9)
+			.startMinute(30)
+			.build();
+	}
+
+}
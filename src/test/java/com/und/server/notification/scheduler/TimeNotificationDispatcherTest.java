@@ -0,0 +1,202 @@
+package com.und.server.notification.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.und.server.notification.constants.NotificationMethodType;
+import com.und.server.notification.constants.NotificationType;
+import com.und.server.notification.dto.TimeNotificationSchedule;
+import com.und.server.notification.dto.response.ScenarioNotificationResponse;
+import com.und.server.notification.dto.response.TimeNotificationResponse;
+import com.und.server.notification.sender.NotificationSender;
+import com.und.server.scenario.repository.ScenarioRepository;
+
+
+@ExtendWith(MockitoExtension.class)
+class TimeNotificationDispatcherTest {
+
+	// Monday 09:30 in Asia/Seoul
+	private static final Instant MONDAY_0930_KST = Instant.parse("2025-01-06T00:30:00Z");
+	private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+	@Mock
+	private ScenarioRepository scenarioRepository;
+
+	@Mock
+	private NotificationSender notificationSender;
+
+	@Mock
+	private Clock clock;
+
+	private TimeNotificationTimingWheel timingWheel;
+	private TimeNotificationDispatcher dispatcher;
+
+
+	@BeforeEach
+	void setUp() {
+		timingWheel = new TimeNotificationTimingWheel();
+		dispatcher = new TimeNotificationDispatcher(timingWheel, scenarioRepository, notificationSender, clock);
+	}
+
+
+	@Test
+	void Given_PagedSchedules_When_LoadSchedules_Then_LoadEveryPageIntoWheel() {
+		// given
+		List<TimeNotificationSchedule> firstPage = LongStream.rangeClosed(1, 1_000)
+			.mapToObj(id -> createSchedule(id, 9, 30))
+			.toList();
+		given(scenarioRepository.findActiveTimeNotificationSchedules(0L, 1_000)).willReturn(firstPage);
+		given(scenarioRepository.findActiveTimeNotificationSchedules(1_000L, 1_000)).willReturn(List.of());
+
+		// when
+		dispatcher.loadSchedules();
+
+		// then
+		assertThat(timingWheel.size()).isEqualTo(1_000);
+	}
+
+
+	@Test
+	void Given_DueSchedules_When_DispatchDueNotifications_Then_SendInBatches() {
+		// given
+		LongStream.rangeClosed(1, 501).forEach(id -> timingWheel.add(createSchedule(id, 9, 30)));
+		givenNow(MONDAY_0930_KST);
+
+		// when
+		dispatcher.dispatchDueNotifications();
+
+		// then
+		verify(notificationSender, times(2)).send(anyList());
+	}
+
+
+	@Test
+	void Given_TickInSameMinute_When_DispatchDueNotifications_Then_SendOnlyOnce() {
+		// given
+		timingWheel.add(createSchedule(1L, 9, 30));
+		givenNow(MONDAY_0930_KST);
+
+		// when
+		dispatcher.dispatchDueNotifications();
+		dispatcher.dispatchDueNotifications();
+
+		// then
+		verify(notificationSender, times(1)).send(anyList());
+	}
+
+
+	@Test
+	void Given_DelayedTick_When_DispatchDueNotifications_Then_CatchUpSkippedMinutes() {
+		// given
+		TimeNotificationSchedule schedule = createSchedule(1L, 9, 30);
+		timingWheel.add(schedule);
+		givenNow(MONDAY_0930_KST.minusSeconds(60), MONDAY_0930_KST.plusSeconds(60));
+
+		// when
+		dispatcher.dispatchDueNotifications();
+		dispatcher.dispatchDueNotifications();
+
+		// then
+		verify(notificationSender).send(List.of(schedule));
+	}
+
+
+	@Test
+	void Given_StaleMember_When_DispatchDueNotifications_Then_ReloadMemberBeforeDispatch() {
+		// given
+		ScenarioNotificationResponse scenarioNotification = ScenarioNotificationResponse.builder()
+			.scenarioId(10L)
+			.notificationId(100L)
+			.notificationType(NotificationType.TIME)
+			.notificationMethodType(NotificationMethodType.ALARM)
+			.daysOfWeekOrdinal(List.of(0))
+			.notificationCondition(TimeNotificationResponse.builder()
+				.notificationType(NotificationType.TIME)
+				.startHour(9)
+				.startMinute(30)
+				.build())
+			.build();
+		given(scenarioRepository.findTimeScenarioNotifications(1L)).willReturn(List.of(scenarioNotification));
+		givenNow(MONDAY_0930_KST);
+		dispatcher.markStale(1L);
+
+		// when
+		dispatcher.dispatchDueNotifications();
+
+		// then
+		verify(notificationSender).send(List.of(TimeNotificationSchedule.from(1L, scenarioNotification)));
+	}
+
+
+	@Test
+	void Given_ReloadFails_When_DispatchDueNotifications_Then_RetryOnNextTick() {
+		// given
+		given(scenarioRepository.findTimeScenarioNotifications(1L))
+			.willThrow(new RuntimeException("DB connection failed"))
+			.willReturn(List.of());
+		givenNow(MONDAY_0930_KST, MONDAY_0930_KST.plusSeconds(60));
+		dispatcher.markStale(1L);
+
+		// when
+		dispatcher.dispatchDueNotifications();
+		dispatcher.dispatchDueNotifications();
+
+		// then
+		verify(scenarioRepository, times(2)).findTimeScenarioNotifications(1L);
+		verify(notificationSender, never()).send(any());
+	}
+
+
+	@Test
+	void Given_SenderFails_When_DispatchDueNotifications_Then_ContinueWithoutThrowing() {
+		// given
+		timingWheel.add(createSchedule(1L, 9, 30));
+		givenNow(MONDAY_0930_KST);
+		doThrow(new RuntimeException("Push failed")).when(notificationSender).send(anyList());
+
+		// when
+		dispatcher.dispatchDueNotifications();
+
+		// then
+		verify(notificationSender).send(anyList());
+	}
+
+	private void givenNow(final Instant now, final Instant... nextNows) {
+		Clock[] nextClocks = new Clock[nextNows.length];
+		for (int i = 0; i < nextNows.length; i++) {
+			nextClocks[i] = Clock.fixed(nextNows[i], SEOUL);
+		}
+		given(clock.withZone(any())).willReturn(Clock.fixed(now, SEOUL), nextClocks);
+	}
+
+	private TimeNotificationSchedule createSchedule(final Long notificationId, final int hour, final int minute) {
+		return TimeNotificationSchedule.builder()
+			.memberId(notificationId)
+			.scenarioId(notificationId)
+			.notificationId(notificationId)
+			.notificationMethodType(NotificationMethodType.PUSH)
+			.daysOfWeekOrdinal(List.of(0))
+			.startHour(hour)
+			.startMinute(minute)
+			.build();
+	}
+
+}
@@ -0,0 +1,201 @@
+package com.und.server.notification.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.und.server.common.config.TimeConfig;
+
+@DataRedisTest
+@Import({TimeConfig.class, TimeNotificationScheduleIndex.class})
+class TimeNotificationScheduleIndexTest {
+
+	// Monday 09:30 in Asia/Seoul
+	private static final Instant MONDAY_0930_KST = Instant.parse("2025-01-06T00:30:00Z");
+
+	@Autowired
+	private TimeNotificationScheduleIndex scheduleIndex;
+
+	@Autowired
+	private StringRedisTemplate stringRedisTemplate;
+
+
+	@AfterEach
+	void tearDown() {
+		stringRedisTemplate.delete(
+			List.of(TimeNotificationScheduleIndex.SCHEDULE_KEY, TimeNotificationScheduleIndex.BACKFILL_LOCK_KEY));
+	}
+
+
+	@Test
+	void Given_LaterTimeToday_When_FindNextFireTime_Then_ReturnToday() {
+		// when
+		Long nextFireTime = TimeNotificationScheduleIndex.findNextFireTime(List.of(0), 10, 0, MONDAY_0930_KST);
+
+		// then
+		assertThat(nextFireTime).isEqualTo(Instant.parse("2025-01-06T01:00:00Z").toEpochMilli());
+	}
+
+
+	@Test
+	void Given_PassedTimeOnOnlyDay_When_FindNextFireTime_Then_ReturnNextWeek() {
+		// when
+		Long nextFireTime = TimeNotificationScheduleIndex.findNextFireTime(List.of(0), 9, 30, MONDAY_0930_KST);
+
+		// then
+		assertThat(nextFireTime).isEqualTo(Instant.parse("2025-01-13T00:30:00Z").toEpochMilli());
+	}
+
+
+	@Test
+	void Given_NoDays_When_FindNextFireTime_Then_ReturnNull() {
+		// when
+		Long nextFireTime = TimeNotificationScheduleIndex.findNextFireTime(List.of(), 9, 30, MONDAY_0930_KST);
+
+		// then
+		assertThat(nextFireTime).isNull();
+	}
+
+
+	@Test
+	void Given_Schedule_When_Unschedule_Then_RemoveFromIndex() {
+		// given
+		scheduleIndex.schedule(1L, List.of(0, 1, 2, 3, 4, 5, 6), 9, 0);
+		Double scheduledScore = stringRedisTemplate.opsForZSet().score(TimeNotificationScheduleIndex.SCHEDULE_KEY, "1");
+
+		// when
+		scheduleIndex.unschedule(1L);
+
+		// then
+		assertThat(scheduledScore).isNotNull();
+		assertThat(stringRedisTemplate.opsForZSet().score(TimeNotificationScheduleIndex.SCHEDULE_KEY, "1")).isNull();
+	}
+
+
+	@Test
+	void Given_Schedules_When_UnscheduleAll_Then_RemoveEveryIdInOneCall() {
+		// given
+		scheduleIndex.schedule(1L, List.of(0, 1, 2, 3, 4, 5, 6), 9, 0);
+		scheduleIndex.schedule(2L, List.of(0, 1, 2, 3, 4, 5, 6), 9, 0);
+		scheduleIndex.schedule(3L, List.of(0, 1, 2, 3, 4, 5, 6), 9, 0);
+
+		// when
+		scheduleIndex.unschedule(List.of(1L, 2L));
+
+		// then
+		assertThat(stringRedisTemplate.opsForZSet().range(TimeNotificationScheduleIndex.SCHEDULE_KEY, 0, -1))
+			.containsExactly("3");
+	}
+
+
+	@Test
+	void Given_NoDays_When_Schedule_Then_RemoveFromIndex() {
+		// given
+		stringRedisTemplate.opsForZSet().add(TimeNotificationScheduleIndex.SCHEDULE_KEY, "1", 0);
+
+		// when
+		scheduleIndex.schedule(1L, List.of(), 9, 0);
+
+		// then
+		assertThat(stringRedisTemplate.opsForZSet().score(TimeNotificationScheduleIndex.SCHEDULE_KEY, "1")).isNull();
+	}
+
+
+	@Test
+	void Given_LeasedEntry_When_ScheduleIfAbsent_Then_KeepExistingScore() {
+		// given
+		stringRedisTemplate.opsForZSet().add(TimeNotificationScheduleIndex.SCHEDULE_KEY, "1", 1_000);
+
+		// when
+		scheduleIndex.scheduleIfAbsent(1L, List.of(0, 1, 2, 3, 4, 5, 6), 9, 0);
+		scheduleIndex.scheduleIfAbsent(2L, List.of(0, 1, 2, 3, 4, 5, 6), 9, 0);
+		scheduleIndex.scheduleIfAbsent(3L, List.of(), 9, 0);
+
+		// then
+		assertThat(stringRedisTemplate.opsForZSet().score(TimeNotificationScheduleIndex.SCHEDULE_KEY, "1"))
+			.isEqualTo(1_000);
+		assertThat(stringRedisTemplate.opsForZSet().score(TimeNotificationScheduleIndex.SCHEDULE_KEY, "2")).isNotNull();
+		assertThat(stringRedisTemplate.opsForZSet().score(TimeNotificationScheduleIndex.SCHEDULE_KEY, "3")).isNull();
+	}
+
+
+	@Test
+	void Given_BackfillLockHeld_When_TryLockBackfill_Then_ReturnFalse() {
+		// given
+		boolean firstLock = scheduleIndex.tryLockBackfill();
+
+		// when
+		boolean secondLock = scheduleIndex.tryLockBackfill();
+
+		// then
+		assertThat(firstLock).isTrue();
+		assertThat(secondLock).isFalse();
+	}
+
+
+	@Test
+	void Given_RedisDown_When_BackfillOperations_Then_SkipWithoutThrowing() {
+		// given
+		StringRedisTemplate brokenTemplate = mock(StringRedisTemplate.class);
+		given(brokenTemplate.opsForValue()).willThrow(new RedisConnectionFailureException("down"));
+		given(brokenTemplate.opsForZSet()).willThrow(new RedisConnectionFailureException("down"));
+		TimeNotificationScheduleIndex brokenIndex =
+			new TimeNotificationScheduleIndex(brokenTemplate, Clock.fixed(MONDAY_0930_KST, ZoneOffset.UTC));
+
+		// when
+		boolean locked = brokenIndex.tryLockBackfill();
+		brokenIndex.scheduleIfAbsent(1L, List.of(0), 10, 0);
+
+		// then
+		assertThat(locked).isFalse();
+	}
+
+
+	@Test
+	void Given_DueAndFutureEntries_When_ClaimDue_Then_LeaseDueEntriesOnce() {
+		// given
+		long now = System.currentTimeMillis();
+		stringRedisTemplate.opsForZSet().add(TimeNotificationScheduleIndex.SCHEDULE_KEY, "1", now - 1_000);
+		stringRedisTemplate.opsForZSet().add(TimeNotificationScheduleIndex.SCHEDULE_KEY, "2", now - 500);
+		stringRedisTemplate.opsForZSet().add(TimeNotificationScheduleIndex.SCHEDULE_KEY, "3", now + 3_600_000);
+
+		// when
+		List<Long> firstClaim = scheduleIndex.claimDue(10);
+		List<Long> secondClaim = scheduleIndex.claimDue(10);
+
+		// then
+		assertThat(firstClaim).containsExactly(1L, 2L);
+		assertThat(secondClaim).isEmpty();
+		assertThat(stringRedisTemplate.opsForZSet().score(TimeNotificationScheduleIndex.SCHEDULE_KEY, "1"))
+			.isGreaterThan(now);
+	}
+
+
+	@Test
+	void Given_MoreDueEntriesThanLimit_When_ClaimDue_Then_ClaimUpToLimit() {
+		// given
+		long now = System.currentTimeMillis();
+		stringRedisTemplate.opsForZSet().add(TimeNotificationScheduleIndex.SCHEDULE_KEY, "1", now - 1_000);
+		stringRedisTemplate.opsForZSet().add(TimeNotificationScheduleIndex.SCHEDULE_KEY, "2", now - 500);
+
+		// when
+		List<Long> claimedIds = scheduleIndex.claimDue(1);
+
+		// then
+		assertThat(claimedIds).containsExactly(1L);
+	}
+
+}
@@ -0,0 +1,109 @@
+package com.und.server.notification.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.und.server.notification.dto.TimeNotificationSchedule;
+
+
+class TimeNotificationTimingWheelTest {
+
+	private final TimeNotificationTimingWheel timingWheel = new TimeNotificationTimingWheel();
+
+
+	@Test
+	void Given_Schedule_When_Add_Then_PlaceInEverySelectedDaySlot() {
+		// given
+		TimeNotificationSchedule schedule = createSchedule(1L, 10L, List.of(0, 4), 9, 30);
+
+		// when
+		timingWheel.add(schedule);
+
+		// then
+		assertThat(timingWheel.size()).isEqualTo(1);
+		assertThat(timingWheel.findDue(TimeNotificationTimingWheel.toMinuteOfWeek(0, 570))).containsExactly(schedule);
+		assertThat(timingWheel.findDue(TimeNotificationTimingWheel.toMinuteOfWeek(4, 570))).containsExactly(schedule);
+		assertThat(timingWheel.findDue(TimeNotificationTimingWheel.toMinuteOfWeek(1, 570))).isEmpty();
+	}
+
+
+	@Test
+	void Given_ExistingSchedule_When_AddChangedSchedule_Then_MoveToNewSlot() {
+		// given
+		timingWheel.add(createSchedule(1L, 10L, List.of(0), 9, 30));
+		TimeNotificationSchedule changedSchedule = createSchedule(1L, 10L, List.of(2), 7, 0);
+
+		// when
+		timingWheel.add(changedSchedule);
+
+		// then
+		assertThat(timingWheel.size()).isEqualTo(1);
+		assertThat(timingWheel.findDue(TimeNotificationTimingWheel.toMinuteOfWeek(0, 570))).isEmpty();
+		assertThat(timingWheel.findDue(TimeNotificationTimingWheel.toMinuteOfWeek(2, 420)))
+			.containsExactly(changedSchedule);
+	}
+
+
+	@Test
+	void Given_UnknownNotification_When_Remove_Then_DoNothing() {
+		// given
+		timingWheel.add(createSchedule(1L, 10L, List.of(0), 9, 30));
+
+		// when
+		timingWheel.remove(99L);
+
+		// then
+		assertThat(timingWheel.size()).isEqualTo(1);
+	}
+
+
+	@Test
+	void Given_MemberSchedules_When_ReplaceMember_Then_KeepOnlyNewSchedulesOfMember() {
+		// given
+		timingWheel.add(createSchedule(1L, 10L, List.of(0), 9, 30));
+		timingWheel.add(createSchedule(1L, 11L, List.of(0), 9, 30));
+		TimeNotificationSchedule otherMemberSchedule = createSchedule(2L, 20L, List.of(0), 9, 30);
+		timingWheel.add(otherMemberSchedule);
+		TimeNotificationSchedule newSchedule = createSchedule(1L, 12L, List.of(0), 9, 30);
+
+		// when
+		timingWheel.replaceMember(1L, List.of(newSchedule));
+
+		// then
+		assertThat(timingWheel.size()).isEqualTo(2);
+		assertThat(timingWheel.findDue(TimeNotificationTimingWheel.toMinuteOfWeek(0, 570)))
+			.containsExactlyInAnyOrder(otherMemberSchedule, newSchedule);
+	}
+
+
+	@Test
+	void Given_MemberSchedules_When_ReplaceMemberWithEmptyList_Then_RemoveAllSchedulesOfMember() {
+		// given
+		timingWheel.add(createSchedule(1L, 10L, List.of(0, 6), 23, 59));
+
+		// when
+		timingWheel.replaceMember(1L, List.of());
+		timingWheel.replaceMember(3L, List.of());
+
+		// then
+		assertThat(timingWheel.size()).isZero();
+		assertThat(timingWheel.findDue(TimeNotificationTimingWheel.SLOT_COUNT - 1)).isEmpty();
+	}
+
+	private TimeNotificationSchedule createSchedule(
+		Long memberId, Long notificationId, List<Integer> days, int hour, int minute
+	) {
+		return TimeNotificationSchedule.builder()
+			.memberId(memberId)
+			.scenarioId(notificationId)
+			.notificationId(notificationId)
+			.daysOfWeekOrdinal(days)
+			.startHour(hour)
+			.startMinute(minute)
+			.build();
+	}
+
+}
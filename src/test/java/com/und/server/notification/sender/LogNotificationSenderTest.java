@@ -0,0 +1,31 @@
+package com.und.server.notification.sender;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.und.server.notification.constants.NotificationMethodType;
+import com.und.server.notification.dto.TimeNotificationSchedule;
+
+
+class LogNotificationSenderTest {
+
+	private final LogNotificationSender logNotificationSender = new LogNotificationSender();
+
+
+	@Test
+	void Given_Notifications_When_Send_Then_CompleteWithoutError() {
+		// given
+		TimeNotificationSchedule schedule = TimeNotificationSchedule.builder()
+			.memberId(1L)
+			.scenarioId(10L)
+			.notificationMethodType(NotificationMethodType.PUSH)
+			.build();
+
+		// when & then
+		assertThatCode(() -> logNotificationSender.send(List.of(schedule))).doesNotThrowAnyException();
+	}
+
+}
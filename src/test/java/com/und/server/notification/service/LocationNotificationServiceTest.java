@@ -0,0 +1,258 @@
+package com.und.server.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.und.server.notification.constants.LocationTrackingRadiusType;
+import com.und.server.notification.constants.NotificationType;
+import com.und.server.notification.dto.request.LocationBatchUpdateRequest;
+import com.und.server.notification.dto.request.LocationNotificationRequest;
+import com.und.server.notification.dto.request.LocationSampleRequest;
+import com.und.server.notification.dto.request.LocationUpdateRequest;
+import com.und.server.notification.dto.response.LocationNotificationMatchResponse;
+import com.und.server.notification.dto.response.LocationNotificationResponse;
+import com.und.server.notification.dto.response.NotificationConditionResponse;
+import com.und.server.notification.dto.response.ScenarioNotificationResponse;
+import com.und.server.notification.entity.LocationNotification;
+import com.und.server.notification.entity.Notification;
+import com.und.server.notification.geofence.LocationGeofenceMatcher;
+import com.und.server.notification.repository.LocationNotificationRepository;
+
+@ExtendWith(MockitoExtension.class)
+class LocationNotificationServiceTest {
+
+	@Mock
+	private LocationNotificationRepository locationNotificationRepository;
+
+	@Mock
+	private LocationGeofenceMatcher locationGeofenceMatcher;
+
+	@InjectMocks
+	private LocationNotificationService locationNotificationService;
+
+	private final Notification activeNotification = Notification.builder()
+		.id(1L)
+		.isActive(true)
+		.notificationType(NotificationType.LOCATION)
+		.build();
+
+	private final LocationNotificationRequest request = LocationNotificationRequest.builder()
+		.latitude(new BigDecimal("37.566535"))
+		.longitude(new BigDecimal("126.977969"))
+		.trackingRadiusType(LocationTrackingRadiusType.M_500)
+		.startHour(8)
+		.startMinute(0)
+		.endHour(10)
+		.endMinute(30)
+		.build();
+
+
+	@Test
+	void Given_NotificationTypes_When_Supports_Then_SupportOnlyLocation() {
+		// when & then
+		assertThat(locationNotificationService.supports(NotificationType.LOCATION)).isTrue();
+		assertThat(locationNotificationService.supports(NotificationType.TIME)).isFalse();
+	}
+
+
+	@Test
+	void Given_ActiveNotification_When_FindNotificationInfoByType_Then_ReturnLocationCondition() {
+		// given
+		when(locationNotificationRepository.findByNotificationId(1L))
+			.thenReturn(request.toEntity(activeNotification));
+
+		// when
+		NotificationConditionResponse result =
+			locationNotificationService.findNotificationInfoByType(activeNotification);
+
+		// then
+		assertThat(result).isInstanceOf(LocationNotificationResponse.class);
+		LocationNotificationResponse locationResponse = (LocationNotificationResponse) result;
+		assertThat(locationResponse.notificationType()).isEqualTo(NotificationType.LOCATION);
+		assertThat(locationResponse.trackingRadiusType()).isEqualTo(LocationTrackingRadiusType.M_500);
+		assertThat(locationResponse.endMinute()).isEqualTo(30);
+	}
+
+
+	@Test
+	void Given_InactiveNotification_When_FindNotificationInfoByType_Then_ReturnNull() {
+		// given
+		Notification notification = Notification.builder()
+			.id(1L)
+			.isActive(false)
+			.notificationType(NotificationType.LOCATION)
+			.build();
+
+		// when
+		NotificationConditionResponse result = locationNotificationService.findNotificationInfoByType(notification);
+
+		// then
+		assertThat(result).isNull();
+	}
+
+
+	@Test
+	void Given_ActiveNotification_When_AddNotificationCondition_Then_SaveLocationNotification() {
+		// when
+		locationNotificationService.addNotificationCondition(activeNotification, request);
+
+		// then
+		verify(locationNotificationRepository).save(any(LocationNotification.class));
+	}
+
+
+	@Test
+	void Given_InactiveNotification_When_AddNotificationCondition_Then_DoNothing() {
+		// given
+		Notification notification = Notification.builder()
+			.id(1L)
+			.isActive(false)
+			.notificationType(NotificationType.LOCATION)
+			.build();
+
+		// when
+		locationNotificationService.addNotificationCondition(notification, request);
+
+		// then
+		verify(locationNotificationRepository, never()).save(any(LocationNotification.class));
+	}
+
+
+	@Test
+	void Given_ExistingLocationNotification_When_UpdateNotificationCondition_Then_UpdateLocationCondition() {
+		// given
+		LocationNotification existingLocationNotification = LocationNotification.builder()
+			.id(1L)
+			.notification(activeNotification)
+			.latitude(BigDecimal.ZERO)
+			.longitude(BigDecimal.ZERO)
+			.trackingRadiusType(LocationTrackingRadiusType.KM_4)
+			.startHour(0)
+			.startMinute(0)
+			.endHour(0)
+			.endMinute(0)
+			.build();
+		when(locationNotificationRepository.findByNotificationId(1L)).thenReturn(existingLocationNotification);
+
+		// when
+		locationNotificationService.updateNotificationCondition(activeNotification, request);
+
+		// then
+		assertThat(existingLocationNotification.getLatitude()).isEqualTo(new BigDecimal("37.566535"));
+		assertThat(existingLocationNotification.getTrackingRadiusType()).isEqualTo(LocationTrackingRadiusType.M_500);
+		assertThat(existingLocationNotification.getEndHour()).isEqualTo(10);
+	}
+
+
+	@Test
+	void Given_NoExistingLocationNotification_When_UpdateNotificationCondition_Then_AddNewLocationNotification() {
+		// given
+		when(locationNotificationRepository.findByNotificationId(1L)).thenReturn(null);
+
+		// when
+		locationNotificationService.updateNotificationCondition(activeNotification, request);
+
+		// then
+		verify(locationNotificationRepository).save(any(LocationNotification.class));
+	}
+
+
+	@Test
+	void Given_NotificationId_When_DeleteNotificationCondition_Then_DeleteByNotificationId() {
+		// when
+		locationNotificationService.deleteNotificationCondition(1L);
+
+		// then
+		verify(locationNotificationRepository).deleteByNotificationId(1L);
+	}
+
+
+	@Test
+	void Given_LocationUpdate_When_FindEnteredNotifications_Then_ReturnMatchedScenarios() {
+		// given
+		ScenarioNotificationResponse scenarioNotification = ScenarioNotificationResponse.builder()
+			.scenarioId(10L)
+			.notificationId(1L)
+			.build();
+		when(locationGeofenceMatcher.findEntered(1L, 37.5, 127.0)).thenReturn(List.of(scenarioNotification));
+
+		// when
+		LocationNotificationMatchResponse result = locationNotificationService.findEnteredNotifications(
+			1L, LocationUpdateRequest.builder().latitude(37.5).longitude(127.0).build());
+
+		// then
+		assertThat(result.scenarios()).containsExactly(scenarioNotification);
+	}
+
+
+	@Test
+	void Given_LocationSamples_When_FindEnteredNotifications_Then_ReturnMatchedScenarios() {
+		// given
+		List<LocationSampleRequest> samples = List.of(LocationSampleRequest.builder()
+			.timestamp(Instant.parse("2025-01-06T00:30:00Z"))
+			.latitude(37.5)
+			.longitude(127.0)
+			.build());
+		when(locationGeofenceMatcher.findEntered(1L, samples)).thenReturn(List.of());
+
+		// when
+		LocationNotificationMatchResponse result =
+			locationNotificationService.findEnteredNotifications(1L, new LocationBatchUpdateRequest(samples));
+
+		// then
+		assertThat(result.scenarios()).isEmpty();
+	}
+
+
+	@Test
+	void Given_ActiveNotification_When_FindNotificationInfosByType_Then_MapConditionByNotificationId() {
+		// given
+		LocationNotification locationNotification = LocationNotification.builder()
+			.notification(activeNotification)
+			.latitude(BigDecimal.valueOf(37.5))
+			.longitude(BigDecimal.valueOf(127.0))
+			.trackingRadiusType(LocationTrackingRadiusType.M_500)
+			.startHour(8)
+			.startMinute(0)
+			.endHour(9)
+			.endMinute(0)
+			.build();
+		when(locationNotificationRepository.findByNotificationIdIn(List.of(1L)))
+			.thenReturn(List.of(locationNotification));
+
+		// when
+		Map<Long, NotificationConditionResponse> result =
+			locationNotificationService.findNotificationInfosByType(List.of(activeNotification));
+
+		// then
+		assertThat(result).containsOnlyKeys(1L);
+		assertThat(((LocationNotificationResponse) result.get(1L)).startHour()).isEqualTo(8);
+	}
+
+
+	@Test
+	void Given_NoActiveNotification_When_FindNotificationInfosByType_Then_SkipQuery() {
+		// when
+		Map<Long, NotificationConditionResponse> result = locationNotificationService.findNotificationInfosByType(
+			List.of(Notification.builder().id(2L).isActive(false).build()));
+
+		// then
+		assertThat(result).isEmpty();
+		verify(locationNotificationRepository, never()).findByNotificationIdIn(any());
+	}
+
+}
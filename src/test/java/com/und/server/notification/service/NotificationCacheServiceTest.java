@@ -5,17 +5,18 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -30,6 +31,9 @@ import org.springframework.data.redis.core.ValueOperations;
 
 import com.und.server.notification.constants.NotificationType;
 import com.und.server.notification.dto.cache.NotificationCacheData;
+import com.und.server.notification.dto.cache.NotificationCacheVersion;
+import com.und.server.notification.dto.response.NotificationConditionResponse;
+import com.und.server.notification.dto.response.ScenarioNotificationChangesResponse;
 import com.und.server.notification.dto.response.ScenarioNotificationListResponse;
 import com.und.server.notification.dto.response.ScenarioNotificationResponse;
 import com.und.server.notification.dto.response.TimeNotificationResponse;
@@ -37,7 +41,9 @@ import com.und.server.notification.entity.Notification;
 import com.und.server.notification.exception.NotificationCacheErrorResult;
 import com.und.server.notification.exception.NotificationCacheException;
 import com.und.server.notification.util.NotificationCacheKeyGenerator;
+import com.und.server.notification.util.NotificationCacheScriptExecutor;
 import com.und.server.notification.util.NotificationCacheSerializer;
+import com.und.server.notification.util.NotificationCacheVersionManager;
 import com.und.server.scenario.entity.Scenario;
 import com.und.server.scenario.service.ScenarioNotificationService;
 
@@ -63,6 +69,12 @@ class NotificationCacheServiceTest {
 	@Mock
 	private NotificationCacheSerializer serializer;
 
+	@Mock
+	private NotificationCacheVersionManager versionManager;
+
+	@Mock
+	private NotificationCacheScriptExecutor scriptExecutor;
+
 	@Mock
 	private NotificationConditionSelector notificationConditionSelector;
 
@@ -73,6 +85,7 @@ class NotificationCacheServiceTest {
 	private final Long scenarioId = 10L;
 	private final String cacheKey = "notif:1";
 	private final String etagKey = "notif:etag:1";
+	private final String versionKey = "notif:version:1";
 
 
 	@BeforeEach
@@ -127,17 +140,51 @@ class NotificationCacheServiceTest {
 		given(keyGenerator.generateEtagKey(memberId)).willReturn(etagKey);
 		given(valueOperations.get(etagKey)).willReturn(null);
 		given(scenarioNotificationService.getScenarioNotifications(memberId)).willReturn(List.of(dbResponse));
+		given(serializer.serialize(any())).willReturn("serialized_cache_data");
+		given(scriptExecutor.rebuild(memberId, Map.of(scenarioId.toString(), "serialized_cache_data")))
+			.willReturn(1234567890L);
 
 		// when
 		ScenarioNotificationListResponse result = notificationCacheService.getScenariosNotificationCache(memberId);
 
 		// then
+		assertThat(result.etag()).isEqualTo("1234567890");
 		assertThat(result.scenarios()).hasSize(1);
 		assertThat(result.scenarios().get(0).scenarioId()).isEqualTo(scenarioId);
 		verify(scenarioNotificationService).getScenarioNotifications(memberId);
 	}
 
 
+	@Test
+	void Given_StoredEtag_When_GetEtag_Then_ReturnEtagWithoutLoadingHash() {
+		// given
+		given(keyGenerator.generateEtagKey(memberId)).willReturn(etagKey);
+		given(valueOperations.get(etagKey)).willReturn("1234567890");
+
+		// when
+		String result = notificationCacheService.getEtag(memberId);
+
+		// then
+		assertThat(result).isEqualTo("1234567890");
+		verify(hashOperations, never()).entries(anyString());
+		verify(serializer, never()).deserialize(anyString());
+	}
+
+
+	@Test
+	void Given_RedisException_When_GetEtag_Then_ThrowNotificationCacheException() {
+		// given
+		given(keyGenerator.generateEtagKey(memberId)).willReturn(etagKey);
+		doThrow(new RedisSystemException("Redis connection failed", new RuntimeException())).when(valueOperations)
+			.get(etagKey);
+
+		// when & then
+		assertThatThrownBy(() -> notificationCacheService.getEtag(memberId))
+			.isInstanceOf(NotificationCacheException.class)
+			.hasFieldOrPropertyWithValue("errorResult", NotificationCacheErrorResult.CACHE_FETCH_ALL_FAILED);
+	}
+
+
 	@Test
 	void Given_ValidScenario_When_GetSingleScenarioNotificationCache_Then_ReturnNotification() {
 		// given
@@ -198,38 +245,73 @@ class NotificationCacheServiceTest {
 			.notification(notification)
 			.build();
 
-		given(keyGenerator.generateNotificationCacheKey(memberId)).willReturn(cacheKey);
-		given(keyGenerator.generateEtagKey(memberId)).willReturn(etagKey);
-		given(valueOperations.get(etagKey)).willReturn("1234567890");
 		given(notificationConditionSelector.findNotificationCondition(notification)).willReturn(null);
-		given(serializer.serializeCondition(null)).willReturn("serialized_condition");
 		given(serializer.serialize(any())).willReturn("serialized_cache_data");
+		given(scriptExecutor.upsert(memberId, scenarioId, "serialized_cache_data")).willReturn(1234567891L);
+
+		// when
+		notificationCacheService.updateCache(memberId, scenario);
+
+		// then
+		verify(scriptExecutor).upsert(memberId, scenarioId, "serialized_cache_data");
+		verify(scriptExecutor, never()).rebuild(anyLong(), any());
+	}
+
+
+	@Test
+	void Given_MissingEtag_When_UpdateCache_Then_RebuildFromDatabase() {
+		// given
+		Notification notification = Notification.builder()
+			.id(1L)
+			.isActive(true)
+			.build();
+
+		Scenario scenario = Scenario.builder()
+			.id(scenarioId)
+			.notification(notification)
+			.build();
+
+		given(serializer.serialize(any())).willReturn("serialized_cache_data");
+		given(scriptExecutor.upsert(memberId, scenarioId, "serialized_cache_data"))
+			.willReturn(NotificationCacheScriptExecutor.CACHE_MISS);
+		given(scenarioNotificationService.getScenarioNotifications(memberId)).willReturn(List.of());
+		given(scriptExecutor.rebuild(memberId, Map.of())).willReturn(1234567890L);
 
 		// when
 		notificationCacheService.updateCache(memberId, scenario);
 
 		// then
-		verify(hashOperations).put(eq(cacheKey), eq(scenarioId.toString()), eq("serialized_cache_data"));
-		verify(redisTemplate).expire(eq(cacheKey), anyLong(), any(TimeUnit.class));
-		verify(valueOperations).set(eq(etagKey), anyString());
-		verify(redisTemplate).expire(eq(etagKey), anyLong(), any(TimeUnit.class));
+		verify(scenarioNotificationService).getScenarioNotifications(memberId);
+		verify(scriptExecutor).rebuild(memberId, Map.of());
 	}
 
 
 	@Test
 	void Given_ValidScenario_When_DeleteCache_Then_DeleteSuccessfully() {
 		// given
-		given(keyGenerator.generateNotificationCacheKey(memberId)).willReturn(cacheKey);
-		given(keyGenerator.generateEtagKey(memberId)).willReturn(etagKey);
-		given(valueOperations.get(etagKey)).willReturn("1234567890");
+		given(scriptExecutor.delete(memberId, scenarioId)).willReturn(1234567891L);
+
+		// when
+		notificationCacheService.deleteCache(memberId, scenarioId);
+
+		// then
+		verify(scriptExecutor).delete(memberId, scenarioId);
+		verify(scenarioNotificationService, never()).getScenarioNotifications(any());
+	}
+
+
+	@Test
+	void Given_MissingEtag_When_DeleteCache_Then_RebuildFromDatabase() {
+		// given
+		given(scriptExecutor.delete(memberId, scenarioId)).willReturn(NotificationCacheScriptExecutor.CACHE_MISS);
+		given(scenarioNotificationService.getScenarioNotifications(memberId)).willReturn(List.of());
+		given(scriptExecutor.rebuild(memberId, Map.of())).willReturn(1234567890L);
 
 		// when
 		notificationCacheService.deleteCache(memberId, scenarioId);
 
 		// then
-		verify(hashOperations).delete(cacheKey, scenarioId.toString());
-		verify(valueOperations).set(eq(etagKey), anyString());
-		verify(redisTemplate).expire(eq(etagKey), anyLong(), any(TimeUnit.class));
+		verify(scriptExecutor).rebuild(memberId, Map.of());
 	}
 
 
@@ -238,6 +320,7 @@ class NotificationCacheServiceTest {
 		// given
 		given(keyGenerator.generateNotificationCacheKey(memberId)).willReturn(cacheKey);
 		given(keyGenerator.generateEtagKey(memberId)).willReturn(etagKey);
+		given(keyGenerator.generateVersionKey(memberId)).willReturn(versionKey);
 
 		// when
 		notificationCacheService.deleteMemberAllCache(memberId);
@@ -245,6 +328,7 @@ class NotificationCacheServiceTest {
 		// then
 		verify(redisTemplate).delete(cacheKey);
 		verify(redisTemplate).delete(etagKey);
+		verify(redisTemplate).delete(versionKey);
 	}
 
 
@@ -275,11 +359,13 @@ class NotificationCacheServiceTest {
 		given(keyGenerator.generateEtagKey(memberId)).willReturn(etagKey);
 		given(valueOperations.get(etagKey)).willReturn(null);
 		given(scenarioNotificationService.getScenarioNotifications(memberId)).willReturn(List.of());
+		given(scriptExecutor.rebuild(memberId, Map.of())).willReturn(1234567890L);
 
 		// when
 		ScenarioNotificationListResponse result = notificationCacheService.getScenariosNotificationCache(memberId);
 
 		// then
+		assertThat(result.etag()).isEqualTo("1234567890");
 		assertThat(result.scenarios()).isEmpty();
 		verify(scenarioNotificationService).getScenarioNotifications(memberId);
 	}
@@ -328,14 +414,10 @@ class NotificationCacheServiceTest {
 			.notification(notification)
 			.build();
 
-		given(keyGenerator.generateNotificationCacheKey(memberId)).willReturn(cacheKey);
-		given(keyGenerator.generateEtagKey(memberId)).willReturn(etagKey);
-		given(valueOperations.get(etagKey)).willReturn("1234567890");
 		given(notificationConditionSelector.findNotificationCondition(notification)).willReturn(null);
-		given(serializer.serializeCondition(null)).willReturn("serialized_condition");
 		given(serializer.serialize(any())).willReturn("serialized_cache_data");
-		doThrow(new RuntimeException("Redis connection failed")).when(hashOperations)
-			.put(anyString(), anyString(), anyString());
+		doThrow(new RuntimeException("Redis connection failed")).when(scriptExecutor)
+			.upsert(anyLong(), anyLong(), anyString());
 
 		// when & then
 		assertThatThrownBy(() -> notificationCacheService.updateCache(memberId, scenario))
@@ -347,10 +429,7 @@ class NotificationCacheServiceTest {
 	@Test
 	void Given_RedisException_When_DeleteCache_Then_ThrowRuntimeException() {
 		// given
-		given(keyGenerator.generateNotificationCacheKey(memberId)).willReturn(cacheKey);
-		given(keyGenerator.generateEtagKey(memberId)).willReturn(etagKey);
-		given(valueOperations.get(etagKey)).willReturn("1234567890");
-		doThrow(new RuntimeException("Redis connection failed")).when(hashOperations).delete(anyString(), anyString());
+		doThrow(new RuntimeException("Redis connection failed")).when(scriptExecutor).delete(anyLong(), anyLong());
 
 		// when & then
 		assertThatThrownBy(() -> notificationCacheService.deleteCache(memberId, scenarioId))
@@ -394,20 +473,72 @@ class NotificationCacheServiceTest {
 			.startMinute(30)
 			.build();
 
-		given(keyGenerator.generateNotificationCacheKey(memberId)).willReturn(cacheKey);
-		given(keyGenerator.generateEtagKey(memberId)).willReturn(etagKey);
-		given(valueOperations.get(etagKey)).willReturn("1234567890");
 		given(notificationConditionSelector.findNotificationCondition(notification)).willReturn(condition);
-		given(serializer.serializeCondition(condition)).willReturn("serialized_condition");
-		given(serializer.serialize(any())).willReturn("serialized_cache_data");
+		given(serializer.serialize(argThat(cacheData -> condition.equals(cacheData.notificationCondition()))))
+			.willReturn("serialized_cache_data");
 
 		// when
 		notificationCacheService.updateCache(memberId, scenario);
 
 		// then
 		verify(notificationConditionSelector).findNotificationCondition(notification);
-		verify(serializer).serializeCondition(condition);
-		verify(hashOperations).put(eq(cacheKey), eq(scenarioId.toString()), eq("serialized_cache_data"));
+		verify(scriptExecutor).upsert(memberId, scenarioId, "serialized_cache_data");
+	}
+
+
+	@Test
+	void Given_Scenarios_When_FindNotificationConditions_Then_LoadConditionsInBulk() {
+		// given
+		Notification notification = Notification.builder()
+			.id(1L)
+			.isActive(true)
+			.notificationType(NotificationType.TIME)
+			.build();
+		Scenario scenario = Scenario.builder()
+			.id(scenarioId)
+			.notification(notification)
+			.build();
+
+		TimeNotificationResponse condition = TimeNotificationResponse.builder()
+			.notificationType(NotificationType.TIME)
+			.startHour(12)
+			.startMinute(30)
+			.build();
+		given(notificationConditionSelector.findNotificationConditions(List.of(notification)))
+			.willReturn(Map.of(1L, condition));
+
+		// when
+		Map<Long, NotificationConditionResponse> result =
+			notificationCacheService.findNotificationConditions(List.of(scenario));
+
+		// then
+		assertThat(result).containsExactly(Map.entry(1L, condition));
+	}
+
+
+	@Test
+	void Given_PrefetchedCondition_When_UpdateCache_Then_SkipConditionLookup() {
+		// given
+		Scenario scenario = Scenario.builder()
+			.id(scenarioId)
+			.scenarioName("조건 포함 루틴")
+			.notification(Notification.builder().id(1L).isActive(true).build())
+			.build();
+
+		TimeNotificationResponse condition = TimeNotificationResponse.builder()
+			.notificationType(NotificationType.TIME)
+			.startHour(12)
+			.startMinute(30)
+			.build();
+		given(serializer.serialize(argThat(cacheData -> condition.equals(cacheData.notificationCondition()))))
+			.willReturn("serialized_cache_data");
+
+		// when
+		notificationCacheService.updateCache(memberId, scenario, condition);
+
+		// then
+		verify(scriptExecutor).upsert(memberId, scenarioId, "serialized_cache_data");
+		verifyNoInteractions(notificationConditionSelector);
 	}
 
 
@@ -444,4 +575,125 @@ class NotificationCacheServiceTest {
 		assertThat(result.notificationCondition()).isEqualTo(condition);
 	}
 
+
+
+	@Test
+	void Given_MissingVersion_When_GetScenarioNotificationChanges_Then_ReturnFullSnapshotFromDatabase() {
+		// given
+		ScenarioNotificationResponse dbResponse = ScenarioNotificationResponse.builder()
+			.scenarioId(scenarioId)
+			.scenarioName("아침 루틴")
+			.build();
+
+		given(versionManager.getVersion(memberId)).willReturn(null);
+		given(scenarioNotificationService.getScenarioNotifications(memberId)).willReturn(List.of(dbResponse));
+		given(serializer.serialize(any())).willReturn("serialized_cache_data");
+		given(scriptExecutor.rebuild(memberId, Map.of(scenarioId.toString(), "serialized_cache_data")))
+			.willReturn(1000L);
+
+		// when
+		ScenarioNotificationChangesResponse result =
+			notificationCacheService.getScenarioNotificationChanges(memberId, 500L);
+
+		// then
+		assertThat(result.isFullSync()).isTrue();
+		assertThat(result.version()).isEqualTo(1000L);
+		assertThat(result.upsertedScenarios()).containsExactly(dbResponse);
+		assertThat(result.deletedScenarioIds()).isEmpty();
+	}
+
+
+	@Test
+	void Given_SinceBeforeBaseVersion_When_GetScenarioNotificationChanges_Then_ReturnFullSnapshotFromCache() {
+		// given
+		NotificationCacheVersion cacheVersion = new NotificationCacheVersion(1000L, 1002L, Map.of(scenarioId, 1002L));
+		NotificationCacheData notificationCacheData = NotificationCacheData.builder()
+			.scenarioId(scenarioId)
+			.build();
+
+		given(versionManager.getVersion(memberId)).willReturn(cacheVersion);
+		given(keyGenerator.generateNotificationCacheKey(memberId)).willReturn(cacheKey);
+		given(keyGenerator.generateEtagKey(memberId)).willReturn(etagKey);
+		given(valueOperations.get(etagKey)).willReturn("1002");
+		given(hashOperations.entries(cacheKey)).willReturn(Map.of("10", "serialized_cache_data"));
+		given(serializer.deserialize("serialized_cache_data")).willReturn(notificationCacheData);
+
+		// when
+		ScenarioNotificationChangesResponse result =
+			notificationCacheService.getScenarioNotificationChanges(memberId, 999L);
+
+		// then
+		assertThat(result.isFullSync()).isTrue();
+		assertThat(result.version()).isEqualTo(1002L);
+		assertThat(result.upsertedScenarios()).hasSize(1);
+	}
+
+
+	@Test
+	void Given_ChangedScenarios_When_GetScenarioNotificationChanges_Then_ReturnUpsertedAndDeleted() {
+		// given
+		Long deletedScenarioId = 11L;
+		NotificationCacheVersion cacheVersion = new NotificationCacheVersion(
+			1000L, 1003L, Map.of(scenarioId, 1002L, deletedScenarioId, 1003L, 12L, 1000L));
+		NotificationCacheData notificationCacheData = NotificationCacheData.builder()
+			.scenarioId(scenarioId)
+			.build();
+
+		given(versionManager.getVersion(memberId)).willReturn(cacheVersion);
+		given(keyGenerator.generateNotificationCacheKey(memberId)).willReturn(cacheKey);
+		given(hashOperations.multiGet(eq(cacheKey), any())).willAnswer(invocation -> {
+			List<Object> fieldKeys = invocation.getArgument(1);
+			return fieldKeys.stream()
+				.map(fieldKey -> fieldKey.equals(scenarioId.toString()) ? "serialized_cache_data" : null)
+				.toList();
+		});
+		given(serializer.deserialize("serialized_cache_data")).willReturn(notificationCacheData);
+
+		// when
+		ScenarioNotificationChangesResponse result =
+			notificationCacheService.getScenarioNotificationChanges(memberId, 1001L);
+
+		// then
+		assertThat(result.isFullSync()).isFalse();
+		assertThat(result.version()).isEqualTo(1003L);
+		assertThat(result.upsertedScenarios()).extracting(ScenarioNotificationResponse::scenarioId)
+			.containsExactly(scenarioId);
+		assertThat(result.deletedScenarioIds()).containsExactly(deletedScenarioId);
+		verify(hashOperations, never()).entries(anyString());
+	}
+
+
+	@Test
+	void Given_NoChangesSinceVersion_When_GetScenarioNotificationChanges_Then_ReturnEmptyDelta() {
+		// given
+		NotificationCacheVersion cacheVersion = new NotificationCacheVersion(1000L, 1002L, Map.of(scenarioId, 1002L));
+
+		given(versionManager.getVersion(memberId)).willReturn(cacheVersion);
+		given(keyGenerator.generateNotificationCacheKey(memberId)).willReturn(cacheKey);
+		given(hashOperations.multiGet(cacheKey, List.of())).willReturn(List.of());
+
+		// when
+		ScenarioNotificationChangesResponse result =
+			notificationCacheService.getScenarioNotificationChanges(memberId, 1002L);
+
+		// then
+		assertThat(result.isFullSync()).isFalse();
+		assertThat(result.version()).isEqualTo(1002L);
+		assertThat(result.upsertedScenarios()).isEmpty();
+		assertThat(result.deletedScenarioIds()).isEmpty();
+	}
+
+
+	@Test
+	void Given_RedisException_When_GetScenarioNotificationChanges_Then_ThrowNotificationCacheException() {
+		// given
+		given(versionManager.getVersion(memberId))
+			.willThrow(new RedisSystemException("Redis connection failed", new RuntimeException()));
+
+		// when & then
+		assertThatThrownBy(() -> notificationCacheService.getScenarioNotificationChanges(memberId, 1000L))
+			.isInstanceOf(NotificationCacheException.class)
+			.hasFieldOrPropertyWithValue("errorResult", NotificationCacheErrorResult.CACHE_FETCH_ALL_FAILED);
+	}
+
 }
@@ -0,0 +1,105 @@
+package com.und.server.notification.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import com.und.server.notification.util.NotificationCacheKeyGenerator;
+
+
+@ExtendWith(MockitoExtension.class)
+class NotificationCacheWarmUpServiceTest {
+
+	private static final Long MEMBER_ID = 1L;
+
+	@Mock
+	private NotificationCacheService notificationCacheService;
+
+	@Mock
+	private StringRedisTemplate stringRedisTemplate;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	private NotificationCacheWarmUpService warmUpService;
+
+
+	@BeforeEach
+	void setUp() {
+		warmUpService = new NotificationCacheWarmUpService(
+			notificationCacheService, new NotificationCacheKeyGenerator(), stringRedisTemplate);
+	}
+
+
+	@Test
+	void Given_CachedMember_When_WarmUp_Then_SkipRebuild() {
+		// given
+		given(stringRedisTemplate.hasKey("notif:etag:1")).willReturn(true);
+
+		// when
+		warmUpService.warmUp(MEMBER_ID);
+
+		// then
+		verify(stringRedisTemplate, never()).opsForValue();
+		verify(notificationCacheService, never()).refreshCacheFromDatabase(any());
+	}
+
+
+	@Test
+	void Given_MissingCacheAndFreeLock_When_WarmUp_Then_RebuildFromDatabase() {
+		// given
+		given(stringRedisTemplate.hasKey("notif:etag:1")).willReturn(false);
+		given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+		given(valueOperations.setIfAbsent(eq("notif:warmup:1"), anyString(), any(Duration.class))).willReturn(true);
+
+		// when
+		warmUpService.warmUp(MEMBER_ID);
+
+		// then
+		verify(notificationCacheService).refreshCacheFromDatabase(MEMBER_ID);
+	}
+
+
+	@Test
+	void Given_WarmUpInProgress_When_WarmUp_Then_SkipDuplicateRebuild() {
+		// given
+		given(stringRedisTemplate.hasKey("notif:etag:1")).willReturn(false);
+		given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+		given(valueOperations.setIfAbsent(eq("notif:warmup:1"), anyString(), any(Duration.class))).willReturn(false);
+
+		// when
+		warmUpService.warmUp(MEMBER_ID);
+
+		// then
+		verify(notificationCacheService, never()).refreshCacheFromDatabase(any());
+	}
+
+
+	@Test
+	void Given_RedisUnavailable_When_WarmUp_Then_SwallowException() {
+		// given
+		given(stringRedisTemplate.hasKey("notif:etag:1"))
+			.willThrow(new RedisConnectionFailureException("Redis down"));
+
+		// when
+		warmUpService.warmUp(MEMBER_ID);
+
+		// then
+		verify(notificationCacheService, never()).refreshCacheFromDatabase(any());
+	}
+
+}
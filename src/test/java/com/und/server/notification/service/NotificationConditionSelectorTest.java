@@ -3,16 +3,18 @@ package com.und.server.notification.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -20,6 +22,7 @@ import com.und.server.common.exception.ServerException;
 import com.und.server.notification.constants.NotificationType;
 import com.und.server.notification.dto.request.NotificationConditionRequest;
 import com.und.server.notification.dto.request.TimeNotificationRequest;
+import com.und.server.notification.dto.response.LocationNotificationResponse;
 import com.und.server.notification.dto.response.NotificationConditionResponse;
 import com.und.server.notification.dto.response.TimeNotificationResponse;
 import com.und.server.notification.entity.Notification;
@@ -40,16 +43,17 @@ class NotificationConditionSelectorTest {
 	@Mock
 	private NotificationConditionRequest conditionRequest;
 
-	@InjectMocks
 	private NotificationConditionSelector selector;
 
-	private List<NotificationConditionService> services;
-
 
 	@BeforeEach
 	void setUp() {
-		services = Arrays.asList(timeNotificationService, locationNotificationService);
-		selector = new NotificationConditionSelector(services);
+		when(timeNotificationService.supports(any()))
+			.thenAnswer(invocation -> invocation.getArgument(0) == NotificationType.TIME);
+		when(locationNotificationService.supports(any()))
+			.thenAnswer(invocation -> invocation.getArgument(0) == NotificationType.LOCATION);
+		selector = new NotificationConditionSelector(
+			Arrays.asList(timeNotificationService, locationNotificationService));
 	}
 
 
@@ -63,7 +67,6 @@ class NotificationConditionSelectorTest {
 			.build();
 
 		when(notification.getNotificationType()).thenReturn(notifType);
-		when(timeNotificationService.supports(notifType)).thenReturn(true);
 		when(timeNotificationService.findNotificationInfoByType(notification)).thenReturn(expectedDto);
 
 		// when
@@ -71,19 +74,14 @@ class NotificationConditionSelectorTest {
 
 		// then
 		assertThat(result).isEqualTo(expectedDto);
-		verify(timeNotificationService).supports(notifType);
 		verify(timeNotificationService).findNotificationInfoByType(notification);
 	}
 
 
 	@Test
-	void Given_UnsupportedNotificationType_When_FindNotificationInfoByType_Then_ThrowServerException() {
+	void Given_NullNotificationType_When_FindNotificationInfoByType_Then_ThrowServerException() {
 		// given
-		NotificationType notifType = NotificationType.LOCATION;
-
-		when(notification.getNotificationType()).thenReturn(notifType);
-		when(timeNotificationService.supports(notifType)).thenReturn(false);
-		when(locationNotificationService.supports(notifType)).thenReturn(false);
+		when(notification.getNotificationType()).thenReturn(null);
 
 		// when & then
 		assertThatThrownBy(() -> selector.findNotificationCondition(notification))
@@ -93,77 +91,76 @@ class NotificationConditionSelectorTest {
 
 
 	@Test
-	void Given_SupportedNotificationType_When_AddNotificationCondition_Then_InvokeService() {
+	void Given_RepeatedLookups_When_FindNotificationCondition_Then_ResolveServicesOnlyAtStartup() {
 		// given
-		NotificationType notifType = NotificationType.TIME;
-		TimeNotificationRequest timeRequest = TimeNotificationRequest.builder()
-			.startHour(9)
-			.startMinute(0)
-			.build();
-
-		when(notification.getNotificationType()).thenReturn(notifType);
-		when(timeNotificationService.supports(notifType)).thenReturn(true);
+		when(notification.getNotificationType()).thenReturn(NotificationType.LOCATION);
 
 		// when
-		selector.addNotificationCondition(notification, timeRequest);
+		selector.findNotificationCondition(notification);
+		selector.findNotificationCondition(notification);
 
 		// then
-		verify(timeNotificationService).supports(notifType);
-		verify(timeNotificationService).addNotificationCondition(notification, timeRequest);
+		verify(timeNotificationService, times(NotificationType.values().length)).supports(any());
+		verify(locationNotificationService, times(2)).findNotificationInfoByType(notification);
 	}
 
 
 	@Test
-	void Given_UnsupportedNotificationType_When_AddNotificationCondition_Then_ThrowServerException() {
-		// given
-		NotificationType notifType = NotificationType.LOCATION;
+	void Given_TypeWithoutService_When_CreateSelector_Then_ThrowIllegalStateException() {
+		// when & then
+		assertThatThrownBy(() -> new NotificationConditionSelector(List.of(timeNotificationService)))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessageContaining("LOCATION");
+	}
 
-		when(notification.getNotificationType()).thenReturn(notifType);
-		when(timeNotificationService.supports(notifType)).thenReturn(false);
-		when(locationNotificationService.supports(notifType)).thenReturn(false);
 
+	@Test
+	void Given_TypeWithTwoServices_When_CreateSelector_Then_ThrowIllegalStateException() {
 		// when & then
-		assertThatThrownBy(() -> selector.addNotificationCondition(notification, conditionRequest))
-			.isInstanceOf(ServerException.class)
-			.hasFieldOrPropertyWithValue("errorResult", NotificationErrorResult.UNSUPPORTED_NOTIFICATION);
+		assertThatThrownBy(() -> new NotificationConditionSelector(
+			List.of(timeNotificationService, timeNotificationService, locationNotificationService)))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessageContaining("TIME");
 	}
 
 
 	@Test
-	void Given_SupportedNotificationType_When_DeleteNotificationCondition_Then_InvokeService() {
+	void Given_MixedNotificationTypes_When_FindNotificationConditions_Then_LoadOncePerType() {
 		// given
-		NotificationType notifType = NotificationType.TIME;
-		Long notificationId = 1L;
+		Notification timeNotification1 = createNotification(1L, NotificationType.TIME);
+		Notification timeNotification2 = createNotification(2L, NotificationType.TIME);
+		Notification locationNotification = createNotification(3L, NotificationType.LOCATION);
+		NotificationConditionResponse timeCondition = TimeNotificationResponse.builder().startHour(9).build();
+		NotificationConditionResponse locationCondition = LocationNotificationResponse.builder().startHour(8).build();
 
-		when(timeNotificationService.supports(notifType)).thenReturn(true);
+		when(timeNotificationService.findNotificationInfosByType(List.of(timeNotification1, timeNotification2)))
+			.thenReturn(Map.of(1L, timeCondition, 2L, timeCondition));
+		when(locationNotificationService.findNotificationInfosByType(List.of(locationNotification)))
+			.thenReturn(Map.of(3L, locationCondition));
 
 		// when
-		selector.deleteNotificationCondition(notifType, notificationId);
+		Map<Long, NotificationConditionResponse> result = selector.findNotificationConditions(
+			List.of(timeNotification1, locationNotification, timeNotification2));
 
 		// then
-		verify(timeNotificationService).supports(notifType);
-		verify(timeNotificationService).deleteNotificationCondition(notificationId);
+		assertThat(result).containsOnly(
+			Map.entry(1L, timeCondition), Map.entry(2L, timeCondition), Map.entry(3L, locationCondition));
 	}
 
 
 	@Test
-	void Given_UnsupportedNotificationType_When_DeleteNotificationCondition_Then_ThrowServerException() {
-		// given
-		NotificationType notifType = NotificationType.LOCATION;
-		Long notificationId = 1L;
-
-		when(timeNotificationService.supports(notifType)).thenReturn(false);
-		when(locationNotificationService.supports(notifType)).thenReturn(false);
+	void Given_NoNotifications_When_FindNotificationConditions_Then_ReturnEmpty() {
+		// when
+		Map<Long, NotificationConditionResponse> result = selector.findNotificationConditions(List.of());
 
-		// when & then
-		assertThatThrownBy(() -> selector.deleteNotificationCondition(notifType, notificationId))
-			.isInstanceOf(ServerException.class)
-			.hasFieldOrPropertyWithValue("errorResult", NotificationErrorResult.UNSUPPORTED_NOTIFICATION);
+		// then
+		assertThat(result).isEmpty();
+		verify(timeNotificationService, never()).findNotificationInfosByType(any());
 	}
 
 
 	@Test
-	void Given_SupportedNotificationType_When_UpdateNotificationCondition_Then_InvokeService() {
+	void Given_SupportedNotificationType_When_AddNotificationCondition_Then_InvokeService() {
 		// given
 		NotificationType notifType = NotificationType.TIME;
 		TimeNotificationRequest timeRequest = TimeNotificationRequest.builder()
@@ -172,79 +169,66 @@ class NotificationConditionSelectorTest {
 			.build();
 
 		when(notification.getNotificationType()).thenReturn(notifType);
-		when(timeNotificationService.supports(notifType)).thenReturn(true);
 
 		// when
-		selector.updateNotificationCondition(notification, timeRequest);
+		selector.addNotificationCondition(notification, timeRequest);
 
 		// then
-		verify(timeNotificationService).supports(notifType);
-		verify(timeNotificationService).updateNotificationCondition(notification, timeRequest);
+		verify(timeNotificationService).addNotificationCondition(notification, timeRequest);
 	}
 
 
 	@Test
-	void Given_UnsupportedNotificationType_When_UpdateNotificationCondition_Then_ThrowServerException() {
+	void Given_NullNotificationType_When_AddNotificationCondition_Then_ThrowServerException() {
 		// given
-		NotificationType notifType = NotificationType.LOCATION;
-
-		when(notification.getNotificationType()).thenReturn(notifType);
-		when(timeNotificationService.supports(notifType)).thenReturn(false);
-		when(locationNotificationService.supports(notifType)).thenReturn(false);
+		when(notification.getNotificationType()).thenReturn(null);
 
 		// when & then
-		assertThatThrownBy(() -> selector.updateNotificationCondition(notification, conditionRequest))
+		assertThatThrownBy(() -> selector.addNotificationCondition(notification, conditionRequest))
 			.isInstanceOf(ServerException.class)
 			.hasFieldOrPropertyWithValue("errorResult", NotificationErrorResult.UNSUPPORTED_NOTIFICATION);
 	}
 
 
 	@Test
-	void Given_MultipleServices_When_FirstServiceSupports_Then_UseFirstService() {
+	void Given_SupportedNotificationType_When_DeleteNotificationCondition_Then_InvokeService() {
 		// given
-		NotificationType notifType = NotificationType.TIME;
-		NotificationConditionResponse expectedDto = TimeNotificationResponse.builder()
-			.startHour(9)
-			.startMinute(0)
-			.build();
-
-		when(notification.getNotificationType()).thenReturn(notifType);
-		when(timeNotificationService.supports(notifType)).thenReturn(true);
-		when(timeNotificationService.findNotificationInfoByType(notification)).thenReturn(expectedDto);
+		NotificationType notifType = NotificationType.LOCATION;
+		Long notificationId = 1L;
 
 		// when
-		NotificationConditionResponse result = selector.findNotificationCondition(notification);
+		selector.deleteNotificationCondition(notifType, notificationId);
 
 		// then
-		assertThat(result).isEqualTo(expectedDto);
-		verify(timeNotificationService).supports(notifType);
-		verify(timeNotificationService).findNotificationInfoByType(notification);
-		verify(locationNotificationService, org.mockito.Mockito.never()).supports(any());
+		verify(locationNotificationService).deleteNotificationCondition(notificationId);
+		verify(timeNotificationService, never()).deleteNotificationCondition(any());
 	}
 
 
 	@Test
-	void Given_MultipleServices_When_FirstServiceNotSupports_Then_UseSecondService() {
+	void Given_SupportedNotificationType_When_UpdateNotificationCondition_Then_InvokeService() {
 		// given
-		NotificationType notifType = NotificationType.LOCATION;
-		NotificationConditionResponse expectedDto = TimeNotificationResponse.builder()
+		NotificationType notifType = NotificationType.TIME;
+		TimeNotificationRequest timeRequest = TimeNotificationRequest.builder()
 			.startHour(9)
 			.startMinute(0)
 			.build();
 
 		when(notification.getNotificationType()).thenReturn(notifType);
-		when(timeNotificationService.supports(notifType)).thenReturn(false);
-		when(locationNotificationService.supports(notifType)).thenReturn(true);
-		when(locationNotificationService.findNotificationInfoByType(notification)).thenReturn(expectedDto);
 
 		// when
-		NotificationConditionResponse result = selector.findNotificationCondition(notification);
+		selector.updateNotificationCondition(notification, timeRequest);
 
 		// then
-		assertThat(result).isEqualTo(expectedDto);
-		verify(timeNotificationService).supports(notifType);
-		verify(locationNotificationService).supports(notifType);
-		verify(locationNotificationService).findNotificationInfoByType(notification);
+		verify(timeNotificationService).updateNotificationCondition(notification, timeRequest);
+	}
+
+	private Notification createNotification(final Long id, final NotificationType notificationType) {
+		return Notification.builder()
+			.id(id)
+			.isActive(true)
+			.notificationType(notificationType)
+			.build();
 	}
 
 }
@@ -3,7 +3,6 @@ package com.und.server.notification.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
-import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -26,8 +25,7 @@ import com.und.server.notification.dto.response.TimeNotificationResponse;
 import com.und.server.notification.entity.Notification;
 import com.und.server.notification.event.NotificationEventPublisher;
 import com.und.server.notification.repository.NotificationRepository;
-import com.und.server.scenario.entity.Scenario;
-import com.und.server.scenario.repository.ScenarioRepository;
+import com.und.server.notification.util.DaysOfWeekMask;
 
 @ExtendWith(MockitoExtension.class)
 class NotificationServiceTest {
@@ -38,9 +36,6 @@ class NotificationServiceTest {
 	@Mock
 	private NotificationConditionSelector notificationConditionSelector;
 
-	@Mock
-	private ScenarioRepository scenarioRepository;
-
 	@Mock
 	private NotificationEventPublisher notificationEventPublisher;
 
@@ -110,6 +105,7 @@ class NotificationServiceTest {
 		verify(notificationRepository).save(any(Notification.class));
 		verify(notificationConditionSelector)
 			.addNotificationCondition(any(Notification.class), eq(conditionInfo));
+		verify(notificationEventPublisher).publishScheduleChangeEvent(List.of(1L));
 	}
 
 
@@ -145,6 +141,7 @@ class NotificationServiceTest {
 			.satisfies(n -> assertThat(n.isActive()).isTrue());
 		verify(notificationConditionSelector)
 			.updateNotificationCondition(oldNotification, conditionInfo);
+		verify(notificationEventPublisher).publishScheduleChangeEvent(List.of(1L));
 	}
 
 
@@ -182,6 +179,7 @@ class NotificationServiceTest {
 			NotificationType.TIME, oldNotification.getId());
 		verify(notificationConditionSelector)
 			.addNotificationCondition(oldNotification, conditionInfo);
+		verify(notificationEventPublisher).publishScheduleChangeEvent(List.of(1L));
 	}
 
 
@@ -209,6 +207,7 @@ class NotificationServiceTest {
 			.satisfies(n -> assertThat(n.getNotificationMethodType()).isNull());
 		verify(notificationConditionSelector)
 			.deleteNotificationCondition(NotificationType.TIME, oldNotification.getId());
+		verify(notificationEventPublisher).publishScheduleChangeEvent(List.of(1L));
 	}
 
 	@Test
@@ -253,6 +252,7 @@ class NotificationServiceTest {
 		// then
 		verify(notificationConditionSelector)
 			.deleteNotificationCondition(NotificationType.LOCATION, 5L);
+		verify(notificationEventPublisher).publishScheduleChangeEvent(List.of(5L));
 	}
 
 
@@ -263,7 +263,7 @@ class NotificationServiceTest {
 			.id(1L)
 			.isActive(true)
 			.notificationType(NotificationType.TIME)
-			.daysOfWeek("0,1,2,3,4,5,6")
+			.daysMask(DaysOfWeekMask.from(List.of(0, 1, 2, 3, 4, 5, 6)))
 			.build();
 
 		NotificationConditionResponse expectedInfo = TimeNotificationResponse.builder()
@@ -293,7 +293,7 @@ class NotificationServiceTest {
 			.id(1L)
 			.isActive(true)
 			.notificationType(NotificationType.TIME)
-			.daysOfWeek("0,2,4")
+			.daysMask(DaysOfWeekMask.from(List.of(0, 2, 4)))
 			.build();
 
 		NotificationConditionResponse expectedInfo = TimeNotificationResponse.builder()
@@ -323,7 +323,7 @@ class NotificationServiceTest {
 			.id(1L)
 			.isActive(true)
 			.notificationType(NotificationType.TIME)
-			.daysOfWeek("")
+			.daysMask(0)
 			.build();
 
 		NotificationConditionResponse expectedInfo = TimeNotificationResponse.builder()
@@ -352,7 +352,7 @@ class NotificationServiceTest {
 			.id(1L)
 			.isActive(true)
 			.notificationType(NotificationType.TIME)
-			.daysOfWeek(null)
+			.daysMask(null)
 			.build();
 
 		NotificationConditionResponse expectedInfo = TimeNotificationResponse.builder()
@@ -381,7 +381,7 @@ class NotificationServiceTest {
 			.id(1L)
 			.isActive(true)
 			.notificationType(NotificationType.TIME)
-			.daysOfWeek("0,1,2")
+			.daysMask(DaysOfWeekMask.from(List.of(0, 1, 2)))
 			.build();
 
 		List<Integer> newDays = List.of(1, 3, 5);
@@ -404,7 +404,7 @@ class NotificationServiceTest {
 			.id(1L)
 			.isActive(false)
 			.notificationType(NotificationType.TIME)
-			.daysOfWeek("0,1,2")
+			.daysMask(DaysOfWeekMask.from(List.of(0, 1, 2)))
 			.build();
 
 		List<Integer> newDays = List.of(1, 3, 5);
@@ -426,7 +426,7 @@ class NotificationServiceTest {
 			.id(1L)
 			.isActive(true)
 			.notificationType(NotificationType.TIME)
-			.daysOfWeek("0,1,2")
+			.daysMask(DaysOfWeekMask.from(List.of(0, 1, 2)))
 			.build();
 
 		// when
@@ -446,7 +446,7 @@ class NotificationServiceTest {
 			.id(1L)
 			.isActive(true)
 			.notificationType(NotificationType.TIME)
-			.daysOfWeek("0,1,2")
+			.daysMask(DaysOfWeekMask.from(List.of(0, 1, 2)))
 			.build();
 
 		// when
@@ -466,7 +466,7 @@ class NotificationServiceTest {
 			.id(1L)
 			.isActive(true)
 			.notificationType(NotificationType.TIME)
-			.daysOfWeek("0,1,2")
+			.daysMask(DaysOfWeekMask.from(List.of(0, 1, 2)))
 			.build();
 
 		// when
@@ -500,212 +500,49 @@ class NotificationServiceTest {
 
 
 	@Test
-	void Given_MemberWithActiveNotis_When_UpdateNotiActiveStatusToFalse_Then_DeactivateNotisAndPublishEvent() {
+	void Given_MemberWithInactiveNotis_When_UpdateNotiActiveStatusToTrue_Then_BulkActivateAndPublishEvent() {
 		// given
 		Long memberId = 1L;
-		Boolean isActive = false;
-
-		Notification notification1 = Notification.builder()
-			.id(1L)
-			.isActive(true)
-			.notificationType(NotificationType.TIME)
-			.notificationMethodType(NotificationMethodType.PUSH)
-			.daysOfWeek("0,1,2")
-			.build();
-
-		Notification notification2 = Notification.builder()
-			.id(2L)
-			.isActive(true)
-			.notificationType(NotificationType.LOCATION)
-			.notificationMethodType(NotificationMethodType.ALARM)
-			.daysOfWeek("0,1,2,3,4")
-			.build();
-
-		Scenario scenario1 = Scenario.builder()
-			.id(1L)
-			.notification(notification1)
-			.build();
-
-		Scenario scenario2 = Scenario.builder()
-			.id(2L)
-			.notification(notification2)
-			.build();
-
-		when(scenarioRepository.findByMemberId(memberId))
-			.thenReturn(List.of(scenario1, scenario2));
+		when(notificationRepository.findIdsToUpdateActive(memberId, true)).thenReturn(List.of(1L, 2L));
 
 		// when
-		notificationService.updateNotificationActiveStatus(memberId, isActive);
+		notificationService.updateNotificationActiveStatus(memberId, true);
 
 		// then
-		assertThat(notification1.isActive()).isFalse();
-		assertThat(notification2.isActive()).isFalse();
-		verify(notificationEventPublisher).publishActiveUpdateEvent(memberId, isActive);
+		verify(notificationRepository).updateActiveByIdIn(List.of(1L, 2L), true);
+		verify(notificationEventPublisher).publishActiveUpdateEvent(memberId, true);
 	}
 
 
 	@Test
-	void Given_MemberWithInactiveNotis_When_UpdateNotiActiveStatusToTrue_Then_ActivateNotisAndPublishEvent() {
+	void Given_MemberWithActiveNotis_When_UpdateNotiActiveStatusToFalse_Then_BulkDeactivateAndPublishSchedule() {
 		// given
 		Long memberId = 1L;
-		Boolean isActive = true;
-
-		Notification notification1 = Notification.builder()
-			.id(1L)
-			.isActive(false)
-			.notificationType(NotificationType.TIME)
-			.notificationMethodType(NotificationMethodType.PUSH)
-			.daysOfWeek("0,1,2")
-			.build();
-
-		Notification notification2 = Notification.builder()
-			.id(2L)
-			.isActive(false)
-			.notificationType(NotificationType.LOCATION)
-			.notificationMethodType(NotificationMethodType.ALARM)
-			.daysOfWeek("0,1,2,3,4")
-			.build();
-
-		Scenario scenario1 = Scenario.builder()
-			.id(1L)
-			.notification(notification1)
-			.build();
-
-		Scenario scenario2 = Scenario.builder()
-			.id(2L)
-			.notification(notification2)
-			.build();
-
-		when(scenarioRepository.findByMemberId(memberId))
-			.thenReturn(List.of(scenario1, scenario2));
+		when(notificationRepository.findIdsToUpdateActive(memberId, false)).thenReturn(List.of(1L, 2L));
 
 		// when
-		notificationService.updateNotificationActiveStatus(memberId, isActive);
+		notificationService.updateNotificationActiveStatus(memberId, false);
 
 		// then
-		assertThat(notification1.isActive()).isTrue();
-		assertThat(notification2.isActive()).isTrue();
-		verify(notificationEventPublisher).publishActiveUpdateEvent(memberId, isActive);
+		verify(notificationRepository).updateActiveByIdIn(List.of(1L, 2L), false);
+		verify(notificationEventPublisher).publishScheduleChangeEvent(List.of(1L, 2L));
+		verify(notificationEventPublisher).publishActiveUpdateEvent(memberId, false);
 	}
 
 
 	@Test
-	void Given_MemberWithMixedNotis_When_UpdateNotiActiveStatusToFalse_Then_OnlyDeactivateActiveNotis() {
+	void Given_NoNotificationToUpdate_When_UpdateNotificationActiveStatus_Then_OnlyPublishActiveUpdateEvent() {
 		// given
 		Long memberId = 1L;
-		Boolean isActive = false;
-
-		Notification activeNotification = Notification.builder()
-			.id(1L)
-			.isActive(true)
-			.notificationType(NotificationType.TIME)
-			.notificationMethodType(NotificationMethodType.PUSH)
-			.daysOfWeek("0,1,2")
-			.build();
-
-		Notification inactiveNotification = Notification.builder()
-			.id(2L)
-			.isActive(false)
-			.notificationType(NotificationType.LOCATION)
-			.notificationMethodType(NotificationMethodType.ALARM)
-			.daysOfWeek("0,1,2,3,4")
-			.build();
-
-		Scenario scenario1 = Scenario.builder()
-			.id(1L)
-			.notification(activeNotification)
-			.build();
-
-		Scenario scenario2 = Scenario.builder()
-			.id(2L)
-			.notification(inactiveNotification)
-			.build();
-
-		when(scenarioRepository.findByMemberId(memberId))
-			.thenReturn(List.of(scenario1, scenario2));
-
-		// when
-		notificationService.updateNotificationActiveStatus(memberId, isActive);
-
-		// then
-		assertThat(activeNotification.isActive()).isFalse();
-		assertThat(inactiveNotification.isActive()).isFalse(); // Should remain false
-		verify(notificationEventPublisher).publishActiveUpdateEvent(memberId, isActive);
-	}
-
-
-	@Test
-	void Given_MemberWithNoScenarios_When_UpdateNotificationActiveStatus_Then_DoNothing() {
-		// given
-		Long memberId = 1L;
-		Boolean isActive = true;
-
-		when(scenarioRepository.findByMemberId(memberId))
-			.thenReturn(List.of());
-
-		// when
-		notificationService.updateNotificationActiveStatus(memberId, isActive);
-
-		// then
-		verify(notificationEventPublisher, never()).publishActiveUpdateEvent(anyLong(), anyBoolean());
-	}
-
-
-	@Test
-	void Given_MemberWithScenariosButNoNotifications_When_UpdateNotificationActiveStatus_Then_PublishEvent() {
-		// given
-		Long memberId = 1L;
-		Boolean isActive = true;
-
-		Scenario scenario1 = Scenario.builder()
-			.id(1L)
-			.notification(null)
-			.build();
-
-		Scenario scenario2 = Scenario.builder()
-			.id(2L)
-			.notification(null)
-			.build();
-
-		when(scenarioRepository.findByMemberId(memberId))
-			.thenReturn(List.of(scenario1, scenario2));
-
-		// when
-		notificationService.updateNotificationActiveStatus(memberId, isActive);
-
-		// then
-		verify(notificationEventPublisher).publishActiveUpdateEvent(memberId, isActive);
-	}
-
-
-	@Test
-	void Given_MemberWithNotisWithoutConditions_When_UpdateNotiActiveStatusToTrue_Then_ActivateNotis() {
-		// given
-		Long memberId = 1L;
-		Boolean isActive = true;
-
-		Notification notification = Notification.builder()
-			.id(1L)
-			.isActive(false)
-			.notificationType(NotificationType.TIME)
-			.notificationMethodType(NotificationMethodType.PUSH)
-			.daysOfWeek("0,1,2")
-			.build();
-
-		Scenario scenario = Scenario.builder()
-			.id(1L)
-			.notification(notification)
-			.build();
-
-		when(scenarioRepository.findByMemberId(memberId))
-			.thenReturn(List.of(scenario));
+		when(notificationRepository.findIdsToUpdateActive(memberId, true)).thenReturn(List.of());
 
 		// when
-		notificationService.updateNotificationActiveStatus(memberId, isActive);
+		notificationService.updateNotificationActiveStatus(memberId, true);
 
 		// then
-		assertThat(notification.isActive()).isTrue();
-		verify(notificationEventPublisher).publishActiveUpdateEvent(memberId, isActive);
+		verify(notificationRepository, never()).updateActiveByIdIn(any(), anyBoolean());
+		verify(notificationEventPublisher, never()).publishScheduleChangeEvent(any());
+		verify(notificationEventPublisher).publishActiveUpdateEvent(memberId, true);
 	}
 
 }
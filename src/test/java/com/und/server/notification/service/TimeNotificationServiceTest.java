@@ -2,9 +2,13 @@ package com.und.server.notification.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
+import java.util.Map;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -18,6 +22,7 @@ import com.und.server.notification.dto.response.TimeNotificationResponse;
 import com.und.server.notification.entity.Notification;
 import com.und.server.notification.entity.TimeNotification;
 import com.und.server.notification.repository.TimeNotificationRepository;
+import com.und.server.notification.util.DaysOfWeekMask;
 
 @ExtendWith(MockitoExtension.class)
 class TimeNotificationServiceTest {
@@ -62,7 +67,7 @@ class TimeNotificationServiceTest {
 			.id(1L)
 			.isActive(true)
 			.notificationType(NotificationType.TIME)
-			.daysOfWeek("0,1,2,3,4,5,6")
+			.daysMask(DaysOfWeekMask.from(List.of(0, 1, 2, 3, 4, 5, 6)))
 			.build();
 
 		TimeNotification timeNotification = TimeNotification.builder()
@@ -93,7 +98,7 @@ class TimeNotificationServiceTest {
 			.id(1L)
 			.isActive(true)
 			.notificationType(NotificationType.TIME)
-			.daysOfWeek("0,2")
+			.daysMask(DaysOfWeekMask.from(List.of(0, 2)))
 			.build();
 
 		TimeNotification timeNotification = TimeNotification.builder()
@@ -258,4 +263,41 @@ class TimeNotificationServiceTest {
 		verify(timeNotifRepository).deleteByNotificationId(notificationId);
 	}
 
+
+	@Test
+	void Given_ActiveAndInactiveNotifications_When_FindNotificationInfosByType_Then_LoadActiveOnesInOneQuery() {
+		// given
+		Notification activeNotification = Notification.builder().id(1L).isActive(true).build();
+		Notification inactiveNotification = Notification.builder().id(2L).isActive(false).build();
+		TimeNotification timeNotification = TimeNotification.builder()
+			.notification(activeNotification)
+			.startHour(7)
+			.startMinute(30)
+			.build();
+		when(timeNotifRepository.findByNotificationIdIn(List.of(1L))).thenReturn(List.of(timeNotification));
+
+		// when
+		Map<Long, NotificationConditionResponse> result = timeNotificationService.findNotificationInfosByType(
+			List.of(activeNotification, inactiveNotification));
+
+		// then
+		assertThat(result).containsOnlyKeys(1L);
+		assertThat(((TimeNotificationResponse) result.get(1L)).startMinute()).isEqualTo(30);
+	}
+
+
+	@Test
+	void Given_OnlyInactiveNotifications_When_FindNotificationInfosByType_Then_SkipQuery() {
+		// given
+		Notification inactiveNotification = Notification.builder().id(2L).isActive(false).build();
+
+		// when
+		Map<Long, NotificationConditionResponse> result =
+			timeNotificationService.findNotificationInfosByType(List.of(inactiveNotification));
+
+		// then
+		assertThat(result).isEmpty();
+		verify(timeNotifRepository, never()).findByNotificationIdIn(any());
+	}
+
 }
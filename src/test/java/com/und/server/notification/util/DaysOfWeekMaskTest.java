@@ -0,0 +1,40 @@
+package com.und.server.notification.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+
+class DaysOfWeekMaskTest {
+
+	@Test
+	void Given_DayOrdinals_When_From_Then_SetBitPerDay() {
+		// when & then
+		assertThat(DaysOfWeekMask.from(List.of(0, 2, 6))).isEqualTo(0b1000101);
+		assertThat(DaysOfWeekMask.from(List.of(0, 1, 2, 3, 4, 5, 6))).isEqualTo(DaysOfWeekMask.EVERY_DAY);
+		assertThat(DaysOfWeekMask.from(List.of())).isZero();
+	}
+
+
+	@Test
+	void Given_Mask_When_ToOrdinals_Then_ReturnSortedOrdinals() {
+		// when & then
+		assertThat(DaysOfWeekMask.toOrdinals(0b1000101)).containsExactly(0, 2, 6);
+		assertThat(DaysOfWeekMask.toOrdinals(0)).isEmpty();
+		assertThat(DaysOfWeekMask.toOrdinals(null)).isEmpty();
+	}
+
+
+	@Test
+	void Given_DayOrdinal_When_FindMasksContaining_Then_ReturnEveryMaskWithDayBit() {
+		// when
+		List<Integer> masks = DaysOfWeekMask.findMasksContaining(1);
+
+		// then
+		assertThat(masks).hasSize(64);
+		assertThat(masks).allMatch(mask -> DaysOfWeekMask.toOrdinals(mask).contains(1));
+	}
+
+}
@@ -126,4 +126,44 @@ class NotificationCacheKeyGeneratorTest {
 		assertThat(result).isEqualTo("notif:etag:0");
 	}
 
+
+
+	@Test
+	void Given_ValidMemberId_When_GenerateVersionKey_Then_ReturnCorrectKey() {
+		// given
+		Long memberId = 1L;
+
+		// when
+		String result = notificationCacheKeyGenerator.generateVersionKey(memberId);
+
+		// then
+		assertThat(result).isEqualTo("notif:version:1");
+	}
+
+
+	@Test
+	void Given_ValidMemberId_When_GenerateGeofenceStateKey_Then_ReturnCorrectKey() {
+		// given
+		Long memberId = 1L;
+
+		// when
+		String result = notificationCacheKeyGenerator.generateGeofenceStateKey(memberId);
+
+		// then
+		assertThat(result).isEqualTo("notif:geofence:1");
+	}
+
+
+	@Test
+	void Given_ValidMemberId_When_GenerateWarmUpLockKey_Then_ReturnCorrectKey() {
+		// given
+		Long memberId = 1L;
+
+		// when
+		String result = notificationCacheKeyGenerator.generateWarmUpLockKey(memberId);
+
+		// then
+		assertThat(result).isEqualTo("notif:warmup:1");
+	}
+
 }
@@ -0,0 +1,151 @@
+package com.und.server.notification.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import com.und.server.common.config.RedisConfig;
+import com.und.server.notification.dto.cache.NotificationCacheVersion;
+
+@DataRedisTest
+@Import({
+	RedisConfig.class,
+	NotificationCacheKeyGenerator.class,
+	NotificationCacheVersionManager.class,
+	NotificationCacheScriptExecutor.class
+})
+class NotificationCacheScriptExecutorTest {
+
+	@Autowired
+	private NotificationCacheScriptExecutor scriptExecutor;
+
+	@Autowired
+	private NotificationCacheVersionManager versionManager;
+
+	@Autowired
+	private NotificationCacheKeyGenerator keyGenerator;
+
+	@Autowired
+	private RedisTemplate<String, Object> redisTemplate;
+
+	private final Long memberId = 987654321L;
+
+
+	@AfterEach
+	void tearDown() {
+		redisTemplate.delete(List.of(
+			keyGenerator.generateNotificationCacheKey(memberId),
+			keyGenerator.generateEtagKey(memberId),
+			keyGenerator.generateVersionKey(memberId)
+		));
+	}
+
+
+	@Test
+	void Given_NoCache_When_Upsert_Then_ReturnCacheMissWithoutWriting() {
+		// when
+		long result = scriptExecutor.upsert(memberId, 1L, "{\"scenarioId\":1}");
+
+		// then
+		assertThat(result).isEqualTo(NotificationCacheScriptExecutor.CACHE_MISS);
+		assertThat(redisTemplate.hasKey(keyGenerator.generateNotificationCacheKey(memberId))).isFalse();
+		assertThat(versionManager.getVersion(memberId)).isNull();
+	}
+
+
+	@Test
+	void Given_Rebuild_When_Rebuild_Then_StoreValuesReadableThroughTemplate() {
+		// when
+		long version = scriptExecutor.rebuild(memberId, Map.of("1", "{\"scenarioId\":1}"));
+
+		// then
+		String cacheKey = keyGenerator.generateNotificationCacheKey(memberId);
+		assertThat(redisTemplate.opsForHash().get(cacheKey, "1")).isEqualTo("{\"scenarioId\":1}");
+		assertThat(redisTemplate.opsForValue().get(keyGenerator.generateEtagKey(memberId)))
+			.isEqualTo(String.valueOf(version));
+		assertThat(redisTemplate.getExpire(cacheKey)).isPositive();
+
+		NotificationCacheVersion cacheVersion = versionManager.getVersion(memberId);
+		assertThat(cacheVersion.baseVersion()).isEqualTo(version);
+		assertThat(cacheVersion.currentVersion()).isEqualTo(version);
+		assertThat(scriptExecutor.rebuild(memberId, Map.of())).isGreaterThan(version);
+	}
+
+
+	@Test
+	void Given_ConcurrentMutations_When_Execute_Then_EtagAndVersionsStayConsistent() throws Exception {
+		// given
+		long baseVersion = scriptExecutor.rebuild(memberId, Map.of());
+		int threadCount = 8;
+		int operationsPerThread = 50;
+		int scenarioCount = 5;
+		Map<Long, Long> scenarioIdsByVersion = new ConcurrentHashMap<>();
+		Map<Long, Boolean> deletedByVersion = new ConcurrentHashMap<>();
+		CountDownLatch startLatch = new CountDownLatch(1);
+		ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+		List<Future<?>> futures = new ArrayList<>();
+
+		for (int t = 0; t < threadCount; t++) {
+			int threadIndex = t;
+			futures.add(executorService.submit(() -> {
+				startLatch.await();
+				for (int i = 0; i < operationsPerThread; i++) {
+					long scenarioId = (threadIndex + i) % scenarioCount;
+					boolean delete = (threadIndex * operationsPerThread + i) % 3 == 0;
+					long version = delete
+						? scriptExecutor.delete(memberId, scenarioId)
+						: scriptExecutor.upsert(memberId, scenarioId, "{\"scenarioId\":" + scenarioId + "}");
+					scenarioIdsByVersion.put(version, scenarioId);
+					deletedByVersion.put(version, delete);
+				}
+				return null;
+			}));
+		}
+
+		// when
+		startLatch.countDown();
+		for (Future<?> future : futures) {
+			future.get(30, TimeUnit.SECONDS);
+		}
+		executorService.shutdown();
+
+		// then
+		Map<Long, Long> lastVersions = new HashMap<>();
+		scenarioIdsByVersion.forEach((version, scenarioId) -> lastVersions.merge(scenarioId, version, Math::max));
+
+		NotificationCacheVersion cacheVersion = versionManager.getVersion(memberId);
+		long expectedVersion = baseVersion + (long) threadCount * operationsPerThread;
+		assertThat(scenarioIdsByVersion).hasSize(threadCount * operationsPerThread);
+		assertThat(cacheVersion.currentVersion()).isEqualTo(expectedVersion);
+		assertThat(redisTemplate.opsForValue().get(keyGenerator.generateEtagKey(memberId)))
+			.isEqualTo(String.valueOf(expectedVersion));
+		assertThat(cacheVersion.scenarioVersions()).isEqualTo(lastVersions);
+
+		String cacheKey = keyGenerator.generateNotificationCacheKey(memberId);
+		for (long scenarioId = 0; scenarioId < scenarioCount; scenarioId++) {
+			Object cachedValue = redisTemplate.opsForHash().get(cacheKey, String.valueOf(scenarioId));
+			if (deletedByVersion.get(lastVersions.get(scenarioId))) {
+				assertThat(cachedValue).isNull();
+			} else {
+				assertThat(cachedValue).isEqualTo("{\"scenarioId\":" + scenarioId + "}");
+			}
+		}
+	}
+
+}
@@ -6,9 +6,11 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -51,7 +53,11 @@ class NotificationCacheSerializerTest {
 			.notificationType(NotificationType.TIME)
 			.notificationMethodType(NotificationMethodType.PUSH)
 			.daysOfWeekOrdinal(List.of(1, 2, 3, 4, 5))
-			.conditionJson("{\"notificationType\":\"TIME\",\"startHour\":9,\"startMinute\":30}")
+			.notificationCondition(TimeNotificationResponse.builder()
+				.notificationType(NotificationType.TIME)
+				.startHour(9)
+				.startMinute(30)
+				.build())
 			.build();
 
 		String expectedJson = "{\"scenarioId\":1,\"scenarioName\":\"테스트 루틴\"}";
@@ -110,23 +116,89 @@ class NotificationCacheSerializerTest {
 
 
 	@Test
-	void Given_ValidNotificationConditionResponse_When_SerializeCondition_Then_ReturnJsonString()
-		throws JsonProcessingException {
+	void Given_InlineCondition_When_ParseCondition_Then_ReturnConditionWithoutParsing() {
 		// given
 		TimeNotificationResponse condition = TimeNotificationResponse.builder()
 			.notificationType(NotificationType.TIME)
 			.startHour(9)
 			.startMinute(30)
 			.build();
+		NotificationCacheData cacheData = NotificationCacheData.builder()
+			.notificationCondition(condition)
+			.build();
 
-		String expectedJson = "{\"notificationType\":\"TIME\",\"startHour\":9,\"startMinute\":30}";
-		when(objectMapper.writeValueAsString(condition)).thenReturn(expectedJson);
+		// when
+		NotificationConditionResponse result = notificationCacheSerializer.parseCondition(cacheData);
+
+		// then
+		assertThat(result).isEqualTo(condition);
+		verifyNoInteractions(objectMapper);
+	}
+
+
+	@Test
+	void Given_NoCondition_When_ParseCondition_Then_ReturnNull() {
+		// given
+		NotificationCacheData cacheData = NotificationCacheData.builder().build();
 
 		// when
-		String result = notificationCacheSerializer.serializeCondition(condition);
+		NotificationConditionResponse result = notificationCacheSerializer.parseCondition(cacheData);
 
 		// then
-		assertThat(result).isEqualTo(expectedJson);
+		assertThat(result).isNull();
+		verifyNoInteractions(objectMapper);
+	}
+
+
+	@Test
+	void Given_FlatCacheData_When_SerializeAndDeserialize_Then_KeepConditionInline() {
+		// given
+		NotificationCacheSerializer serializer = new NotificationCacheSerializer(new ObjectMapper());
+		NotificationCacheData cacheData = NotificationCacheData.builder()
+			.scenarioId(1L)
+			.notificationType(NotificationType.TIME)
+			.daysOfWeekOrdinal(List.of(0, 1))
+			.notificationCondition(TimeNotificationResponse.builder()
+				.notificationType(NotificationType.TIME)
+				.startHour(9)
+				.startMinute(30)
+				.build())
+			.build();
+
+		// when
+		String json = serializer.serialize(cacheData);
+		NotificationCacheData result = serializer.deserialize(json);
+
+		// then
+		assertThat(json).doesNotContain("conditionJson");
+		assertThat(result).isEqualTo(cacheData);
+		assertThat(serializer.parseCondition(result)).isEqualTo(cacheData.notificationCondition());
+	}
+
+
+	@Test
+	void Given_LegacyCacheEntry_When_DeserializeAndParseCondition_Then_ReadNestedConditionJson()
+		throws JsonProcessingException {
+		// given
+		ObjectMapper realObjectMapper = new ObjectMapper();
+		NotificationCacheSerializer serializer = new NotificationCacheSerializer(realObjectMapper);
+		TimeNotificationResponse condition = TimeNotificationResponse.builder()
+			.notificationType(NotificationType.TIME)
+			.startHour(9)
+			.startMinute(30)
+			.build();
+		String legacyJson = realObjectMapper.writeValueAsString(Map.of(
+			"scenarioId", 1,
+			"notificationType", "TIME",
+			"conditionJson", realObjectMapper.writeValueAsString(condition)
+		));
+
+		// when
+		NotificationCacheData result = serializer.deserialize(legacyJson);
+
+		// then
+		assertThat(result.notificationCondition()).isNull();
+		assertThat(serializer.parseCondition(result)).isEqualTo(condition);
 	}
 
 
@@ -180,25 +252,6 @@ class NotificationCacheSerializerTest {
 	}
 
 
-	@Test
-	void Given_JsonProcessingException_When_SerializeCondition_Then_ThrowNotificationCacheException()
-		throws JsonProcessingException {
-		// given
-		TimeNotificationResponse condition = TimeNotificationResponse.builder()
-			.notificationType(NotificationType.TIME)
-			.startHour(9)
-			.startMinute(30)
-			.build();
-
-		doThrow(new JsonProcessingException("Condition serialization failed") {
-		}).when(objectMapper).writeValueAsString(any());
-
-		// when & then
-		assertThatThrownBy(() -> notificationCacheSerializer.serializeCondition(condition))
-			.isInstanceOf(NotificationCacheException.class);
-	}
-
-
 	@Test
 	void Given_NullNotificationCacheData_When_Serialize_Then_ReturnJsonString() throws JsonProcessingException {
 		// given
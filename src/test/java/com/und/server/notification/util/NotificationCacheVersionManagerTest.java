@@ -0,0 +1,76 @@
+package com.und.server.notification.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import com.und.server.notification.dto.cache.NotificationCacheVersion;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationCacheVersionManagerTest {
+
+	@InjectMocks
+	private NotificationCacheVersionManager versionManager;
+
+	@Mock
+	private RedisTemplate<String, Object> redisTemplate;
+
+	@Mock
+	private HashOperations<String, Object, Object> hashOperations;
+
+	@Mock
+	private NotificationCacheKeyGenerator keyGenerator;
+
+	private final Long memberId = 1L;
+	private final String versionKey = "notif:version:1";
+
+
+	@BeforeEach
+	void setUp() {
+		given(keyGenerator.generateVersionKey(memberId)).willReturn(versionKey);
+		given(redisTemplate.opsForHash()).willReturn(hashOperations);
+	}
+
+
+	@Test
+	void Given_StoredVersions_When_GetVersion_Then_ReturnParsedVersion() {
+		// given
+		given(hashOperations.entries(versionKey)).willReturn(Map.of(
+			NotificationCacheVersion.BASE_VERSION_FIELD, "1000",
+			NotificationCacheVersion.CURRENT_VERSION_FIELD, 1002L,
+			"10", "1002"
+		));
+
+		// when
+		NotificationCacheVersion result = versionManager.getVersion(memberId);
+
+		// then
+		assertThat(result.baseVersion()).isEqualTo(1000L);
+		assertThat(result.currentVersion()).isEqualTo(1002L);
+		assertThat(result.scenarioVersions()).containsExactly(Map.entry(10L, 1002L));
+	}
+
+
+	@Test
+	void Given_NoStoredVersions_When_GetVersion_Then_ReturnNull() {
+		// given
+		given(hashOperations.entries(versionKey)).willReturn(Map.of());
+
+		// when
+		NotificationCacheVersion result = versionManager.getVersion(memberId);
+
+		// then
+		assertThat(result).isNull();
+	}
+
+}
@@ -16,9 +16,12 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import com.und.server.scenario.constants.MissionType;
+import com.und.server.scenario.dto.request.MissionCheckBatchRequest;
+import com.und.server.scenario.dto.request.MissionCheckRequest;
 import com.und.server.scenario.dto.request.TodayMissionRequest;
 import com.und.server.scenario.dto.response.MissionGroupResponse;
 import com.und.server.scenario.dto.response.MissionResponse;
+import com.und.server.scenario.service.MissionCheckService;
 import com.und.server.scenario.service.MissionService;
 import com.und.server.scenario.service.ScenarioService;
 
@@ -31,6 +34,9 @@ class MissionControllerTest {
 	@Mock
 	private MissionService missionService;
 
+	@Mock
+	private MissionCheckService missionCheckService;
+
 	@InjectMocks
 	private MissionController missionController;
 
@@ -178,7 +184,7 @@ class MissionControllerTest {
 		// then
 		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
 		assertThat(response.getBody()).isNull();
-		verify(missionService).updateMissionCheck(memberId, missionId, isChecked, date);
+		verify(missionCheckService).updateMissionCheck(memberId, missionId, isChecked, date);
 	}
 
 
@@ -196,7 +202,27 @@ class MissionControllerTest {
 		// then
 		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
 		assertThat(response.getBody()).isNull();
-		verify(missionService).updateMissionCheck(memberId, missionId, isChecked, date);
+		verify(missionCheckService).updateMissionCheck(memberId, missionId, isChecked, date);
+	}
+
+
+	@Test
+	void Given_MissionCheckBatch_When_UpdateMissionChecks_Then_ReturnNoContent() {
+		// given
+		Long memberId = 1L;
+		LocalDate date = LocalDate.of(2024, 1, 15);
+		List<MissionCheckRequest> missionChecks = List.of(
+			new MissionCheckRequest(1L, true), new MissionCheckRequest(2L, false));
+		MissionCheckBatchRequest request = MissionCheckBatchRequest.builder()
+			.missionChecks(missionChecks)
+			.build();
+
+		// when
+		ResponseEntity<Void> response = missionController.updateMissionChecks(memberId, request, date);
+
+		// then
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+		verify(missionCheckService).updateMissionChecks(memberId, missionChecks, date);
 	}
 
 }
@@ -17,11 +17,14 @@ import org.springframework.http.ResponseEntity;
 
 import com.und.server.notification.constants.NotificationType;
 import com.und.server.notification.dto.request.NotificationRequest;
+import com.und.server.scenario.dto.VersionedScenarios;
 import com.und.server.scenario.dto.request.ScenarioDetailRequest;
 import com.und.server.scenario.dto.request.ScenarioOrderUpdateRequest;
 import com.und.server.scenario.dto.response.OrderUpdateResponse;
 import com.und.server.scenario.dto.response.ScenarioDetailResponse;
+import com.und.server.scenario.dto.response.ScenarioHomeResponse;
 import com.und.server.scenario.dto.response.ScenarioResponse;
+import com.und.server.scenario.service.ScenarioHomeService;
 import com.und.server.scenario.service.ScenarioService;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +33,9 @@ class ScenarioControllerTest {
 	@Mock
 	private ScenarioService scenarioService;
 
+	@Mock
+	private ScenarioHomeService scenarioHomeService;
+
 	@InjectMocks
 	private ScenarioController scenarioController;
 
@@ -52,16 +58,72 @@ class ScenarioControllerTest {
 
 		List<ScenarioResponse> expectedScenarios = Arrays.asList(scenario1, scenario2);
 
-		when(scenarioService.findScenariosByMemberId(memberId, notifType))
-			.thenReturn(expectedScenarios);
+		when(scenarioService.findVersionedScenarios(memberId, notifType))
+			.thenReturn(new VersionedScenarios("\"3-TIME\"", expectedScenarios));
+
+		// when
+		ResponseEntity<List<ScenarioResponse>> response = scenarioController.getScenarios(memberId, notifType, null);
+
+		// then
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getBody()).isEqualTo(expectedScenarios);
+		assertThat(response.getHeaders().getETag()).isEqualTo("\"3-TIME\"");
+		verify(scenarioService).findVersionedScenarios(memberId, notifType);
+	}
+
+
+	@Test
+	void Given_MatchingETag_When_GetScenarios_Then_ReturnNotModified() {
+		// given
+		when(scenarioService.findVersionedScenarios(1L, NotificationType.TIME))
+			.thenReturn(new VersionedScenarios("\"3-TIME\"", List.of()));
+
+		// when
+		ResponseEntity<List<ScenarioResponse>> response =
+			scenarioController.getScenarios(1L, NotificationType.TIME, "\"3-TIME\"");
+
+		// then
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+		assertThat(response.getBody()).isNull();
+	}
+
+
+	@Test
+	void Given_CacheUnavailable_When_GetScenarios_Then_ReturnListWithoutETag() {
+		// given
+		when(scenarioService.findVersionedScenarios(1L, NotificationType.TIME))
+			.thenReturn(new VersionedScenarios(null, List.of()));
+
+		// when
+		ResponseEntity<List<ScenarioResponse>> response =
+			scenarioController.getScenarios(1L, NotificationType.TIME, "\"3-TIME\"");
+
+		// then
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getHeaders().getETag()).isNull();
+	}
+
+
+	@Test
+	void Given_ValidMemberIdAndNotifType_When_GetHomeScenarios_Then_ReturnScenariosWithMissions() {
+		// given
+		Long memberId = 1L;
+		List<ScenarioHomeResponse> expectedScenarios = List.of(ScenarioHomeResponse.builder()
+			.scenarioId(1L)
+			.scenarioName("시나리오 1")
+			.basicMissions(List.of())
+			.todayMissions(List.of())
+			.build());
+
+		when(scenarioHomeService.findHomeScenarios(memberId, NotificationType.TIME)).thenReturn(expectedScenarios);
 
 		// when
-		ResponseEntity<List<ScenarioResponse>> response = scenarioController.getScenarios(memberId, notifType);
+		ResponseEntity<List<ScenarioHomeResponse>> response =
+			scenarioController.getHomeScenarios(memberId, NotificationType.TIME);
 
 		// then
 		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
 		assertThat(response.getBody()).isEqualTo(expectedScenarios);
-		verify(scenarioService).findScenariosByMemberId(memberId, notifType);
 	}
 
 
@@ -364,8 +426,8 @@ class ScenarioControllerTest {
 		Long memberId = 1L;
 		Long scenarioId = 1L;
 		ScenarioOrderUpdateRequest orderRequest = ScenarioOrderUpdateRequest.builder()
-			.prevOrder(1000)
-			.nextOrder(2000)
+			.prevOrder("1")
+			.nextOrder("2")
 			.build();
 
 		OrderUpdateResponse expectedResponse = OrderUpdateResponse.builder()
@@ -0,0 +1,45 @@
+package com.und.server.scenario.event;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.und.server.scenario.util.ScenarioCache;
+
+@ExtendWith(MockitoExtension.class)
+class ScenarioCacheEvictEventListenerTest {
+
+	@InjectMocks
+	private ScenarioCacheEvictEventListener scenarioCacheEvictEventListener;
+
+	@Mock
+	private ScenarioCache scenarioCache;
+
+
+	@Test
+	void Given_ScenarioEvictEvent_When_HandleEvict_Then_EvictScenarioListsAndHome() {
+		// when
+		scenarioCacheEvictEventListener.handleEvict(new ScenarioCacheEvictEvent(1L, true));
+
+		// then
+		verify(scenarioCache).evictScenarios(1L);
+		verify(scenarioCache, never()).evictHome(1L);
+	}
+
+
+	@Test
+	void Given_MissionEvictEvent_When_HandleEvict_Then_EvictOnlyHome() {
+		// when
+		scenarioCacheEvictEventListener.handleEvict(new ScenarioCacheEvictEvent(1L, false));
+
+		// then
+		verify(scenarioCache).evictHome(1L);
+		verify(scenarioCache, never()).evictScenarios(1L);
+	}
+
+}
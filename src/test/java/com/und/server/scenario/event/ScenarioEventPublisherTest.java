@@ -0,0 +1,41 @@
+package com.und.server.scenario.event;
+
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class ScenarioEventPublisherTest {
+
+	@InjectMocks
+	private ScenarioEventPublisher scenarioEventPublisher;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+
+	@Test
+	void Given_MemberId_When_PublishCacheEvictEvent_Then_PublishScenarioCacheEvictEvent() {
+		// when
+		scenarioEventPublisher.publishCacheEvictEvent(1L);
+
+		// then
+		verify(eventPublisher).publishEvent(new ScenarioCacheEvictEvent(1L, true));
+	}
+
+
+	@Test
+	void Given_MemberId_When_PublishMissionCacheEvictEvent_Then_PublishHomeOnlyEvictEvent() {
+		// when
+		scenarioEventPublisher.publishMissionCacheEvictEvent(1L);
+
+		// then
+		verify(eventPublisher).publishEvent(new ScenarioCacheEvictEvent(1L, false));
+	}
+
+}
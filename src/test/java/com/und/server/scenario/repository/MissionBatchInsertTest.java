@@ -0,0 +1,87 @@
+package com.und.server.scenario.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.stream.IntStream;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import com.und.server.member.entity.Member;
+import com.und.server.member.repository.MemberRepository;
+import com.und.server.notification.constants.NotificationType;
+import com.und.server.notification.entity.Notification;
+import com.und.server.scenario.constants.MissionType;
+import com.und.server.scenario.entity.Mission;
+import com.und.server.scenario.entity.Scenario;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class MissionBatchInsertTest {
+
+	private static final int MISSION_COUNT = 20;
+
+	@Autowired
+	private MissionRepository missionRepository;
+
+	@Autowired
+	private ScenarioRepository scenarioRepository;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private Statistics statistics;
+	private Member member;
+
+
+	@BeforeEach
+	void setUp() {
+		member = memberRepository.saveAndFlush(Member.builder().nickname("test-user").build());
+		statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+
+	@Test
+	void Given_ScenarioWithMissions_When_SaveAndFlush_Then_BatchInsertsPerTable() {
+		// given
+		Scenario scenario = Scenario.builder()
+			.member(member)
+			.scenarioName("아침 루틴")
+			.scenarioOrder("i")
+			.lastRolledDate(LocalDate.now())
+			.notification(Notification.builder()
+				.isActive(false)
+				.notificationType(NotificationType.TIME)
+				.build())
+			.build();
+
+		// when
+		scenarioRepository.save(scenario);
+		missionRepository.saveAll(IntStream.range(0, MISSION_COUNT)
+			.mapToObj(index -> Mission.builder()
+				.scenario(scenario)
+				.content("미션" + index)
+				.isChecked(false)
+				.missionOrder(String.valueOf(index + 1))
+				.missionType(MissionType.BASIC)
+				.build())
+			.toList());
+		entityManager.flush();
+
+		// then
+		assertThat(statistics.getEntityInsertCount()).isEqualTo(MISSION_COUNT + 2);
+		// one insert per table plus at most two sequence calls per generator, instead of one round trip per row
+		assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(9);
+	}
+
+}
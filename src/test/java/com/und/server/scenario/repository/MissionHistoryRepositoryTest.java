@@ -0,0 +1,132 @@
+package com.und.server.scenario.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import com.und.server.member.entity.Member;
+import com.und.server.member.repository.MemberRepository;
+import com.und.server.notification.constants.NotificationType;
+import com.und.server.notification.entity.Notification;
+import com.und.server.scenario.constants.MissionType;
+import com.und.server.scenario.entity.Mission;
+import com.und.server.scenario.entity.MissionHistory;
+import com.und.server.scenario.entity.Scenario;
+
+@DataJpaTest
+class MissionHistoryRepositoryTest {
+
+	private static final LocalDate TODAY = LocalDate.of(2025, 9, 1);
+
+	@Autowired
+	private MissionHistoryRepository missionHistoryRepository;
+
+	@Autowired
+	private MissionRepository missionRepository;
+
+	@Autowired
+	private ScenarioRepository scenarioRepository;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	private Member member;
+	private Scenario scenario;
+
+
+	@BeforeEach
+	void setUp() {
+		member = memberRepository.save(Member.builder().nickname("test-user").build());
+		scenario = scenarioRepository.save(Scenario.builder()
+			.member(member)
+			.scenarioName("루틴")
+			.scenarioOrder("i")
+			.lastRolledDate(TODAY)
+			.notification(Notification.builder()
+				.isActive(false)
+				.notificationType(NotificationType.TIME)
+				.build())
+			.build());
+	}
+
+
+	@Test
+	void Given_MissionCheckedAhead_When_SnapshotFutureCheckedBasicMissions_Then_CarryOnlyThatDaysCheck() {
+		// given
+		LocalDate missedDay = TODAY.minusDays(1);
+		Mission checkedAhead = saveMission(MissionType.BASIC, null, false);
+		saveChild(checkedAhead, missedDay);
+		saveMission(MissionType.BASIC, null, true);
+
+		// when
+		int snapshotted = missionHistoryRepository.snapshotFutureCheckedBasicMissions(scenario.getId(), missedDay);
+
+		// then
+		assertThat(snapshotted).isEqualTo(2);
+		assertThat(missionHistoryRepository.findHistories(member.getId(), scenario.getId(), missedDay))
+			.extracting(MissionHistory::getIsChecked)
+			.containsExactlyInAnyOrder(true, false);
+	}
+
+
+	@Test
+	void Given_PastTodayMission_When_ArchiveTodayMissionsBefore_Then_MoveItWithItsId() {
+		// given
+		Mission pastTodayMission = saveMission(MissionType.TODAY, TODAY.minusDays(1), true);
+		Mission todayMission = saveMission(MissionType.TODAY, TODAY, false);
+
+		// when
+		int archived = missionHistoryRepository.archiveTodayMissionsBefore(scenario.getId(), TODAY);
+		int deleted = missionRepository.deleteTodayMissionsBefore(scenario.getId(), TODAY);
+
+		// then
+		assertThat(archived).isEqualTo(1);
+		assertThat(deleted).isEqualTo(1);
+		assertThat(missionHistoryRepository.findByIdAndScenarioMemberId(pastTodayMission.getId(), member.getId()))
+			.get()
+			.extracting(MissionHistory::getIsChecked)
+			.isEqualTo(true);
+		assertThat(missionRepository.findById(pastTodayMission.getId())).isEmpty();
+		assertThat(missionRepository.findById(todayMission.getId())).isPresent();
+	}
+
+
+	@Test
+	void Given_HistoriesAroundExpiry_When_BulkDeleteExpiredAndDeleteByMemberId_Then_RemoveMatchingRows() {
+		// given
+		saveMission(MissionType.BASIC, null, true);
+		missionHistoryRepository.snapshotBasicMissions(scenario.getId(), TODAY.minusMonths(2));
+		missionHistoryRepository.snapshotBasicMissions(scenario.getId(), TODAY.minusDays(1));
+
+		// when
+		int expired = missionHistoryRepository.bulkDeleteExpired(TODAY.minusMonths(1), 10);
+		List<MissionHistory> remaining = missionHistoryRepository.findAll();
+		int deletedByMember = missionHistoryRepository.deleteByMemberId(member.getId());
+
+		// then
+		assertThat(expired).isEqualTo(1);
+		assertThat(remaining).extracting(MissionHistory::getUseDate).containsExactly(TODAY.minusDays(1));
+		assertThat(deletedByMember).isEqualTo(1);
+	}
+
+	private Mission saveMission(final MissionType missionType, final LocalDate useDate, final boolean isChecked) {
+		return missionRepository.save(Mission.builder()
+			.scenario(scenario)
+			.content("물 마시기")
+			.isChecked(isChecked)
+			.useDate(useDate)
+			.missionType(missionType)
+			.build());
+	}
+
+	private void saveChild(final Mission parent, final LocalDate useDate) {
+		missionRepository.save(parent.createFutureChildMission(true, useDate));
+	}
+
+}
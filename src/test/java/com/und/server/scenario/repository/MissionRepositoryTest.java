@@ -0,0 +1,211 @@
+package com.und.server.scenario.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.und.server.member.entity.Member;
+import com.und.server.member.repository.MemberRepository;
+import com.und.server.notification.constants.NotificationType;
+import com.und.server.notification.entity.Notification;
+import com.und.server.scenario.constants.MissionType;
+import com.und.server.scenario.entity.Mission;
+import com.und.server.scenario.entity.Scenario;
+
+@DataJpaTest
+class MissionRepositoryTest {
+
+	private static final LocalDate TODAY = LocalDate.of(2025, 9, 1);
+
+	@Autowired
+	private MissionRepository missionRepository;
+
+	@Autowired
+	private ScenarioRepository scenarioRepository;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	private Scenario scenario;
+	private Scenario otherScenario;
+
+
+	@BeforeEach
+	void setUp() {
+		Member member = memberRepository.save(Member.builder().nickname("test-user").build());
+		scenario = saveScenario(member, 0);
+		otherScenario = saveScenario(member, 1);
+	}
+
+
+	@Test
+	void Given_TwoScenarios_When_RollOneScenario_Then_LeaveOtherScenarioUntouched() {
+		// given
+		Mission basic = saveBasic(scenario, null, null, true);
+		saveBasic(scenario, basic.getId(), TODAY, false);
+		Mission otherBasic = saveBasic(otherScenario, null, null, true);
+		saveBasic(otherScenario, otherBasic.getId(), TODAY, false);
+
+		// when
+		int reset = missionRepository.resetBasicIsChecked(scenario.getId(), TODAY);
+		int deleted = missionRepository.deleteChildBasicsUntil(scenario.getId(), TODAY);
+
+		// then
+		assertThat(reset).isEqualTo(1);
+		assertThat(deleted).isEqualTo(1);
+		assertThat(missionRepository.findById(basic.getId()).orElseThrow().getIsChecked()).isFalse();
+		assertThat(missionRepository.findByParentMissionIdAndUseDate(basic.getId(), TODAY.minusDays(1))).isEmpty();
+		assertThat(missionRepository.findById(otherBasic.getId()).orElseThrow().getIsChecked()).isTrue();
+		assertThat(missionRepository.findByParentMissionIdAndUseDate(otherBasic.getId(), TODAY)).isPresent();
+	}
+
+
+	@Test
+	void Given_MixedCheckStatuses_When_UpdateCheckStatuses_Then_ApplyAllInOneStatement() {
+		// given
+		Mission first = saveBasic(scenario, null, null, false);
+		Mission second = saveBasic(scenario, null, null, true);
+		Mission untouched = saveBasic(scenario, null, null, true);
+
+		// when
+		int updated = missionRepository.updateCheckStatuses(
+			List.of(first.getId(), second.getId()), List.of(first.getId()));
+
+		// then
+		assertThat(updated).isEqualTo(2);
+		assertThat(missionRepository.findById(first.getId()).orElseThrow().getIsChecked()).isTrue();
+		assertThat(missionRepository.findById(second.getId()).orElseThrow().getIsChecked()).isFalse();
+		assertThat(missionRepository.findById(untouched.getId()).orElseThrow().getIsChecked()).isTrue();
+	}
+
+
+	@Test
+	void Given_NoCheckedIds_When_UpdateCheckStatuses_Then_UncheckAll() {
+		// given
+		Mission mission = saveBasic(scenario, null, null, true);
+
+		// when
+		int updated = missionRepository.updateCheckStatuses(List.of(mission.getId()), List.of());
+
+		// then
+		assertThat(updated).isEqualTo(1);
+		assertThat(missionRepository.findById(mission.getId()).orElseThrow().getIsChecked()).isFalse();
+	}
+
+
+	@Test
+	void Given_FutureChildren_When_FindAllByParentMissionIdInAndUseDate_Then_ReturnOnlyThatDate() {
+		// given
+		LocalDate future = TODAY.plusDays(1);
+		Mission first = saveBasic(scenario, null, null, false);
+		Mission second = saveBasic(scenario, null, null, false);
+		Mission child = saveBasic(scenario, first.getId(), future, true);
+		saveBasic(scenario, second.getId(), future.plusDays(1), true);
+
+		// when
+		List<Mission> result = missionRepository.findAllByParentMissionIdInAndUseDate(
+			List.of(first.getId(), second.getId()), future);
+
+		// then
+		assertThat(result).extracting(Mission::getId).containsExactly(child.getId());
+	}
+
+
+	@Test
+	void Given_FutureChildren_When_DeleteFutureChildMissions_Then_DeleteOnlyThatDate() {
+		// given
+		LocalDate future = TODAY.plusDays(1);
+		Mission basic = saveBasic(scenario, null, null, false);
+		saveBasic(scenario, basic.getId(), future, true);
+		saveBasic(scenario, basic.getId(), future.plusDays(1), true);
+
+		// when
+		int deleted = missionRepository.deleteFutureChildMissions(List.of(basic.getId()), future);
+
+		// then
+		assertThat(deleted).isEqualTo(1);
+		assertThat(missionRepository.findByParentMissionIdAndUseDate(basic.getId(), future)).isEmpty();
+		assertThat(missionRepository.findByParentMissionIdAndUseDate(basic.getId(), future.plusDays(1))).isPresent();
+	}
+
+
+	@Test
+	void Given_ExistingFutureChild_When_SaveSameParentAndDate_Then_RejectDuplicate() {
+		// given
+		LocalDate future = TODAY.plusDays(1);
+		Mission basic = saveBasic(scenario, null, null, false);
+		saveBasic(scenario, basic.getId(), future, true);
+		missionRepository.flush();
+
+		// when & then
+		assertThatThrownBy(() -> missionRepository.saveAndFlush(basic.createFutureChildMission(true, future)))
+			.isInstanceOf(DataIntegrityViolationException.class);
+	}
+
+
+	@Test
+	void Given_OtherMembersMission_When_FindAllByIdInAndScenarioMemberId_Then_ExcludeIt() {
+		// given
+		Member otherMember = memberRepository.save(Member.builder().nickname("other-user").build());
+		Mission mine = saveBasic(scenario, null, null, false);
+		Mission others = saveBasic(saveScenario(otherMember, 0), null, null, false);
+
+		// when
+		List<Mission> result = missionRepository.findAllByIdInAndScenarioMemberId(
+			List.of(mine.getId(), others.getId()), scenario.getMember().getId());
+
+		// then
+		assertThat(result).extracting(Mission::getId).containsExactly(mine.getId());
+	}
+
+
+	@Test
+	void Given_MissionsOfScenarios_When_FindTodayAndFutureMissionsByScenarioIdIn_Then_ReturnOnlyThatDate() {
+		// given
+		Mission basic = saveBasic(scenario, null, null, false);
+		Mission todayChild = saveBasic(otherScenario, basic.getId(), TODAY, true);
+		saveBasic(scenario, basic.getId(), TODAY.plusDays(1), true);
+
+		// when
+		List<Mission> result = missionRepository.findTodayAndFutureMissionsByScenarioIdIn(
+			List.of(scenario.getId(), otherScenario.getId()), TODAY);
+
+		// then
+		assertThat(result).extracting(Mission::getId).containsExactlyInAnyOrder(basic.getId(), todayChild.getId());
+	}
+
+	private Scenario saveScenario(final Member member, final int order) {
+		return scenarioRepository.save(Scenario.builder()
+			.member(member)
+			.scenarioName("루틴" + order)
+			.scenarioOrder(String.valueOf(order + 1))
+			.lastRolledDate(TODAY)
+			.notification(Notification.builder()
+				.isActive(false)
+				.notificationType(NotificationType.TIME)
+				.build())
+			.build());
+	}
+
+	private Mission saveBasic(
+		final Scenario scenario, final Long parentMissionId, final LocalDate useDate, final boolean isChecked
+	) {
+		return missionRepository.save(Mission.builder()
+			.scenario(scenario)
+			.content("물 마시기")
+			.isChecked(isChecked)
+			.parentMissionId(parentMissionId)
+			.useDate(useDate)
+			.missionType(MissionType.BASIC)
+			.build());
+	}
+
+}
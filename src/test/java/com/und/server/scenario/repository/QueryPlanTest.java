@@ -0,0 +1,284 @@
+package com.und.server.scenario.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+
+import com.und.server.member.entity.Member;
+import com.und.server.member.repository.MemberRepository;
+import com.und.server.notification.constants.NotificationOutboxEventType;
+import com.und.server.notification.constants.NotificationType;
+import com.und.server.notification.entity.Notification;
+import com.und.server.notification.entity.NotificationOutbox;
+import com.und.server.notification.repository.NotificationOutboxRepository;
+import com.und.server.scenario.constants.MissionType;
+import com.und.server.scenario.entity.Mission;
+import com.und.server.scenario.entity.Scenario;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Runs EXPLAIN on the SQL Hibernate generates for the hot mission, scenario and outbox queries, against the schema
+ * built by the Flyway migrations, and fails when a query stops using the index it was written for.
+ * Primary keys get a generated name on H2, so lookups by id match any primary key index.
+ * H2 also keeps its own index for every foreign key and prefers it for a lookup on that column alone, where MySQL
+ * drops the implicit index once a composite index such as idx_mission_scenario_date_type covers the column.
+ */
+@DataJpaTest(properties = {
+	"spring.jpa.generate-ddl=false",
+	"spring.jpa.hibernate.ddl-auto=validate",
+	"spring.jpa.properties.hibernate.session_factory.statement_inspector="
+		+ "com.und.server.scenario.repository.RecordingStatementInspector"
+})
+class QueryPlanTest {
+
+	private static final LocalDate TODAY = LocalDate.of(2025, 9, 1);
+	private static final LocalDateTime NOW = TODAY.atTime(9, 0);
+	private static final int MEMBER_COUNT = 20;
+	private static final int SCENARIO_COUNT_PER_MEMBER = 5;
+	private static final int MISSION_COUNT_PER_SCENARIO = 10;
+	private static final int OUTBOX_COUNT = 200;
+
+	@Autowired
+	private EntityManager em;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private ScenarioRepository scenarioRepository;
+
+	@Autowired
+	private MissionRepository missionRepository;
+
+	@Autowired
+	private MissionHistoryRepository missionHistoryRepository;
+
+	@Autowired
+	private NotificationOutboxRepository notificationOutboxRepository;
+
+	private Member member;
+	private Scenario scenario;
+	private Mission basic;
+
+
+	@BeforeEach
+	void setUp() {
+		for (int m = 0; m < MEMBER_COUNT; m++) {
+			Member seededMember = memberRepository.save(Member.builder().nickname("user" + m).build());
+			for (int s = 0; s < SCENARIO_COUNT_PER_MEMBER; s++) {
+				seedScenario(seededMember, s);
+			}
+		}
+		for (int i = 0; i < OUTBOX_COUNT; i++) {
+			notificationOutboxRepository.save(NotificationOutbox.builder()
+				.memberId((long) i % MEMBER_COUNT)
+				.eventType(NotificationOutboxEventType.SCENARIO)
+				.createdAt(NOW)
+				.claimedBy(i % 2 == 0 ? "relay-" + i % 4 : null)
+				.claimedUntil(NOW.plusSeconds(i % 2 == 0 ? i : -i))
+				.build());
+		}
+		em.flush();
+		em.clear();
+		em.createNativeQuery("ANALYZE").executeUpdate();
+	}
+
+
+	@Test
+	void Given_SeededMissions_When_ExplainTodayAndFutureLookup_Then_SeekOnScenarioForeignKey() {
+		// given
+		missionRepository.findTodayAndFutureMissions(member.getId(), scenario.getId(), TODAY);
+
+		// when
+		String plan = explain(scenario.getId(), member.getId(), TODAY);
+
+		// then
+		assertThat(plan).doesNotContainIgnoringCase("tableScan")
+			.containsPattern("FROM \"PUBLIC\".\"MISSION\" \"M1_0\"\\s+/\\* PUBLIC.FK_MISSION_SCENARIO_INDEX_\\w+: "
+				+ "SCENARIO_ID = \\?1");
+	}
+
+
+	@Test
+	void Given_SeededMissions_When_ExplainChildBasicLookups_Then_UseParentDateIndex() {
+		// given
+		missionRepository.findByParentMissionIdAndUseDate(basic.getId(), TODAY.plusDays(1));
+		String singlePlan = explain(basic.getId(), TODAY.plusDays(1));
+		missionRepository.findAllByParentMissionIdInAndUseDate(List.of(basic.getId()), TODAY.plusDays(1));
+
+		// when
+		String batchPlan = explain(basic.getId(), TODAY.plusDays(1));
+
+		// then
+		assertThat(singlePlan).doesNotContainIgnoringCase("tableScan").contains("UK_MISSION_PARENT_DATE");
+		assertThat(batchPlan).doesNotContainIgnoringCase("tableScan").contains("UK_MISSION_PARENT_DATE");
+	}
+
+
+	@Test
+	void Given_SeededMissions_When_ExplainMemberMissionsById_Then_SeekOnPrimaryKey() {
+		// given
+		missionRepository.findAllByIdInAndScenarioMemberId(List.of(basic.getId(), basic.getId() + 1), member.getId());
+
+		// when
+		String plan = explain(basic.getId(), basic.getId() + 1, member.getId());
+
+		// then
+		assertThat(plan).doesNotContainIgnoringCase("tableScan").containsPattern("PRIMARY_KEY_\\w+: ID IN");
+	}
+
+
+	@Test
+	void Given_SeededMissions_When_ExplainRolloverDeletes_Then_UseScenarioDateIndex() {
+		// given
+		missionRepository.deleteChildBasicsUntil(scenario.getId(), TODAY);
+		String childBasicPlan = explain(scenario.getId(), TODAY);
+		missionRepository.deleteTodayMissionsBefore(scenario.getId(), TODAY);
+
+		// when
+		String todayPlan = explain(scenario.getId(), TODAY);
+
+		// then
+		assertThat(childBasicPlan).doesNotContainIgnoringCase("tableScan").contains("IDX_MISSION_SCENARIO_DATE_TYPE");
+		assertThat(todayPlan).doesNotContainIgnoringCase("tableScan").contains("IDX_MISSION_SCENARIO_DATE_TYPE");
+	}
+
+
+	@Test
+	void Given_SeededScenarios_When_ExplainMemberScenariosByNotificationType_Then_SeekOnMemberForeignKey() {
+		// given
+		scenarioRepository.findByMemberIdAndNotificationType(member.getId(), NotificationType.TIME);
+
+		// when
+		String plan = explain(member.getId(), NotificationType.TIME.name());
+
+		// then
+		assertThat(plan).doesNotContainIgnoringCase("tableScan")
+			.containsPattern("PUBLIC.FK_SCENARIO_MEMBER_INDEX_\\w+: MEMBER_ID = \\?1");
+	}
+
+
+	@Test
+	void Given_SeededScenarios_When_ExplainRolloverSweep_Then_UseLastRolledDateIndex() {
+		// given
+		scenarioRepository.findIdsToRollover(TODAY, 0L, Limit.of(500));
+
+		// when
+		String plan = explain(TODAY, 0L, 500);
+
+		// then
+		assertThat(plan).doesNotContainIgnoringCase("tableScan").contains("IDX_SCENARIO_LAST_ROLLED_DATE");
+	}
+
+
+	@Test
+	void Given_SeededHistory_When_ExplainHistoryLookupAndExpiry_Then_UseHistoryIndexes() {
+		// given
+		missionHistoryRepository.findHistories(member.getId(), scenario.getId(), TODAY.minusDays(1));
+		String lookupPlan = explain(scenario.getId(), member.getId(), TODAY.minusDays(1));
+		missionHistoryRepository.bulkDeleteExpired(TODAY.minusMonths(1), 100);
+
+		// when
+		String expiryPlan = explain(TODAY.minusMonths(1), 100);
+
+		// then
+		assertThat(lookupPlan).doesNotContainIgnoringCase("tableScan").contains("IDX_MISSION_HISTORY_SCENARIO_DATE");
+		assertThat(expiryPlan).doesNotContainIgnoringCase("tableScan").contains("IDX_MISSION_HISTORY_USE_DATE");
+	}
+
+
+	@Test
+	void Given_SeededOutbox_When_ExplainClaimQueries_Then_UseLeaseIndexes() {
+		// given
+		notificationOutboxRepository.findClaimableIds(NOW, Limit.of(100));
+		String claimablePlan = explain(NOW, 100);
+		notificationOutboxRepository.claim(List.of(1L, 2L), "relay", NOW, NOW.plusSeconds(30));
+		String claimPlan = explain("relay", NOW.plusSeconds(30), 1L, 2L, NOW);
+		notificationOutboxRepository.findByClaimedByAndClaimedUntilGreaterThanOrderByIdAsc("relay-0", NOW);
+
+		// when
+		String ownLeasePlan = explain("relay-0", NOW);
+
+		// then
+		assertThat(claimablePlan).doesNotContainIgnoringCase("tableScan")
+			.contains("IDX_NOTIFICATION_OUTBOX_CLAIMED_UNTIL");
+		assertThat(claimPlan).doesNotContainIgnoringCase("tableScan").containsPattern("PRIMARY_KEY_\\w+: ID IN");
+		assertThat(ownLeasePlan).doesNotContainIgnoringCase("tableScan").contains("IDX_NOTIFICATION_OUTBOX_CLAIMED_BY");
+	}
+
+	private String explain(final Object... parameters) {
+		String sql = RecordingStatementInspector.lastSql();
+		return em.unwrap(Session.class).doReturningWork(connection -> {
+			try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+				for (int i = 0; i < parameters.length; i++) {
+					statement.setObject(i + 1, parameters[i]);
+				}
+				try (ResultSet resultSet = statement.executeQuery()) {
+					resultSet.next();
+					return resultSet.getString(1);
+				}
+			}
+		});
+	}
+
+	private void seedScenario(final Member owner, final int order) {
+		Scenario seeded = scenarioRepository.save(Scenario.builder()
+			.member(owner)
+			.scenarioName("루틴" + order)
+			.scenarioOrder(String.valueOf(order + 1))
+			.lastRolledDate(order % 2 == 0 ? TODAY : TODAY.minusDays(1))
+			.notification(Notification.builder()
+				.isActive(false)
+				.notificationType(order % 2 == 0 ? NotificationType.TIME : NotificationType.LOCATION)
+				.build())
+			.build());
+		if (member == null) {
+			member = owner;
+			scenario = seeded;
+		}
+
+		for (int i = 0; i < MISSION_COUNT_PER_SCENARIO; i++) {
+			Mission seededBasic = missionRepository.save(Mission.builder()
+				.scenario(seeded)
+				.content("미션" + i)
+				.isChecked(false)
+				.missionOrder(String.valueOf(i + 1))
+				.missionType(MissionType.BASIC)
+				.build());
+			if (basic == null) {
+				basic = seededBasic;
+			}
+			missionRepository.save(seededBasic.createFutureChildMission(true, TODAY.plusDays(i + 1L)));
+			missionRepository.save(Mission.builder()
+				.scenario(seeded)
+				.content("오늘" + i)
+				.isChecked(false)
+				.useDate(TODAY.minusDays(i))
+				.missionType(MissionType.TODAY)
+				.build());
+		}
+		missionRepository.flush();
+		em.createNativeQuery("""
+			INSERT INTO mission_history (
+				scenario_id, content, is_checked, mission_order, use_date, mission_type, created_at, updated_at
+			)
+			SELECT scenario_id, content, is_checked, mission_order, DATE '2025-08-31', mission_type,
+				created_at, updated_at
+			FROM mission
+			WHERE scenario_id = :scenarioId AND use_date IS NULL
+			""").setParameter("scenarioId", seeded.getId()).executeUpdate();
+	}
+
+}
@@ -0,0 +1,24 @@
+package com.und.server.scenario.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Keeps the last SQL statement Hibernate prepared on the current thread, so tests can EXPLAIN the real query.
+ */
+public class RecordingStatementInspector implements StatementInspector {
+
+	private static final ThreadLocal<String> LAST_SQL = new ThreadLocal<>();
+
+
+	@Override
+	public String inspect(final String sql) {
+		LAST_SQL.set(sql);
+		return sql;
+	}
+
+
+	public static String lastSql() {
+		return LAST_SQL.get();
+	}
+
+}
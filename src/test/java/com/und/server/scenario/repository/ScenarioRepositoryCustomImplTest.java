@@ -5,6 +5,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -13,10 +14,14 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.und.server.notification.constants.LocationTrackingRadiusType;
 import com.und.server.notification.constants.NotificationMethodType;
 import com.und.server.notification.constants.NotificationType;
+import com.und.server.notification.dto.TimeNotificationSchedule;
+import com.und.server.notification.dto.response.LocationNotificationResponse;
 import com.und.server.notification.dto.response.ScenarioNotificationResponse;
 import com.und.server.notification.dto.response.TimeNotificationResponse;
+import com.und.server.notification.util.DaysOfWeekMask;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.Query;
@@ -35,6 +40,12 @@ class ScenarioRepositoryCustomImplTest {
 	@Mock
 	private TypedQuery<ScenarioRepositoryCustomImpl.TimeNotificationQueryDto> typedQuery;
 
+	@Mock
+	private TypedQuery<ScenarioRepositoryCustomImpl.TimeNotificationScheduleQueryDto> scheduleQuery;
+
+	@Mock
+	private TypedQuery<ScenarioRepositoryCustomImpl.LocationNotificationQueryDto> locationQuery;
+
 	@Mock
 	private Query query;
 
@@ -52,7 +63,7 @@ class ScenarioRepositoryCustomImplTest {
 				.notificationId(1L)
 				.notificationType(NotificationType.TIME)
 				.notificationMethodType(NotificationMethodType.PUSH)
-				.daysOfWeek("1,2,3,4,5")
+				.daysMask(DaysOfWeekMask.from(List.of(1, 2, 3, 4, 5)))
 				.startHour(9)
 				.startMinute(30)
 				.build();
@@ -93,7 +104,7 @@ class ScenarioRepositoryCustomImplTest {
 				.notificationId(1L)
 				.notificationType(NotificationType.TIME)
 				.notificationMethodType(NotificationMethodType.PUSH)
-				.daysOfWeek("1,2,3,4,5")
+				.daysMask(DaysOfWeekMask.from(List.of(1, 2, 3, 4, 5)))
 				.startHour(9)
 				.startMinute(30)
 				.build();
@@ -106,7 +117,7 @@ class ScenarioRepositoryCustomImplTest {
 				.notificationId(2L)
 				.notificationType(NotificationType.TIME)
 				.notificationMethodType(NotificationMethodType.ALARM)
-				.daysOfWeek("1,2,3,4,5,6,7")
+				.daysMask(DaysOfWeekMask.from(List.of(1, 2, 3, 4, 5, 6)))
 				.startHour(18)
 				.startMinute(0)
 				.build();
@@ -155,7 +166,7 @@ class ScenarioRepositoryCustomImplTest {
 
 
 	@Test
-	void Given_TimeNotificationQueryDtoWithNullDaysOfWeek_When_ToResponse_Then_ReturnEmptyDaysList() {
+	void Given_TimeNotificationQueryDtoWithNullDaysMask_When_ToResponse_Then_ReturnEmptyDaysList() {
 		// given
 		ScenarioRepositoryCustomImpl.TimeNotificationQueryDto queryDto =
 			ScenarioRepositoryCustomImpl.TimeNotificationQueryDto.builder()
@@ -165,7 +176,7 @@ class ScenarioRepositoryCustomImplTest {
 				.notificationId(1L)
 				.notificationType(NotificationType.TIME)
 				.notificationMethodType(NotificationMethodType.PUSH)
-				.daysOfWeek(null)
+				.daysMask(null)
 				.startHour(10)
 				.startMinute(0)
 				.build();
@@ -181,7 +192,7 @@ class ScenarioRepositoryCustomImplTest {
 
 
 	@Test
-	void Given_TimeNotificationQueryDtoWithBlankDaysOfWeek_When_ToResponse_Then_ReturnEmptyDaysList() {
+	void Given_TimeNotificationQueryDtoWithEmptyDaysMask_When_ToResponse_Then_ReturnEmptyDaysList() {
 		// given
 		ScenarioRepositoryCustomImpl.TimeNotificationQueryDto queryDto =
 			ScenarioRepositoryCustomImpl.TimeNotificationQueryDto.builder()
@@ -191,7 +202,7 @@ class ScenarioRepositoryCustomImplTest {
 				.notificationId(1L)
 				.notificationType(NotificationType.TIME)
 				.notificationMethodType(NotificationMethodType.PUSH)
-				.daysOfWeek("")
+				.daysMask(0)
 				.startHour(10)
 				.startMinute(0)
 				.build();
@@ -207,7 +218,7 @@ class ScenarioRepositoryCustomImplTest {
 
 
 	@Test
-	void Given_TimeNotificationQueryDtoWithSpacedDaysOfWeek_When_ToResponse_Then_ReturnCorrectDaysList() {
+	void Given_TimeNotificationQueryDtoWithWeekdaysMask_When_ToResponse_Then_ReturnCorrectDaysList() {
 		// given
 		ScenarioRepositoryCustomImpl.TimeNotificationQueryDto queryDto =
 			ScenarioRepositoryCustomImpl.TimeNotificationQueryDto.builder()
@@ -217,7 +228,7 @@ class ScenarioRepositoryCustomImplTest {
 				.notificationId(1L)
 				.notificationType(NotificationType.TIME)
 				.notificationMethodType(NotificationMethodType.PUSH)
-				.daysOfWeek("1, 2, 3, 4, 5")
+				.daysMask(DaysOfWeekMask.from(List.of(1, 2, 3, 4, 5)))
 				.startHour(10)
 				.startMinute(0)
 				.build();
@@ -243,7 +254,7 @@ class ScenarioRepositoryCustomImplTest {
 				.notificationId(1L)
 				.notificationType(NotificationType.TIME)
 				.notificationMethodType(NotificationMethodType.PUSH)
-				.daysOfWeek("1")
+				.daysMask(DaysOfWeekMask.from(List.of(1)))
 				.startHour(10)
 				.startMinute(0)
 				.build();
@@ -257,4 +268,146 @@ class ScenarioRepositoryCustomImplTest {
 		assertThat(result.scenarioName()).isEqualTo("테스트 루틴");
 	}
 
+
+	@Test
+	void Given_LastScenarioId_When_FindActiveTimeNotificationSchedules_Then_ReturnNextPageOfSchedules() {
+		// given
+		ScenarioRepositoryCustomImpl.TimeNotificationScheduleQueryDto queryDto =
+			ScenarioRepositoryCustomImpl.TimeNotificationScheduleQueryDto.builder()
+				.memberId(memberId)
+				.scenarioId(11L)
+				.notificationId(21L)
+				.scenarioName("아침 루틴")
+				.notificationMethodType(NotificationMethodType.PUSH)
+				.daysMask(DaysOfWeekMask.from(List.of(0, 6)))
+				.startHour(7)
+				.startMinute(15)
+				.build();
+
+		when(entityManager.createQuery(
+			anyString(), eq(ScenarioRepositoryCustomImpl.TimeNotificationScheduleQueryDto.class)))
+			.thenReturn(scheduleQuery);
+		when(scheduleQuery.setParameter("lastScenarioId", 10L)).thenReturn(scheduleQuery);
+		when(scheduleQuery.setParameter("timeType", NotificationType.TIME)).thenReturn(scheduleQuery);
+		when(scheduleQuery.setMaxResults(100)).thenReturn(scheduleQuery);
+		when(scheduleQuery.getResultList()).thenReturn(List.of(queryDto));
+
+		// when
+		List<TimeNotificationSchedule> result =
+			scenarioRepositoryCustomImpl.findActiveTimeNotificationSchedules(10L, 100);
+
+		// then
+		assertThat(result).hasSize(1);
+		assertThat(result.get(0).memberId()).isEqualTo(memberId);
+		assertThat(result.get(0).notificationId()).isEqualTo(21L);
+		assertThat(result.get(0).daysOfWeekOrdinal()).containsExactly(0, 6);
+		assertThat(result.get(0).minuteOfDay()).isEqualTo(7 * 60 + 15);
+	}
+
+
+	@Test
+	void Given_NotificationIds_When_FindActiveTimeNotificationSchedulesByNotificationIds_Then_ReturnSchedules() {
+		// given
+		ScenarioRepositoryCustomImpl.TimeNotificationScheduleQueryDto queryDto =
+			ScenarioRepositoryCustomImpl.TimeNotificationScheduleQueryDto.builder()
+				.memberId(memberId)
+				.scenarioId(11L)
+				.notificationId(21L)
+				.scenarioName("아침 루틴")
+				.notificationMethodType(NotificationMethodType.ALARM)
+				.daysMask(DaysOfWeekMask.from(List.of(2)))
+				.startHour(8)
+				.startMinute(0)
+				.build();
+
+		when(entityManager.createQuery(
+			anyString(), eq(ScenarioRepositoryCustomImpl.TimeNotificationScheduleQueryDto.class)))
+			.thenReturn(scheduleQuery);
+		when(scheduleQuery.setParameter("notificationIds", List.of(21L, 22L))).thenReturn(scheduleQuery);
+		when(scheduleQuery.setParameter("timeType", NotificationType.TIME)).thenReturn(scheduleQuery);
+		when(scheduleQuery.getResultList()).thenReturn(List.of(queryDto));
+
+		// when
+		List<TimeNotificationSchedule> result =
+			scenarioRepositoryCustomImpl.findActiveTimeNotificationSchedulesByNotificationIds(List.of(21L, 22L));
+
+		// then
+		assertThat(result).hasSize(1);
+		assertThat(result.get(0).notificationId()).isEqualTo(21L);
+		assertThat(result.get(0).daysOfWeekOrdinal()).containsExactly(2);
+	}
+
+
+	@Test
+	void Given_ValidMemberId_When_FindLocationScenarioNotifications_Then_ReturnLocationNotifications() {
+		// given
+		ScenarioRepositoryCustomImpl.LocationNotificationQueryDto queryDto =
+			ScenarioRepositoryCustomImpl.LocationNotificationQueryDto.builder()
+				.scenarioId(1L)
+				.scenarioName("헬스장")
+				.notificationId(2L)
+				.notificationMethodType(NotificationMethodType.PUSH)
+				.daysMask(DaysOfWeekMask.from(List.of(0, 2, 4)))
+				.latitude(new BigDecimal("37.566535"))
+				.longitude(new BigDecimal("126.977969"))
+				.trackingRadiusType(LocationTrackingRadiusType.M_500)
+				.startHour(8)
+				.startMinute(0)
+				.endHour(10)
+				.endMinute(30)
+				.build();
+
+		when(entityManager.createQuery(
+			anyString(), eq(ScenarioRepositoryCustomImpl.LocationNotificationQueryDto.class)))
+			.thenReturn(locationQuery);
+		when(locationQuery.setParameter("memberId", memberId)).thenReturn(locationQuery);
+		when(locationQuery.setParameter("locationType", NotificationType.LOCATION)).thenReturn(locationQuery);
+		when(locationQuery.getResultList()).thenReturn(List.of(queryDto));
+
+		// when
+		List<ScenarioNotificationResponse> result =
+			scenarioRepositoryCustomImpl.findLocationScenarioNotifications(memberId);
+
+		// then
+		assertThat(result).hasSize(1);
+		assertThat(result.get(0).notificationType()).isEqualTo(NotificationType.LOCATION);
+		assertThat(result.get(0).daysOfWeekOrdinal()).containsExactly(0, 2, 4);
+		LocationNotificationResponse condition = (LocationNotificationResponse) result.get(0).notificationCondition();
+		assertThat(condition.trackingRadiusType()).isEqualTo(LocationTrackingRadiusType.M_500);
+		assertThat(condition.endMinute()).isEqualTo(30);
+	}
+
+
+	@Test
+	void Given_DayAndTime_When_FindActiveTimeNotificationSchedulesDueAt_Then_QueryMasksContainingDay() {
+		// given
+		ScenarioRepositoryCustomImpl.TimeNotificationScheduleQueryDto queryDto =
+			ScenarioRepositoryCustomImpl.TimeNotificationScheduleQueryDto.builder()
+				.memberId(memberId)
+				.scenarioId(11L)
+				.notificationId(21L)
+				.notificationMethodType(NotificationMethodType.PUSH)
+				.daysMask(DaysOfWeekMask.from(List.of(1, 3)))
+				.startHour(7)
+				.startMinute(30)
+				.build();
+
+		when(entityManager.createQuery(
+			anyString(), eq(ScenarioRepositoryCustomImpl.TimeNotificationScheduleQueryDto.class)))
+			.thenReturn(scheduleQuery);
+		when(scheduleQuery.setParameter("daysMasks", DaysOfWeekMask.findMasksContaining(1))).thenReturn(scheduleQuery);
+		when(scheduleQuery.setParameter("startHour", 7)).thenReturn(scheduleQuery);
+		when(scheduleQuery.setParameter("startMinute", 30)).thenReturn(scheduleQuery);
+		when(scheduleQuery.setParameter("timeType", NotificationType.TIME)).thenReturn(scheduleQuery);
+		when(scheduleQuery.getResultList()).thenReturn(List.of(queryDto));
+
+		// when
+		List<TimeNotificationSchedule> result =
+			scenarioRepositoryCustomImpl.findActiveTimeNotificationSchedulesDueAt(1, 7, 30);
+
+		// then
+		assertThat(result).hasSize(1);
+		assertThat(result.get(0).daysOfWeekOrdinal()).containsExactly(1, 3);
+	}
+
 }
@@ -0,0 +1,158 @@
+package com.und.server.scenario.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+
+import com.und.server.member.entity.Member;
+import com.und.server.member.repository.MemberRepository;
+import com.und.server.notification.constants.NotificationType;
+import com.und.server.notification.entity.Notification;
+import com.und.server.scenario.constants.MissionType;
+import com.und.server.scenario.entity.Mission;
+import com.und.server.scenario.entity.Scenario;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest
+class ScenarioRepositoryTest {
+
+	private static final LocalDate TODAY = LocalDate.of(2025, 9, 1);
+
+	@Autowired
+	private ScenarioRepository scenarioRepository;
+
+	@Autowired
+	private MissionRepository missionRepository;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private Member member;
+
+
+	@BeforeEach
+	void setUp() {
+		member = memberRepository.save(Member.builder().nickname("test-user").build());
+	}
+
+
+	@Test
+	void Given_MixedLastRolledDates_When_FindIdsToRollover_Then_ReturnStaleScenarios() {
+		// given
+		Scenario rolledLastWeek = saveScenario(0, TODAY.minusDays(7));
+		Scenario rolledYesterday = saveScenario(1, TODAY.minusDays(1));
+		saveScenario(2, TODAY);
+
+		// when
+		List<Long> result = scenarioRepository.findIdsToRollover(TODAY, 0L, Limit.of(10));
+
+		// then
+		assertThat(result).containsExactly(rolledLastWeek.getId(), rolledYesterday.getId());
+		assertThat(scenarioRepository.findIdsToRollover(TODAY, rolledLastWeek.getId(), Limit.of(10)))
+			.containsExactly(rolledYesterday.getId());
+		assertThat(scenarioRepository.findMaxId()).isGreaterThanOrEqualTo(rolledYesterday.getId());
+	}
+
+
+	@Test
+	void Given_ScenariosRolledTodayAndYesterday_When_CheckRolled_Then_OnlyTodayIsRolled() {
+		// given
+		Scenario rolledToday = saveScenario(0, TODAY);
+		Scenario rolledYesterday = saveScenario(1, TODAY.minusDays(1));
+		Mission mission = missionRepository.save(Mission.builder()
+			.scenario(rolledToday)
+			.content("물 마시기")
+			.isChecked(false)
+			.missionType(MissionType.BASIC)
+			.build());
+
+		// when & then
+		assertThat(scenarioRepository.existsByIdAndMemberIdAndLastRolledDateGreaterThanEqual(
+			rolledToday.getId(), member.getId(), TODAY)).isTrue();
+		assertThat(scenarioRepository.existsByIdAndMemberIdAndLastRolledDateGreaterThanEqual(
+			rolledYesterday.getId(), member.getId(), TODAY)).isFalse();
+		assertThat(scenarioRepository.existsByIdAndMemberIdAndLastRolledDateGreaterThanEqual(
+			rolledToday.getId(), member.getId() + 1, TODAY)).isFalse();
+		assertThat(scenarioRepository.existsRolledByMissionIdAndMemberId(mission.getId(), member.getId(), TODAY))
+			.isTrue();
+		assertThat(scenarioRepository.findLastRolledDateById(rolledYesterday.getId()))
+			.isEqualTo(TODAY.minusDays(1));
+	}
+
+
+	@Test
+	void Given_StaleEntityFlushedAfterRollover_When_UpdateLastRolledDate_Then_KeepRolledDate() {
+		// given
+		Scenario scenario = saveScenario(0, TODAY.minusDays(1));
+		Mission mission = missionRepository.save(Mission.builder()
+			.scenario(scenario)
+			.content("물 마시기")
+			.isChecked(false)
+			.missionType(MissionType.BASIC)
+			.build());
+
+		// when
+		scenarioRepository.updateLastRolledDate(scenario.getId(), TODAY);
+		scenario.updateScenarioOrder("5");
+		entityManager.flush();
+		entityManager.clear();
+
+		// then
+		assertThat(scenarioRepository.findWithLockByMissionIdAndMemberId(mission.getId(), member.getId()))
+			.get()
+			.satisfies(s -> assertThat(s.getLastRolledDate()).isEqualTo(TODAY))
+			.satisfies(s -> assertThat(s.getScenarioOrder()).isEqualTo("5"));
+	}
+
+
+	@Test
+	void Given_ScenarioWithLongOrder_When_FindMemberIdsWithOrderLongerThan_Then_ReturnItsMemberOnly() {
+		// given
+		Scenario longOrderScenario = saveScenario(0, TODAY);
+		longOrderScenario.updateScenarioOrder("i".repeat(5));
+		saveScenario(1, TODAY);
+		Member otherMember = memberRepository.save(Member.builder().nickname("other-user").build());
+		scenarioRepository.save(Scenario.builder()
+			.member(otherMember)
+			.scenarioName("루틴")
+			.scenarioOrder("i")
+			.lastRolledDate(TODAY)
+			.notification(Notification.builder()
+				.isActive(false)
+				.notificationType(NotificationType.TIME)
+				.build())
+			.build());
+		entityManager.flush();
+
+		// when
+		List<Long> result = scenarioRepository.findMemberIdsWithOrderLongerThan(0L, 4, Limit.of(10));
+
+		// then
+		assertThat(result).containsExactly(member.getId());
+	}
+
+	private Scenario saveScenario(final int order, final LocalDate lastRolledDate) {
+		return scenarioRepository.save(Scenario.builder()
+			.member(member)
+			.scenarioName("루틴" + order)
+			.scenarioOrder(String.valueOf(order + 1))
+			.lastRolledDate(lastRolledDate)
+			.notification(Notification.builder()
+				.isActive(false)
+				.notificationType(NotificationType.TIME)
+				.build())
+			.build());
+	}
+
+}
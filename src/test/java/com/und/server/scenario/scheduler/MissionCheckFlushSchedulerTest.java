@@ -0,0 +1,66 @@
+package com.und.server.scenario.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import com.und.server.scenario.dto.PendingMissionChecks;
+import com.und.server.scenario.service.MissionCheckFlushService;
+import com.und.server.scenario.util.MissionCheckBuffer;
+
+@ExtendWith(MockitoExtension.class)
+class MissionCheckFlushSchedulerTest {
+
+	@Mock
+	private MissionCheckBuffer missionCheckBuffer;
+
+	@Mock
+	private MissionCheckFlushService missionCheckFlushService;
+
+	@InjectMocks
+	private MissionCheckFlushScheduler missionCheckFlushScheduler;
+
+
+	@Test
+	void Given_FlushOfOneMemberFails_When_FlushDirtyChecks_Then_FlushOtherMembers() {
+		// given
+		LocalDate date = LocalDate.of(2025, 9, 1);
+		PendingMissionChecks failing = new PendingMissionChecks(1L, date, Map.of(1L, true));
+		PendingMissionChecks other = new PendingMissionChecks(2L, date, Map.of(2L, true));
+		when(missionCheckBuffer.findDirty(anyInt())).thenReturn(List.of(failing, other));
+		doThrow(new IllegalStateException("db error")).when(missionCheckFlushService).flush(failing);
+
+		// when
+		missionCheckFlushScheduler.flushDirtyChecks();
+
+		// then
+		verify(missionCheckFlushService).flush(other);
+	}
+
+
+	@Test
+	void Given_RedisUnavailable_When_FlushDirtyChecks_Then_SkipRun() {
+		// given
+		when(missionCheckBuffer.findDirty(anyInt())).thenThrow(new RedisConnectionFailureException("redis down"));
+
+		// when & then
+		assertThatCode(() -> missionCheckFlushScheduler.flushDirtyChecks()).doesNotThrowAnyException();
+		verify(missionCheckFlushService, never()).flush(any(PendingMissionChecks.class));
+	}
+
+}
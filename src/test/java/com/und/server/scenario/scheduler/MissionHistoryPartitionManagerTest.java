@@ -0,0 +1,145 @@
+package com.und.server.scenario.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class MissionHistoryPartitionManagerTest {
+
+	private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+	@Mock
+	private JdbcTemplate jdbcTemplate;
+
+	@Mock
+	private StringRedisTemplate stringRedisTemplate;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	private MissionHistoryPartitionManager partitionManager;
+
+
+	@BeforeEach
+	void setUp() {
+		Clock fixedClock = Clock.fixed(LocalDate.of(2025, 9, 10).atStartOfDay(SEOUL).toInstant(), SEOUL);
+		partitionManager = new MissionHistoryPartitionManager(jdbcTemplate, stringRedisTemplate, fixedClock);
+		lenient().when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+		lenient().when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+	}
+
+
+	@Test
+	void Given_NoDailyPartitions_When_Prepare_Then_CreatePartitionsFromRetentionStart() {
+		// given
+		when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(List.of());
+
+		// when
+		partitionManager.prepare();
+
+		// then
+		ArgumentCaptor<String> ddl = ArgumentCaptor.forClass(String.class);
+		verify(jdbcTemplate).execute(ddl.capture());
+		assertThat(ddl.getValue())
+			.startsWith("ALTER TABLE mission_history REORGANIZE PARTITION pmax INTO (PARTITION p20250809 "
+				+ "VALUES LESS THAN ('2025-08-10')")
+			.contains("PARTITION p20250913 VALUES LESS THAN ('2025-09-14')")
+			.endsWith("PARTITION pmax VALUES LESS THAN (MAXVALUE))");
+	}
+
+
+	@Test
+	void Given_ExpiredAndMissingPartitions_When_MaintainPartitions_Then_AddAheadAndDropExpired() {
+		// given
+		when(jdbcTemplate.queryForList(anyString(), eq(String.class)))
+			.thenReturn(List.of("p20250812", "p20250809", "p20250811"));
+
+		// when
+		partitionManager.maintainPartitions();
+
+		// then
+		verify(jdbcTemplate).execute(
+			startsWith("ALTER TABLE mission_history REORGANIZE PARTITION pmax INTO "
+				+ "(PARTITION p20250813 VALUES LESS THAN ('2025-08-14')"));
+		verify(jdbcTemplate).execute("ALTER TABLE mission_history DROP PARTITION p20250809");
+	}
+
+
+	@Test
+	void Given_PartitionsUpToDate_When_MaintainPartitions_Then_RunNoDdl() {
+		// given
+		when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(List.of("p20250810", "p20250913"));
+
+		// when
+		partitionManager.maintainPartitions();
+
+		// then
+		verify(jdbcTemplate, never()).execute(anyString());
+	}
+
+
+	@Test
+	void Given_DdlFails_When_MaintainPartitions_Then_NoThrow() {
+		// given
+		when(jdbcTemplate.queryForList(anyString(), eq(String.class)))
+			.thenThrow(new DataAccessResourceFailureException("db error"));
+
+		// when & then
+		assertThatCode(() -> partitionManager.maintainPartitions()).doesNotThrowAnyException();
+		verify(jdbcTemplate, never()).execute(anyString());
+	}
+
+
+	@Test
+	void Given_LockHeldByAnotherNode_When_MaintainPartitions_Then_Skip() {
+		// given
+		when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+
+		// when
+		partitionManager.maintainPartitions();
+
+		// then
+		verifyNoInteractions(jdbcTemplate);
+	}
+
+
+	@Test
+	void Given_RedisDown_When_MaintainPartitions_Then_Skip() {
+		// given
+		when(stringRedisTemplate.opsForValue()).thenThrow(new RedisConnectionFailureException("redis down"));
+
+		// when
+		partitionManager.maintainPartitions();
+
+		// then
+		verifyNoInteractions(jdbcTemplate);
+	}
+
+}
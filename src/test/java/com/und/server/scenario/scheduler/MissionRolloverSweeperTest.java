@@ -0,0 +1,131 @@
+package com.und.server.scenario.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import com.und.server.scenario.config.MissionRolloverProperties;
+import com.und.server.scenario.repository.ScenarioRepository;
+import com.und.server.scenario.service.MissionRolloverService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class MissionRolloverSweeperTest {
+
+	private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+	private static final LocalDate TODAY = LocalDate.of(2025, 9, 1);
+
+	@Mock
+	private ScenarioRepository scenarioRepository;
+
+	@Mock
+	private MissionRolloverService missionRolloverService;
+
+	private final List<Runnable> pendingTasks = new ArrayList<>();
+	private SimpleMeterRegistry meterRegistry;
+	private MissionRolloverSweeper sweeper;
+
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		sweeper = new MissionRolloverSweeper(
+			scenarioRepository, missionRolloverService, new MissionRolloverProperties(100, 2), Runnable::run,
+			meterRegistry, Clock.fixed(TODAY.atStartOfDay(SEOUL).toInstant(), SEOUL));
+		lenient().when(scenarioRepository.findMaxId()).thenReturn(0L);
+	}
+
+
+	@Test
+	void Given_StaleScenarios_When_Sweep_Then_RolloverBatchAndCountResults() {
+		// given
+		given(scenarioRepository.findIdsToRollover(TODAY, 0L, Limit.of(100))).willReturn(List.of(1L, 2L, 3L));
+		given(missionRolloverService.rolloverIfStale(1L)).willReturn(true);
+		given(missionRolloverService.rolloverIfStale(2L)).willReturn(false);
+		given(missionRolloverService.rolloverIfStale(3L)).willThrow(new RuntimeException("lock wait timeout"));
+
+		// when
+		sweeper.sweep();
+
+		// then
+		verify(missionRolloverService).rolloverIfStale(3L);
+		assertThat(meterRegistry.counter("mission.rollover.swept").count()).isEqualTo(1);
+		assertThat(meterRegistry.counter("mission.rollover.failed").count()).isEqualTo(1);
+	}
+
+
+	@Test
+	void Given_BatchStillRunning_When_Sweep_Then_SkipUntilBatchCompletes() {
+		// given
+		MissionRolloverSweeper queuedSweeper = new MissionRolloverSweeper(
+			scenarioRepository, missionRolloverService, new MissionRolloverProperties(100, 2), pendingTasks::add,
+			meterRegistry, Clock.fixed(TODAY.atStartOfDay(SEOUL).toInstant(), SEOUL));
+		given(scenarioRepository.findIdsToRollover(TODAY, 0L, Limit.of(100))).willReturn(List.of(1L));
+		queuedSweeper.sweep();
+
+		// when
+		queuedSweeper.sweep();
+		pendingTasks.forEach(Runnable::run);
+		queuedSweeper.sweep();
+
+		// then
+		verify(scenarioRepository, times(2)).findIdsToRollover(TODAY, 0L, Limit.of(100));
+	}
+
+
+	@Test
+	void Given_FullThenShortBatch_When_Sweep_Then_ContinueAfterLastIdAndStartOver() {
+		// given
+		MissionRolloverSweeper smallBatchSweeper = new MissionRolloverSweeper(
+			scenarioRepository, missionRolloverService, new MissionRolloverProperties(2, 2), Runnable::run,
+			meterRegistry, Clock.fixed(TODAY.atStartOfDay(SEOUL).toInstant(), SEOUL));
+		given(scenarioRepository.findIdsToRollover(TODAY, 0L, Limit.of(2)))
+			.willReturn(List.of(3L, 7L))
+			.willReturn(List.of());
+		given(scenarioRepository.findIdsToRollover(TODAY, 7L, Limit.of(2))).willReturn(List.of(9L));
+
+		// when
+		smallBatchSweeper.sweep();
+		smallBatchSweeper.sweep();
+		smallBatchSweeper.sweep();
+
+		// then
+		verify(scenarioRepository).findMaxId();
+		verify(scenarioRepository).findIdsToRollover(TODAY, 7L, Limit.of(2));
+		verify(scenarioRepository, times(2)).findIdsToRollover(TODAY, 0L, Limit.of(2));
+	}
+
+
+	@Test
+	void Given_QueryFails_When_Sweep_Then_NextSweepRunsAgain() {
+		// given
+		given(scenarioRepository.findIdsToRollover(TODAY, 0L, Limit.of(100)))
+			.willThrow(new RuntimeException("connection reset"))
+			.willReturn(List.of());
+
+		// when
+		assertThatThrownBy(() -> sweeper.sweep()).isInstanceOf(RuntimeException.class);
+		sweeper.sweep();
+
+		// then
+		verify(scenarioRepository, times(2)).findIdsToRollover(TODAY, 0L, Limit.of(100));
+	}
+
+}
@@ -2,115 +2,180 @@ package com.und.server.scenario.scheduler;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
-import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.Clock;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import com.und.server.scenario.repository.MissionRepository;
+import com.und.server.scenario.entity.MissionDailyJobCheckpoint;
+import com.und.server.scenario.repository.MissionDailyJobCheckpointRepository;
+import com.und.server.scenario.repository.MissionHistoryRepository;
 
 @ExtendWith(MockitoExtension.class)
 class ScenarioMissionDailyJobTest {
 
+	private static final LocalDate TODAY = LocalDate.of(2025, 9, 1);
+	private static final LocalDate EXPIRE_BEFORE = LocalDate.of(2025, 8, 1);
+
 	@Mock
-	private MissionRepository missionRepository;
+	private MissionHistoryRepository missionHistoryRepository;
 
-	@InjectMocks
-	private ScenarioMissionDailyJob job;
+	@Mock
+	private MissionDailyJobCheckpointRepository checkpointRepository;
 
-	private Clock fixedClock;
+	@Mock
+	private TransactionTemplate transactionTemplate;
+
+	private ScenarioMissionDailyJob job;
 
 
 	@BeforeEach
 	void setUp() {
-		fixedClock = Clock.fixed(
-			LocalDate.of(2025, 9, 1).atStartOfDay(ZoneId.of("Asia/Seoul")).toInstant(),
+		Clock fixedClock = Clock.fixed(
+			TODAY.atStartOfDay(ZoneId.of("Asia/Seoul")).toInstant(),
 			ZoneId.of("Asia/Seoul")
 		);
-		job = new ScenarioMissionDailyJob(missionRepository, fixedClock);
+		job = new ScenarioMissionDailyJob(
+			missionHistoryRepository, checkpointRepository, transactionTemplate, fixedClock);
 	}
 
 
 	@Test
-	void Given_NormalCase_When_RunDailyBackupJob_Then_CloneAndResetCalled() {
+	void Given_ZeroDeleted_When_RunExpiredCleanupJob_Then_CallOnceAndCompleteCheckpoint() {
 		// given
-		when(missionRepository.bulkCloneBasicToYesterday(any(LocalDate.class))).thenReturn(7);
-		when(missionRepository.bulkResetBasicIsChecked(any(LocalDate.class))).thenReturn(100);
+		runTransactionsInline();
+		when(checkpointRepository.findById(TODAY)).thenReturn(Optional.empty());
+		when(missionHistoryRepository.bulkDeleteExpired(EXPIRE_BEFORE, 10_000)).thenReturn(0);
+
+		// when & then
+		assertThatCode(() -> job.runExpiredMissionCleanupJob()).doesNotThrowAnyException();
+		verify(missionHistoryRepository, times(1)).bulkDeleteExpired(any(LocalDate.class), anyInt());
+		MissionDailyJobCheckpoint checkpoint = captureSavedCheckpoint(1);
+		assertThat(checkpoint.getDeletedCount()).isZero();
+		assertThat(checkpoint.isCompleted()).isTrue();
+	}
+
+
+	@Test
+	void Given_DefaultBatchThenSmaller_When_RunExpiredCleanupJob_Then_CommitEachChunk() {
+		// given
+		runTransactionsInline();
+		MissionDailyJobCheckpoint checkpoint = MissionDailyJobCheckpoint.builder()
+			.jobDate(TODAY)
+			.expireBefore(EXPIRE_BEFORE)
+			.deletedCount(0L)
+			.build();
+		when(checkpointRepository.findById(TODAY))
+			.thenReturn(Optional.empty())
+			.thenReturn(Optional.empty())
+			.thenReturn(Optional.of(checkpoint));
+		when(missionHistoryRepository.bulkDeleteExpired(EXPIRE_BEFORE, 10_000))
+			.thenReturn(10_000)
+			.thenReturn(5_000);
 
 		// when
-		job.runDailyBackupJob();
+		assertThatCode(() -> job.runExpiredMissionCleanupJob()).doesNotThrowAnyException();
 
 		// then
-		ArgumentCaptor<LocalDate> dateCaptor = ArgumentCaptor.forClass(LocalDate.class);
-		verify(missionRepository).bulkCloneBasicToYesterday(dateCaptor.capture());
-		verify(missionRepository).bulkResetBasicIsChecked(any(LocalDate.class));
-
-		LocalDate captured = dateCaptor.getValue();
-		LocalDate expectedYesterday = LocalDate.of(2025, 8, 31);
-		assertThat(captured).isEqualTo(expectedYesterday);
+		verify(transactionTemplate, times(2)).execute(any());
+		verify(missionHistoryRepository, times(2)).bulkDeleteExpired(any(LocalDate.class), anyInt());
+		assertThat(checkpoint.getDeletedCount()).isEqualTo(5_000L);
+		assertThat(checkpoint.isCompleted()).isTrue();
 	}
 
 
 	@Test
-	void Given_RepositoryThrows_When_RunDailyBackupJob_Then_Throws() {
+	void Given_CompletedCheckpoint_When_RunExpiredCleanupJob_Then_Skip() {
 		// given
-		when(missionRepository.bulkCloneBasicToYesterday(any(LocalDate.class)))
-			.thenThrow(new RuntimeException("db error"));
+		when(checkpointRepository.findById(TODAY)).thenReturn(Optional.of(MissionDailyJobCheckpoint.builder()
+			.jobDate(TODAY)
+			.expireBefore(EXPIRE_BEFORE)
+			.deletedCount(10L)
+			.completedAt(LocalDateTime.of(2025, 9, 1, 1, 0))
+			.build()));
+
+		// when
+		job.runExpiredMissionCleanupJob();
 
 		// then
-		assertThatThrownBy(() -> job.runDailyBackupJob())
-			.isInstanceOf(RuntimeException.class);
+		verify(transactionTemplate, never()).execute(any());
 	}
 
 
 	@Test
-	void Given_ZeroDeleted_When_RunExpiredCleanupJob_Then_CallOnceAndNoThrow() {
+	void Given_UnfinishedCheckpoint_When_ResumeExpiredCleanupJob_Then_DeleteWithCheckpointCutoff() {
 		// given
-		when(missionRepository.bulkDeleteExpired(any(LocalDate.class), anyInt())).thenReturn(0);
+		runTransactionsInline();
+		LocalDate checkpointCutoff = LocalDate.of(2025, 7, 31);
+		MissionDailyJobCheckpoint checkpoint = MissionDailyJobCheckpoint.builder()
+			.jobDate(TODAY)
+			.expireBefore(checkpointCutoff)
+			.deletedCount(10_000L)
+			.build();
+		when(checkpointRepository.findById(TODAY)).thenReturn(Optional.of(checkpoint));
+		when(missionHistoryRepository.bulkDeleteExpired(checkpointCutoff, 10_000)).thenReturn(3);
 
-		// when & then
-		assertThatCode(() -> job.runExpiredMissionCleanupJob()).doesNotThrowAnyException();
-		verify(missionRepository, times(1)).bulkDeleteExpired(any(LocalDate.class), anyInt());
+		// when
+		job.resumeExpiredMissionCleanupJob();
+
+		// then
+		assertThat(checkpoint.getDeletedCount()).isEqualTo(10_003L);
+		assertThat(checkpoint.isCompleted()).isTrue();
 	}
 
 
 	@Test
-	void Given_DefaultBatchThenSmaller_When_RunExpiredCleanupJob_Then_LoopsAndStops() {
+	void Given_NoCheckpoint_When_ResumeExpiredCleanupJob_Then_DoNothing() {
 		// given
-		when(missionRepository.bulkDeleteExpired(any(LocalDate.class), anyInt()))
-			.thenReturn(10_000)
-			.thenReturn(5_000);
+		when(checkpointRepository.findById(TODAY)).thenReturn(Optional.empty());
 
 		// when
-		assertThatCode(() -> job.runExpiredMissionCleanupJob()).doesNotThrowAnyException();
+		job.resumeExpiredMissionCleanupJob();
 
 		// then
-		verify(missionRepository, times(2)).bulkDeleteExpired(any(LocalDate.class), anyInt());
+		verify(transactionTemplate, never()).execute(any());
 	}
 
 
 	@Test
 	void Given_RepositoryThrows_When_RunExpiredCleanupJob_Then_NoThrow() {
 		// given
-		when(missionRepository.bulkDeleteExpired(any(LocalDate.class), anyInt()))
+		runTransactionsInline();
+		when(checkpointRepository.findById(TODAY)).thenReturn(Optional.empty());
+		when(missionHistoryRepository.bulkDeleteExpired(any(LocalDate.class), anyInt()))
 			.thenThrow(new RuntimeException("db error"));
 
 		// when & then
 		assertThatCode(() -> job.runExpiredMissionCleanupJob()).doesNotThrowAnyException();
+		verify(checkpointRepository, never()).save(any());
+	}
+
+	private void runTransactionsInline() {
+		when(transactionTemplate.execute(any()))
+			.thenAnswer(invocation -> invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
+	}
+
+	private MissionDailyJobCheckpoint captureSavedCheckpoint(final int times) {
+		ArgumentCaptor<MissionDailyJobCheckpoint> captor = ArgumentCaptor.forClass(MissionDailyJobCheckpoint.class);
+		verify(checkpointRepository, times(times)).save(captor.capture());
+		return captor.getValue();
 	}
 
 }
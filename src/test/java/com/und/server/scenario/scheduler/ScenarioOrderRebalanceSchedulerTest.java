@@ -0,0 +1,63 @@
+package com.und.server.scenario.scheduler;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.und.server.scenario.repository.ScenarioRepository;
+import com.und.server.scenario.service.ScenarioOrderRebalanceService;
+
+@ExtendWith(MockitoExtension.class)
+class ScenarioOrderRebalanceSchedulerTest {
+
+	@Mock
+	private ScenarioRepository scenarioRepository;
+
+	@Mock
+	private ScenarioOrderRebalanceService scenarioOrderRebalanceService;
+
+	@InjectMocks
+	private ScenarioOrderRebalanceScheduler scenarioOrderRebalanceScheduler;
+
+
+	@Test
+	void Given_FullBatchOfMembers_When_RebalanceLongOrders_Then_ContinueAfterLastMember() {
+		// given
+		List<Long> firstBatch = LongStream.rangeClosed(1, 500).boxed().toList();
+		when(scenarioRepository.findMemberIdsWithOrderLongerThan(eq(0L), anyInt(), any())).thenReturn(firstBatch);
+		when(scenarioRepository.findMemberIdsWithOrderLongerThan(eq(500L), anyInt(), any())).thenReturn(List.of(501L));
+
+		// when
+		scenarioOrderRebalanceScheduler.rebalanceLongOrders();
+
+		// then
+		verify(scenarioOrderRebalanceService).rebalance(1L);
+		verify(scenarioOrderRebalanceService).rebalance(501L);
+	}
+
+
+	@Test
+	void Given_RebalanceOfOneMemberFails_When_RebalanceLongOrders_Then_RebalanceOtherMembers() {
+		// given
+		when(scenarioRepository.findMemberIdsWithOrderLongerThan(eq(0L), anyInt(), any())).thenReturn(List.of(1L, 2L));
+		when(scenarioOrderRebalanceService.rebalance(1L)).thenThrow(new IllegalStateException("db error"));
+
+		// when
+		scenarioOrderRebalanceScheduler.rebalanceLongOrders();
+
+		// then
+		verify(scenarioOrderRebalanceService).rebalance(2L);
+	}
+
+}
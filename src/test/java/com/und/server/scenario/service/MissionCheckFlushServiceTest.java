@@ -0,0 +1,123 @@
+package com.und.server.scenario.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.und.server.scenario.dto.PendingMissionChecks;
+import com.und.server.scenario.util.MissionCheckBuffer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class MissionCheckFlushServiceTest {
+
+	private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+	private static final LocalDate TODAY = LocalDate.of(2025, 9, 10);
+	private static final Long MEMBER_ID = 1L;
+
+	@Mock
+	private MissionCheckBuffer missionCheckBuffer;
+
+	@Mock
+	private JdbcTemplate jdbcTemplate;
+
+	private SimpleMeterRegistry meterRegistry;
+	private MissionCheckFlushService missionCheckFlushService;
+
+
+	@BeforeEach
+	void setUp() {
+		Clock fixedClock = Clock.fixed(TODAY.atStartOfDay(SEOUL).toInstant(), SEOUL);
+		meterRegistry = new SimpleMeterRegistry();
+		missionCheckFlushService =
+			new MissionCheckFlushService(missionCheckBuffer, jdbcTemplate, meterRegistry, fixedClock);
+	}
+
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+
+	@Test
+	void Given_TodayChecksOfRolledAndStaleScenario_When_Flush_Then_AcknowledgeOnlyUpdatedChecks() {
+		// given
+		PendingMissionChecks pending = new PendingMissionChecks(MEMBER_ID, TODAY, orderedChecks(1L, true, 2L, false));
+		when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[] {1, 0});
+
+		// when
+		missionCheckFlushService.flush(pending);
+
+		// then
+		verify(missionCheckBuffer).acknowledge(pending.withChecks(Map.of(1L, true)));
+		assertThat(meterRegistry.counter("mission.check.dropped").count()).isZero();
+	}
+
+
+	@Test
+	void Given_PastDayChecks_When_Flush_Then_CountUnmatchedChecksAsDroppedAndClearThem() {
+		// given
+		LocalDate yesterday = TODAY.minusDays(1);
+		PendingMissionChecks pending =
+			new PendingMissionChecks(MEMBER_ID, yesterday, orderedChecks(1L, true, 2L, false));
+		when(missionCheckBuffer.find(MEMBER_ID, yesterday)).thenReturn(pending);
+		when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[] {1, 0});
+
+		// when
+		missionCheckFlushService.flush(MEMBER_ID, yesterday);
+
+		// then
+		verify(missionCheckBuffer).acknowledge(pending);
+		assertThat(meterRegistry.counter("mission.check.dropped").count()).isEqualTo(1);
+	}
+
+
+	@Test
+	void Given_ActiveTransaction_When_Flush_Then_AcknowledgeAfterCommit() {
+		// given
+		PendingMissionChecks pending = new PendingMissionChecks(MEMBER_ID, TODAY, Map.of(1L, true));
+		when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[] {1});
+		TransactionSynchronizationManager.initSynchronization();
+
+		// when
+		missionCheckFlushService.flush(pending);
+
+		// then
+		verify(missionCheckBuffer, never()).acknowledge(pending);
+		TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+		verify(missionCheckBuffer).acknowledge(pending);
+	}
+
+	private Map<Long, Boolean> orderedChecks(
+		final Long firstId, final Boolean first, final Long secondId, final Boolean second
+	) {
+		Map<Long, Boolean> checks = new LinkedHashMap<>();
+		checks.put(firstId, first);
+		checks.put(secondId, second);
+		return checks;
+	}
+
+}
@@ -0,0 +1,543 @@
+package com.und.server.scenario.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.und.server.common.exception.ServerException;
+import com.und.server.member.entity.Member;
+import com.und.server.scenario.constants.MissionType;
+import com.und.server.scenario.dto.request.MissionCheckRequest;
+import com.und.server.scenario.entity.Mission;
+import com.und.server.scenario.entity.MissionHistory;
+import com.und.server.scenario.entity.Scenario;
+import com.und.server.scenario.event.ScenarioEventPublisher;
+import com.und.server.scenario.exception.ScenarioErrorResult;
+import com.und.server.scenario.repository.MissionHistoryRepository;
+import com.und.server.scenario.repository.MissionRepository;
+import com.und.server.scenario.util.MissionCheckBuffer;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class MissionCheckServiceTest {
+
+	@Mock
+	private MissionRepository missionRepository;
+
+	@Mock
+	private MissionHistoryRepository missionHistoryRepository;
+
+	@Mock
+	private MissionRolloverService missionRolloverService;
+
+	@Mock
+	private MissionCheckBuffer missionCheckBuffer;
+
+	@Mock
+	private ScenarioEventPublisher scenarioEventPublisher;
+
+	@Mock
+	private TransactionTemplate transactionTemplate;
+
+	@Mock
+	private Clock clock;
+
+	@InjectMocks
+	private MissionCheckService missionCheckService;
+
+	@BeforeEach
+	void setUp() {
+		when(clock.withZone(ZoneId.of("Asia/Seoul"))).thenReturn(Clock.fixed(
+			LocalDate.of(2024, 1, 15).atStartOfDay(ZoneId.of("Asia/Seoul")).toInstant(),
+			ZoneId.of("Asia/Seoul")
+		));
+		doAnswer(invocation -> {
+			invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+			return null;
+		}).when(transactionTemplate).executeWithoutResult(any());
+	}
+
+
+	@Test
+	void Given_ValidMissionIdAndAuthorizedMember_When_UpdateMissionCheck_Then_BufferMissionCheck() {
+		// given
+		Long memberId = 1L;
+		Long missionId = 1L;
+		LocalDate date = LocalDate.of(2024, 1, 15);
+		when(missionRepository.existsByIdAndScenarioMemberId(missionId, memberId)).thenReturn(true);
+
+		// when
+		missionCheckService.updateMissionCheck(memberId, missionId, true, date);
+
+		// then
+		verify(missionCheckBuffer).record(memberId, date, missionId, true);
+		verify(missionRolloverService, never()).rolloverIfStaleByMissionId(any(), any());
+		verify(missionRepository, never()).findByIdAndScenarioMemberId(any(), any());
+		verify(scenarioEventPublisher).publishMissionCacheEvictEvent(memberId);
+	}
+
+
+	@Test
+	void Given_NonExistentMissionId_When_UpdateMissionCheck_Then_ThrowNotFoundException() {
+		// given
+		Long memberId = 1L;
+		Long missionId = 999L;
+		LocalDate date = LocalDate.of(2024, 1, 15);
+
+		when(missionRepository.existsByIdAndScenarioMemberId(missionId, memberId)).thenReturn(false);
+
+		// when & then
+		assertThatThrownBy(() -> missionCheckService.updateMissionCheck(memberId, missionId, true, date))
+			.isInstanceOf(ServerException.class)
+			.hasFieldOrPropertyWithValue("errorResult", ScenarioErrorResult.NOT_FOUND_MISSION);
+		verify(missionCheckBuffer, never()).record(any(), any(), any(), any());
+		verify(scenarioEventPublisher, never()).publishMissionCacheEvictEvent(any());
+	}
+
+
+	@Test
+	void Given_UnauthorizedMember_When_UpdateMissionCheck_Then_ThrowUnauthorizedException() {
+		// given
+		Long unauthorizedMemberId = 2L;
+		Long missionId = 1L;
+		LocalDate date = LocalDate.of(2024, 1, 15);
+
+		when(missionRepository.existsByIdAndScenarioMemberId(missionId, unauthorizedMemberId)).thenReturn(false);
+
+		// when & then
+		assertThatThrownBy(() -> missionCheckService.updateMissionCheck(unauthorizedMemberId, missionId, true, date))
+			.isInstanceOf(ServerException.class)
+			.hasFieldOrPropertyWithValue("errorResult", ScenarioErrorResult.NOT_FOUND_MISSION);
+		verify(missionRepository).existsByIdAndScenarioMemberId(missionId, unauthorizedMemberId);
+	}
+
+
+	@Test
+	void Given_BufferUnavailable_When_UpdateMissionCheck_Then_WriteThroughToMission() {
+		// given
+		Long memberId = 1L;
+		Long missionId = 1L;
+		LocalDate date = LocalDate.of(2024, 1, 15);
+
+		Mission mission = Mission.builder()
+			.id(missionId)
+			.content("미션")
+			.isChecked(true)
+			.build();
+
+		when(missionRepository.existsByIdAndScenarioMemberId(missionId, memberId)).thenReturn(true);
+		doThrow(new RedisConnectionFailureException("redis down"))
+			.when(missionCheckBuffer).record(memberId, date, missionId, false);
+		when(missionRepository.findByIdAndScenarioMemberId(missionId, memberId))
+			.thenReturn(Optional.of(mission));
+
+		// when
+		missionCheckService.updateMissionCheck(memberId, missionId, false, date);
+
+		// then
+		assertThat(mission.getIsChecked()).isFalse();
+		verify(missionRolloverService).rolloverIfStaleByMissionId(memberId, missionId);
+		verify(scenarioEventPublisher).publishMissionCacheEvictEvent(memberId);
+	}
+
+
+	@Test
+	void Given_BasicMissionAndFutureDate_When_UpdateMissionCheck_Then_UpdateFutureBasicMission() {
+		// given
+		Long memberId = 1L;
+		Long missionId = 1L;
+		Boolean isChecked = true;
+		LocalDate futureDate = LocalDate.of(2024, 1, 16);
+
+		Member member = Member.builder()
+			.id(memberId)
+			.build();
+
+		Scenario scenario = Scenario.builder()
+			.id(1L)
+			.member(member)
+			.build();
+
+		Mission mission = Mission.builder()
+			.id(missionId)
+			.scenario(scenario)
+			.content("기본 미션")
+			.isChecked(false)
+			.missionType(MissionType.BASIC)
+			.build();
+
+		when(missionRepository.findByIdAndScenarioMemberId(missionId, memberId)).thenReturn(Optional.of(mission));
+		when(missionRepository.findByParentMissionIdAndUseDate(missionId, futureDate))
+			.thenReturn(Optional.empty());
+
+		// when
+		missionCheckService.updateMissionCheck(memberId, missionId, isChecked, futureDate);
+
+		// then
+		verify(missionRepository).findByIdAndScenarioMemberId(missionId, memberId);
+		verify(missionRepository).findByParentMissionIdAndUseDate(missionId, futureDate);
+		verify(missionRepository).saveAndFlush(any(Mission.class));
+	}
+
+
+	@Test
+	void Given_BasicMissionAndFutureDateWithExistingChild_When_UpdateMissionCheckToTrue_Then_UpdateChildMission() {
+		// given
+		Long memberId = 1L;
+		Long missionId = 1L;
+		Boolean isChecked = true;
+		LocalDate futureDate = LocalDate.of(2024, 1, 16);
+
+		Member member = Member.builder()
+			.id(memberId)
+			.build();
+
+		Scenario scenario = Scenario.builder()
+			.id(1L)
+			.member(member)
+			.build();
+
+		Mission mission = Mission.builder()
+			.id(missionId)
+			.scenario(scenario)
+			.content("기본 미션")
+			.isChecked(false)
+			.missionType(MissionType.BASIC)
+			.build();
+
+		Mission childMission = Mission.builder()
+			.id(2L)
+			.parentMissionId(missionId)
+			.useDate(futureDate)
+			.isChecked(false)
+			.missionType(MissionType.BASIC)
+			.build();
+
+		when(missionRepository.findByIdAndScenarioMemberId(missionId, memberId)).thenReturn(Optional.of(mission));
+		when(missionRepository.findByParentMissionIdAndUseDate(missionId, futureDate))
+			.thenReturn(Optional.of(childMission));
+
+		// when
+		missionCheckService.updateMissionCheck(memberId, missionId, isChecked, futureDate);
+
+		// then
+		verify(missionRepository).findByIdAndScenarioMemberId(missionId, memberId);
+		verify(missionRepository).findByParentMissionIdAndUseDate(missionId, futureDate);
+		assertThat(childMission.getIsChecked()).isTrue();
+	}
+
+
+	@Test
+	void Given_BasicMissionAndFutureDateWithExistingChild_When_UpdateMissionCheckToFalse_Then_DeleteChildMission() {
+		// given
+		Long memberId = 1L;
+		Long missionId = 1L;
+		Boolean isChecked = false;
+		LocalDate futureDate = LocalDate.of(2024, 1, 16);
+
+		Member member = Member.builder()
+			.id(memberId)
+			.build();
+
+		Scenario scenario = Scenario.builder()
+			.id(1L)
+			.member(member)
+			.build();
+
+		Mission mission = Mission.builder()
+			.id(missionId)
+			.scenario(scenario)
+			.content("기본 미션")
+			.isChecked(false)
+			.missionType(MissionType.BASIC)
+			.build();
+
+		Mission childMission = Mission.builder()
+			.id(2L)
+			.parentMissionId(missionId)
+			.useDate(futureDate)
+			.isChecked(true)
+			.missionType(MissionType.BASIC)
+			.build();
+
+		when(missionRepository.findByIdAndScenarioMemberId(missionId, memberId)).thenReturn(Optional.of(mission));
+		when(missionRepository.findByParentMissionIdAndUseDate(missionId, futureDate))
+			.thenReturn(Optional.of(childMission));
+
+		// when
+		missionCheckService.updateMissionCheck(memberId, missionId, isChecked, futureDate);
+
+		// then
+		verify(missionRepository).findByIdAndScenarioMemberId(missionId, memberId);
+		verify(missionRepository).findByParentMissionIdAndUseDate(missionId, futureDate);
+		verify(missionRepository).delete(childMission);
+	}
+
+
+	@Test
+	void Given_ArchivedMission_When_UpdateMissionCheckForPastDate_Then_UpdateHistoryWithoutRollover() {
+		// given
+		Long memberId = 1L;
+		Long missionId = 1L;
+		MissionHistory missionHistory = MissionHistory.builder()
+			.id(missionId)
+			.isChecked(false)
+			.build();
+		when(missionHistoryRepository.findByIdAndScenarioMemberId(missionId, memberId))
+			.thenReturn(Optional.of(missionHistory));
+
+		// when
+		missionCheckService.updateMissionCheck(memberId, missionId, true, LocalDate.of(2024, 1, 14));
+
+		// then
+		assertThat(missionHistory.getIsChecked()).isTrue();
+		verify(missionRolloverService, never()).rolloverIfStaleByMissionId(any(), any());
+	}
+
+
+	@Test
+	void Given_PastTodayMissionNotArchived_When_UpdateMissionCheckForPastDate_Then_RolloverAndUpdateHistory() {
+		// given
+		Long memberId = 1L;
+		Long missionId = 1L;
+		MissionHistory missionHistory = MissionHistory.builder()
+			.id(missionId)
+			.isChecked(false)
+			.build();
+		when(missionHistoryRepository.findByIdAndScenarioMemberId(missionId, memberId))
+			.thenReturn(Optional.empty(), Optional.of(missionHistory));
+
+		// when
+		missionCheckService.updateMissionCheck(memberId, missionId, true, LocalDate.of(2024, 1, 14));
+
+		// then
+		assertThat(missionHistory.getIsChecked()).isTrue();
+		verify(missionRolloverService).rolloverIfStaleByMissionId(memberId, missionId);
+	}
+
+
+	@Test
+	void Given_UnknownMission_When_UpdateMissionCheckForPastDate_Then_ThrowNotFoundMission() {
+		// given
+		when(missionHistoryRepository.findByIdAndScenarioMemberId(1L, 1L)).thenReturn(Optional.empty());
+
+		// when & then
+		assertThatThrownBy(() -> missionCheckService.updateMissionCheck(1L, 1L, true, LocalDate.of(2024, 1, 14)))
+			.isInstanceOf(ServerException.class)
+			.hasFieldOrPropertyWithValue("errorResult", ScenarioErrorResult.NOT_FOUND_MISSION);
+	}
+
+
+	@Test
+	void Given_TodayBatch_When_UpdateMissionChecks_Then_VerifyOwnershipOnceAndBufferAll() {
+		// given
+		LocalDate today = LocalDate.of(2024, 1, 15);
+		Scenario scenario = createScenario(1L);
+		when(missionRepository.findAllByIdInAndScenarioMemberId(Set.of(1L, 2L), 1L)).thenReturn(List.of(
+			createMission(1L, scenario, MissionType.BASIC), createMission(2L, scenario, MissionType.TODAY)));
+
+		// when
+		missionCheckService.updateMissionChecks(1L, List.of(
+			new MissionCheckRequest(1L, true), new MissionCheckRequest(2L, true), new MissionCheckRequest(1L, false)),
+			today);
+
+		// then
+		verify(missionCheckBuffer).recordAll(1L, today, Map.of(1L, false, 2L, true));
+		verify(scenarioEventPublisher).publishMissionCacheEvictEvent(1L);
+		verify(missionRolloverService, never()).rolloverIfStale(any(), any());
+		verify(missionRepository, never()).updateCheckStatuses(any(), any());
+	}
+
+
+	@Test
+	void Given_MissionOfOtherMember_When_UpdateMissionChecks_Then_ThrowNotFoundMission() {
+		// given
+		when(missionRepository.findAllByIdInAndScenarioMemberId(Set.of(1L, 2L), 1L))
+			.thenReturn(List.of(createMission(1L, createScenario(1L), MissionType.BASIC)));
+
+		// when & then
+		assertThatThrownBy(() -> missionCheckService.updateMissionChecks(1L, List.of(
+			new MissionCheckRequest(1L, true), new MissionCheckRequest(2L, true)), LocalDate.of(2024, 1, 15)))
+			.isInstanceOf(ServerException.class)
+			.hasFieldOrPropertyWithValue("errorResult", ScenarioErrorResult.NOT_FOUND_MISSION);
+		verify(missionCheckBuffer, never()).recordAll(any(), any(), any());
+	}
+
+
+	@Test
+	void Given_BufferUnavailable_When_UpdateMissionChecks_Then_RolloverAndUpdateInOneStatement() {
+		// given
+		LocalDate today = LocalDate.of(2024, 1, 15);
+		Scenario scenario = createScenario(1L);
+		Scenario otherScenario = createScenario(2L);
+		when(missionRepository.findAllByIdInAndScenarioMemberId(Set.of(1L, 2L, 3L), 1L)).thenReturn(List.of(
+			createMission(1L, scenario, MissionType.BASIC),
+			createMission(2L, scenario, MissionType.TODAY),
+			createMission(3L, otherScenario, MissionType.BASIC)));
+		doThrow(new RedisConnectionFailureException("down"))
+			.when(missionCheckBuffer).recordAll(any(), any(), any());
+		when(missionRepository.updateCheckStatuses(List.of(1L, 2L, 3L), List.of(1L, 3L))).thenReturn(3);
+
+		// when
+		missionCheckService.updateMissionChecks(1L, List.of(
+			new MissionCheckRequest(1L, true), new MissionCheckRequest(2L, false), new MissionCheckRequest(3L, true)),
+			today);
+
+		// then
+		verify(missionRolloverService).rolloverIfStale(1L, 1L);
+		verify(missionRolloverService).rolloverIfStale(1L, 2L);
+		verify(missionRepository).updateCheckStatuses(List.of(1L, 2L, 3L), List.of(1L, 3L));
+	}
+
+
+	@Test
+	void Given_MissionArchivedByRollover_When_UpdateMissionChecks_Then_ThrowNotFoundMission() {
+		// given
+		when(missionRepository.findAllByIdInAndScenarioMemberId(Set.of(1L), 1L))
+			.thenReturn(List.of(createMission(1L, createScenario(1L), MissionType.TODAY)));
+		when(missionRepository.updateCheckStatuses(List.of(1L), List.of(1L))).thenReturn(0);
+
+		// when & then
+		assertThatThrownBy(() -> missionCheckService.updateMissionChecks(
+			1L, List.of(new MissionCheckRequest(1L, true)), LocalDate.of(2024, 1, 16)))
+			.isInstanceOf(ServerException.class)
+			.hasFieldOrPropertyWithValue("errorResult", ScenarioErrorResult.NOT_FOUND_MISSION);
+	}
+
+
+	@Test
+	void Given_FutureBatch_When_UpdateMissionChecks_Then_UpsertAndDeleteFutureChildrenInBulk() {
+		// given
+		LocalDate futureDate = LocalDate.of(2024, 1, 16);
+		Scenario scenario = createScenario(1L);
+		when(missionRepository.findAllByIdInAndScenarioMemberId(Set.of(1L, 2L, 3L), 1L)).thenReturn(List.of(
+			createMission(1L, scenario, MissionType.BASIC),
+			createMission(2L, scenario, MissionType.BASIC),
+			createMission(3L, scenario, MissionType.TODAY)));
+		when(missionRepository.updateCheckStatuses(List.of(3L), List.of(3L))).thenReturn(1);
+		when(missionRepository.findAllByParentMissionIdInAndUseDate(List.of(1L), futureDate)).thenReturn(List.of());
+
+		// when
+		missionCheckService.updateMissionChecks(1L, List.of(
+			new MissionCheckRequest(1L, true), new MissionCheckRequest(2L, false), new MissionCheckRequest(3L, true)),
+			futureDate);
+
+		// then
+		verify(missionRepository).saveAllAndFlush(argThat((List<Mission> children) -> children.size() == 1
+			&& children.get(0).getParentMissionId().equals(1L)
+			&& children.get(0).getUseDate().equals(futureDate)
+			&& children.get(0).getIsChecked()));
+		verify(missionRepository).deleteFutureChildMissions(List.of(2L), futureDate);
+		verify(missionRepository).updateCheckStatuses(List.of(3L), List.of(3L));
+		verify(missionCheckBuffer, never()).recordAll(any(), any(), any());
+	}
+
+
+	@Test
+	void Given_FutureBatchWithExistingChild_When_UpdateMissionChecks_Then_SkipInsertDeleteAndUpdate() {
+		// given
+		LocalDate futureDate = LocalDate.of(2024, 1, 16);
+		Scenario scenario = createScenario(1L);
+		Mission parent = createMission(1L, scenario, MissionType.BASIC);
+		when(missionRepository.findAllByIdInAndScenarioMemberId(Set.of(1L), 1L)).thenReturn(List.of(parent));
+		when(missionRepository.findAllByParentMissionIdInAndUseDate(List.of(1L), futureDate))
+			.thenReturn(List.of(parent.createFutureChildMission(true, futureDate)));
+
+		// when
+		missionCheckService.updateMissionChecks(1L, List.of(new MissionCheckRequest(1L, true)), futureDate);
+
+		// then
+		verify(missionRepository).saveAllAndFlush(List.of());
+		verify(missionRepository, never()).deleteFutureChildMissions(any(), any());
+		verify(missionRepository, never()).updateCheckStatuses(any(), any());
+	}
+
+
+	@Test
+	void Given_PastBatch_When_UpdateMissionChecks_Then_UpdateEachHistory() {
+		// given
+		MissionHistory first = MissionHistory.builder().id(1L).isChecked(false).build();
+		MissionHistory second = MissionHistory.builder().id(2L).isChecked(true).build();
+		when(missionHistoryRepository.findByIdAndScenarioMemberId(1L, 1L)).thenReturn(Optional.of(first));
+		when(missionHistoryRepository.findByIdAndScenarioMemberId(2L, 1L)).thenReturn(Optional.of(second));
+
+		// when
+		missionCheckService.updateMissionChecks(1L, List.of(
+			new MissionCheckRequest(1L, true), new MissionCheckRequest(2L, false)), LocalDate.of(2024, 1, 14));
+
+		// then
+		assertThat(first.getIsChecked()).isTrue();
+		assertThat(second.getIsChecked()).isFalse();
+		verify(missionRepository, never()).findAllByIdInAndScenarioMemberId(any(), any());
+	}
+
+
+	@Test
+	void Given_ConcurrentChildInsert_When_UpdateMissionCheck_Then_RetryAndCheckExistingChild() {
+		// given
+		LocalDate futureDate = LocalDate.of(2024, 1, 16);
+		Mission parent = createMission(1L, createScenario(1L), MissionType.BASIC);
+		Mission concurrentChild = parent.createFutureChildMission(false, futureDate);
+		when(missionRepository.findByIdAndScenarioMemberId(1L, 1L)).thenReturn(Optional.of(parent));
+		when(missionRepository.findByParentMissionIdAndUseDate(1L, futureDate))
+			.thenReturn(Optional.empty())
+			.thenReturn(Optional.of(concurrentChild));
+		when(missionRepository.saveAndFlush(any(Mission.class)))
+			.thenThrow(new DataIntegrityViolationException("uk_mission_parent_date"));
+
+		// when
+		missionCheckService.updateMissionCheck(1L, 1L, true, futureDate);
+
+		// then
+		verify(transactionTemplate, times(2)).executeWithoutResult(any());
+		verify(missionRepository).saveAndFlush(any(Mission.class));
+		assertThat(concurrentChild.getIsChecked()).isTrue();
+	}
+
+	private Scenario createScenario(final Long scenarioId) {
+		return Scenario.builder()
+			.id(scenarioId)
+			.member(Member.builder().id(1L).build())
+			.build();
+	}
+
+	private Mission createMission(final Long missionId, final Scenario scenario, final MissionType missionType) {
+		return Mission.builder()
+			.id(missionId)
+			.scenario(scenario)
+			.content("미션")
+			.isChecked(false)
+			.missionType(missionType)
+			.build();
+	}
+
+}
@@ -0,0 +1,234 @@
+package com.und.server.scenario.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.und.server.common.exception.ServerException;
+import com.und.server.member.entity.Member;
+import com.und.server.scenario.entity.Scenario;
+import com.und.server.scenario.exception.ScenarioErrorResult;
+import com.und.server.scenario.repository.MissionHistoryRepository;
+import com.und.server.scenario.repository.MissionRepository;
+import com.und.server.scenario.repository.ScenarioRepository;
+
+@ExtendWith(MockitoExtension.class)
+class MissionRolloverServiceTest {
+
+	private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+	private static final LocalDate TODAY = LocalDate.of(2025, 9, 10);
+	private static final Long SCENARIO_ID = 1L;
+	private static final Long MEMBER_ID = 2L;
+
+	@InjectMocks
+	private MissionRolloverService missionRolloverService;
+
+	@Mock
+	private ScenarioRepository scenarioRepository;
+
+	@Mock
+	private MissionRepository missionRepository;
+
+	@Mock
+	private MissionHistoryRepository missionHistoryRepository;
+
+	@Mock
+	private MissionCheckFlushService missionCheckFlushService;
+
+	@Mock
+	private Clock clock;
+
+
+	@BeforeEach
+	void setUp() {
+		lenient().when(clock.withZone(SEOUL)).thenReturn(Clock.fixed(TODAY.atStartOfDay(SEOUL).toInstant(), SEOUL));
+	}
+
+
+	@Test
+	void Given_ScenarioRolledToday_When_RolloverIfStale_Then_SkipRollover() {
+		// given
+		given(scenarioRepository.findWithLockById(SCENARIO_ID)).willReturn(Optional.of(createScenario(TODAY)));
+		given(scenarioRepository.findLastRolledDateById(SCENARIO_ID)).willReturn(TODAY);
+
+		// when
+		boolean rolled = missionRolloverService.rolloverIfStale(SCENARIO_ID);
+
+		// then
+		assertThat(rolled).isFalse();
+		verifyNoInteractions(missionRepository, missionHistoryRepository, missionCheckFlushService);
+		verify(scenarioRepository, never()).updateLastRolledDate(anyLong(), any());
+	}
+
+
+	@Test
+	void Given_ScenarioRolledYesterday_When_RolloverIfStale_Then_SnapshotResetAndStamp() {
+		// given
+		LocalDate yesterday = TODAY.minusDays(1);
+		given(scenarioRepository.findWithLockById(SCENARIO_ID)).willReturn(Optional.of(createScenario(yesterday)));
+		given(scenarioRepository.findLastRolledDateById(SCENARIO_ID)).willReturn(yesterday);
+
+		// when
+		boolean rolled = missionRolloverService.rolloverIfStale(SCENARIO_ID);
+
+		// then
+		assertThat(rolled).isTrue();
+		InOrder inOrder = inOrder(
+			missionCheckFlushService, missionHistoryRepository, missionRepository, scenarioRepository);
+		inOrder.verify(missionCheckFlushService).flush(MEMBER_ID, yesterday);
+		inOrder.verify(missionHistoryRepository).snapshotBasicMissions(SCENARIO_ID, yesterday);
+		inOrder.verify(missionRepository).resetBasicIsChecked(SCENARIO_ID, TODAY);
+		inOrder.verify(missionRepository).deleteChildBasicsUntil(SCENARIO_ID, TODAY);
+		inOrder.verify(missionHistoryRepository).archiveTodayMissionsBefore(SCENARIO_ID, TODAY);
+		inOrder.verify(missionRepository).deleteTodayMissionsBefore(SCENARIO_ID, TODAY);
+		inOrder.verify(scenarioRepository).updateLastRolledDate(SCENARIO_ID, TODAY);
+		verify(missionHistoryRepository, never()).snapshotFutureCheckedBasicMissions(anyLong(), any());
+	}
+
+
+	@Test
+	void Given_ScenarioIdleForDays_When_RolloverIfStale_Then_FillMissedDaysFromFutureChecks() {
+		// given
+		LocalDate lastRolledDate = TODAY.minusDays(3);
+		given(scenarioRepository.findWithLockById(SCENARIO_ID)).willReturn(Optional.of(createScenario(lastRolledDate)));
+		given(scenarioRepository.findLastRolledDateById(SCENARIO_ID)).willReturn(lastRolledDate);
+
+		// when
+		missionRolloverService.rolloverIfStale(SCENARIO_ID);
+
+		// then
+		verify(missionHistoryRepository).snapshotBasicMissions(SCENARIO_ID, lastRolledDate);
+		verify(missionHistoryRepository).snapshotFutureCheckedBasicMissions(SCENARIO_ID, TODAY.minusDays(2));
+		verify(missionHistoryRepository).snapshotFutureCheckedBasicMissions(SCENARIO_ID, TODAY.minusDays(1));
+	}
+
+
+	@Test
+	void Given_ScenarioIdleBeyondHistory_When_RolloverIfStale_Then_SnapshotOnlyRetainedDays() {
+		// given
+		given(scenarioRepository.findWithLockById(SCENARIO_ID))
+			.willReturn(Optional.of(createScenario(TODAY.minusMonths(3))));
+		given(scenarioRepository.findLastRolledDateById(SCENARIO_ID)).willReturn(TODAY.minusMonths(3));
+
+		// when
+		missionRolloverService.rolloverIfStale(SCENARIO_ID);
+
+		// then
+		verify(missionHistoryRepository, never()).snapshotBasicMissions(anyLong(), any());
+		verify(missionHistoryRepository).snapshotFutureCheckedBasicMissions(SCENARIO_ID, TODAY.minusMonths(1));
+		verify(missionHistoryRepository, times(31)).snapshotFutureCheckedBasicMissions(anyLong(), any());
+	}
+
+
+	@Test
+	void Given_ScenarioRolledToday_When_RolloverIfStaleByMember_Then_SkipLock() {
+		// given
+		given(scenarioRepository.existsByIdAndMemberIdAndLastRolledDateGreaterThanEqual(SCENARIO_ID, MEMBER_ID, TODAY))
+			.willReturn(true);
+
+		// when
+		missionRolloverService.rolloverIfStale(MEMBER_ID, SCENARIO_ID);
+
+		// then
+		verify(scenarioRepository, never()).findWithLockByIdAndMemberId(anyLong(), anyLong());
+		verifyNoInteractions(missionRepository, missionHistoryRepository, missionCheckFlushService);
+	}
+
+
+	@Test
+	void Given_EntityLoadedBeforeConcurrentRollover_When_RolloverIfStale_Then_SkipRollover() {
+		// given
+		given(scenarioRepository.findWithLockByIdAndMemberId(SCENARIO_ID, MEMBER_ID))
+			.willReturn(Optional.of(createScenario(TODAY.minusDays(1))));
+		given(scenarioRepository.findLastRolledDateById(SCENARIO_ID)).willReturn(TODAY);
+
+		// when
+		missionRolloverService.rolloverIfStale(MEMBER_ID, SCENARIO_ID);
+
+		// then
+		verifyNoInteractions(missionRepository, missionHistoryRepository, missionCheckFlushService);
+		verify(scenarioRepository, never()).updateLastRolledDate(anyLong(), any());
+	}
+
+
+	@Test
+	void Given_MissionOfScenarioRolledToday_When_RolloverIfStaleByMissionId_Then_SkipLock() {
+		// given
+		given(scenarioRepository.existsRolledByMissionIdAndMemberId(10L, MEMBER_ID, TODAY)).willReturn(true);
+
+		// when
+		missionRolloverService.rolloverIfStaleByMissionId(MEMBER_ID, 10L);
+
+		// then
+		verify(scenarioRepository, never()).findWithLockByMissionIdAndMemberId(anyLong(), anyLong());
+	}
+
+
+	@Test
+	void Given_MissionOfStaleScenario_When_RolloverIfStaleByMissionId_Then_RolloverScenario() {
+		// given
+		given(scenarioRepository.findWithLockByMissionIdAndMemberId(10L, MEMBER_ID))
+			.willReturn(Optional.of(createScenario(TODAY.minusDays(1))));
+		given(scenarioRepository.findLastRolledDateById(SCENARIO_ID)).willReturn(TODAY.minusDays(1));
+
+		// when
+		missionRolloverService.rolloverIfStaleByMissionId(MEMBER_ID, 10L);
+
+		// then
+		verify(scenarioRepository).updateLastRolledDate(SCENARIO_ID, TODAY);
+	}
+
+
+	@Test
+	void Given_UnknownScenario_When_RolloverIfStale_Then_ThrowNotFoundScenario() {
+		// given
+		given(scenarioRepository.findWithLockByIdAndMemberId(SCENARIO_ID, MEMBER_ID)).willReturn(Optional.empty());
+
+		// when & then
+		assertThatThrownBy(() -> missionRolloverService.rolloverIfStale(MEMBER_ID, SCENARIO_ID))
+			.isInstanceOf(ServerException.class)
+			.hasFieldOrPropertyWithValue("errorResult", ScenarioErrorResult.NOT_FOUND_SCENARIO);
+	}
+
+
+	@Test
+	void Given_UnknownMission_When_RolloverIfStaleByMissionId_Then_ThrowNotFoundMission() {
+		// given
+		given(scenarioRepository.findWithLockByMissionIdAndMemberId(10L, MEMBER_ID)).willReturn(Optional.empty());
+
+		// when & then
+		assertThatThrownBy(() -> missionRolloverService.rolloverIfStaleByMissionId(MEMBER_ID, 10L))
+			.isInstanceOf(ServerException.class)
+			.hasFieldOrPropertyWithValue("errorResult", ScenarioErrorResult.NOT_FOUND_MISSION);
+	}
+
+	private Scenario createScenario(final LocalDate lastRolledDate) {
+		return Scenario.builder()
+			.id(SCENARIO_ID)
+			.member(Member.builder().id(MEMBER_ID).build())
+			.lastRolledDate(lastRolledDate)
+			.build();
+	}
+
+}
@@ -13,6 +13,7 @@ import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -20,6 +21,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
@@ -32,10 +34,15 @@ import com.und.server.scenario.dto.request.TodayMissionRequest;
 import com.und.server.scenario.dto.response.MissionGroupResponse;
 import com.und.server.scenario.dto.response.MissionResponse;
 import com.und.server.scenario.entity.Mission;
+import com.und.server.scenario.entity.MissionHistory;
 import com.und.server.scenario.entity.Scenario;
+import com.und.server.scenario.event.ScenarioEventPublisher;
 import com.und.server.scenario.exception.ScenarioErrorResult;
+import com.und.server.scenario.repository.MissionHistoryRepository;
 import com.und.server.scenario.repository.MissionRepository;
+import com.und.server.scenario.util.MissionCheckBuffer;
 import com.und.server.scenario.util.MissionTypeGroupSorter;
+import com.und.server.scenario.util.OrderCalculator;
 
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
@@ -44,15 +51,27 @@ class MissionServiceTest {
 	@Mock
 	private MissionRepository missionRepository;
 
+	@Mock
+	private MissionHistoryRepository missionHistoryRepository;
+
 	@Mock
 	private MissionTypeGroupSorter missionTypeGrouper;
 
 	@Mock
-	private com.und.server.scenario.util.ScenarioValidator scenarioValidator;
+	private MissionRolloverService missionRolloverService;
 
 	@Mock
 	private com.und.server.scenario.util.MissionValidator missionValidator;
 
+	@Mock
+	private MissionCheckBuffer missionCheckBuffer;
+
+	@Mock
+	private ScenarioEventPublisher scenarioEventPublisher;
+
+	@Spy
+	private OrderCalculator orderCalculator;
+
 	@Mock
 	private Clock clock;
 
@@ -117,6 +136,7 @@ class MissionServiceTest {
 			.isNotNull()
 			.satisfies(r -> assertThat(r.basicMissions()).isNotEmpty())
 			.satisfies(r -> assertThat(r.todayMissions()).isNotEmpty());
+		verify(missionRolloverService).rolloverIfStale(memberId, scenarioId);
 		verify(missionRepository).findTodayAndFutureMissions(memberId, scenarioId, date);
 		verify(missionTypeGrouper).groupAndSortByType(missionList, MissionType.BASIC);
 		verify(missionTypeGrouper).groupAndSortByType(missionList, MissionType.TODAY);
@@ -238,7 +258,7 @@ class MissionServiceTest {
 			.scenario(oldScenario)
 			.content("기존 미션")
 			.missionType(MissionType.BASIC)
-			.missionOrder(1)
+			.missionOrder("1")
 			.build();
 
 		List<Mission> oldMissionList = Arrays.asList(oldMission);
@@ -277,7 +297,7 @@ class MissionServiceTest {
 			.scenario(oldScenario)
 			.content("기존 미션")
 			.missionType(MissionType.BASIC)
-			.missionOrder(1)
+			.missionOrder("1")
 			.build();
 
 		List<Mission> oldMissionList = Arrays.asList(oldMission);
@@ -307,7 +327,7 @@ class MissionServiceTest {
 			.scenario(oldScenario)
 			.content("기존 미션")
 			.missionType(MissionType.BASIC)
-			.missionOrder(1)
+			.missionOrder("1")
 			.build();
 
 		List<Mission> oldMissionList = Arrays.asList(existingMission);
@@ -333,96 +353,55 @@ class MissionServiceTest {
 		verify(missionRepository, org.mockito.Mockito.times(1)).saveAll(anyList());
 	}
 
+
 	@Test
-	void Given_ValidMissionIdAndAuthorizedMember_When_DeleteTodayMission_Then_DeleteMission() {
+	void Given_OneMissionMovedToFront_When_UpdateBasicMission_Then_KeepOtherMissionOrders() {
 		// given
-		Long memberId = 1L;
-		Long missionId = 1L;
-
-		Member member = Member.builder()
-			.id(memberId)
-			.build();
-
-		Scenario scenario = Scenario.builder()
+		Scenario oldScenario = Scenario.builder()
 			.id(1L)
-			.member(member)
-			.build();
-
-		Mission mission = Mission.builder()
-			.id(missionId)
-			.scenario(scenario)
-			.content("삭제할 미션")
-			.missionType(MissionType.TODAY)
+			.missions(new java.util.ArrayList<>())
 			.build();
+		Mission first = Mission.builder().id(1L).missionType(MissionType.BASIC).missionOrder("9").build();
+		Mission second = Mission.builder().id(2L).missionType(MissionType.BASIC).missionOrder("i").build();
+		Mission third = Mission.builder().id(3L).missionType(MissionType.BASIC).missionOrder("r").build();
 
-		when(missionRepository.findByIdAndScenarioMemberId(missionId, memberId)).thenReturn(
-			java.util.Optional.of(mission));
+		when(missionTypeGrouper.groupAndSortByType(oldScenario.getMissions(), MissionType.BASIC))
+			.thenReturn(List.of(first, second, third));
 
 		// when
-		missionService.deleteTodayMission(memberId, missionId);
+		missionService.updateBasicMission(oldScenario, List.of(
+			BasicMissionRequest.builder().missionId(3L).content("셋째").build(),
+			BasicMissionRequest.builder().missionId(1L).content("첫째").build(),
+			BasicMissionRequest.builder().missionId(2L).content("둘째").build()));
 
 		// then
-		verify(missionRepository).findByIdAndScenarioMemberId(missionId, memberId);
-		verify(missionRepository).delete(mission);
+		assertThat(first.getMissionOrder()).isEqualTo("9");
+		assertThat(second.getMissionOrder()).isEqualTo("i");
+		assertThat(third.getMissionOrder()).isLessThan("9");
 	}
 
-	@Test
-	void Given_NonExistentMissionId_When_DeleteTodayMission_Then_ThrowNotFoundException() {
-		// given
-		Long memberId = 1L;
-		Long missionId = 999L;
-
-		when(missionRepository.findByIdAndScenarioMemberId(missionId, memberId)).thenReturn(java.util.Optional.empty());
-
-		// when & then
-		assertThatThrownBy(() -> missionService.deleteTodayMission(memberId, missionId))
-			.isInstanceOf(ServerException.class)
-			.hasFieldOrPropertyWithValue("errorResult", ScenarioErrorResult.NOT_FOUND_MISSION);
-		verify(missionRepository).findByIdAndScenarioMemberId(missionId, memberId);
-		verify(missionRepository, org.mockito.Mockito.never()).delete(any());
-	}
 
 	@Test
-	void Given_UnauthorizedMember_When_DeleteTodayMission_Then_ThrowUnauthorizedException() {
+	void Given_ScenarioAndBasicMissionList_When_AddBasicMission_Then_AssignAscendingOrders() {
 		// given
-		Long authorizedMemberId = 1L;
-		Long unauthorizedMemberId = 2L;
-		Long missionId = 1L;
-
-		Member authorizedMember = Member.builder()
-			.id(authorizedMemberId)
-			.build();
-
-		Scenario scenario = Scenario.builder()
-			.id(1L)
-			.member(authorizedMember)
-			.build();
+		Scenario scenario = Scenario.builder().id(1L).build();
+		when(missionRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
 
-		Mission mission = Mission.builder()
-			.id(missionId)
-			.scenario(scenario)
-			.content("삭제할 미션")
-			.missionType(MissionType.TODAY)
-			.build();
-
-		when(missionRepository.findByIdAndScenarioMemberId(missionId, unauthorizedMemberId))
-			.thenReturn(java.util.Optional.empty());
+		// when
+		List<Mission> result = missionService.addBasicMission(scenario, List.of(
+			BasicMissionRequest.builder().content("첫째").build(),
+			BasicMissionRequest.builder().content("둘째").build(),
+			BasicMissionRequest.builder().content("셋째").build()));
 
-		// when & then
-		assertThatThrownBy(() -> missionService.deleteTodayMission(unauthorizedMemberId, missionId))
-			.isInstanceOf(ServerException.class)
-			.hasFieldOrPropertyWithValue("errorResult", ScenarioErrorResult.NOT_FOUND_MISSION);
-		verify(missionRepository).findByIdAndScenarioMemberId(missionId, unauthorizedMemberId);
-		verify(missionRepository, org.mockito.Mockito.never()).delete(any());
+		// then
+		assertThat(result).hasSize(3).extracting(Mission::getMissionOrder).isSorted().doesNotHaveDuplicates();
 	}
 
 	@Test
-	void Given_ValidMissionIdAndAuthorizedMember_When_UpdateMissionCheck_Then_UpdateMissionCheckStatus() {
+	void Given_ValidMissionIdAndAuthorizedMember_When_DeleteTodayMission_Then_DeleteMission() {
 		// given
 		Long memberId = 1L;
 		Long missionId = 1L;
-		Boolean isChecked = true;
-		LocalDate date = LocalDate.of(2024, 1, 15);
 
 		Member member = Member.builder()
 			.id(memberId)
@@ -436,8 +415,7 @@ class MissionServiceTest {
 		Mission mission = Mission.builder()
 			.id(missionId)
 			.scenario(scenario)
-			.content("체크할 미션")
-			.isChecked(false)
+			.content("삭제할 미션")
 			.missionType(MissionType.TODAY)
 			.build();
 
@@ -445,38 +423,36 @@ class MissionServiceTest {
 			java.util.Optional.of(mission));
 
 		// when
-		missionService.updateMissionCheck(memberId, missionId, isChecked, date);
+		missionService.deleteTodayMission(memberId, missionId);
 
 		// then
 		verify(missionRepository).findByIdAndScenarioMemberId(missionId, memberId);
-		assertThat(mission.getIsChecked()).isEqualTo(isChecked);
+		verify(missionRepository).delete(mission);
+		verify(scenarioEventPublisher).publishMissionCacheEvictEvent(memberId);
 	}
 
 	@Test
-	void Given_NonExistentMissionId_When_UpdateMissionCheck_Then_ThrowNotFoundException() {
+	void Given_NonExistentMissionId_When_DeleteTodayMission_Then_ThrowNotFoundException() {
 		// given
 		Long memberId = 1L;
 		Long missionId = 999L;
-		Boolean isChecked = true;
-		LocalDate date = LocalDate.of(2024, 1, 15);
 
 		when(missionRepository.findByIdAndScenarioMemberId(missionId, memberId)).thenReturn(java.util.Optional.empty());
 
 		// when & then
-		assertThatThrownBy(() -> missionService.updateMissionCheck(memberId, missionId, isChecked, date))
+		assertThatThrownBy(() -> missionService.deleteTodayMission(memberId, missionId))
 			.isInstanceOf(ServerException.class)
 			.hasFieldOrPropertyWithValue("errorResult", ScenarioErrorResult.NOT_FOUND_MISSION);
 		verify(missionRepository).findByIdAndScenarioMemberId(missionId, memberId);
+		verify(missionRepository, org.mockito.Mockito.never()).delete(any());
 	}
 
 	@Test
-	void Given_UnauthorizedMember_When_UpdateMissionCheck_Then_ThrowUnauthorizedException() {
+	void Given_UnauthorizedMember_When_DeleteTodayMission_Then_ThrowUnauthorizedException() {
 		// given
 		Long authorizedMemberId = 1L;
 		Long unauthorizedMemberId = 2L;
 		Long missionId = 1L;
-		Boolean isChecked = true;
-		LocalDate date = LocalDate.of(2024, 1, 15);
 
 		Member authorizedMember = Member.builder()
 			.id(authorizedMemberId)
@@ -490,8 +466,7 @@ class MissionServiceTest {
 		Mission mission = Mission.builder()
 			.id(missionId)
 			.scenario(scenario)
-			.content("체크할 미션")
-			.isChecked(false)
+			.content("삭제할 미션")
 			.missionType(MissionType.TODAY)
 			.build();
 
@@ -499,46 +474,37 @@ class MissionServiceTest {
 			.thenReturn(java.util.Optional.empty());
 
 		// when & then
-		assertThatThrownBy(() -> missionService.updateMissionCheck(unauthorizedMemberId, missionId, isChecked, date))
+		assertThatThrownBy(() -> missionService.deleteTodayMission(unauthorizedMemberId, missionId))
 			.isInstanceOf(ServerException.class)
 			.hasFieldOrPropertyWithValue("errorResult", ScenarioErrorResult.NOT_FOUND_MISSION);
 		verify(missionRepository).findByIdAndScenarioMemberId(missionId, unauthorizedMemberId);
+		verify(missionRepository, org.mockito.Mockito.never()).delete(any());
 	}
 
-
 	@Test
-	void Given_ValidMissionIdAndUncheck_When_UpdateMissionCheck_Then_UpdateMissionToUnchecked() {
+	void Given_BufferedCheck_When_FindMissionsByScenarioIdForToday_Then_OverrideCheckStatus() {
 		// given
 		Long memberId = 1L;
-		Long missionId = 1L;
-		Boolean isChecked = false;
-		LocalDate date = LocalDate.of(2024, 1, 15);
-
-		Member member = Member.builder()
-			.id(memberId)
-			.build();
-
-		Scenario scenario = Scenario.builder()
-			.id(1L)
-			.member(member)
-			.build();
-
+		Long scenarioId = 1L;
+		LocalDate today = LocalDate.of(2024, 1, 15);
 		Mission mission = Mission.builder()
-			.id(missionId)
-			.scenario(scenario)
+			.id(3L)
 			.content("미션")
-			.isChecked(true)
+			.isChecked(false)
+			.missionType(MissionType.BASIC)
 			.build();
+		List<Mission> missions = List.of(mission);
 
-		when(missionRepository.findByIdAndScenarioMemberId(missionId, memberId))
-			.thenReturn(Optional.of(mission));
+		when(missionCheckBuffer.findChecks(memberId, today)).thenReturn(Map.of(3L, true));
+		when(missionRepository.findTodayAndFutureMissions(memberId, scenarioId, today)).thenReturn(missions);
+		when(missionTypeGrouper.groupAndSortByType(missions, MissionType.BASIC)).thenReturn(missions);
+		when(missionTypeGrouper.groupAndSortByType(missions, MissionType.TODAY)).thenReturn(List.of());
 
 		// when
-		missionService.updateMissionCheck(memberId, missionId, isChecked, date);
+		MissionGroupResponse result = missionService.findMissionsByScenarioId(memberId, scenarioId, today);
 
 		// then
-		assertThat(mission.getIsChecked()).isFalse();
-		verify(missionRepository).findByIdAndScenarioMemberId(missionId, memberId);
+		assertThat(result.basicMissions()).extracting(MissionResponse::isChecked).containsExactly(true);
 	}
 
 
@@ -585,22 +551,15 @@ class MissionServiceTest {
 		Long scenarioId = 1L;
 		LocalDate pastDate = LocalDate.of(2024, 1, 14);
 
-		Mission mission = Mission.builder()
+		MissionHistory missionHistory = MissionHistory.builder()
 			.id(1L)
 			.content("과거 미션")
 			.missionType(MissionType.TODAY)
 			.useDate(pastDate)
 			.build();
 
-		List<Mission> missionList = List.of(mission);
-		List<Mission> groupedBasicMissions = List.of();
-		List<Mission> groupedTodayMissions = List.of(mission);
-
-		when(missionRepository.findPastMissionsByDate(memberId, scenarioId, pastDate)).thenReturn(missionList);
-		when(missionTypeGrouper.groupAndSortByType(missionList, MissionType.BASIC))
-			.thenReturn(groupedBasicMissions);
-		when(missionTypeGrouper.groupAndSortByType(missionList, MissionType.TODAY))
-			.thenReturn(groupedTodayMissions);
+		when(missionHistoryRepository.findHistories(memberId, scenarioId, pastDate))
+			.thenReturn(List.of(missionHistory));
 
 		// when
 		MissionGroupResponse result = missionService.findMissionsByScenarioId(memberId, scenarioId, pastDate);
@@ -610,7 +569,7 @@ class MissionServiceTest {
 			.isNotNull()
 			.satisfies(r -> assertThat(r.basicMissions()).isEmpty())
 			.satisfies(r -> assertThat(r.todayMissions()).isNotEmpty());
-		verify(missionRepository).findPastMissionsByDate(memberId, scenarioId, pastDate);
+		verify(missionHistoryRepository).findHistories(memberId, scenarioId, pastDate);
 	}
 
 
@@ -717,6 +676,7 @@ class MissionServiceTest {
 
 		// then
 		verify(missionRepository).deleteByScenarioId(scenarioId);
+		verify(missionHistoryRepository).deleteByScenarioId(scenarioId);
 	}
 
 
@@ -847,136 +807,6 @@ class MissionServiceTest {
 		verify(missionRepository).saveAll(anyList());
 	}
 
-	@Test
-	void Given_BasicMissionAndFutureDate_When_UpdateMissionCheck_Then_UpdateFutureBasicMission() {
-		// given
-		Long memberId = 1L;
-		Long missionId = 1L;
-		Boolean isChecked = true;
-		LocalDate futureDate = LocalDate.of(2024, 1, 16);
-
-		Member member = Member.builder()
-			.id(memberId)
-			.build();
-
-		Scenario scenario = Scenario.builder()
-			.id(1L)
-			.member(member)
-			.build();
-
-		Mission mission = Mission.builder()
-			.id(missionId)
-			.scenario(scenario)
-			.content("기본 미션")
-			.isChecked(false)
-			.missionType(MissionType.BASIC)
-			.build();
-
-		when(missionRepository.findByIdAndScenarioMemberId(missionId, memberId)).thenReturn(Optional.of(mission));
-		when(missionRepository.findByParentMissionIdAndUseDate(missionId, futureDate))
-			.thenReturn(Optional.empty());
-
-		// when
-		missionService.updateMissionCheck(memberId, missionId, isChecked, futureDate);
-
-		// then
-		verify(missionRepository).findByIdAndScenarioMemberId(missionId, memberId);
-		verify(missionRepository).findByParentMissionIdAndUseDate(missionId, futureDate);
-		verify(missionRepository).save(any(Mission.class));
-	}
-
-	@Test
-	void Given_BasicMissionAndFutureDateWithExistingChild_When_UpdateMissionCheckToTrue_Then_UpdateChildMission() {
-		// given
-		Long memberId = 1L;
-		Long missionId = 1L;
-		Boolean isChecked = true;
-		LocalDate futureDate = LocalDate.of(2024, 1, 16);
-
-		Member member = Member.builder()
-			.id(memberId)
-			.build();
-
-		Scenario scenario = Scenario.builder()
-			.id(1L)
-			.member(member)
-			.build();
-
-		Mission mission = Mission.builder()
-			.id(missionId)
-			.scenario(scenario)
-			.content("기본 미션")
-			.isChecked(false)
-			.missionType(MissionType.BASIC)
-			.build();
-
-		Mission childMission = Mission.builder()
-			.id(2L)
-			.parentMissionId(missionId)
-			.useDate(futureDate)
-			.isChecked(false)
-			.missionType(MissionType.BASIC)
-			.build();
-
-		when(missionRepository.findByIdAndScenarioMemberId(missionId, memberId)).thenReturn(Optional.of(mission));
-		when(missionRepository.findByParentMissionIdAndUseDate(missionId, futureDate))
-			.thenReturn(Optional.of(childMission));
-
-		// when
-		missionService.updateMissionCheck(memberId, missionId, isChecked, futureDate);
-
-		// then
-		verify(missionRepository).findByIdAndScenarioMemberId(missionId, memberId);
-		verify(missionRepository).findByParentMissionIdAndUseDate(missionId, futureDate);
-		assertThat(childMission.getIsChecked()).isTrue();
-	}
-
-	@Test
-	void Given_BasicMissionAndFutureDateWithExistingChild_When_UpdateMissionCheckToFalse_Then_DeleteChildMission() {
-		// given
-		Long memberId = 1L;
-		Long missionId = 1L;
-		Boolean isChecked = false;
-		LocalDate futureDate = LocalDate.of(2024, 1, 16);
-
-		Member member = Member.builder()
-			.id(memberId)
-			.build();
-
-		Scenario scenario = Scenario.builder()
-			.id(1L)
-			.member(member)
-			.build();
-
-		Mission mission = Mission.builder()
-			.id(missionId)
-			.scenario(scenario)
-			.content("기본 미션")
-			.isChecked(false)
-			.missionType(MissionType.BASIC)
-			.build();
-
-		Mission childMission = Mission.builder()
-			.id(2L)
-			.parentMissionId(missionId)
-			.useDate(futureDate)
-			.isChecked(true)
-			.missionType(MissionType.BASIC)
-			.build();
-
-		when(missionRepository.findByIdAndScenarioMemberId(missionId, memberId)).thenReturn(Optional.of(mission));
-		when(missionRepository.findByParentMissionIdAndUseDate(missionId, futureDate))
-			.thenReturn(Optional.of(childMission));
-
-		// when
-		missionService.updateMissionCheck(memberId, missionId, isChecked, futureDate);
-
-		// then
-		verify(missionRepository).findByIdAndScenarioMemberId(missionId, memberId);
-		verify(missionRepository).findByParentMissionIdAndUseDate(missionId, futureDate);
-		verify(missionRepository).delete(childMission);
-	}
-
 	@Test
 	void Given_PastDate_When_FindMissionsByScenarioId_Then_UsePastMissions() {
 		// given
@@ -984,23 +814,15 @@ class MissionServiceTest {
 		Long scenarioId = 1L;
 		LocalDate pastDate = LocalDate.of(2024, 1, 10);
 
-		Mission pastMission = Mission.builder()
+		MissionHistory pastMission = MissionHistory.builder()
 			.id(1L)
 			.content("과거 미션")
 			.missionType(MissionType.BASIC)
 			.useDate(pastDate)
 			.build();
 
-		List<Mission> missionList = List.of(pastMission);
-		List<Mission> groupedBasicMissions = List.of(pastMission);
-		List<Mission> groupedTodayMissions = List.of();
-
-		when(missionRepository.findPastMissionsByDate(memberId, scenarioId, pastDate))
-			.thenReturn(missionList);
-		when(missionTypeGrouper.groupAndSortByType(missionList, MissionType.BASIC))
-			.thenReturn(groupedBasicMissions);
-		when(missionTypeGrouper.groupAndSortByType(missionList, MissionType.TODAY))
-			.thenReturn(groupedTodayMissions);
+		when(missionHistoryRepository.findHistories(memberId, scenarioId, pastDate))
+			.thenReturn(List.of(pastMission));
 
 		// when
 		MissionGroupResponse result = missionService.findMissionsByScenarioId(memberId, scenarioId, pastDate);
@@ -1009,7 +831,7 @@ class MissionServiceTest {
 		assertThat(result)
 			.isNotNull()
 			.satisfies(r -> assertThat(r.basicMissions()).hasSize(1));
-		verify(missionRepository).findPastMissionsByDate(memberId, scenarioId, pastDate);
+		verify(missionHistoryRepository).findHistories(memberId, scenarioId, pastDate);
 	}
 
 	@Test
@@ -1119,15 +941,15 @@ class MissionServiceTest {
 		Mission mission = Mission.builder()
 			.id(1L)
 			.content("테스트 미션")
-			.missionOrder(1)
+			.missionOrder("1")
 			.missionType(MissionType.BASIC)
 			.build();
 
 		// when
-		mission.updateMissionOrder(5);
+		mission.updateMissionOrder("5");
 
 		// then
-		assertThat(mission.getMissionOrder()).isEqualTo(5);
+		assertThat(mission.getMissionOrder()).isEqualTo("5");
 	}
 
 	@Test
@@ -1349,4 +1171,20 @@ class MissionServiceTest {
 			.satisfies(r -> assertThat(r.todayMissions().get(0).missionId()).isEqualTo(todayMission.getId()));
 	}
 
+
+	@Test
+	void Given_ArchivedTodayMission_When_DeleteTodayMission_Then_DeleteHistory() {
+		// given
+		MissionHistory missionHistory = MissionHistory.builder().id(1L).build();
+		when(missionRepository.findByIdAndScenarioMemberId(1L, 1L)).thenReturn(Optional.empty());
+		when(missionHistoryRepository.findByIdAndScenarioMemberId(1L, 1L)).thenReturn(Optional.of(missionHistory));
+
+		// when
+		missionService.deleteTodayMission(1L, 1L);
+
+		// then
+		verify(missionHistoryRepository).delete(missionHistory);
+		verify(missionRepository, never()).delete(any());
+	}
+
 }
@@ -0,0 +1,182 @@
+package com.und.server.scenario.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import com.und.server.notification.constants.NotificationType;
+import com.und.server.scenario.constants.MissionType;
+import com.und.server.scenario.dto.response.MissionResponse;
+import com.und.server.scenario.dto.response.ScenarioHomeResponse;
+import com.und.server.scenario.entity.Mission;
+import com.und.server.scenario.entity.Scenario;
+import com.und.server.scenario.repository.MissionRepository;
+import com.und.server.scenario.repository.ScenarioRepository;
+import com.und.server.scenario.util.MissionCheckBuffer;
+import com.und.server.scenario.util.MissionTypeGroupSorter;
+import com.und.server.scenario.util.ScenarioCache;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ScenarioHomeServiceTest {
+
+	private static final Long MEMBER_ID = 1L;
+	private static final LocalDate TODAY = LocalDate.of(2024, 1, 15);
+
+	@Mock
+	private ScenarioRepository scenarioRepository;
+
+	@Mock
+	private MissionRepository missionRepository;
+
+	@Mock
+	private MissionRolloverService missionRolloverService;
+
+	@Spy
+	private MissionTypeGroupSorter missionTypeGroupSorter;
+
+	@Mock
+	private MissionCheckBuffer missionCheckBuffer;
+
+	@Mock
+	private ScenarioCache scenarioCache;
+
+	@Mock
+	private Clock clock;
+
+	@InjectMocks
+	private ScenarioHomeService scenarioHomeService;
+
+
+	@BeforeEach
+	void setUp() {
+		when(clock.withZone(ZoneId.of("Asia/Seoul"))).thenReturn(Clock.fixed(
+			TODAY.atStartOfDay(ZoneId.of("Asia/Seoul")).toInstant(),
+			ZoneId.of("Asia/Seoul")
+		));
+		when(scenarioCache.findHomeVersion(MEMBER_ID)).thenReturn(Optional.of(3L));
+		when(scenarioCache.findHome(MEMBER_ID, 3L, NotificationType.TIME, TODAY)).thenReturn(Optional.empty());
+	}
+
+
+	@Test
+	void Given_CachedHome_When_FindHomeScenarios_Then_ReturnCachedWithoutDatabase() {
+		// given
+		List<ScenarioHomeResponse> cached = List.of(ScenarioHomeResponse.builder().scenarioId(1L).build());
+		when(scenarioCache.findHome(MEMBER_ID, 3L, NotificationType.TIME, TODAY)).thenReturn(Optional.of(cached));
+
+		// when
+		List<ScenarioHomeResponse> result = scenarioHomeService.findHomeScenarios(MEMBER_ID, NotificationType.TIME);
+
+		// then
+		assertThat(result).isEqualTo(cached);
+		verifyNoInteractions(scenarioRepository, missionRepository, missionRolloverService);
+	}
+
+
+	@Test
+	void Given_Scenarios_When_FindHomeScenarios_Then_LoadMissionsOnceAndGroupPerScenario() {
+		// given
+		Scenario rolled = createScenario(1L, "i", TODAY);
+		Scenario stale = createScenario(2L, "r", TODAY.minusDays(1));
+		Mission second = createMission(11L, rolled, MissionType.BASIC, "r");
+		Mission first = createMission(12L, rolled, MissionType.BASIC, "i");
+		Mission today = createMission(13L, stale, MissionType.TODAY, null);
+		when(scenarioRepository.findByMemberIdAndNotificationType(MEMBER_ID, NotificationType.TIME))
+			.thenReturn(List.of(rolled, stale));
+		when(missionCheckBuffer.findChecks(MEMBER_ID, TODAY)).thenReturn(Map.of(12L, true));
+		when(missionRepository.findTodayAndFutureMissionsByScenarioIdIn(List.of(1L, 2L), TODAY))
+			.thenReturn(List.of(second, first, today));
+
+		// when
+		List<ScenarioHomeResponse> result = scenarioHomeService.findHomeScenarios(MEMBER_ID, NotificationType.TIME);
+
+		// then
+		assertThat(result).extracting(ScenarioHomeResponse::scenarioId).containsExactly(1L, 2L);
+		assertThat(result.get(0).basicMissions()).extracting(MissionResponse::missionId).containsExactly(12L, 11L);
+		assertThat(result.get(0).basicMissions().get(0).isChecked()).isTrue();
+		assertThat(result.get(0).todayMissions()).isEmpty();
+		assertThat(result.get(1).basicMissions()).isEmpty();
+		assertThat(result.get(1).todayMissions()).extracting(MissionResponse::missionId).containsExactly(13L);
+		verify(missionRolloverService).rolloverIfStale(MEMBER_ID, 2L);
+		verify(missionRolloverService, never()).rolloverIfStale(MEMBER_ID, 1L);
+		verify(scenarioCache).saveHome(MEMBER_ID, 3L, NotificationType.TIME, TODAY, result);
+	}
+
+
+	@Test
+	void Given_NoScenarios_When_FindHomeScenarios_Then_SkipMissionQuery() {
+		// given
+		when(scenarioRepository.findByMemberIdAndNotificationType(MEMBER_ID, NotificationType.TIME))
+			.thenReturn(List.of());
+
+		// when
+		List<ScenarioHomeResponse> result = scenarioHomeService.findHomeScenarios(MEMBER_ID, NotificationType.TIME);
+
+		// then
+		assertThat(result).isEmpty();
+		verify(missionRepository, never()).findTodayAndFutureMissionsByScenarioIdIn(any(), any());
+	}
+
+
+	@Test
+	void Given_CacheUnavailable_When_FindHomeScenarios_Then_ReadDatabaseWithoutSaving() {
+		// given
+		when(scenarioCache.findHomeVersion(MEMBER_ID)).thenReturn(Optional.empty());
+		when(scenarioRepository.findByMemberIdAndNotificationType(MEMBER_ID, NotificationType.TIME))
+			.thenReturn(List.of(createScenario(1L, "i", TODAY)));
+		when(missionRepository.findTodayAndFutureMissionsByScenarioIdIn(List.of(1L), TODAY)).thenReturn(List.of());
+
+		// when
+		List<ScenarioHomeResponse> result = scenarioHomeService.findHomeScenarios(MEMBER_ID, NotificationType.TIME);
+
+		// then
+		assertThat(result).hasSize(1);
+		verify(scenarioCache, never()).findHome(anyLong(), anyLong(), any(), any());
+		verify(scenarioCache, never()).saveHome(anyLong(), anyLong(), any(), any(), any());
+	}
+
+	private Scenario createScenario(final Long scenarioId, final String order, final LocalDate lastRolledDate) {
+		return Scenario.builder()
+			.id(scenarioId)
+			.scenarioName("루틴" + scenarioId)
+			.scenarioOrder(order)
+			.lastRolledDate(lastRolledDate)
+			.build();
+	}
+
+	private Mission createMission(
+		final Long missionId, final Scenario scenario, final MissionType missionType, final String order
+	) {
+		return Mission.builder()
+			.id(missionId)
+			.scenario(scenario)
+			.content("미션" + missionId)
+			.isChecked(false)
+			.missionOrder(order)
+			.missionType(missionType)
+			.build();
+	}
+
+}
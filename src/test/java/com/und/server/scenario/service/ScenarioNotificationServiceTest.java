@@ -206,4 +206,27 @@ class ScenarioNotificationServiceTest {
 		assertThat(result.get(1).notificationMethodType()).isEqualTo(NotificationMethodType.ALARM);
 	}
 
+
+	@Test
+	void Given_TimeAndLocationNotifications_When_GetScenarioNotifications_Then_ReturnBothTypes() {
+		// given
+		ScenarioNotificationResponse timeResponse = ScenarioNotificationResponse.builder()
+			.scenarioId(1L)
+			.notificationType(NotificationType.TIME)
+			.build();
+		ScenarioNotificationResponse locationResponse = ScenarioNotificationResponse.builder()
+			.scenarioId(2L)
+			.notificationType(NotificationType.LOCATION)
+			.build();
+
+		given(scenarioRepository.findTimeScenarioNotifications(memberId)).willReturn(List.of(timeResponse));
+		given(scenarioRepository.findLocationScenarioNotifications(memberId)).willReturn(List.of(locationResponse));
+
+		// when
+		List<ScenarioNotificationResponse> result = scenarioNotificationService.getScenarioNotifications(memberId);
+
+		// then
+		assertThat(result).containsExactly(timeResponse, locationResponse);
+	}
+
 }
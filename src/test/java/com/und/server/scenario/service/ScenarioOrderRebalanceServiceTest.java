@@ -0,0 +1,80 @@
+package com.und.server.scenario.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.und.server.notification.constants.NotificationType;
+import com.und.server.scenario.entity.Scenario;
+import com.und.server.scenario.event.ScenarioEventPublisher;
+import com.und.server.scenario.repository.ScenarioRepository;
+import com.und.server.scenario.util.OrderCalculator;
+
+@ExtendWith(MockitoExtension.class)
+class ScenarioOrderRebalanceServiceTest {
+
+	@Mock
+	private ScenarioRepository scenarioRepository;
+
+	@Spy
+	private OrderCalculator orderCalculator;
+
+	@Mock
+	private ScenarioEventPublisher scenarioEventPublisher;
+
+	@InjectMocks
+	private ScenarioOrderRebalanceService scenarioOrderRebalanceService;
+
+
+	@Test
+	void Given_GroupWithLongOrder_When_Rebalance_Then_RespaceOnlyThatGroup() {
+		// given
+		String longOrder = "i".repeat(OrderCalculator.REBALANCE_ORDER_LENGTH) + "1";
+		Scenario first = Scenario.builder().id(1L).scenarioOrder("i").build();
+		Scenario second = Scenario.builder().id(2L).scenarioOrder(longOrder).build();
+		Scenario third = Scenario.builder().id(3L).scenarioOrder("r").build();
+		Scenario location = Scenario.builder().id(4L).scenarioOrder("i0001").build();
+		when(scenarioRepository.findWithLockByMemberIdAndNotificationType(1L, NotificationType.TIME))
+			.thenReturn(List.of(first, second, third));
+		when(scenarioRepository.findWithLockByMemberIdAndNotificationType(1L, NotificationType.LOCATION))
+			.thenReturn(List.of(location));
+
+		// when
+		int result = scenarioOrderRebalanceService.rebalance(1L);
+
+		// then
+		assertThat(result).isEqualTo(3);
+		assertThat(List.of(first.getScenarioOrder(), second.getScenarioOrder(), third.getScenarioOrder()))
+			.isEqualTo(orderCalculator.getOrders(3));
+		assertThat(location.getScenarioOrder()).isEqualTo("i0001");
+		verify(scenarioEventPublisher).publishCacheEvictEvent(1L);
+	}
+
+
+	@Test
+	void Given_ShortOrders_When_Rebalance_Then_KeepOrders() {
+		// given
+		Scenario scenario = Scenario.builder().id(1L).scenarioOrder("9").build();
+		when(scenarioRepository.findWithLockByMemberIdAndNotificationType(1L, NotificationType.TIME))
+			.thenReturn(List.of(scenario));
+
+		// when
+		int result = scenarioOrderRebalanceService.rebalance(1L);
+
+		// then
+		assertThat(result).isZero();
+		assertThat(scenario.getScenarioOrder()).isEqualTo("9");
+		verify(scenarioEventPublisher, never()).publishCacheEvictEvent(1L);
+	}
+
+}
@@ -4,12 +4,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyInt;
-import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -42,6 +40,7 @@ import com.und.server.notification.entity.Notification;
 import com.und.server.notification.event.NotificationEventPublisher;
 import com.und.server.notification.service.NotificationService;
 import com.und.server.scenario.constants.MissionType;
+import com.und.server.scenario.dto.VersionedScenarios;
 import com.und.server.scenario.dto.request.BasicMissionRequest;
 import com.und.server.scenario.dto.request.ScenarioDetailRequest;
 import com.und.server.scenario.dto.request.ScenarioOrderUpdateRequest;
@@ -51,11 +50,12 @@ import com.und.server.scenario.dto.response.ScenarioDetailResponse;
 import com.und.server.scenario.dto.response.ScenarioResponse;
 import com.und.server.scenario.entity.Mission;
 import com.und.server.scenario.entity.Scenario;
-import com.und.server.scenario.exception.ReorderRequiredException;
+import com.und.server.scenario.event.ScenarioEventPublisher;
 import com.und.server.scenario.exception.ScenarioErrorResult;
 import com.und.server.scenario.repository.ScenarioRepository;
 import com.und.server.scenario.util.MissionTypeGroupSorter;
 import com.und.server.scenario.util.OrderCalculator;
+import com.und.server.scenario.util.ScenarioCache;
 
 import jakarta.persistence.EntityManager;
 
@@ -69,6 +69,9 @@ class ScenarioServiceTest {
 	@Mock
 	private MissionService missionService;
 
+	@Mock
+	private MissionRolloverService missionRolloverService;
+
 	@Mock
 	private NotificationService notificationService;
 
@@ -90,6 +93,12 @@ class ScenarioServiceTest {
 	@Mock
 	private NotificationEventPublisher notificationEventPublisher;
 
+	@Mock
+	private ScenarioEventPublisher scenarioEventPublisher;
+
+	@Mock
+	private ScenarioCache scenarioCache;
+
 	@Mock
 	private Clock clock;
 
@@ -127,7 +136,7 @@ class ScenarioServiceTest {
 			.member(member)
 			.scenarioName("시나리오A")
 			.memo("메모A")
-			.scenarioOrder(1)
+			.scenarioOrder("1")
 			.notification(notification1)
 			.build();
 		final Scenario scenarioB = Scenario.builder()
@@ -135,7 +144,7 @@ class ScenarioServiceTest {
 			.member(member)
 			.scenarioName("시나리오B")
 			.memo("메모B")
-			.scenarioOrder(2)
+			.scenarioOrder("2")
 			.notification(notification2)
 			.build();
 
@@ -178,7 +187,7 @@ class ScenarioServiceTest {
 			.member(member)
 			.scenarioName("아침 루틴")
 			.memo("메모")
-			.scenarioOrder(1)
+			.scenarioOrder("1")
 			.notification(notification)
 			.missions(List.of())
 			.build();
@@ -297,7 +306,7 @@ class ScenarioServiceTest {
 	void Given_ValidRequest_When_AddScenario_Then_SaveScenarioAndAddMissions() {
 		//given
 		Long memberId = 1L;
-		int calculatedOrder = 100000;
+		String calculatedOrder = "i";
 
 		Member member = Member.builder().id(memberId).build();
 		given(em.getReference(Member.class, memberId)).willReturn(member);
@@ -343,6 +352,7 @@ class ScenarioServiceTest {
 
 		given(scenarioRepository.findOrdersByMemberIdAndNotificationType(memberId, NotificationType.TIME))
 			.willReturn(List.of());
+		given(orderCalculator.getOrder(null, null)).willReturn(calculatedOrder);
 
 		ArgumentCaptor<Scenario> scenarioCaptor = ArgumentCaptor.forClass(Scenario.class);
 
@@ -393,7 +403,8 @@ class ScenarioServiceTest {
 			.satisfies(s -> assertThat(s.getMemo()).isEqualTo("Routine"))
 			.satisfies(s -> assertThat(s.getScenarioOrder()).isEqualTo(calculatedOrder))
 			.satisfies(s -> assertThat(s.getNotification()).isEqualTo(savedNotification))
-			.satisfies(s -> assertThat(s.getMember().getId()).isEqualTo(member.getId()));
+			.satisfies(s -> assertThat(s.getMember().getId()).isEqualTo(member.getId()))
+			.satisfies(s -> assertThat(s.getLastRolledDate()).isEqualTo(LocalDate.of(2024, 1, 15)));
 
 		assertThat(result)
 			.isNotNull()
@@ -405,10 +416,10 @@ class ScenarioServiceTest {
 
 
 	@Test
-	void Given_ReorderRequired_When_AddScenario_Then_ReorderAndRetry() {
+	void Given_ExistingScenarios_When_AddScenario_Then_PlaceBeforeFirstOrder() {
 		// given
 		Long memberId = 1L;
-		int reorderedOrder = 5000;
+		String firstOrder = "9";
 
 		Member member = Member.builder().id(memberId).build();
 		given(em.getReference(Member.class, memberId)).willReturn(member);
@@ -444,16 +455,8 @@ class ScenarioServiceTest {
 		given(notificationService.addNotification(notifRequest, condition))
 			.willReturn(savedNotification);
 		given(scenarioRepository.findOrdersByMemberIdAndNotificationType(memberId, NotificationType.TIME))
-			.willReturn(List.of(10_000_000));
-		given(orderCalculator.getOrder(anyInt(), isNull()))
-			.willThrow(new ReorderRequiredException(10_000_000))
-			.willReturn(reorderedOrder);
-
-		Scenario s1 = Scenario.builder().id(1L).scenarioOrder(10_000_000).build();
-		given(scenarioRepository.findByMemberIdAndNotificationType(memberId, NotificationType.TIME))
-			.willReturn(List.of(s1));
-		given(orderCalculator.getMinOrderAfterReorder(List.of(s1)))
-			.willReturn(reorderedOrder);
+			.willReturn(List.of("r", "i"));
+		given(orderCalculator.getOrder(null, "i")).willReturn(firstOrder);
 
 		ArgumentCaptor<Scenario> captor = ArgumentCaptor.forClass(Scenario.class);
 
@@ -465,7 +468,7 @@ class ScenarioServiceTest {
 			.id(1L)
 			.scenarioName("Morning")
 			.memo("Routine")
-			.scenarioOrder(reorderedOrder)
+			.scenarioOrder(firstOrder)
 			.notification(savedNotification)
 			.member(member)
 			.build();
@@ -480,6 +483,7 @@ class ScenarioServiceTest {
 		verify(notificationEventPublisher).publishCreateEvent(eq(memberId), any(Scenario.class));
 
 		Scenario saved = captor.getValue();
+		assertThat(saved.getScenarioOrder()).isEqualTo(firstOrder);
 		assertThat(result)
 			.isNotNull()
 			.hasSize(1)
@@ -590,6 +594,7 @@ class ScenarioServiceTest {
 			.satisfies(s -> assertThat(s.getNotification().getNotificationMethodType())
 				.isEqualTo(notifRequest.notificationMethodType()))
 			.satisfies(s -> assertThat(s.getNotification().isActive()).isTrue());
+		verify(missionRolloverService).rolloverIfStale(memberId, scenarioId);
 		verify(notificationService).updateNotification(oldNotification, notifRequest, condition);
 		verify(missionService).updateBasicMission(oldScenario, List.of());
 		verify(notificationEventPublisher).publishUpdateEvent(eq(memberId), eq(oldScenario), eq(true));
@@ -608,7 +613,7 @@ class ScenarioServiceTest {
 		// given
 		Long memberId = 1L;
 		Long scenarioId = 1L;
-		int newOrder = 1500;
+		String newOrder = "m";
 
 		Member member = Member.builder().id(memberId).build();
 		Notification notification = Notification.builder()
@@ -621,17 +626,17 @@ class ScenarioServiceTest {
 			.id(scenarioId)
 			.member(member)
 			.notification(notification)
-			.scenarioOrder(1000)
+			.scenarioOrder("i")
 			.build();
 
 		ScenarioOrderUpdateRequest orderRequest = ScenarioOrderUpdateRequest.builder()
-			.prevOrder(1000)
-			.nextOrder(2000)
+			.prevOrder("i")
+			.nextOrder("r")
 			.build();
 
-		Mockito.when(scenarioRepository.findByIdAndMemberId(scenarioId, memberId))
+		Mockito.when(scenarioRepository.findWithLockByIdAndMemberId(scenarioId, memberId))
 			.thenReturn(Optional.of(scenario));
-		Mockito.when(orderCalculator.getOrder(1000, 2000))
+		Mockito.when(orderCalculator.getOrder("i", "r"))
 			.thenReturn(newOrder);
 
 		// when
@@ -644,57 +649,38 @@ class ScenarioServiceTest {
 			.satisfies(r -> assertThat(r.orderUpdates()).hasSize(1))
 			.satisfies(r -> assertThat(r.orderUpdates().get(0).id()).isEqualTo(scenarioId))
 			.satisfies(r -> assertThat(r.orderUpdates().get(0).newOrder()).isEqualTo(newOrder));
-		verify(orderCalculator).getOrder(1000, 2000);
+		verify(orderCalculator).getOrder("i", "r");
+		verify(scenarioEventPublisher).publishCacheEvictEvent(memberId);
 	}
 
 
 	@Test
-	void Given_ReorderRequired_When_UpdateScenarioOrder_Then_ReorderScenarios() {
+	void Given_PrevOrderNotBeforeNext_When_UpdateScenarioOrder_Then_ThrowInvalidOrder() {
 		// given
 		Long memberId = 1L;
 		Long scenarioId = 1L;
-		int errorOrder = 1500;
-
-		Member member = Member.builder().id(memberId).build();
-		Notification notification = Notification.builder()
-			.id(1L)
-			.isActive(true)
-			.notificationType(NotificationType.TIME)
-			.build();
 
 		Scenario scenario = Scenario.builder()
 			.id(scenarioId)
-			.member(member)
-			.notification(notification)
-			.scenarioOrder(1000)
+			.scenarioOrder("i")
 			.build();
 
 		ScenarioOrderUpdateRequest orderRequest = ScenarioOrderUpdateRequest.builder()
-			.prevOrder(1000)
-			.nextOrder(1001) // 너무 가까워서 ReorderRequiredException 발생
+			.prevOrder("r")
+			.nextOrder("i")
 			.build();
 
-		Scenario scenario1 = Scenario.builder().id(1L).scenarioOrder(1000).build();
-		Scenario scenario2 = Scenario.builder().id(2L).scenarioOrder(2000).build();
-		List<Scenario> reorderedScenarios = List.of(scenario1, scenario2);
-
-		Mockito.when(scenarioRepository.findByIdAndMemberId(scenarioId, memberId))
+		Mockito.when(scenarioRepository.findWithLockByIdAndMemberId(scenarioId, memberId))
 			.thenReturn(Optional.of(scenario));
-		Mockito.when(orderCalculator.getOrder(1000, 1001))
-			.thenThrow(new ReorderRequiredException(errorOrder));
-		Mockito.when(scenarioRepository.findByMemberIdAndNotificationType(memberId, NotificationType.TIME))
-			.thenReturn(List.of(scenario1, scenario2));
-		Mockito.when(orderCalculator.reorder(anyList(), eq(scenarioId), eq(errorOrder)))
-			.thenReturn(reorderedScenarios);
-
-		// when
-		OrderUpdateResponse response = scenarioService.updateScenarioOrder(memberId, scenarioId, orderRequest);
+		Mockito.when(orderCalculator.getOrder("r", "i"))
+			.thenThrow(new ServerException(ScenarioErrorResult.INVALID_ORDER));
 
-		// then
-		assertThat(response)
-			.satisfies(r -> assertThat(r.isReorder()).isTrue())
-			.satisfies(r -> assertThat(r.orderUpdates()).hasSize(2));
-		verify(orderCalculator).reorder(anyList(), eq(scenarioId), eq(errorOrder));
+		// when & then
+		assertThatThrownBy(() -> scenarioService.updateScenarioOrder(memberId, scenarioId, orderRequest))
+			.isInstanceOf(ServerException.class)
+			.hasFieldOrPropertyWithValue("errorResult", ScenarioErrorResult.INVALID_ORDER);
+		assertThat(scenario.getScenarioOrder()).isEqualTo("i");
+		verify(scenarioRepository, never()).findByMemberIdAndNotificationType(any(), any());
 	}
 
 	@Test
@@ -801,11 +787,11 @@ class ScenarioServiceTest {
 		Long scenarioId = 99L;
 
 		ScenarioOrderUpdateRequest orderRequest = ScenarioOrderUpdateRequest.builder()
-			.prevOrder(1000)
-			.nextOrder(2000)
+			.prevOrder("1")
+			.nextOrder("2")
 			.build();
 
-		Mockito.when(scenarioRepository.findByIdAndMemberId(scenarioId, memberId))
+		Mockito.when(scenarioRepository.findWithLockByIdAndMemberId(scenarioId, memberId))
 			.thenReturn(Optional.empty());
 
 		// when & then
@@ -956,9 +942,9 @@ class ScenarioServiceTest {
 			.build();
 
 		// 20개의 시나리오가 이미 존재 (최대 개수)
-		List<Integer> orderList = new java.util.ArrayList<>();
+		List<String> orderList = new java.util.ArrayList<>();
 		for (int i = 0; i < 20; i++) {
-			orderList.add(1000 + i * 1000);
+			orderList.add(String.valueOf(i + 1));
 		}
 
 		given(scenarioRepository.findOrdersByMemberIdAndNotificationType(memberId, NotificationType.TIME))
@@ -992,9 +978,9 @@ class ScenarioServiceTest {
 			.build();
 
 		// 20개의 시나리오가 이미 존재 (최대 개수)
-		List<Integer> orderList = new java.util.ArrayList<>();
+		List<String> orderList = new java.util.ArrayList<>();
 		for (int i = 0; i < 20; i++) {
-			orderList.add(1000 + i * 1000);
+			orderList.add(String.valueOf(i + 1));
 		}
 
 		given(scenarioRepository.findOrdersByMemberIdAndNotificationType(memberId, NotificationType.TIME))
@@ -1030,7 +1016,7 @@ class ScenarioServiceTest {
 			.member(member)
 			.scenarioName("알림 없는 루틴")
 			.memo("메모")
-			.scenarioOrder(1)
+			.scenarioOrder("1")
 			.notification(notification)
 			.missions(List.of())
 			.build();
@@ -1094,6 +1080,7 @@ class ScenarioServiceTest {
 		// 빈 리스트 반환 - 첫 번째 시나리오
 		given(scenarioRepository.findOrdersByMemberIdAndNotificationType(memberId, NotificationType.TIME))
 			.willReturn(List.of());
+		given(orderCalculator.getOrder(null, null)).willReturn("i");
 
 		ArgumentCaptor<Scenario> scenarioCaptor = ArgumentCaptor.forClass(Scenario.class);
 
@@ -1105,7 +1092,7 @@ class ScenarioServiceTest {
 		verify(notificationEventPublisher).publishCreateEvent(eq(memberId), any(Scenario.class));
 
 		Scenario saved = scenarioCaptor.getValue();
-		assertThat(saved.getScenarioOrder()).isEqualTo(OrderCalculator.START_ORDER);
+		assertThat(saved.getScenarioOrder()).isEqualTo("i");
 	}
 
 
@@ -1154,4 +1141,57 @@ class ScenarioServiceTest {
 		assertThat(result).isEmpty();
 	}
 
+
+
+	@Test
+	void Given_CachedScenarioList_When_FindVersionedScenarios_Then_ReturnCachedWithETag() {
+		// given
+		List<ScenarioResponse> cached = List.of(ScenarioResponse.builder().scenarioId(1L).build());
+		when(scenarioCache.findListVersion(1L)).thenReturn(Optional.of(3L));
+		when(scenarioCache.findScenarios(1L, 3L, NotificationType.TIME)).thenReturn(Optional.of(cached));
+
+		// when
+		VersionedScenarios result = scenarioService.findVersionedScenarios(1L, NotificationType.TIME);
+
+		// then
+		assertThat(result.scenarios()).isEqualTo(cached);
+		assertThat(result.eTag()).isEqualTo("\"3-TIME\"");
+		verify(scenarioRepository, never()).findByMemberIdAndNotificationType(any(), any());
+	}
+
+
+	@Test
+	void Given_ScenarioListNotCached_When_FindVersionedScenarios_Then_LoadAndCacheUnderVersion() {
+		// given
+		Scenario scenario = Scenario.builder().id(1L).scenarioName("루틴").scenarioOrder("i").build();
+		when(scenarioCache.findListVersion(1L)).thenReturn(Optional.of(3L));
+		when(scenarioCache.findScenarios(1L, 3L, NotificationType.TIME)).thenReturn(Optional.empty());
+		when(scenarioRepository.findByMemberIdAndNotificationType(1L, NotificationType.TIME))
+			.thenReturn(List.of(scenario));
+
+		// when
+		VersionedScenarios result = scenarioService.findVersionedScenarios(1L, NotificationType.TIME);
+
+		// then
+		assertThat(result.scenarios()).extracting(ScenarioResponse::scenarioId).containsExactly(1L);
+		verify(scenarioCache).saveScenarios(1L, 3L, NotificationType.TIME, result.scenarios());
+	}
+
+
+	@Test
+	void Given_CacheUnavailable_When_FindVersionedScenarios_Then_LoadWithoutETag() {
+		// given
+		when(scenarioCache.findListVersion(1L)).thenReturn(Optional.empty());
+		when(scenarioRepository.findByMemberIdAndNotificationType(1L, NotificationType.TIME)).thenReturn(List.of());
+
+		// when
+		VersionedScenarios result = scenarioService.findVersionedScenarios(1L, NotificationType.TIME);
+
+		// then
+		assertThat(result.scenarios()).isEmpty();
+		assertThat(result.eTag()).isNull();
+		assertThat(result.matches(null)).isFalse();
+		verify(scenarioCache, never()).saveScenarios(any(), any(), any(), any());
+	}
+
 }
@@ -0,0 +1,39 @@
+package com.und.server.scenario.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.und.server.scenario.dto.request.ScenarioOrderUpdateRequest;
+
+class LegacyOrderDeserializerTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+
+	@Test
+	void Given_RankKeyOrders_When_Deserialize_Then_KeepKeys() throws JsonProcessingException {
+		// when
+		ScenarioOrderUpdateRequest request = objectMapper.readValue(
+			"{\"prevOrder\":\"i\",\"nextOrder\":null}", ScenarioOrderUpdateRequest.class);
+
+		// then
+		assertThat(request.prevOrder()).isEqualTo("i");
+		assertThat(request.nextOrder()).isNull();
+	}
+
+
+	@Test
+	void Given_LegacyIntegerOrders_When_Deserialize_Then_MapToMigratedKeys() throws JsonProcessingException {
+		// when
+		ScenarioOrderUpdateRequest request = objectMapper.readValue(
+			"{\"prevOrder\":999,\"nextOrder\":1999}", ScenarioOrderUpdateRequest.class);
+
+		// then
+		assertThat(request.prevOrder()).isEqualTo("00001");
+		assertThat(request.nextOrder()).isEqualTo("00002");
+	}
+
+}
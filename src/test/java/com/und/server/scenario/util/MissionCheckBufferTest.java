@@ -0,0 +1,101 @@
+package com.und.server.scenario.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.und.server.scenario.dto.PendingMissionChecks;
+
+@DataRedisTest
+@Import(MissionCheckBuffer.class)
+class MissionCheckBufferTest {
+
+	private static final Long MEMBER_ID = 987654321L;
+	private static final LocalDate DATE = LocalDate.of(2025, 9, 1);
+	private static final String CHECK_KEY = "mission:check:987654321:2025-09-01";
+
+	@Autowired
+	private MissionCheckBuffer missionCheckBuffer;
+
+	@Autowired
+	private StringRedisTemplate stringRedisTemplate;
+
+
+	@AfterEach
+	void tearDown() {
+		stringRedisTemplate.delete(List.of(CHECK_KEY, MissionCheckBuffer.DIRTY_KEY));
+	}
+
+
+	@Test
+	void Given_RecordedChecks_When_FindDirty_Then_ReturnLatestCheckPerMission() {
+		// given
+		missionCheckBuffer.record(MEMBER_ID, DATE, 1L, true);
+		missionCheckBuffer.record(MEMBER_ID, DATE, 1L, false);
+		missionCheckBuffer.record(MEMBER_ID, DATE, 2L, true);
+
+		// when
+		List<PendingMissionChecks> dirty = missionCheckBuffer.findDirty(10);
+
+		// then
+		assertThat(dirty).containsExactly(new PendingMissionChecks(MEMBER_ID, DATE, Map.of(1L, false, 2L, true)));
+		assertThat(missionCheckBuffer.findChecks(MEMBER_ID, DATE)).containsOnly(
+			Map.entry(1L, false), Map.entry(2L, true));
+	}
+
+
+	@Test
+	void Given_BatchOfChecks_When_RecordAll_Then_MergeIntoBufferedChecks() {
+		// given
+		missionCheckBuffer.record(MEMBER_ID, DATE, 1L, true);
+
+		// when
+		missionCheckBuffer.recordAll(MEMBER_ID, DATE, Map.of(1L, false, 3L, true));
+
+		// then
+		assertThat(missionCheckBuffer.findChecks(MEMBER_ID, DATE)).containsOnly(
+			Map.entry(1L, false), Map.entry(3L, true));
+		assertThat(stringRedisTemplate.opsForSet().isMember(MissionCheckBuffer.DIRTY_KEY, CHECK_KEY)).isTrue();
+	}
+
+
+	@Test
+	void Given_CheckToggledAfterFlush_When_Acknowledge_Then_KeepToggledCheckDirty() {
+		// given
+		missionCheckBuffer.record(MEMBER_ID, DATE, 1L, true);
+		missionCheckBuffer.record(MEMBER_ID, DATE, 2L, true);
+		PendingMissionChecks flushed = missionCheckBuffer.find(MEMBER_ID, DATE);
+		missionCheckBuffer.record(MEMBER_ID, DATE, 2L, false);
+
+		// when
+		missionCheckBuffer.acknowledge(flushed);
+
+		// then
+		assertThat(missionCheckBuffer.findChecks(MEMBER_ID, DATE)).containsOnly(Map.entry(2L, false));
+		assertThat(stringRedisTemplate.opsForSet().isMember(MissionCheckBuffer.DIRTY_KEY, CHECK_KEY)).isTrue();
+	}
+
+
+	@Test
+	void Given_AllChecksFlushed_When_Acknowledge_Then_RemoveFromDirtySet() {
+		// given
+		missionCheckBuffer.record(MEMBER_ID, DATE, 1L, true);
+
+		// when
+		missionCheckBuffer.acknowledge(missionCheckBuffer.find(MEMBER_ID, DATE));
+
+		// then
+		assertThat(stringRedisTemplate.hasKey(CHECK_KEY)).isFalse();
+		assertThat(missionCheckBuffer.findDirty(10)).isEmpty();
+	}
+
+}
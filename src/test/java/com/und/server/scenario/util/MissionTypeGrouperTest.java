@@ -33,8 +33,8 @@ class MissionTypeGrouperTest {
 	@Test
 	void Given_BasicMissions_When_GroupAndSort_Then_ReturnSortedList() {
 		// given
-		Mission m1 = Mission.builder().missionOrder(2).missionType(MissionType.BASIC).build();
-		Mission m2 = Mission.builder().missionOrder(1).missionType(MissionType.BASIC).build();
+		Mission m1 = Mission.builder().missionOrder("2").missionType(MissionType.BASIC).build();
+		Mission m2 = Mission.builder().missionOrder("1").missionType(MissionType.BASIC).build();
 		Mission m3 = Mission.builder().missionOrder(null).missionType(MissionType.TODAY).build();
 		List<Mission> input = List.of(m1, m2, m3);
 
@@ -43,8 +43,8 @@ class MissionTypeGrouperTest {
 
 		// then
 		assertThat(result).hasSize(2);
-		assertThat(result.get(0).getMissionOrder()).isEqualTo(1);
-		assertThat(result.get(1).getMissionOrder()).isEqualTo(2);
+		assertThat(result.get(0).getMissionOrder()).isEqualTo("1");
+		assertThat(result.get(1).getMissionOrder()).isEqualTo("2");
 	}
 
 
@@ -66,7 +66,7 @@ class MissionTypeGrouperTest {
 		ReflectionTestUtils.setField(m2, "createdAt", now);
 
 		Mission m3 = Mission.builder()
-			.missionOrder(2)
+			.missionOrder("2")
 			.missionType(MissionType.BASIC)
 			.build();
 
@@ -85,7 +85,7 @@ class MissionTypeGrouperTest {
 	@Test
 	void Given_UnsupportedType_When_GroupAndSort_Then_ThrowException() {
 		// given
-		Mission invalidMission = Mission.builder().missionOrder(1).missionType(null).build();
+		Mission invalidMission = Mission.builder().missionOrder("1").missionType(null).build();
 		List<Mission> input = List.of(invalidMission);
 
 		// then
@@ -3,6 +3,8 @@ package com.und.server.scenario.util;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -10,8 +12,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import com.und.server.scenario.entity.Scenario;
-import com.und.server.scenario.exception.ReorderRequiredException;
+import com.und.server.common.exception.ServerException;
+import com.und.server.scenario.exception.ScenarioErrorResult;
 
 @ExtendWith(MockitoExtension.class)
 class OrderCalculatorTest {
@@ -21,108 +23,158 @@ class OrderCalculatorTest {
 
 
 	@Test
-	void Given_NullPrevAndNextOrder_When_GetOrder_Then_ReturnStartOrder() {
-		int result = orderCalculator.getOrder(null, null);
-		assertThat(result).isEqualTo(OrderCalculator.START_ORDER);
+	void Given_NullPrevAndNextOrder_When_GetOrder_Then_ReturnMiddleOrder() {
+		String result = orderCalculator.getOrder(null, null);
+		assertThat(result).isEqualTo("i");
 	}
 
 	@Test
-	void Given_NullPrevOrder_When_GetOrder_Then_ReturnStartOrderBeforeNext() {
-		int result = orderCalculator.getOrder(null, 3000);
-		assertThat(result).isEqualTo(2000);
+	void Given_NullPrevOrder_When_GetOrder_Then_ReturnOrderBeforeNext() {
+		String result = orderCalculator.getOrder(null, "i");
+		assertThat(result).isEqualTo("9");
 	}
 
 	@Test
-	void Given_NullNextOrder_When_GetOrder_Then_ReturnLastOrderAfterPrev() {
-		int result = orderCalculator.getOrder(3000, null);
-		assertThat(result).isEqualTo(4000);
+	void Given_NullNextOrder_When_GetOrder_Then_ReturnOrderAfterPrev() {
+		String result = orderCalculator.getOrder("i", null);
+		assertThat(result).isEqualTo("r");
 	}
 
 	@Test
 	void Given_ValidPrevAndNextOrder_When_GetOrder_Then_ReturnMiddleOrder() {
-		int result = orderCalculator.getOrder(2000, 4000);
-		assertThat(result).isEqualTo(3000);
+		String result = orderCalculator.getOrder("a", "c");
+		assertThat(result).isEqualTo("b");
 	}
 
 	@Test
-	void Given_SmallGapPrevAndNextOrder_When_GetOrder_Then_ThrowReorderRequiredException() {
-		assertThatThrownBy(() -> orderCalculator.getOrder(1000, 1050))
-			.isInstanceOf(ReorderRequiredException.class);
+	void Given_AdjacentPrevAndNextOrder_When_GetOrder_Then_ExtendOrderWithoutReorder() {
+		String result = orderCalculator.getOrder("a", "b");
+		assertThat(result).isEqualTo("ai");
 	}
 
 	@Test
-	void Given_ResultOutOfRangeOrder_When_GetOrder_Then_ThrowReorderRequiredException() {
-		assertThatThrownBy(() -> orderCalculator.getOrder(10_000_000, null))
-			.isInstanceOf(ReorderRequiredException.class);
+	void Given_NextOrderSharingPrefix_When_GetOrder_Then_ReturnOrderBetween() {
+		String result = orderCalculator.getOrder("i", "i05");
+		assertThat(result).isEqualTo("i02");
 	}
 
 	@Test
-	void Given_ScenariosAndTargetId_When_Reorder_Then_ReturnReorderedScenarios() {
+	void Given_PrevOrderNotBeforeNext_When_GetOrder_Then_ThrowInvalidOrder() {
+		assertThatThrownBy(() -> orderCalculator.getOrder("c", "a"))
+			.isInstanceOf(ServerException.class)
+			.hasFieldOrPropertyWithValue("errorResult", ScenarioErrorResult.INVALID_ORDER);
+	}
+
+	@Test
+	void Given_OrderEndingWithZero_When_GetOrder_Then_ThrowInvalidOrder() {
+		assertThatThrownBy(() -> orderCalculator.getOrder("a0", null))
+			.isInstanceOf(ServerException.class)
+			.hasFieldOrPropertyWithValue("errorResult", ScenarioErrorResult.INVALID_ORDER);
+	}
+
+	@Test
+	void Given_OrderTooLong_When_GetOrder_Then_ThrowInvalidOrder() {
+		String prevOrder = "0".repeat(OrderCalculator.MAX_ORDER_LENGTH) + "1";
+
+		assertThatThrownBy(() -> orderCalculator.getOrder(prevOrder, null))
+			.isInstanceOf(ServerException.class)
+			.hasFieldOrPropertyWithValue("errorResult", ScenarioErrorResult.INVALID_ORDER);
+	}
+
+	@Test
+	void Given_ResultTooLong_When_GetOrder_Then_ThrowInvalidOrder() {
+		String nextOrder = "0".repeat(OrderCalculator.MAX_ORDER_LENGTH - 1) + "1";
+
+		assertThatThrownBy(() -> orderCalculator.getOrder(null, nextOrder))
+			.isInstanceOf(ServerException.class)
+			.hasFieldOrPropertyWithValue("errorResult", ScenarioErrorResult.INVALID_ORDER);
+	}
+
+	@Test
+	void Given_RepeatedInsertsAtFront_When_GetOrder_Then_KeepOrdersAscending() {
+		// given
+		List<String> orders = new ArrayList<>(List.of(orderCalculator.getOrder(null, null)));
+
+		// when
+		for (int i = 0; i < 100; i++) {
+			orders.add(0, orderCalculator.getOrder(null, orders.get(0)));
+		}
+
+		// then
+		assertThat(orders).isSorted().doesNotHaveDuplicates();
+		assertThat(orders).allMatch(order -> order.matches(OrderCalculator.ORDER_PATTERN));
+	}
+
+
+	@Test
+	void Given_Count_When_GetOrders_Then_ReturnEvenlySpacedAscendingOrders() {
+		// when
+		List<String> result = orderCalculator.getOrders(5);
+
+		// then
+		assertThat(result).hasSize(5).isSorted().doesNotHaveDuplicates();
+		assertThat(result).allMatch(order -> order.length() == 1);
+	}
+
+
+	@Test
+	void Given_OneMissionMoved_When_ReassignOrders_Then_KeepOtherOrders() {
 		// given
-		Scenario scenario1 = Scenario.builder()
-			.id(1L)
-			.scenarioOrder(1000)
-			.missions(new java.util.ArrayList<>())
-			.build();
-		Scenario scenario2 = Scenario.builder()
-			.id(2L)
-			.scenarioOrder(2000)
-			.missions(new java.util.ArrayList<>())
-			.build();
-		Scenario scenario3 = Scenario.builder()
-			.id(3L)
-			.scenarioOrder(3000)
-			.missions(new java.util.ArrayList<>())
-			.build();
-		List<Scenario> scenarios = new java.util.ArrayList<>(List.of(scenario1, scenario2, scenario3));
-
-		Long targetScenarioId = 2L;
-		int errorOrder = 1500;
+		List<String> currentOrders = List.of("c", "a", "b", "d");
 
 		// when
-		List<Scenario> result = orderCalculator.reorder(scenarios, targetScenarioId, errorOrder);
+		List<String> result = orderCalculator.reassignOrders(currentOrders);
 
 		// then
-		assertThat(result).hasSize(3);
-		assertThat(result.get(0).getScenarioOrder()).isEqualTo(OrderCalculator.START_ORDER);
-		assertThat(result.get(1).getScenarioOrder()).isEqualTo(
-			OrderCalculator.START_ORDER + OrderCalculator.DEFAULT_ORDER);
-		assertThat(result.get(2).getScenarioOrder()).isEqualTo(
-			OrderCalculator.START_ORDER + 2 * OrderCalculator.DEFAULT_ORDER);
+		assertThat(result).isSorted();
+		assertThat(result.subList(1, 4)).containsExactly("a", "b", "d");
+		assertThat(result.get(0)).isLessThan("a");
 	}
 
+
 	@Test
-	void Given_EmptyScenarioList_When_GetMinOrderAfterReorder_Then_ReturnStartOrder() {
+	void Given_NewMissionsBetweenExisting_When_ReassignOrders_Then_FillOnlyNewOrders() {
 		// given
-		List<Scenario> emptyScenarios = List.of();
+		List<String> currentOrders = Arrays.asList(null, "a", null, null, "b", null);
 
 		// when
-		Integer result = orderCalculator.getMinOrderAfterReorder(emptyScenarios);
+		List<String> result = orderCalculator.reassignOrders(currentOrders);
 
 		// then
-		assertThat(result).isEqualTo(OrderCalculator.START_ORDER);
+		assertThat(result).isSorted().doesNotHaveDuplicates();
+		assertThat(result.get(1)).isEqualTo("a");
+		assertThat(result.get(4)).isEqualTo("b");
 	}
 
+
 	@Test
-	void Given_ScenarioList_When_GetMinOrderAfterReorder_Then_ReturnMinOrderMinusDefault() {
+	void Given_LongOrder_When_ReassignOrders_Then_RebalanceAllOrders() {
 		// given
-		Scenario scenario1 = Scenario.builder()
-			.id(1L)
-			.scenarioOrder(1000)
-			.missions(new java.util.ArrayList<>())
-			.build();
-		Scenario scenario2 = Scenario.builder()
-			.id(2L)
-			.scenarioOrder(3000)
-			.missions(new java.util.ArrayList<>())
-			.build();
-		List<Scenario> scenarios = new java.util.ArrayList<>(List.of(scenario1, scenario2));
+		String longOrder = "a".repeat(OrderCalculator.REBALANCE_ORDER_LENGTH + 1);
+		List<String> currentOrders = List.of("1", longOrder, "z");
 
 		// when
-		Integer result = orderCalculator.getMinOrderAfterReorder(scenarios);
+		List<String> result = orderCalculator.reassignOrders(currentOrders);
 
 		// then
-		assertThat(result).isEqualTo(OrderCalculator.START_ORDER - OrderCalculator.DEFAULT_ORDER);
+		assertThat(result).isEqualTo(orderCalculator.getOrders(3));
+	}
+
+
+	@Test
+	void Given_OrderLength_When_NeedsRebalance_Then_CompareWithThreshold() {
+		assertThat(orderCalculator.needsRebalance(null)).isFalse();
+		assertThat(orderCalculator.needsRebalance("i")).isFalse();
+		assertThat(orderCalculator.needsRebalance("i".repeat(OrderCalculator.REBALANCE_ORDER_LENGTH + 1))).isTrue();
+	}
+
+
+	@Test
+	void Given_LegacyIntegerOrder_When_FromLegacyOrder_Then_ReturnMigratedKey() {
+		assertThat(OrderCalculator.fromLegacyOrder(0)).isEqualTo("00000001");
+		assertThat(OrderCalculator.fromLegacyOrder(999)).isEqualTo("00001");
+		assertThat(OrderCalculator.fromLegacyOrder(1000)).isEqualTo("00001001");
+		assertThat(OrderCalculator.fromLegacyOrder(-1)).doesNotMatch(OrderCalculator.ORDER_PATTERN);
 	}
 
 }
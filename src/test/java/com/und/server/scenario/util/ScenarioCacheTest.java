@@ -0,0 +1,296 @@
+package com.und.server.scenario.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.und.server.notification.constants.NotificationType;
+import com.und.server.scenario.config.ScenarioCacheProperties;
+import com.und.server.scenario.constants.MissionType;
+import com.und.server.scenario.dto.response.MissionResponse;
+import com.und.server.scenario.dto.response.ScenarioHomeResponse;
+import com.und.server.scenario.dto.response.ScenarioResponse;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ScenarioCacheTest {
+
+	private static final Long MEMBER_ID = 1L;
+	private static final LocalDate DATE = LocalDate.of(2025, 9, 1);
+	private static final String VERSION_KEY = "scenario:version:1";
+	private static final String LIST_VERSION_KEY = "scenario:list-version:1";
+	private static final String HOME_KEY = "scenario:home:1:3:TIME:2025-09-01";
+	private static final Duration TTL = Duration.ofMinutes(10);
+
+	@Mock
+	private StringRedisTemplate stringRedisTemplate;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final Clock clock = Clock.fixed(Instant.parse("2025-09-01T00:00:00Z"), ZoneOffset.UTC);
+
+	private ScenarioCache scenarioCache;
+
+
+	@BeforeEach
+	void setUp() {
+		given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+		scenarioCache = new ScenarioCache(
+			stringRedisTemplate, objectMapper, new ScenarioCacheProperties(true, true, TTL), clock);
+	}
+
+
+	@Test
+	void Given_NoVersionKey_When_FindHomeVersion_Then_SeedWithClockMillis() {
+		// given
+		given(valueOperations.setIfAbsent(VERSION_KEY, String.valueOf(clock.millis()))).willReturn(true);
+
+		// when
+		Long version = scenarioCache.findHomeVersion(MEMBER_ID).orElseThrow();
+
+		// then
+		assertThat(version).isEqualTo(clock.millis());
+	}
+
+
+	@Test
+	void Given_VersionSeededConcurrently_When_FindListVersion_Then_ReturnWinningSeed() {
+		// given
+		given(valueOperations.get(LIST_VERSION_KEY)).willReturn(null, "42");
+		given(valueOperations.setIfAbsent(LIST_VERSION_KEY, String.valueOf(clock.millis()))).willReturn(false);
+
+		// when
+		Long version = scenarioCache.findListVersion(MEMBER_ID).orElseThrow();
+
+		// then
+		assertThat(version).isEqualTo(42L);
+	}
+
+
+	@Test
+	void Given_StoredVersion_When_FindHomeVersion_Then_ReturnParsedVersion() {
+		// given
+		given(valueOperations.get(VERSION_KEY)).willReturn("3");
+
+		// when
+		Long version = scenarioCache.findHomeVersion(MEMBER_ID).orElseThrow();
+
+		// then
+		assertThat(version).isEqualTo(3L);
+		verify(valueOperations, never()).setIfAbsent(anyString(), anyString());
+	}
+
+
+	@Test
+	void Given_RedisDown_When_FindHomeVersion_Then_ReturnEmpty() {
+		// given
+		given(valueOperations.get(VERSION_KEY)).willThrow(new RedisConnectionFailureException("down"));
+
+		// when & then
+		assertThat(scenarioCache.findHomeVersion(MEMBER_ID)).isEmpty();
+	}
+
+
+	@Test
+	void Given_CacheDisabled_When_FindVersionAndEvict_Then_SkipRedis() {
+		// given
+		scenarioCache = new ScenarioCache(
+			stringRedisTemplate, objectMapper, new ScenarioCacheProperties(false, false, TTL), clock);
+
+		// when
+		scenarioCache.evictScenarios(MEMBER_ID);
+
+		// then
+		assertThat(scenarioCache.findHomeVersion(MEMBER_ID)).isEmpty();
+		assertThat(scenarioCache.findListVersion(MEMBER_ID)).isEmpty();
+		verifyNoInteractions(stringRedisTemplate);
+	}
+
+
+	@Test
+	void Given_SavedHome_When_FindHome_Then_ReturnSameHome() throws Exception {
+		// given
+		List<ScenarioHomeResponse> home = List.of(createHome());
+		given(valueOperations.get(HOME_KEY)).willReturn(objectMapper.writeValueAsString(home));
+
+		// when
+		List<ScenarioHomeResponse> result =
+			scenarioCache.findHome(MEMBER_ID, 3L, NotificationType.TIME, DATE).orElseThrow();
+
+		// then
+		assertThat(result).isEqualTo(home);
+	}
+
+
+	@Test
+	void Given_MissingOrBrokenEntry_When_FindHome_Then_ReturnEmpty() {
+		// given
+		given(valueOperations.get("scenario:home:1:3:LOCATION:2025-09-01")).willReturn("{broken");
+
+		// when & then
+		assertThat(scenarioCache.findHome(MEMBER_ID, 3L, NotificationType.TIME, DATE)).isEmpty();
+		assertThat(scenarioCache.findHome(MEMBER_ID, 3L, NotificationType.LOCATION, DATE)).isEmpty();
+	}
+
+
+	@Test
+	void Given_Home_When_SaveHome_Then_StoreWithTtl() throws Exception {
+		// given
+		List<ScenarioHomeResponse> home = List.of(createHome());
+
+		// when
+		scenarioCache.saveHome(MEMBER_ID, 3L, NotificationType.TIME, DATE, home);
+
+		// then
+		verify(valueOperations).set(HOME_KEY, objectMapper.writeValueAsString(home), TTL);
+	}
+
+
+	@Test
+	void Given_MissionWrite_When_EvictHome_Then_IncrementOnlyHomeVersion() {
+		// when
+		scenarioCache.evictHome(MEMBER_ID);
+
+		// then
+		verify(valueOperations).setIfAbsent(VERSION_KEY, String.valueOf(clock.millis()));
+		verify(valueOperations).increment(VERSION_KEY);
+		verify(valueOperations, never()).increment(LIST_VERSION_KEY);
+	}
+
+
+	@Test
+	void Given_ScenarioWrite_When_EvictScenarios_Then_IncrementListAndHomeVersions() {
+		// when
+		scenarioCache.evictScenarios(MEMBER_ID);
+
+		// then
+		verify(valueOperations).increment(LIST_VERSION_KEY);
+		verify(valueOperations).increment(VERSION_KEY);
+	}
+
+
+	@Test
+	void Given_RedisDown_When_SaveHomeAndEvict_Then_SwallowFailure() {
+		// given
+		given(valueOperations.increment(anyString())).willThrow(new RedisConnectionFailureException("down"));
+		willThrow(new RedisConnectionFailureException("down"))
+			.given(valueOperations).set(anyString(), anyString(), any(Duration.class));
+
+		// when
+		scenarioCache.saveHome(MEMBER_ID, 3L, NotificationType.TIME, DATE, List.of(createHome()));
+		scenarioCache.evictHome(MEMBER_ID);
+
+		// then
+		verify(valueOperations).increment(VERSION_KEY);
+	}
+
+
+	@Test
+	void Given_SavedScenarios_When_FindScenarios_Then_ServeFromMemoryWithoutRedisRead() {
+		// given
+		List<ScenarioResponse> scenarios = createScenarios();
+		scenarioCache.saveScenarios(MEMBER_ID, 3L, NotificationType.TIME, scenarios);
+
+		// when
+		List<ScenarioResponse> result = scenarioCache.findScenarios(MEMBER_ID, 3L, NotificationType.TIME).orElseThrow();
+
+		// then
+		assertThat(result).isEqualTo(scenarios);
+		verify(valueOperations).set(anyString(), anyString(), any(Duration.class));
+		verify(valueOperations, never()).get(anyString());
+	}
+
+
+	@Test
+	void Given_NewerVersion_When_FindScenarios_Then_MissMemoryAndReadRedis() throws Exception {
+		// given
+		List<ScenarioResponse> scenarios = createScenarios();
+		scenarioCache.saveScenarios(MEMBER_ID, 3L, NotificationType.TIME, scenarios);
+		given(valueOperations.get("scenario:list:1:4:TIME")).willReturn(objectMapper.writeValueAsString(scenarios));
+
+		// when
+		List<ScenarioResponse> first = scenarioCache.findScenarios(MEMBER_ID, 4L, NotificationType.TIME).orElseThrow();
+		List<ScenarioResponse> second = scenarioCache.findScenarios(MEMBER_ID, 4L, NotificationType.TIME).orElseThrow();
+
+		// then
+		assertThat(first).isEqualTo(scenarios);
+		assertThat(second).isEqualTo(scenarios);
+		verify(valueOperations, times(1)).get("scenario:list:1:4:TIME");
+	}
+
+
+	@Test
+	void Given_MissingOrBrokenList_When_FindScenarios_Then_ReturnEmpty() {
+		// given
+		given(valueOperations.get("scenario:list:1:3:LOCATION")).willReturn("{broken");
+
+		// when & then
+		assertThat(scenarioCache.findScenarios(MEMBER_ID, 3L, NotificationType.TIME)).isEmpty();
+		assertThat(scenarioCache.findScenarios(MEMBER_ID, 3L, NotificationType.LOCATION)).isEmpty();
+	}
+
+
+	@Test
+	void Given_LocalCacheDisabledAndRedisDown_When_SaveScenarios_Then_KeepNothingInMemory() {
+		// given
+		scenarioCache = new ScenarioCache(
+			stringRedisTemplate, objectMapper, new ScenarioCacheProperties(true, false, TTL), clock);
+		willThrow(new RedisConnectionFailureException("down"))
+			.given(valueOperations).set(anyString(), anyString(), any(Duration.class));
+
+		// when
+		scenarioCache.saveScenarios(MEMBER_ID, 3L, NotificationType.TIME, List.of());
+
+		// then
+		assertThat(scenarioCache.findScenarios(MEMBER_ID, 3L, NotificationType.TIME)).isEmpty();
+		verify(valueOperations).get("scenario:list:1:3:TIME");
+	}
+
+	private ScenarioHomeResponse createHome() {
+		return ScenarioHomeResponse.builder()
+			.scenarioId(1L)
+			.scenarioName("Home out")
+			.scenarioOrder("i")
+			.basicMissions(List.of(MissionResponse.builder()
+				.missionId(1L)
+				.content("Lock door")
+				.isChecked(true)
+				.missionType(MissionType.BASIC)
+				.build()))
+			.todayMissions(List.of())
+			.build();
+	}
+
+	private List<ScenarioResponse> createScenarios() {
+		return List.of(ScenarioResponse.builder().scenarioId(1L).scenarioOrder("i").build());
+	}
+
+}
@@ -50,7 +50,7 @@ class ScenarioValidatorTest {
 	@Test
 	void Given_OrderListBelowMaxCount_When_ValidateMaxScenarioCount_Then_NoException() {
 		// given
-		List<Integer> orderList = List.of(1000, 2000, 3000); // 3개 (20개 미만)
+		List<String> orderList = List.of("1", "2", "3"); // 3개 (20개 미만)
 
 		// when & then
 		assertDoesNotThrow(() -> scenarioValidator.validateMaxScenarioCount(orderList));
@@ -59,9 +59,9 @@ class ScenarioValidatorTest {
 	@Test
 	void Given_OrderListAtMaxCount_When_ValidateMaxScenarioCount_Then_ThrowException() {
 		// given
-		List<Integer> orderList = List.of(
-			1000, 2000, 3000, 4000, 5000, 6000, 7000, 8000, 9000, 10000,
-			11000, 12000, 13000, 14000, 15000, 16000, 17000, 18000, 19000, 20000
+		List<String> orderList = List.of(
+			"1", "2", "3", "4", "5", "6", "7", "8", "9", "a",
+			"b", "c", "d", "e", "f", "g", "h", "i", "j", "k"
 		); // 20개 (최대값)
 
 		// when & then
@@ -73,7 +73,7 @@ class ScenarioValidatorTest {
 	@Test
 	void Given_EmptyOrderList_When_ValidateMaxScenarioCount_Then_NoException() {
 		// given
-		List<Integer> orderList = List.of();
+		List<String> orderList = List.of();
 
 		// when & then
 		assertDoesNotThrow(() -> scenarioValidator.validateMaxScenarioCount(orderList));